@@ -0,0 +1,7 @@
+#!/bin/sh
+# Starts LiftIt from the JDK AOT cache produced by ./gradlew aotTrainingRun.
+# The cache is only valid for the JDK build and jar layout it was trained with;
+# the JVM silently falls back to a normal start if they do not match.
+set -e
+cd "$(dirname "$0")"
+exec java -XX:AOTCache=app.aot $JAVA_OPTS -jar application/liftit-java.jar "$@"
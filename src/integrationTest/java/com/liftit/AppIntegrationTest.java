@@ -63,4 +63,12 @@ class AppIntegrationTest {
 
         assertThat(count).isEqualTo(1);
     }
+
+    @Test
+    void schemaFingerprintCheckRunsInServingMode() {
+        // Given / When - the serving context started against the migrated schema
+        // Then - the fingerprint check is registered and the enum validators are not
+        assertThat(context.containsBean("schemaFingerprintVerifier")).isTrue();
+        assertThat(context.containsBean("muscleEnumValidator")).isFalse();
+    }
 }
@@ -0,0 +1,73 @@
+package com.liftit;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.context.WebApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the {@code migrate} run mode: migrations and reference-data validation run,
+ * no web application is created, and the serving-only schema check and scheduled pollers
+ * are absent.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles({"integrationTest", "migrate"})
+class MigrateProfileIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Test
+    void shouldApplyMigrations() {
+        Integer applied = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM databasechangelog", Integer.class);
+
+        assertThat(applied).isPositive();
+    }
+
+    @Test
+    void shouldRegisterReferenceDataValidators() {
+        assertThat(applicationContext.getBeanNamesForType(ApplicationRunner.class))
+                .contains("muscleEnumValidator", "exerciseCategoryEnumValidator");
+    }
+
+    @Test
+    void shouldNotRegisterServingOnlyBeans() {
+        assertThat(applicationContext).isNotInstanceOf(WebApplicationContext.class);
+        assertThat(applicationContext.containsBean("schemaFingerprintVerifier")).isFalse();
+    }
+
+    @Test
+    void shouldNotScheduleAnyTasks() {
+        assertThat(applicationContext.getBeanProvider(ScheduledTaskHolder.class).stream()
+                .flatMap(holder -> holder.getScheduledTasks().stream()))
+                .isEmpty();
+    }
+}
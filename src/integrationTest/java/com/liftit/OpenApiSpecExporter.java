@@ -0,0 +1,74 @@
+package com.liftit;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Build-time OpenAPI exporter, run by the {@code generateOpenApiSpec} Gradle task.
+ *
+ * <p>Boots the full context once, fetches {@code /v3/api-docs} from springdoc, and writes
+ * it to the directory named by the {@code openapi.output-dir} system property. The
+ * resulting file is compressed and packaged into the boot jar as a static resource, so
+ * production nodes can serve the spec without running springdoc's controller scan.
+ *
+ * <p>Skipped by the regular {@code integrationTest} run, which does not set the property.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@Testcontainers
+@ActiveProfiles("integrationTest")
+@EnabledIfSystemProperty(named = OpenApiSpecExporter.OUTPUT_DIR_PROPERTY, matches = ".+")
+class OpenApiSpecExporter {
+
+    static final String OUTPUT_DIR_PROPERTY = "openapi.output-dir";
+    static final String SPEC_FILE_NAME = "openapi.json";
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Test
+    void exportSpec() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+
+        String spec = mockMvc.perform(get("/v3/api-docs")
+                        .header("Authorization", JwtTestTokenFactory.bearerToken("auth0|openapi-export")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        Path outputDir = Path.of(System.getProperty(OUTPUT_DIR_PROPERTY));
+        Files.createDirectories(outputDir);
+        Files.writeString(outputDir.resolve(SPEC_FILE_NAME), spec, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,64 @@
+package com.liftit;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import org.junit.jupiter.api.Test;
+import org.springdoc.core.configuration.SpringDocConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the {@code prod} profile does not load springdoc's runtime spec generation.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@Testcontainers
+@ActiveProfiles({"integrationTest", "prod"})
+class ProdProfileIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Test
+    void shouldNotRegisterSpringdocBeans() {
+        assertThat(applicationContext.getBeanNamesForType(SpringDocConfiguration.class)).isEmpty();
+    }
+
+    @Test
+    void shouldNotServeRuntimeApiDocs() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+
+        mockMvc.perform(get("/v3/api-docs")
+                        .header("Authorization", JwtTestTokenFactory.bearerToken("auth0|prodprofileuser")))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,143 @@
+package com.liftit.allocation;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.dataset.DatasetGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Allocation budgets for hot request paths.
+ *
+ * <p>Each test drives one endpoint in-process through MockMvc with a real token against a
+ * generated dataset, measures bytes allocated per request with {@link AllocationProfiler}
+ * and fails when the endpoint's budget in {@code allocation-budgets.properties} is
+ * exceeded. The per-site breakdown is written to {@code build/reports/allocation} either
+ * way, so a failure shows where the new bytes come from.
+ *
+ * <p>Runs only in {@code ./gradlew allocationBudgets}, which sets the report directory and
+ * which {@code check} and CI run; the regular {@code integrationTest} run skips it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@Testcontainers
+@ActiveProfiles("integrationTest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = AllocationBudgetIntegrationTest.REPORT_DIR_PROPERTY, matches = ".+")
+class AllocationBudgetIntegrationTest {
+
+    private static final int REQUESTS = 500;
+    private static final int TOP_SITES = 15;
+    static final String REPORT_DIR_PROPERTY = "allocation.report-dir";
+
+    private static final Path REPORT_DIR =
+            Path.of(System.getProperty(REPORT_DIR_PROPERTY, "build/reports/allocation"));
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+    private Properties budgets;
+    private String token;
+    private long workoutId;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+        budgets = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/allocation-budgets.properties")) {
+            budgets.load(in);
+        }
+        DatasetGenerator.generate(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(),
+                DatasetGenerator.Spec.ofUsers(50).withWorkoutsPerUser(20));
+        long userId = jdbcTemplate.queryForObject(
+                "SELECT user_id FROM workouts GROUP BY user_id ORDER BY count(*) DESC, user_id LIMIT 1", Long.class);
+        token = JwtTestTokenFactory.bearerToken(DatasetGenerator.Summary.auth0Id(userId));
+        workoutId = jdbcTemplate.queryForObject(
+                "SELECT max(id) FROM workouts WHERE user_id = ? AND status_code = 2", Long.class, userId);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM exercises WHERE created_by > 99");
+        jdbcTemplate.update("DELETE FROM user_profiles WHERE user_id > 99");
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+
+    @Test
+    void shouldStayWithinBudgetForAuthMe() throws Exception {
+        assertWithinBudget("auth-me", get("/api/auth/me").header("Authorization", token));
+    }
+
+    @Test
+    void shouldStayWithinBudgetForExerciseList() throws Exception {
+        assertWithinBudget("exercise-list", get("/api/v1/exercises?page=0&size=20").header("Authorization", token));
+    }
+
+    @Test
+    void shouldStayWithinBudgetForWorkoutDetail() throws Exception {
+        assertWithinBudget("workout-detail", get("/api/v1/workouts/" + workoutId).header("Authorization", token));
+    }
+
+    @Test
+    void shouldStayWithinBudgetForWorkoutHistory() throws Exception {
+        assertWithinBudget("workout-history", get("/api/v1/workouts?page=0&size=20").header("Authorization", token));
+    }
+
+    // --- helpers ---
+
+    private void assertWithinBudget(String endpoint, RequestBuilder request) throws Exception {
+        AllocationProfiler.Result result = AllocationProfiler.measure(endpoint, REQUESTS,
+                () -> mockMvc.perform(request).andExpect(status().isOk()));
+        String report = result.report(TOP_SITES);
+        Files.createDirectories(REPORT_DIR);
+        Files.writeString(REPORT_DIR.resolve(endpoint + ".txt"), report);
+
+        long budget = Long.parseLong(budgets.getProperty(endpoint));
+        assertTrue(result.bytesPerRequest() <= budget,
+                "Allocation budget of " + budget + " bytes per request exceeded\n" + report);
+    }
+}
@@ -0,0 +1,138 @@
+package com.liftit.allocation;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Measures how much a request allocates and where.
+ *
+ * <p>Bytes per request are exact: the calling thread's allocation counter is read before
+ * and after the measured iterations, which works because MockMvc serves the request on
+ * the calling thread. Allocation sites come from JFR {@code jdk.ObjectAllocationSample}
+ * events on that thread; each sample's weight estimates the bytes it stands for, so site
+ * shares are approximate. Sites are grouped twice: by the first frame outside the JDK
+ * (Jackson, Hibernate, Nimbus, Spring or our code) and by the first {@code com.liftit}
+ * frame, which says which of our calls caused the allocation.
+ */
+final class AllocationProfiler {
+
+    /** The code being measured; one call is one request. */
+    interface Request {
+        void perform() throws Exception;
+    }
+
+    /**
+     * One endpoint's measurement.
+     *
+     * @param bytesPerRequest exact mean bytes allocated per request on the request thread
+     * @param byLibraryFrame  sampled bytes by first non-JDK frame, largest first
+     * @param byLiftitFrame   sampled bytes by first {@code com.liftit} frame, largest first
+     */
+    record Result(String endpoint, int requests, long bytesPerRequest, List<Map.Entry<String, Long>> byLibraryFrame,
+            List<Map.Entry<String, Long>> byLiftitFrame) {
+
+        /** Top sites with their share of sampled bytes. */
+        String report(int top) {
+            StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                    "%s: %,d bytes per request over %d requests%n", endpoint, bytesPerRequest, requests));
+            appendSites(out, "By first non-JDK frame", byLibraryFrame, top);
+            appendSites(out, "By first com.liftit frame", byLiftitFrame, top);
+            return out.toString();
+        }
+
+        private static void appendSites(StringBuilder out, String title, List<Map.Entry<String, Long>> sites,
+                int top) {
+            long total = sites.stream().mapToLong(Map.Entry::getValue).sum();
+            out.append("  ").append(title).append(":\n");
+            sites.stream().limit(top).forEach(site -> out.append(String.format(Locale.ROOT, "    %5.1f%%  %s%n",
+                    total == 0 ? 0 : 100.0 * site.getValue() / total, site.getKey())));
+        }
+    }
+
+    private static final int WARMUP_REQUESTS = 200;
+    private static final String SAMPLE_EVENT = "jdk.ObjectAllocationSample";
+    private static final String UNATTRIBUTED = "(no frame within stack depth)";
+
+    private AllocationProfiler() {
+    }
+
+    /**
+     * Warms {@code request} up, then performs it {@code requests} times under measurement.
+     */
+    static Result measure(String endpoint, int requests, Request request) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            request.perform();
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        Path file = Files.createTempFile("allocation-" + endpoint, ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SAMPLE_EVENT).with("throttle", "20000/s").withStackTrace();
+            recording.start();
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < requests; i++) {
+                request.perform();
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            recording.stop();
+            recording.dump(file);
+
+            Map<String, Long> byLibrary = new HashMap<>();
+            Map<String, Long> byLiftit = new HashMap<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (!event.getEventType().getName().equals(SAMPLE_EVENT) || event.getThread() == null
+                        || event.getThread().getJavaThreadId() != threadId) {
+                    continue;
+                }
+                long weight = event.getLong("weight");
+                byLibrary.merge(firstFrame(event.getStackTrace(), AllocationProfiler::outsideJdk), weight, Long::sum);
+                byLiftit.merge(firstFrame(event.getStackTrace(), AllocationProfiler::ours), weight, Long::sum);
+            }
+            return new Result(endpoint, requests, allocated / requests, largestFirst(byLibrary),
+                    largestFirst(byLiftit));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String firstFrame(RecordedStackTrace stackTrace, Predicate<String> matches) {
+        if (stackTrace == null) {
+            return UNATTRIBUTED;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (matches.test(type)) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return UNATTRIBUTED;
+    }
+
+    private static boolean outsideJdk(String type) {
+        return !type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.");
+    }
+
+    private static boolean ours(String type) {
+        return type.startsWith("com.liftit.");
+    }
+
+    private static List<Map.Entry<String, Long>> largestFirst(Map<String, Long> sites) {
+        return sites.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .toList();
+    }
+}
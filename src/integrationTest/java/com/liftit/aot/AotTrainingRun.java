@@ -0,0 +1,136 @@
+package com.liftit.aot;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Produces a JDK AOT cache for the extracted boot jar and reports the startup gain.
+ *
+ * <p>Run by the {@code aotTrainingRun} Gradle task. Against a Testcontainers Postgres,
+ * once migrated by the {@code migrate} run mode, it:
+ * <ol>
+ *   <li>measures a cold start of the application without a cache (baseline);</li>
+ *   <li>starts the application with {@code -XX:AOTCacheOutput} and drives the
+ *       {@linkplain LaunchedApp#runWorkload training workload} through the real endpoints,
+ *       then stops it so the JVM writes the cache of loaded/linked classes and method
+ *       profiles;</li>
+ *   <li>measures a start with {@code -XX:AOTCache} and writes a comparison report.</li>
+ * </ol>
+ *
+ * <p>"Startup" is the time Spring reports in its {@code Started App in ...} log line;
+ * "time to first request" is measured from process launch to the first {@code 200}
+ * from an authenticated endpoint, which is what matters to a load balancer.
+ *
+ * <p>The application is always launched from {@code workDir} with a relative jar path so
+ * the classpath recorded in the cache matches the one used by the packaged start script.
+ *
+ * <p>Arguments: {@code <workDir> <jar relative to workDir> <cache file relative to workDir>
+ * <report file>}.
+ */
+public final class AotTrainingRun {
+
+    private static final Duration CACHE_WRITE_TIMEOUT = Duration.ofMinutes(5);
+    private static final int TRAINING_ITERATIONS = Integer.getInteger("aot.training.iterations", 50);
+    private static final int MEASUREMENT_RUNS = Integer.getInteger("aot.measurement.runs", 3);
+
+    private final PostgreSQLContainer<?> postgres;
+    private final Path workDir;
+    private final String jar;
+
+    private AotTrainingRun(PostgreSQLContainer<?> postgres, Path workDir, String jar) {
+        this.postgres = postgres;
+        this.workDir = workDir;
+        this.jar = jar;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 4) {
+            throw new IllegalArgumentException(
+                    "Usage: AotTrainingRun <workDir> <jar> <cacheFile> <reportFile>");
+        }
+        Path workDir = Path.of(args[0]).toAbsolutePath();
+        String jar = args[1];
+        String cacheFile = args[2];
+        Path report = Path.of(args[3]).toAbsolutePath();
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")) {
+            postgres.start();
+            AotTrainingRun run = new AotTrainingRun(postgres, workDir, jar);
+            LaunchedApp.migrate(run.command(List.of()), workDir, postgres);
+
+            Files.deleteIfExists(workDir.resolve(cacheFile));
+            LaunchedApp.Startup baseline = run.measure(List.of());
+            run.train(cacheFile);
+            LaunchedApp.Startup cached = run.measure(List.of("-XX:AOTCache=" + cacheFile));
+
+            String text = report(baseline, cached, workDir.resolve(cacheFile));
+            Files.createDirectories(report.getParent());
+            Files.writeString(report, text);
+            System.out.println(text);
+        }
+    }
+
+    /** Starts the application {@link #MEASUREMENT_RUNS} times and keeps the median. */
+    private LaunchedApp.Startup measure(List<String> jvmArgs) throws Exception {
+        List<LaunchedApp.Startup> runs = new ArrayList<>();
+        for (int i = 0; i < MEASUREMENT_RUNS; i++) {
+            try (LaunchedApp app = LaunchedApp.launch(command(jvmArgs), workDir, postgres)) {
+                runs.add(app.awaitFirstSuccessfulRequest());
+            }
+        }
+        runs.sort(Comparator.comparingLong(LaunchedApp.Startup::timeToFirstRequestMillis));
+        return runs.get(runs.size() / 2);
+    }
+
+    private void train(String cacheFile) throws Exception {
+        List<String> jvmArgs = List.of("-XX:AOTCacheOutput=" + cacheFile);
+        try (LaunchedApp app = LaunchedApp.launch(command(jvmArgs), workDir, postgres)) {
+            app.awaitFirstSuccessfulRequest();
+            app.runWorkload(TRAINING_ITERATIONS);
+            // With -XX:AOTCacheOutput the JVM writes the cache on exit.
+            app.stop(CACHE_WRITE_TIMEOUT);
+            if (!Files.exists(workDir.resolve(cacheFile))) {
+                throw new IllegalStateException("AOT cache was not written; see " + app.log());
+            }
+        }
+    }
+
+    private List<String> command(List<String> jvmArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar);
+        return command;
+    }
+
+    private static String report(LaunchedApp.Startup baseline, LaunchedApp.Startup cached, Path cache)
+            throws IOException {
+        long cacheBytes = Files.size(cache);
+        return String.format(Locale.ROOT, """
+                AOT cache training report
+                  cache: %s (%.1f MiB), training iterations: %d, median of %d starts
+
+                                           baseline    aot cache     change
+                  Spring startup (s)     %9.2f    %9.2f    %+7.1f%%
+                  first 200 OK (ms)      %9d    %9d    %+7.1f%%
+                """,
+                cache, cacheBytes / (1024.0 * 1024.0), TRAINING_ITERATIONS, MEASUREMENT_RUNS,
+                baseline.springStartupSeconds(), cached.springStartupSeconds(),
+                change(baseline.springStartupSeconds(), cached.springStartupSeconds()),
+                baseline.timeToFirstRequestMillis(), cached.timeToFirstRequestMillis(),
+                change(baseline.timeToFirstRequestMillis(), cached.timeToFirstRequestMillis()));
+    }
+
+    static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) * 100.0 / before;
+    }
+}
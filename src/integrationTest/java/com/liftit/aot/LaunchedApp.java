@@ -0,0 +1,249 @@
+package com.liftit.aot;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An application process launched from a packaged artifact (extracted jar or native
+ * executable) against a Testcontainers Postgres, driven over real HTTP.
+ *
+ * <p>Used by the startup tooling in this package: it measures time to the first
+ * successful authenticated request, runs a representative workload, and reads the
+ * process's resident set size. Closing it stops the process if still alive. The load-test
+ * harness ({@code src/loadTest}) launches its target the same way.
+ */
+public final class LaunchedApp implements AutoCloseable {
+
+    private static final Pattern STARTED = Pattern.compile("Started App in ([0-9.]+) seconds");
+    private static final Pattern VM_RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(2);
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Process process;
+    private final String baseUrl;
+    private final Path log;
+    private final long launchedAt;
+    private final String subject = "auth0|startup-run-" + UUID.randomUUID();
+    private final String bearer = JwtTestTokenFactory.bearerToken(subject);
+
+    /** Startup figures for one launch. */
+    public record Startup(double springStartupSeconds, long timeToFirstRequestMillis) {
+    }
+
+    private LaunchedApp(Process process, int port, Path log, long launchedAt) {
+        this.process = process;
+        this.baseUrl = "http://localhost:" + port;
+        this.log = log;
+        this.launchedAt = launchedAt;
+    }
+
+    /**
+     * Launches {@code command} in {@code workDir} on a free port, wired to {@code postgres}
+     * and to the JWT key of {@link JwtTestTokenFactory}. Output goes to {@code workDir/logs}.
+     */
+    public static LaunchedApp launch(List<String> command, Path workDir, PostgreSQLContainer<?> postgres)
+            throws IOException {
+        int port = freePort();
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+
+        Path log = newLog(workDir, "run-");
+        ProcessBuilder builder = processBuilder(fullCommand, workDir, postgres, log);
+        long launchedAt = System.nanoTime();
+        return new LaunchedApp(builder.start(), port, log, launchedAt);
+    }
+
+    /**
+     * Runs {@code command} once in the {@code migrate} run mode, applying the changelog to
+     * {@code postgres}; serving launches expect an already migrated schema.
+     */
+    public static void migrate(List<String> command, Path workDir, PostgreSQLContainer<?> postgres)
+            throws Exception {
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--spring.profiles.active=migrate");
+
+        Path log = newLog(workDir, "migrate-");
+        Process process = processBuilder(fullCommand, workDir, postgres, log).start();
+        if (!process.waitFor(READY_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Migration did not finish within " + READY_TIMEOUT + "; see " + log);
+        }
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException("Migration exited with " + process.exitValue() + "; see " + log);
+        }
+    }
+
+    private static Path newLog(Path workDir, String prefix) throws IOException {
+        Path logDir = Files.createDirectories(workDir.resolve("logs"));
+        return Files.createTempFile(logDir, prefix, ".log");
+    }
+
+    private static ProcessBuilder processBuilder(
+            List<String> command, Path workDir, PostgreSQLContainer<?> postgres, Path log) {
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        Map<String, String> env = builder.environment();
+        env.put("DB_URL", postgres.getJdbcUrl());
+        env.put("DB_USERNAME", postgres.getUsername());
+        env.put("DB_PASSWORD", postgres.getPassword());
+        env.put("SECURITY_JWT_PUBLIC_KEY", JwtTestTokenFactory.publicKeyPem());
+        return builder;
+    }
+
+    /** Polls an authenticated endpoint until it returns {@code 200 OK}. */
+    public Startup awaitFirstSuccessfulRequest() throws Exception {
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited early; see " + log);
+            }
+            try {
+                if (send("GET", "/api/v1/exercises/categories", null).statusCode() == 200) {
+                    long ttfr = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launchedAt);
+                    return new Startup(springStartupSeconds(), ttfr);
+                }
+            } catch (IOException notListeningYet) {
+                // keep polling
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("Application not ready within " + READY_TIMEOUT + "; see " + log);
+    }
+
+    /**
+     * Drives JWT-authenticated catalog reads, bootstrap and a full workout save
+     * (start, log exercise with sets, complete, read back) {@code iterations} times.
+     * Every response status is checked.
+     */
+    void runWorkload(int iterations) throws Exception {
+        expect(201, send("POST", "/api/v1/users/me", """
+                {"auth0Id": "%s", "email": "%s@example.com"}
+                """.formatted(subject, UUID.randomUUID())));
+        long exerciseId = idOf(expect(201, send("POST", "/api/v1/exercises", """
+                {"name": "Startup Squat %s", "category": "STRENGTH", "muscleGroups": ["THIGHS"]}
+                """.formatted(UUID.randomUUID()))));
+
+        for (int i = 0; i < iterations; i++) {
+            expect(200, send("GET", "/api/v1/bootstrap", null));
+            expect(200, send("GET", "/api/v1/exercises?page=0&size=20", null));
+            expect(200, send("GET", "/api/v1/exercises/muscle-groups", null));
+            expect(200, send("GET", "/api/v1/exercises/" + exerciseId, null));
+            expect(200, send("GET", "/api/v1/users/me/profile", null), 404);
+
+            long workoutId = idOf(expect(201, send("POST", "/api/v1/workouts", """
+                    {"notes": "startup run"}
+                    """)));
+            expect(200, send("POST", "/api/v1/workouts/" + workoutId + "/exercises", """
+                    {"exerciseId": %d, "order": 1,
+                     "sets": [{"reps": 5, "weight": 100.0, "unit": "KG", "rpe": 7},
+                              {"reps": 5, "weight": 105.0, "unit": "KG", "rpe": 8},
+                              {"reps": 5, "weight": 110.0, "unit": "KG", "rpe": 9}]}
+                    """.formatted(exerciseId)));
+            expect(200, send("POST", "/api/v1/workouts/" + workoutId + "/complete", null));
+            expect(200, send("GET", "/api/v1/workouts/" + workoutId, null));
+            expect(200, send("GET", "/api/v1/workouts?page=0&size=20", null));
+        }
+    }
+
+    /** Returns the process's resident set size in KiB, if the platform exposes it. */
+    OptionalLong rssKib() throws IOException {
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        if (!Files.isReadable(status)) {
+            return OptionalLong.empty();
+        }
+        Matcher matcher = VM_RSS.matcher(Files.readString(status));
+        return matcher.find() ? OptionalLong.of(Long.parseLong(matcher.group(1))) : OptionalLong.empty();
+    }
+
+    /** Requests a graceful exit and waits for it; fails if the process does not exit in time. */
+    void stop(Duration timeout) throws Exception {
+        process.destroy();
+        if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("Application did not exit within " + timeout + "; see " + log);
+        }
+    }
+
+    public Path log() {
+        return log;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (process.isAlive()) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private double springStartupSeconds() throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
+    }
+
+    private HttpResponse<String> send(String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", bearer);
+        if (json == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json));
+        }
+        return HTTP.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> expect(int status, HttpResponse<String> response, int... alsoAllowed) {
+        if (response.statusCode() == status) {
+            return response;
+        }
+        for (int allowed : alsoAllowed) {
+            if (response.statusCode() == allowed) {
+                return response;
+            }
+        }
+        throw new IllegalStateException(response.request().method() + " " + response.uri()
+                + " returned " + response.statusCode() + ", expected " + status);
+    }
+
+    private static long idOf(HttpResponse<String> response) {
+        return OBJECT_MAPPER.readTree(response.body()).get("id").asLong();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
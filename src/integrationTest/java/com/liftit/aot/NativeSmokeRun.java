@@ -0,0 +1,95 @@
+package com.liftit.aot;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalLong;
+
+/**
+ * End-to-end check of the GraalVM native executable, compared against the JVM build.
+ *
+ * <p>Run by the {@code nativeSmokeRun} Gradle task (with {@code -Pnative}). Both the
+ * extracted boot jar and the native executable are started against a Testcontainers
+ * Postgres and driven through the {@linkplain LaunchedApp#runWorkload same workload}:
+ * JWT authentication, the schema fingerprint check, every JPA entity, and JSON
+ * (de)serialisation of the request and response records. Any missing reflection or
+ * resource hint surfaces here as a non-2xx response or a failed start.
+ *
+ * <p>The report compares time to first successful request and resident set size after
+ * the workload.
+ *
+ * <p>Arguments: {@code <workDir> <jar relative to workDir> <native executable> <report file>}.
+ */
+public final class NativeSmokeRun {
+
+    private static final int ITERATIONS = Integer.getInteger("native.smoke.iterations", 10);
+
+    private record Result(LaunchedApp.Startup startup, OptionalLong rssKib) {
+    }
+
+    private NativeSmokeRun() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 4) {
+            throw new IllegalArgumentException(
+                    "Usage: NativeSmokeRun <workDir> <jar> <nativeExecutable> <reportFile>");
+        }
+        Path workDir = Path.of(args[0]).toAbsolutePath();
+        String jar = args[1];
+        String executable = Path.of(args[2]).toAbsolutePath().toString();
+        Path report = Path.of(args[3]).toAbsolutePath();
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")) {
+            postgres.start();
+            String javaCommand = ProcessHandle.current().info().command().orElse("java");
+            // Profiles are fixed when the native image is built, so migrate with the jar.
+            LaunchedApp.migrate(List.of(javaCommand, "-jar", jar), workDir, postgres);
+            Result jvm = run(List.of(javaCommand, "-jar", jar), workDir, postgres);
+            Result nativeImage = run(List.of(executable), workDir, postgres);
+
+            String text = report(jvm, nativeImage);
+            Files.createDirectories(report.getParent());
+            Files.writeString(report, text);
+            System.out.println(text);
+        }
+    }
+
+    private static Result run(List<String> command, Path workDir, PostgreSQLContainer<?> postgres)
+            throws Exception {
+        try (LaunchedApp app = LaunchedApp.launch(command, workDir, postgres)) {
+            LaunchedApp.Startup startup = app.awaitFirstSuccessfulRequest();
+            app.runWorkload(ITERATIONS);
+            OptionalLong rss = app.rssKib();
+            app.stop(Duration.ofSeconds(30));
+            return new Result(startup, rss);
+        }
+    }
+
+    private static String report(Result jvm, Result nativeImage) {
+        return String.format(Locale.ROOT, """
+                Native image smoke report (workload iterations: %d)
+
+                                           jvm          native       change
+                  Spring startup (s)     %9.3f    %9.3f    %+7.1f%%
+                  first 200 OK (ms)      %9d    %9d    %+7.1f%%
+                  RSS after load (MiB)   %9s    %9s
+                """,
+                ITERATIONS,
+                jvm.startup().springStartupSeconds(), nativeImage.startup().springStartupSeconds(),
+                AotTrainingRun.change(jvm.startup().springStartupSeconds(),
+                        nativeImage.startup().springStartupSeconds()),
+                jvm.startup().timeToFirstRequestMillis(), nativeImage.startup().timeToFirstRequestMillis(),
+                AotTrainingRun.change(jvm.startup().timeToFirstRequestMillis(),
+                        nativeImage.startup().timeToFirstRequestMillis()),
+                mib(jvm.rssKib()), mib(nativeImage.rssKib()));
+    }
+
+    private static String mib(OptionalLong kib) {
+        return kib.isPresent() ? String.format(Locale.ROOT, "%.1f", kib.getAsLong() / 1024.0) : "n/a";
+    }
+}
@@ -0,0 +1,578 @@
+package com.liftit.dataset;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates a production-shaped dataset and bulk-loads it into a migrated Postgres.
+ *
+ * <p>Users sign up over the last {@code historyYears} years; how many workouts each logs
+ * follows a power law (Lomax, shape {@link #ACTIVITY_SHAPE}), so most users have a handful
+ * and a few have thousands, averaging about {@code workoutsPerUser}. Each user follows a
+ * program of three to five training days drawn from the catalog by popularity (Zipf), plus
+ * any custom exercises of their own, and gets stronger along a flattening curve with
+ * noise and occasional deloads. About 60% have a profile, 15% custom exercises and 25%
+ * log in pounds. The hot tables only are written; archiving, similarity counts and other
+ * derived data are left to their jobs.
+ *
+ * <p>Users are split into {@code streams} shards, each loading through its own
+ * connection with {@code COPY} in batches of {@code batchUsers} users, parent tables
+ * first. A shard's k-th row of a table gets id {@code base + shard + k * streams}, so
+ * shards never collide. Every user's data comes from a random generator seeded with
+ * {@code seed} and the user's index, and history ends at the start of the current UTC
+ * day: the same spec loads the same rows, whatever the number of streams. Where the
+ * connection may ({@code session_replication_role}, i.e. a superuser on a local
+ * database), triggers and foreign-key checks are skipped; the generator writes the
+ * derived columns ({@code muscle_mask}, the compact workout columns) and
+ * {@code workout_start_times} itself. Monthly partitions for the whole history are
+ * created with {@code ensure_workout_partitions}.
+ *
+ * <p>Run standalone by the {@code generateDataset} Gradle task against {@code DB_URL},
+ * {@code DB_USERNAME} and {@code DB_PASSWORD}, with {@code -Ddataset.users} (default
+ * 10,000), {@code dataset.seed}, {@code dataset.streams}, {@code dataset.workouts-per-user}
+ * and {@code dataset.years}. Production shape is 1,000,000 users at 50 workouts each,
+ * about 1,000,000,000 sets.
+ */
+public final class DatasetGenerator {
+
+    static final double ACTIVITY_SHAPE = 1.6;
+
+    private static final long SYSTEM_USER_ID = 1L;
+    private static final short IN_PROGRESS = 1;
+    private static final short COMPLETED = 2;
+    private static final short KG = 1;
+    private static final short LBS = 2;
+    private static final double GRAMS_PER_MILLI_POUND = 0.45359237;
+    private static final DateTimeFormatter TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ssx", Locale.ROOT).withZone(ZoneOffset.UTC);
+    private static final String[] GENDERS = {"male", "female", "non_binary", "prefer_not_to_say", "\\N"};
+    private static final String[] NOTES = {"Felt strong", "Short on time", "Gym was busy", "New PR!", "Deload week"};
+
+    /** A catalog lift: name, muscle ids, typical working weight (kg) and rep target. */
+    private record Lift(String name, int[] muscles, double baseKg, int reps) {
+    }
+
+    private static final List<Lift> CATALOG = List.of(
+            new Lift("Barbell Back Squat", new int[] {9, 1}, 90, 5),
+            new Lift("Barbell Bench Press", new int[] {5, 10, 8}, 70, 5),
+            new Lift("Conventional Deadlift", new int[] {2, 9}, 120, 5),
+            new Lift("Overhead Press", new int[] {8, 10}, 45, 5),
+            new Lift("Barbell Row", new int[] {2, 3}, 60, 8),
+            new Lift("Pull-Up", new int[] {2, 3}, 10, 8),
+            new Lift("Dumbbell Bench Press", new int[] {5, 10}, 28, 10),
+            new Lift("Incline Bench Press", new int[] {5, 8}, 55, 8),
+            new Lift("Romanian Deadlift", new int[] {9, 2}, 80, 8),
+            new Lift("Front Squat", new int[] {9, 1}, 70, 5),
+            new Lift("Leg Press", new int[] {9}, 150, 10),
+            new Lift("Lat Pulldown", new int[] {2, 3}, 55, 10),
+            new Lift("Seated Cable Row", new int[] {2, 3}, 55, 10),
+            new Lift("Dumbbell Shoulder Press", new int[] {8, 10}, 20, 10),
+            new Lift("Lateral Raise", new int[] {8}, 10, 12),
+            new Lift("Barbell Curl", new int[] {3, 6}, 30, 10),
+            new Lift("Dumbbell Curl", new int[] {3, 6}, 12, 12),
+            new Lift("Hammer Curl", new int[] {3, 6}, 14, 12),
+            new Lift("Triceps Pushdown", new int[] {10}, 30, 12),
+            new Lift("Skull Crusher", new int[] {10}, 25, 10),
+            new Lift("Dip", new int[] {5, 10}, 10, 8),
+            new Lift("Walking Lunge", new int[] {9}, 20, 10),
+            new Lift("Bulgarian Split Squat", new int[] {9}, 18, 10),
+            new Lift("Leg Extension", new int[] {9}, 50, 12),
+            new Lift("Lying Leg Curl", new int[] {9}, 40, 12),
+            new Lift("Hip Thrust", new int[] {9}, 100, 10),
+            new Lift("Standing Calf Raise", new int[] {4}, 80, 12),
+            new Lift("Seated Calf Raise", new int[] {4}, 50, 15),
+            new Lift("Cable Fly", new int[] {5}, 15, 12),
+            new Lift("Pec Deck", new int[] {5}, 45, 12),
+            new Lift("Face Pull", new int[] {8, 2}, 25, 15),
+            new Lift("Rear Delt Fly", new int[] {8}, 8, 15),
+            new Lift("Shrug", new int[] {2, 7}, 100, 12),
+            new Lift("Hanging Leg Raise", new int[] {1}, 0, 12),
+            new Lift("Cable Crunch", new int[] {1}, 40, 15),
+            new Lift("Ab Wheel Rollout", new int[] {1}, 0, 10),
+            new Lift("Farmer's Walk", new int[] {6, 2}, 32, 1),
+            new Lift("Wrist Curl", new int[] {6}, 20, 15),
+            new Lift("Neck Curl", new int[] {7}, 5, 15),
+            new Lift("Sumo Deadlift", new int[] {9, 2}, 120, 5),
+            new Lift("Power Clean", new int[] {9, 2, 8}, 70, 3),
+            new Lift("Push Press", new int[] {8, 10}, 60, 5),
+            new Lift("Close-Grip Bench Press", new int[] {10, 5}, 60, 8),
+            new Lift("Chin-Up", new int[] {3, 2}, 10, 8),
+            new Lift("T-Bar Row", new int[] {2}, 50, 10),
+            new Lift("Goblet Squat", new int[] {9}, 24, 12),
+            new Lift("Hack Squat", new int[] {9}, 100, 10),
+            new Lift("Good Morning", new int[] {2, 9}, 50, 10),
+            new Lift("Arnold Press", new int[] {8}, 16, 10),
+            new Lift("Preacher Curl", new int[] {3}, 25, 10));
+
+    /**
+     * What to generate.
+     *
+     * @param seed            seeds every user's random generator
+     * @param users           number of users
+     * @param workoutsPerUser approximate mean workouts per user
+     * @param historyYears    how far back signups and workouts go
+     * @param streams         parallel {@code COPY} connections
+     * @param batchUsers      users per {@code COPY} batch within a stream
+     */
+    public record Spec(long seed, int users, double workoutsPerUser, int historyYears, int streams, int batchUsers) {
+
+        public Spec {
+            if (users < 1 || workoutsPerUser <= 0 || historyYears < 1 || streams < 1 || batchUsers < 1) {
+                throw new IllegalArgumentException("Dataset spec values must be positive");
+            }
+        }
+
+        /** {@code users} users with the production averages and seed 42. */
+        public static Spec ofUsers(int users) {
+            return new Spec(42, users, 50, 3, Math.min(8, Runtime.getRuntime().availableProcessors()), 500);
+        }
+
+        public Spec withSeed(long newSeed) {
+            return new Spec(newSeed, users, workoutsPerUser, historyYears, streams, batchUsers);
+        }
+
+        public Spec withWorkoutsPerUser(double newWorkoutsPerUser) {
+            return new Spec(seed, users, newWorkoutsPerUser, historyYears, streams, batchUsers);
+        }
+
+        public Spec withStreams(int newStreams) {
+            return new Spec(seed, users, workoutsPerUser, historyYears, newStreams, batchUsers);
+        }
+    }
+
+    /**
+     * What was loaded. Generated users have ids {@code firstUserId} to
+     * {@code firstUserId + users - 1} and the Auth0 ids of {@link #auth0Id(long)}.
+     */
+    public record Summary(long firstUserId, int users, List<Long> catalogIds, long customExercises,
+            long workouts, long workoutExercises, long sets, Duration elapsed) {
+
+        /** The Auth0 subject of generated user {@code userId}, for signing tokens as that user. */
+        public static String auth0Id(long userId) {
+            return "auth0|dataset-" + userId;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%,d users, %,d catalog and %,d custom exercises, %,d workouts, %,d workout exercises, "
+                    + "%,d sets in %s", users, catalogIds.size(), customExercises, workouts, workoutExercises,
+                    sets, elapsed.truncatedTo(ChronoUnit.SECONDS));
+        }
+    }
+
+    /** First id of every generated table, read once before loading. */
+    private record Bases(long user, long profile, long exercise, long workout, long workoutExercise, long set) {
+    }
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Spec spec;
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.DAYS);
+    private final LongAdder customExercises = new LongAdder();
+    private final LongAdder workouts = new LongAdder();
+    private final LongAdder workoutExercises = new LongAdder();
+    private final LongAdder sets = new LongAdder();
+
+    private DatasetGenerator(String url, String username, String password, Spec spec) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.spec = spec;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Spec spec = Spec.ofUsers(Integer.getInteger("dataset.users", 10_000))
+                .withSeed(Long.getLong("dataset.seed", 42L))
+                .withWorkoutsPerUser(Double.parseDouble(System.getProperty("dataset.workouts-per-user", "50")));
+        spec = new Spec(spec.seed(), spec.users(), spec.workoutsPerUser(), Integer.getInteger("dataset.years", 3),
+                Integer.getInteger("dataset.streams", spec.streams()), spec.batchUsers());
+        Summary summary = generate(
+                System.getenv().getOrDefault("DB_URL", "jdbc:postgresql://localhost:5432/liftit"),
+                System.getenv().getOrDefault("DB_USERNAME", "postgres"),
+                System.getenv().getOrDefault("DB_PASSWORD", "postgres"),
+                spec);
+        System.out.println("Loaded " + summary);
+    }
+
+    /**
+     * Generates {@code spec} into the migrated database at {@code url}, alongside any data
+     * already there.
+     */
+    public static Summary generate(String url, String username, String password, Spec spec) throws Exception {
+        return new DatasetGenerator(url, username, password, spec).run();
+    }
+
+    private Summary run() throws Exception {
+        long start = System.nanoTime();
+        Bases bases;
+        List<Long> catalogIds = new ArrayList<>();
+        try (Connection connection = connect()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT ensure_workout_partitions('"
+                        + LocalDate.ofInstant(now, ZoneOffset.UTC).minusYears(spec.historyYears()).minusMonths(1)
+                        + "', 3)");
+            }
+            bases = new Bases(nextId(connection, "users"), nextId(connection, "user_profiles"),
+                    nextId(connection, "exercises"), nextId(connection, "workouts"),
+                    nextId(connection, "workout_exercises"), nextId(connection, "workout_sets"));
+            loadCatalog(connection, bases.exercise(), catalogIds);
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(spec.streams())) {
+            List<Future<?>> shards = new ArrayList<>();
+            for (int shard = 0; shard < spec.streams(); shard++) {
+                Shard task = new Shard(shard, bases, catalogIds);
+                shards.add(executor.submit(() -> {
+                    task.load();
+                    return null;
+                }));
+            }
+            for (Future<?> shard : shards) {
+                shard.get();
+            }
+        }
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            // Written by a trigger only where triggers ran; this fills in the rest.
+            statement.execute("INSERT INTO workout_start_times (workout_id, started_at) "
+                    + "SELECT id, started_at FROM workouts WHERE id >= " + bases.workout()
+                    + " ON CONFLICT (workout_id) DO NOTHING");
+            statement.execute("ANALYZE workout_start_times");
+            for (String table : List.of("users", "user_profiles", "exercises", "workouts", "workout_exercises",
+                    "workout_sets")) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "(SELECT max(id) FROM " + table + "))");
+                statement.execute("ANALYZE " + table);
+            }
+        }
+        return new Summary(bases.user(), spec.users(), List.copyOf(catalogIds), customExercises.sum(),
+                workouts.sum(), workoutExercises.sum(), sets.sum(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Loads the system catalog, reusing lifts an earlier run already loaded (exercise
+     * names are unique).
+     */
+    private void loadCatalog(Connection connection, long firstId, List<Long> catalogIds) throws SQLException {
+        Map<String, Long> existing = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT name, id FROM exercises WHERE name = ANY (?)")) {
+            statement.setArray(1, connection.createArrayOf("varchar",
+                    CATALOG.stream().map(Lift::name).toArray()));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    existing.put(rs.getString(1), rs.getLong(2));
+                }
+            }
+        }
+        StringBuilder exercises = new StringBuilder();
+        StringBuilder muscles = new StringBuilder();
+        String created = TIMESTAMP.format(now.minus(Duration.ofDays(365L * spec.historyYears() + 31)));
+        for (int i = 0; i < CATALOG.size(); i++) {
+            Lift lift = CATALOG.get(i);
+            long id = existing.getOrDefault(lift.name(), firstId + i);
+            if (!existing.containsKey(lift.name())) {
+                exerciseRow(exercises, muscles, id, lift.name(), lift.muscles(), SYSTEM_USER_ID, created);
+            }
+            catalogIds.add(id);
+        }
+        CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+        copy(copy, "exercises (id, name, category_id, created_at, created_by, updated_at, updated_by, muscle_mask)",
+                exercises);
+        copy(copy, "exercise_muscle_groups (exercise_id, muscle_id)", muscles);
+    }
+
+    /** One stream: the users whose index is {@code shard} modulo the number of streams. */
+    private final class Shard {
+
+        private final int shard;
+        private final Bases bases;
+        private final List<Long> catalogIds;
+        private long profiles;
+        private long exercises;
+        private long workoutCount;
+        private long workoutExerciseCount;
+        private long setCount;
+
+        private final StringBuilder userRows = new StringBuilder();
+        private final StringBuilder profileRows = new StringBuilder();
+        private final StringBuilder exerciseRows = new StringBuilder();
+        private final StringBuilder muscleRows = new StringBuilder();
+        private final StringBuilder workoutRows = new StringBuilder();
+        private final StringBuilder workoutExerciseRows = new StringBuilder();
+        private final StringBuilder setRows = new StringBuilder();
+
+        Shard(int shard, Bases bases, List<Long> catalogIds) {
+            this.shard = shard;
+            this.bases = bases;
+            this.catalogIds = catalogIds;
+        }
+
+        void load() throws SQLException {
+            try (Connection connection = connect()) {
+                skipTriggersIfAllowed(connection);
+                CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+                int inBatch = 0;
+                for (int index = shard; index < spec.users(); index += spec.streams()) {
+                    generateUser(index);
+                    if (++inBatch == spec.batchUsers()) {
+                        flush(copy);
+                        inBatch = 0;
+                    }
+                }
+                flush(copy);
+            }
+        }
+
+        private void flush(CopyManager copy) throws SQLException {
+            copy(copy, "users (id, auth0_id, email, created_at, created_by, updated_at, updated_by)", userRows);
+            copy(copy, "user_profiles (id, user_id, username, display_name, gender, birthdate, height_in, "
+                    + "created_at, created_by, updated_at, updated_by)", profileRows);
+            copy(copy, "exercises (id, name, category_id, created_at, created_by, updated_at, updated_by, "
+                    + "muscle_mask)", exerciseRows);
+            copy(copy, "exercise_muscle_groups (exercise_id, muscle_id)", muscleRows);
+            copy(copy, "workouts (id, user_id, started_at, completed_at, notes, created_at, created_by, "
+                    + "updated_at, updated_by, status_code)", workoutRows);
+            copy(copy, "workout_exercises (id, workout_id, workout_started_at, exercise_id, order_index, notes)",
+                    workoutExerciseRows);
+            copy(copy, "workout_sets (id, workout_exercise_id, workout_started_at, set_number, reps, rpe, "
+                    + "weight_milli, weight_grams, weight_unit_code)", setRows);
+        }
+
+        private long nextId(long base, long k) {
+            return base + shard + k * spec.streams();
+        }
+
+        private void generateUser(int index) {
+            SplittableRandom random = new SplittableRandom(mix(spec.seed(), index));
+            long userId = bases.user() + index;
+            long historyDays = 365L * spec.historyYears();
+            Instant signup = now.minus(Duration.ofDays(1 + random.nextLong(historyDays)))
+                    .minusSeconds(random.nextInt(86_400));
+            String signupAt = TIMESTAMP.format(signup);
+            userRows.append(userId).append('\t').append(Summary.auth0Id(userId)).append('\t')
+                    .append("dataset-").append(userId).append("@example.com\t")
+                    .append(signupAt).append('\t').append(userId).append('\t')
+                    .append(signupAt).append('\t').append(userId).append('\n');
+
+            if (random.nextDouble() < 0.6) {
+                profileRow(random, userId, signupAt);
+            }
+            List<Long> own = new ArrayList<>();
+            List<Lift> ownLifts = new ArrayList<>();
+            if (random.nextDouble() < 0.15) {
+                int count = 1 + random.nextInt(3);
+                for (int n = 0; n < count; n++) {
+                    Lift base = CATALOG.get(random.nextInt(CATALOG.size()));
+                    long id = nextId(bases.exercise() + CATALOG.size(), exercises++);
+                    exerciseRow(exerciseRows, muscleRows, id, base.name() + " variation " + id, base.muscles(),
+                            userId, signupAt);
+                    own.add(id);
+                    ownLifts.add(base);
+                    customExercises.increment();
+                }
+            }
+            generateHistory(random, userId, signup, own, ownLifts);
+        }
+
+        private void profileRow(SplittableRandom random, long userId, String at) {
+            String gender = GENDERS[random.nextInt(GENDERS.length)];
+            profileRows.append(nextId(bases.profile(), profiles++)).append('\t').append(userId).append('\t')
+                    .append("lifter_").append(userId).append('\t')
+                    .append(random.nextInt(4) == 0 ? "\\N" : "Lifter " + userId).append('\t')
+                    .append(gender).append('\t')
+                    .append(random.nextInt(3) == 0 ? "\\N"
+                            : LocalDate.of(1960 + random.nextInt(45), 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                    .append('\t')
+                    .append(random.nextInt(3) == 0 ? "\\N" : String.format(Locale.ROOT, "%.1f",
+                            60 + random.nextInt(160) / 10.0))
+                    .append('\t').append(at).append('\t').append(userId).append('\t')
+                    .append(at).append('\t').append(userId).append('\n');
+        }
+
+        /**
+         * Writes the user's workouts: a power-law count spread evenly (with jitter) from
+         * signup to now, cycling through a program of training days.
+         */
+        private void generateHistory(SplittableRandom random, long userId, Instant signup, List<Long> own,
+                List<Lift> ownLifts) {
+            long activeDays = Math.max(1, Duration.between(signup, now).toDays());
+            double scale = spec.workoutsPerUser() * (ACTIVITY_SHAPE - 1);
+            long drawn = (long) (scale * (Math.pow(1 - random.nextDouble(), -1 / ACTIVITY_SHAPE) - 1));
+            long count = Math.min(drawn, activeDays * 6 / 7);
+            if (count == 0) {
+                return;
+            }
+            boolean pounds = random.nextInt(4) == 0;
+            double strength = Math.exp(random.nextGaussian() * 0.3);
+
+            int days = 3 + random.nextInt(3);
+            int[][] programLifts = new int[days][];
+            for (int day = 0; day < days; day++) {
+                programLifts[day] = new int[4 + random.nextInt(3)];
+                for (int slot = 0; slot < programLifts[day].length; slot++) {
+                    programLifts[day][slot] = !own.isEmpty() && random.nextInt(5) == 0
+                            ? -1 - random.nextInt(own.size())
+                            : popularLift(random);
+                }
+            }
+
+            double spacingSeconds = (double) Duration.between(signup, now).minusHours(2).toSeconds() / count;
+            for (long n = 0; n < count; n++) {
+                long offset = (long) (spacingSeconds * (n + 0.5 + (random.nextDouble() - 0.5) * 0.6));
+                Instant startedAt = signup.plusSeconds(offset).truncatedTo(ChronoUnit.HOURS)
+                        .plus(Duration.ofMinutes(random.nextInt(60)));
+                double months = Duration.between(signup, startedAt).toDays() / 30.0;
+                boolean inProgress = n == count - 1 && random.nextInt(100) == 0;
+                workoutRow(random, userId, startedAt, inProgress, programLifts[(int) (n % days)], own, ownLifts,
+                        pounds, strength, months);
+            }
+        }
+
+        private void workoutRow(SplittableRandom random, long userId, Instant startedAt, boolean inProgress,
+                int[] lifts, List<Long> own, List<Lift> ownLifts, boolean pounds, double strength, double months) {
+            long workoutId = nextId(bases.workout(), workoutCount++);
+            workouts.increment();
+            String started = TIMESTAMP.format(startedAt);
+            Instant end = min(startedAt.plus(Duration.ofMinutes(40 + random.nextInt(60))), now);
+            String ended = TIMESTAMP.format(end);
+            workoutRows.append(workoutId).append('\t').append(userId).append('\t').append(started).append('\t')
+                    .append(inProgress ? "\\N" : ended).append('\t')
+                    .append(random.nextInt(20) == 0 ? NOTES[random.nextInt(NOTES.length)] : "\\N").append('\t')
+                    .append(started).append('\t').append(userId).append('\t')
+                    .append(ended).append('\t').append(userId).append('\t')
+                    .append(inProgress ? IN_PROGRESS : COMPLETED).append('\n');
+
+            // Progress flattens over time; roughly one session in twelve is a deload.
+            double progression = 1 + 0.25 * Math.log1p(months / 3) + random.nextGaussian() * 0.03;
+            if (random.nextInt(12) == 0) {
+                progression *= 0.85;
+            }
+            for (int order = 0; order < lifts.length; order++) {
+                int slot = lifts[order];
+                long exerciseId = slot < 0 ? own.get(-1 - slot) : catalogIds.get(slot);
+                Lift lift = slot < 0 ? ownLifts.get(-1 - slot) : CATALOG.get(slot);
+                long workoutExerciseId = nextId(bases.workoutExercise(), workoutExerciseCount++);
+                workoutExercises.increment();
+                workoutExerciseRows.append(workoutExerciseId).append('\t').append(workoutId).append('\t')
+                        .append(started).append('\t').append(exerciseId).append('\t').append(order + 1)
+                        .append("\t\\N\n");
+                setRows(random, workoutExerciseId, started, lift, pounds, lift.baseKg() * strength * progression);
+            }
+        }
+
+        private void setRows(SplittableRandom random, long workoutExerciseId, String started, Lift lift,
+                boolean pounds, double workingKg) {
+            int count = 3 + random.nextInt(3);
+            boolean rated = random.nextInt(5) < 3;
+            double step = pounds ? 5 : 2.5;
+            double working = pounds ? workingKg / GRAMS_PER_MILLI_POUND : workingKg;
+            for (int set = 1; set <= count; set++) {
+                double weight = Math.max(0, Math.round(working * (0.9 + 0.05 * Math.min(set, 3)) / step) * step);
+                int reps = Math.max(1, lift.reps() - (set == count && random.nextInt(3) == 0 ? 1 : 0)
+                        + random.nextInt(3) - 1);
+                int milli = (int) Math.round(weight * 1000);
+                int grams = pounds ? (int) Math.round(milli * GRAMS_PER_MILLI_POUND) : milli;
+                setRows.append(nextId(bases.set(), setCount++)).append('\t').append(workoutExerciseId).append('\t')
+                        .append(started).append('\t').append(set).append('\t').append(reps).append('\t')
+                        .append(rated ? String.valueOf(Math.min(10, 6 + set)) : "\\N").append('\t')
+                        .append(milli).append('\t').append(grams).append('\t').append(pounds ? LBS : KG)
+                        .append('\n');
+                sets.increment();
+            }
+        }
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static void exerciseRow(StringBuilder exercises, StringBuilder muscles, long id, String name,
+            int[] muscleIds, long owner, String at) {
+        long mask = 0;
+        for (int muscle : muscleIds) {
+            mask |= 1L << (muscle - 1);
+            muscles.append(id).append('\t').append(muscle).append('\n');
+        }
+        exercises.append(id).append('\t').append(name).append("\t1\t").append(at).append('\t').append(owner)
+                .append('\t').append(at).append('\t').append(owner).append('\t').append(mask).append('\n');
+    }
+
+    /** Catalog index with Zipf-like popularity: the staples come up far more often. */
+    private static int popularLift(SplittableRandom random) {
+        double u = random.nextDouble();
+        return (int) Math.min(CATALOG.size() - 1, Math.floor(Math.pow(CATALOG.size() + 1, u)) - 1);
+    }
+
+    private static void copy(CopyManager copy, String target, StringBuilder rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        rows.setLength(0);
+        CopyIn in = copy.copyIn("COPY " + target + " FROM STDIN");
+        try {
+            in.writeToCopy(bytes, 0, bytes.length);
+            in.endCopy();
+        } finally {
+            if (in.isActive()) {
+                in.cancelCopy();
+            }
+        }
+    }
+
+    private static void skipTriggersIfAllowed(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET session_replication_role = replica");
+        } catch (SQLException notSuperuser) {
+            // Load with triggers and foreign-key checks; slower but equivalent.
+        }
+    }
+
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(max(id), 99) + 1 FROM " + table)) {
+            rs.next();
+            return Math.max(100, rs.getLong(1));
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+
+    /** A well-spread 64-bit seed from the run seed and a user index (SplitMix64 finalizer). */
+    static long mix(long seed, long index) {
+        long z = seed + 0x9E3779B97F4A7C15L * (index + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
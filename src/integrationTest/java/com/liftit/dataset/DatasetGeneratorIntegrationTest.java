@@ -0,0 +1,169 @@
+package com.liftit.dataset;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for {@link DatasetGenerator}: a small generated dataset must satisfy
+ * the schema's invariants, read back through the application, and be identical for the
+ * same seed.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("integrationTest")
+class DatasetGeneratorIntegrationTest {
+
+    private static final DatasetGenerator.Spec SPEC = DatasetGenerator.Spec.ofUsers(300).withStreams(3);
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        deleteGenerated();
+    }
+
+    @Test
+    void shouldLoadRowsThatSatisfyTheSchemaInvariants() throws Exception {
+        // When
+        DatasetGenerator.Summary summary = generate(SPEC);
+
+        // Then
+        assertEquals(300, count("SELECT count(*) FROM users WHERE id >= ?", summary.firstUserId()));
+        assertEquals(summary.workouts(), count("SELECT count(*) FROM workouts"));
+        assertEquals(summary.workoutExercises(), count("SELECT count(*) FROM workout_exercises"));
+        assertEquals(summary.sets(), count("SELECT count(*) FROM workout_sets"));
+        assertEquals(0, count("""
+                SELECT count(*) FROM workout_exercises we
+                WHERE NOT EXISTS (SELECT 1 FROM workouts w
+                                  WHERE w.id = we.workout_id AND w.started_at = we.workout_started_at)
+                   OR NOT EXISTS (SELECT 1 FROM exercises e WHERE e.id = we.exercise_id)"""));
+        assertEquals(0, count("""
+                SELECT count(*) FROM exercises e
+                WHERE e.muscle_mask <> (SELECT COALESCE(bit_or(1::BIGINT << (emg.muscle_id - 1)), 0)
+                                        FROM exercise_muscle_groups emg WHERE emg.exercise_id = e.id)"""));
+        assertEquals(0, count("""
+                SELECT count(*) FROM workout_sets
+                WHERE weight_grams <> CASE weight_unit_code WHEN 1 THEN weight_milli
+                                      ELSE round(weight_milli * 0.45359237)::INTEGER END"""));
+        assertEquals(0, count("""
+                SELECT count(*) FROM (SELECT user_id FROM workouts WHERE status_code = 1
+                                      GROUP BY user_id HAVING count(*) > 1) open"""));
+    }
+
+    @Test
+    void shouldSpreadActivityAcrossUsersByAPowerLaw() throws Exception {
+        // When
+        generate(SPEC);
+
+        // Then
+        long busiest = count("SELECT max(n) FROM (SELECT count(*) AS n FROM workouts GROUP BY user_id) per_user");
+        long median = count("""
+                SELECT percentile_disc(0.5) WITHIN GROUP (ORDER BY n)
+                FROM (SELECT count(*) AS n FROM workouts GROUP BY user_id) per_user""");
+        assertTrue(busiest > median * 5, "busiest " + busiest + " vs median " + median);
+    }
+
+    @Test
+    void shouldReadGeneratedHistoryThroughTheWorkoutService() throws Exception {
+        // Given
+        generate(SPEC);
+        Long userId = jdbcTemplate.queryForObject(
+                "SELECT user_id FROM workouts GROUP BY user_id ORDER BY count(*) DESC, user_id LIMIT 1", Long.class);
+
+        // When
+        Page<Workout> page = workoutService.listByUser(userId, PageRequest.of(0, 20));
+        Workout workout = workoutService.getOwnedById(page.getContent().getFirst().id(), userId);
+
+        // Then
+        assertEquals(20, page.getContent().size());
+        assertFalse(workout.exercises().isEmpty());
+        assertTrue(workout.totalSetCount() >= 3 * workout.exercises().size());
+    }
+
+    @Test
+    void shouldGenerateTheSameRowsForTheSameSeed() throws Exception {
+        // Given
+        generate(SPEC);
+        String first = fingerprint();
+        deleteGenerated();
+
+        // When
+        generate(SPEC.withStreams(2));
+        String second = fingerprint();
+        deleteGenerated();
+        generate(SPEC.withSeed(7));
+        String otherSeed = fingerprint();
+
+        // Then
+        assertEquals(first, second);
+        assertNotEquals(first, otherSeed);
+    }
+
+    // --- helpers ---
+
+    private static DatasetGenerator.Summary generate(DatasetGenerator.Spec spec) throws Exception {
+        return DatasetGenerator.generate(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(),
+                spec);
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    /** Hash of every workout and set, keyed by user offset and exercise name rather than ids. */
+    private String fingerprint() {
+        return jdbcTemplate.queryForObject("""
+                SELECT md5(string_agg(concat_ws(',', w.user_id - first.id, w.started_at, w.status_code,
+                                                e.name, we.order_index, s.set_number, s.reps, s.rpe,
+                                                s.weight_milli, s.weight_unit_code), ';'
+                                      ORDER BY w.user_id, w.started_at, we.order_index, s.set_number))
+                FROM workouts w
+                JOIN workout_exercises we ON we.workout_id = w.id AND we.workout_started_at = w.started_at
+                JOIN exercises e ON e.id = we.exercise_id
+                JOIN workout_sets s ON s.workout_exercise_id = we.id AND s.workout_started_at = we.workout_started_at
+                CROSS JOIN (SELECT min(id) AS id FROM users WHERE id > 99) first""", String.class);
+    }
+
+    private void deleteGenerated() {
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM exercises WHERE created_by > 99");
+        jdbcTemplate.update("DELETE FROM user_profiles WHERE user_id > 99");
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+}
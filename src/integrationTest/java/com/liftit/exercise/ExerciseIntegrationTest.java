@@ -23,6 +23,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -341,6 +342,82 @@ class ExerciseIntegrationTest {
                 .andExpect(jsonPath("$.content[0].name").value("Seated Cable Row"));
     }
 
+    @Test
+    void shouldFilterExercisesByAnyOrAllMuscleGroups() throws Exception {
+        // Given
+        createExercise("""
+                {"name": "Mask Test Press", "category": "STRENGTH", "muscleGroups": ["CHEST", "TRICEPS"]}
+                """);
+        createExercise("""
+                {"name": "Mask Test Fly", "category": "STRENGTH", "muscleGroups": ["CHEST"]}
+                """);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises")
+                        .header("Authorization", JwtTestTokenFactory.bearerToken(AUTH0_ID))
+                        .param("search", "mask test")
+                        .param("muscleGroup", "CHEST", "TRICEPS")
+                        .param("muscleMatch", "ALL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Mask Test Press"));
+        mockMvc.perform(get("/api/v1/exercises")
+                        .header("Authorization", JwtTestTokenFactory.bearerToken(AUTH0_ID))
+                        .param("search", "mask test")
+                        .param("muscleGroup", "CHEST", "TRICEPS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    @Test
+    void shouldKeepMuscleMaskInSyncWhenMuscleGroupsChangeInSql() throws Exception {
+        // Given
+        createExercise("""
+                {"name": "Mask Test Row", "category": "STRENGTH", "muscleGroups": ["BACK"]}
+                """);
+        Long id = jdbcTemplate.queryForObject(
+                "SELECT id FROM exercises WHERE name = 'Mask Test Row'", Long.class);
+
+        // When — a writer that bypasses the application
+        jdbcTemplate.update("INSERT INTO exercise_muscle_groups (exercise_id, muscle_id) VALUES (?, 3)", id);
+        jdbcTemplate.update("DELETE FROM exercise_muscle_groups WHERE exercise_id = ? AND muscle_id = 2", id);
+
+        // Then — only BICEPS (id 3 -> bit 2) remains
+        Long mask = jdbcTemplate.queryForObject("SELECT muscle_mask FROM exercises WHERE id = ?", Long.class, id);
+        assertEquals(0b100L, mask);
+    }
+
+    // --- GET /api/v1/exercises/search ---
+
+    @Test
+    void shouldReturnPageWithFacetCountsForFilter() throws Exception {
+        // Given
+        createExercise("""
+                {"name": "Facet Test Press", "category": "STRENGTH", "muscleGroups": ["CHEST", "TRICEPS"]}
+                """);
+        createExercise("""
+                {"name": "Facet Test Fly", "category": "STRENGTH", "muscleGroups": ["CHEST"]}
+                """);
+        createExercise("""
+                {"name": "Facet Test Row", "category": "STRENGTH", "muscleGroups": ["BACK"]}
+                """);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises/search")
+                        .header("Authorization", JwtTestTokenFactory.bearerToken(AUTH0_ID))
+                        .param("search", "facet test")
+                        .param("muscleGroup", "CHEST")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.content.length()").value(1))
+                .andExpect(jsonPath("$.results.totalElements").value(2))
+                .andExpect(jsonPath("$.facets.total").value(2))
+                .andExpect(jsonPath("$.facets.categories.STRENGTH").value(2))
+                .andExpect(jsonPath("$.facets.muscleGroups.CHEST").value(2))
+                .andExpect(jsonPath("$.facets.muscleGroups.TRICEPS").value(1))
+                .andExpect(jsonPath("$.facets.muscleGroups.BACK").value(1));
+    }
+
     // --- GET /api/v1/exercises/categories ---
 
     @Test
@@ -364,4 +441,13 @@ class ExerciseIntegrationTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(10));
     }
+
+    // --- helpers ---
+
+    private void createExercise(String body) throws Exception {
+        mockMvc.perform(post("/api/v1/exercises")
+                        .header("Authorization", JwtTestTokenFactory.bearerToken(AUTH0_ID))
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+    }
 }
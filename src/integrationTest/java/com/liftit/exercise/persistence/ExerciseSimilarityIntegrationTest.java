@@ -0,0 +1,280 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.exercise.CreateExerciseRequest;
+import com.liftit.exercise.Exercise;
+import com.liftit.exercise.ExerciseCategoryEnum;
+import com.liftit.exercise.ExerciseService;
+import com.liftit.exercise.SimilarExercise;
+import com.liftit.exercise.UpdateExerciseRequest;
+import com.liftit.job.Job;
+import com.liftit.muscle.MuscleEnum;
+import com.liftit.outbox.OutboxEvent;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.UserProvisioningService;
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutEvent;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutService;
+import com.liftit.workout.WorkoutSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for the exercise similarity index: the refresh jobs queued on exercise
+ * writes, co-occurrence counted as workouts complete or are deleted, and the nightly
+ * {@link ExerciseSimilarityRebuilder}, against the V19 and V26 database functions. Job and
+ * outbox polling are off in integration tests; the tests run queued jobs and deliver
+ * events themselves.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("integrationTest")
+class ExerciseSimilarityIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Autowired
+    private ExerciseService exerciseService;
+
+    @Autowired
+    private ExerciseSimilarityRebuilder rebuilder;
+
+    @Autowired
+    private ExerciseSimilarityRefresher refresher;
+
+    @Autowired
+    private ExerciseCooccurrenceCounter counter;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userProvisioningService
+                .provision(Auth0Id.of("auth0|exercisesimilarityintegrationuser"),
+                        Email.of("exercise-similarity-test@example.com"))
+                .id();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM archived_workouts");
+        jdbcTemplate.update("DELETE FROM exercise_cooccurrence_workouts");
+        jdbcTemplate.update("DELETE FROM exercise_cooccurrence");
+        jdbcTemplate.update("DELETE FROM schema_backfills WHERE backfill = ?", ExerciseSimilarityRebuilder.BACKFILL);
+        jdbcTemplate.update("DELETE FROM jobs");
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM exercise_muscle_groups");
+        jdbcTemplate.update("DELETE FROM exercises");
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+
+    @Test
+    void shouldRankByMuscleOverlapAndSkipUnrelatedExercises() {
+        // Given
+        Exercise bench = create("Bench Press", MuscleEnum.CHEST, MuscleEnum.TRICEPS);
+        Exercise dips = create("Dips", MuscleEnum.CHEST, MuscleEnum.TRICEPS, MuscleEnum.SHOULDERS);
+        Exercise fly = create("Cable Fly", MuscleEnum.CHEST);
+        create("Barbell Row", MuscleEnum.BACK);
+
+        // When
+        runQueuedJobs();
+        List<SimilarExercise> similar = exerciseService.similar(bench.id(), 10);
+
+        // Then — 0.6 * 2/3 + 0.2 for dips, 0.6 * 1/2 + 0.2 for fly; the row shares nothing
+        assertEquals(List.of(dips.id(), fly.id()), ids(similar));
+        assertEquals(0.6, similar.get(0).score(), 1e-9);
+        assertEquals(0.5, similar.get(1).score(), 1e-9);
+    }
+
+    @Test
+    void shouldPlaceNewExerciseInExistingLists() {
+        // Given
+        Exercise bench = create("Bench Press", MuscleEnum.CHEST, MuscleEnum.TRICEPS);
+        Exercise fly = create("Cable Fly", MuscleEnum.CHEST);
+
+        runQueuedJobs();
+
+        // When
+        Exercise dumbbell = create("Dumbbell Press", MuscleEnum.CHEST, MuscleEnum.TRICEPS);
+        runQueuedJobs();
+
+        // Then
+        assertEquals(List.of(dumbbell.id(), fly.id()), ids(exerciseService.similar(bench.id(), 10)));
+        assertEquals(List.of(bench.id(), dumbbell.id()), ids(exerciseService.similar(fly.id(), 10)));
+    }
+
+    @Test
+    void shouldRefillListsWhenExerciseIsDeleted() {
+        // Given
+        Exercise bench = create("Bench Press", MuscleEnum.CHEST, MuscleEnum.TRICEPS);
+        Exercise dumbbell = create("Dumbbell Press", MuscleEnum.CHEST, MuscleEnum.TRICEPS);
+        Exercise fly = create("Cable Fly", MuscleEnum.CHEST);
+        runQueuedJobs();
+
+        // When
+        exerciseService.delete(dumbbell.id(), userId);
+        runQueuedJobs();
+
+        // Then
+        assertEquals(List.of(fly.id()), ids(exerciseService.similar(bench.id(), 10)));
+    }
+
+    @Test
+    void shouldQueueOneRefreshPerExerciseUntilItRuns() {
+        // Given
+        Exercise bench = create("Bench Press", MuscleEnum.CHEST, MuscleEnum.TRICEPS);
+
+        // When
+        exerciseService.update(bench.id(),
+                new UpdateExerciseRequest("Flat Bench Press", ExerciseCategoryEnum.STRENGTH,
+                        Set.of(MuscleEnum.CHEST, MuscleEnum.TRICEPS)), userId);
+
+        // Then
+        assertEquals(List.of(ExerciseSimilarityRefresher.refreshPayload(bench.id())), queuedPayloads());
+    }
+
+    @Test
+    void shouldScoreWorkoutCooccurrenceOnceWorkoutIsCounted() {
+        // Given — no shared muscle groups, but done in the same workout
+        Exercise squat = create("Squat", MuscleEnum.THIGHS);
+        Exercise plank = create("Plank", MuscleEnum.ABDOMINALS);
+        Workout workout = completedWorkout(squat, plank);
+
+        // When — redelivery is harmless
+        counter.handle(completedEvent(workout));
+        counter.handle(completedEvent(workout));
+        int indexed = rebuilder.recomputeAll();
+
+        // Then — 0.2 for the category + 0.2 * 1 / sqrt(1 * 1)
+        assertEquals(2, indexed);
+        List<SimilarExercise> similar = exerciseService.similar(squat.id(), 10);
+        assertEquals(List.of(plank.id()), ids(similar));
+        assertEquals(0.4, similar.getFirst().score(), 1e-9);
+    }
+
+    @Test
+    void shouldSubtractDeletedWorkout() {
+        // Given
+        Exercise squat = create("Squat", MuscleEnum.THIGHS);
+        Exercise plank = create("Plank", MuscleEnum.ABDOMINALS);
+        Workout workout = completedWorkout(squat, plank);
+        counter.handle(completedEvent(workout));
+
+        // When
+        workoutService.delete(workout.id(), userId);
+        counter.handle(new OutboxEvent(2L, WorkoutEvent.DELETED.type(), userId, workout.id(), 0, Instant.now()));
+
+        // Then
+        assertEquals(Integer.valueOf(0), jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM exercise_cooccurrence", Integer.class));
+    }
+
+    @Test
+    void shouldBackfillHotAndArchivedWorkoutsOnce() {
+        // Given — a hot workout and an archived one, both completed before counting began
+        Exercise squat = create("Squat", MuscleEnum.THIGHS);
+        Exercise plank = create("Plank", MuscleEnum.ABDOMINALS);
+        completedWorkout(squat, plank);
+        jdbcTemplate.update("""
+                INSERT INTO archived_workouts (id, user_id, started_at, completed_at, format_version, document,
+                                               exercise_ids, created_at, created_by, updated_at, updated_by)
+                VALUES (999999, ?, now() - interval '2 years', now() - interval '2 years', 1, '\\x00',
+                        ARRAY[?, ?]::BIGINT[], now(), 1, now(), 1)
+                """, userId, squat.id(), plank.id());
+
+        // When — a second run finds both tiers done
+        long counted = rebuilder.countUncountedWorkouts();
+        long recounted = rebuilder.countUncountedWorkouts();
+
+        // Then
+        assertEquals(2L, counted);
+        assertEquals(0L, recounted);
+        assertEquals(Integer.valueOf(2), jdbcTemplate.queryForObject(
+                "SELECT workouts FROM exercise_cooccurrence WHERE exercise_id = ? AND other_exercise_id = ?",
+                Integer.class, squat.id(), plank.id()));
+    }
+
+    // --- helpers ---
+
+    private Exercise create(String name, MuscleEnum... muscles) {
+        return exerciseService.create(
+                new CreateExerciseRequest(name, ExerciseCategoryEnum.STRENGTH, Set.of(muscles)), userId);
+    }
+
+    private Workout completedWorkout(Exercise... exercises) {
+        Workout workout = workoutService.start(userId, null);
+        for (int i = 0; i < exercises.length; i++) {
+            addExercise(workout, exercises[i], i + 1);
+        }
+        return workoutService.complete(workout.id(), userId);
+    }
+
+    private OutboxEvent completedEvent(Workout workout) {
+        return new OutboxEvent(1L, WorkoutEvent.COMPLETED.type(), userId, workout.id(), 0, Instant.now());
+    }
+
+    /** Runs the queued refresh jobs in order, as a worker would. */
+    private void runQueuedJobs() {
+        jdbcTemplate.query("SELECT id, payload FROM jobs WHERE queue = ? AND status_code = 1 ORDER BY id",
+                (RowCallbackHandler) rs -> refresher.run(new Job(rs.getLong("id"), ExerciseSimilarityRefresher.QUEUE,
+                        rs.getString("payload"), 1, Instant.now())),
+                ExerciseSimilarityRefresher.QUEUE);
+        jdbcTemplate.update("DELETE FROM jobs");
+    }
+
+    private List<String> queuedPayloads() {
+        return jdbcTemplate.queryForList("SELECT payload FROM jobs WHERE queue = ? AND status_code = 1 ORDER BY id",
+                String.class, ExerciseSimilarityRefresher.QUEUE);
+    }
+
+    private void addExercise(Workout workout, Exercise exercise, int order) {
+        workoutService.addExercise(workout.id(), new WorkoutExercise(0L, exercise.id(), order,
+                List.of(new WorkoutSet(1, 5, new Weight(60.0, WeightUnit.KG), null)), null), userId);
+    }
+
+    private static List<Long> ids(List<SimilarExercise> similar) {
+        return similar.stream().map(s -> s.exercise().id()).toList();
+    }
+}
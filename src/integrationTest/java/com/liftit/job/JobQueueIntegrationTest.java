@@ -0,0 +1,203 @@
+package com.liftit.job;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for the job queue: two workers ("nodes") sharing the {@code jobs}
+ * table, the cluster-wide concurrency limit, delayed and deduplicated jobs, and reruns
+ * after a lease expires.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("integrationTest")
+@Import(JobQueueIntegrationTest.RecordingHandlerConfig.class)
+class JobQueueIntegrationTest {
+
+    private static final String QUEUE = "test.recording";
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @TestConfiguration
+    static class RecordingHandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    /** Records runs per job and the highest number of jobs running at once. */
+    static class RecordingHandler implements JobHandler {
+
+        final Map<Long, AtomicInteger> runs = new ConcurrentHashMap<>();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        @Override
+        public String queue() {
+            return QUEUE;
+        }
+
+        @Override
+        public int concurrency() {
+            return 2;
+        }
+
+        @Override
+        public void run(Job job) throws InterruptedException {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                runs.computeIfAbsent(job.id(), id -> new AtomicInteger()).incrementAndGet();
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+
+    @Autowired
+    private JobQueue jobQueue;
+
+    @Autowired
+    private JobWorker worker;
+
+    @Autowired
+    private JdbcJobStore store;
+
+    @Autowired
+    private JobHandlers handlers;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecordingHandler handler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM jobs");
+        handler.runs.clear();
+        handler.maxRunning.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM jobs");
+    }
+
+    @Test
+    void shouldRunEveryJobOnceWithinTheQueueLimitAcrossNodes() throws InterruptedException {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            jobQueue.enqueue(QUEUE, String.valueOf(i));
+        }
+        JobWorker otherNode =
+                new JobWorker(store, handlers, transactionTemplate, new SimpleMeterRegistry(), false, 8, 60_000, 1);
+
+        // When
+        try {
+            awaitFinished(20, worker, otherNode);
+        } finally {
+            otherNode.shutdown();
+        }
+
+        // Then
+        assertEquals(20, handler.runs.size());
+        handler.runs.values().forEach(count -> assertEquals(1, count.get()));
+        assertTrue(handler.maxRunning.get() <= 2, "max running " + handler.maxRunning.get());
+    }
+
+    @Test
+    void shouldHoldDelayedJobsAndDeduplicatePendingOnes() {
+        // Given
+        Instant later = Instant.now().plusSeconds(3600);
+        Optional<Long> first = jobQueue.enqueue(QUEUE, "42", later, "user-42");
+
+        // When
+        Optional<Long> duplicate = jobQueue.enqueue(QUEUE, "42", later, "user-42");
+        worker.claimAndRun();
+
+        // Then
+        assertTrue(first.isPresent());
+        assertTrue(duplicate.isEmpty());
+        assertEquals(1, statusOf(first.get()));
+    }
+
+    @Test
+    void shouldRerunJobWhoseLeaseExpired() throws InterruptedException {
+        // Given
+        long id = jdbcTemplate.queryForObject("""
+                INSERT INTO jobs (queue, status_code, attempts, max_attempts, run_at, lease_owner, lease_expires_at, created_at)
+                VALUES (?, 2, 1, 5, now(), 'dead-node', now() - INTERVAL '1 minute', now()) RETURNING id
+                """, Long.class, QUEUE);
+
+        // When
+        awaitFinished(1, worker);
+
+        // Then
+        assertEquals(1, handler.runs.get(id).get());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT attempts FROM jobs WHERE id = ?", Integer.class, id));
+    }
+
+    // --- helpers ---
+
+    private void awaitFinished(int expected, JobWorker... workers) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (succeededCount() < expected && System.currentTimeMillis() < deadline) {
+            for (JobWorker node : workers) {
+                node.claimAndRun();
+            }
+            Thread.sleep(5);
+        }
+        assertEquals(expected, succeededCount());
+    }
+
+    private int succeededCount() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM jobs WHERE queue = ? AND status_code = 3", Integer.class, QUEUE);
+        return count == null ? 0 : count;
+    }
+
+    private int statusOf(long id) {
+        Integer status = jdbcTemplate.queryForObject("SELECT status_code FROM jobs WHERE id = ?", Integer.class, id);
+        return status == null ? 0 : status;
+    }
+}
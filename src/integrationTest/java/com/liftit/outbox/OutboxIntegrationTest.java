@@ -0,0 +1,213 @@
+package com.liftit.outbox;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.UserProvisioningService;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for the outbox: workout changes recording their events in the same
+ * transaction, and {@link OutboxDispatcher} delivering them in order per user with two
+ * dispatchers ("nodes") polling the same table.
+ */
+@SpringBootTest(properties = {
+        "liftit.outbox.retry-backoff-ms=1"
+})
+@Testcontainers
+@ActiveProfiles("integrationTest")
+@Import(OutboxIntegrationTest.RecordingConsumerConfig.class)
+class OutboxIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @TestConfiguration
+    static class RecordingConsumerConfig {
+
+        @Bean
+        RecordingConsumer recordingConsumer() {
+            return new RecordingConsumer();
+        }
+    }
+
+    /** Records deliveries per user; fails the first attempt of events listed in {@code failOnce}. */
+    static class RecordingConsumer implements OutboxConsumer {
+
+        final Map<Long, List<Long>> delivered = new ConcurrentHashMap<>();
+        final Set<Long> failOnce = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void handle(OutboxEvent event) {
+            if (failOnce.remove(event.id())) {
+                throw new IllegalStateException("transient failure");
+            }
+            delivered.computeIfAbsent(event.userId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.id());
+        }
+    }
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private JdbcOutbox outbox;
+
+    @Autowired
+    private ObjectProvider<OutboxConsumer> consumers;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecordingConsumer consumer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long exerciseId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userProvisioningService
+                .provision(Auth0Id.of("auth0|outboxintegrationuser"), Email.of("outbox-test@example.com"))
+                .id();
+        exerciseId = jdbcTemplate.queryForObject(
+                "INSERT INTO exercises (name, category_id, created_at, created_by, updated_at, updated_by) "
+                + "VALUES ('Outbox Test Squat', 1, now(), 1, now(), 1) RETURNING id",
+                Long.class);
+        consumer.delivered.clear();
+        consumer.failOnce.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM exercises WHERE id = ?", exerciseId);
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+
+    @Test
+    void shouldRecordAnEventForEveryWorkoutChange() {
+        // Given
+        Workout workout = workoutService.start(userId, null);
+        workoutService.addExercise(workout.id(), new WorkoutExercise(0L, exerciseId, 1, List.of(), null), userId);
+        workoutService.complete(workout.id(), userId);
+
+        // When
+        workoutService.delete(workout.id(), userId);
+
+        // Then
+        assertEquals(
+                List.of("workout.started", "workout.exercise-added", "workout.completed", "workout.deleted"),
+                jdbcTemplate.queryForList(
+                        "SELECT event_type FROM outbox_events WHERE user_id = ? AND aggregate_id = ? ORDER BY id",
+                        String.class, userId, workout.id()));
+    }
+
+    @Test
+    void shouldDeliverEveryEventOnceInOrderPerUserAcrossNodes() {
+        // Given
+        for (int i = 0; i < 300; i++) {
+            insertEvent(1000L + i % 7);
+        }
+        OutboxDispatcher otherNode = new OutboxDispatcher(outbox, consumers, transactionTemplate,
+                new SimpleMeterRegistry(), false, 10, 1000, 10, 1, 10_000);
+
+        // When
+        try {
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(dispatcher::dispatchPending),
+                    CompletableFuture.runAsync(otherNode::dispatchPending)).join();
+            dispatcher.dispatchPending();
+        } finally {
+            otherNode.shutdown();
+        }
+
+        // Then
+        assertEquals(300, consumer.delivered.values().stream().mapToInt(List::size).sum());
+        consumer.delivered.forEach((user, ids) -> assertEquals(ids.stream().sorted().toList(), ids));
+        assertEquals(0, pendingCount());
+    }
+
+    @Test
+    void shouldRetryFailedEventBeforeTheUsersLaterEvents() throws InterruptedException {
+        // Given
+        long first = insertEvent(userId);
+        long second = insertEvent(userId);
+        consumer.failOnce.add(first);
+
+        // When
+        dispatcher.dispatchPending();
+        Thread.sleep(50);
+        dispatcher.dispatchPending();
+
+        // Then
+        assertEquals(List.of(first, second), consumer.delivered.get(userId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT attempts FROM outbox_events WHERE id = ?", Integer.class, first));
+    }
+
+    // --- helpers ---
+
+    private long insertEvent(Long user) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO outbox_events (event_type, user_id, aggregate_id, status_code, attempts, available_at, created_at)
+                VALUES ('workout.completed', ?, 1, 1, 0, now(), now()) RETURNING id
+                """, Long.class, user);
+    }
+
+    private int pendingCount() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM outbox_events WHERE status_code = 1", Integer.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,100 @@
+package com.liftit.queryplan;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Wraps the application {@link DataSource} to record the SQL the current thread sends
+ * while inside {@link #capture(Action)}.
+ *
+ * <p>Recording happens at the JDBC level, so Hibernate and {@code JdbcTemplate} queries
+ * are both seen, and is per thread, so schedulers and job workers running alongside the
+ * test are not.
+ */
+class CapturingDataSource extends DelegatingDataSource {
+
+    /** The code whose SQL is recorded. */
+    interface Action {
+        void run() throws Exception;
+    }
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "addBatch");
+
+    CapturingDataSource(DataSource target) {
+        super(target);
+    }
+
+    /**
+     * Runs {@code action} and returns the SQL it sent through a capturing data source, in
+     * order, with repeats.
+     */
+    static List<String> capture(Action action) throws Exception {
+        List<String> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return captured;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recording(super.getConnection(username, password));
+    }
+
+    private static Connection recording(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    if (STATEMENT_METHODS.contains(method.getName()) && args != null && args[0] instanceof String sql) {
+                        record(sql);
+                    }
+                    Object result = invoke(connection, method, args);
+                    return "createStatement".equals(method.getName()) ? recording((Statement) result) : result;
+                });
+    }
+
+    private static Statement recording(Statement statement) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                new Class<?>[] {Statement.class}, (proxy, method, args) -> {
+                    if (EXECUTE_METHODS.contains(method.getName()) && args != null && args[0] instanceof String sql) {
+                        record(sql);
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static void record(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.liftit.queryplan;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.dataset.DatasetGenerator;
+import com.liftit.exercise.ExerciseCategoryEnum;
+import com.liftit.exercise.ExerciseCategoryRepository;
+import com.liftit.exercise.ExerciseFilter;
+import com.liftit.exercise.ExerciseRepository;
+import com.liftit.exercise.ExerciseSimilarityIndex;
+import com.liftit.muscle.MuscleEnum;
+import com.liftit.muscle.MuscleRepository;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.UserProfileRepository;
+import com.liftit.user.UserRepository;
+import com.liftit.workout.WorkoutRepository;
+import com.liftit.workout.WorkoutTemplateRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.abort;
+
+/**
+ * Query-plan regression tests: every query the repository adapters issue, including each
+ * kind of exercise filter, is explained against a generated dataset and compared with the
+ * committed snapshot in {@code src/integrationTest/resources/query-plans}.
+ *
+ * <p>A changed plan fails the test and leaves the new plans in {@code build/query-plans}.
+ * When the change is intended, rerun with {@code -Pqueryplans.update} to rewrite the
+ * snapshots and commit them with the change that caused it. A missing snapshot fails
+ * the test too, unless snapshots are being rewritten. A sequential scan of a populated
+ * workout partition fails regardless.
+ *
+ * <p>The sequential-scan check always runs. Until the snapshot directory has been recorded
+ * with {@code -Pqueryplans.update} and committed, only the comparison is skipped: each
+ * test writes its plans to {@code build/query-plans} and is reported as aborted.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("integrationTest")
+@Import(QueryPlanIntegrationTest.CaptureConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanIntegrationTest {
+
+    private static final Path SNAPSHOT_DIR =
+            Path.of(System.getProperty("queryplans.snapshot-dir", "src/integrationTest/resources/query-plans"));
+    private static final Path ACTUAL_DIR =
+            Path.of(System.getProperty("queryplans.actual-dir", "build/query-plans"));
+    private static final boolean UPDATE = Boolean.getBoolean("queryplans.update");
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof CapturingDataSource)
+                            ? new CapturingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private ExerciseCategoryRepository exerciseCategoryRepository;
+
+    @Autowired
+    private ExerciseSimilarityIndex exerciseSimilarityIndex;
+
+    @Autowired
+    private MuscleRepository muscleRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutTemplateRepository workoutTemplateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private QueryPlans queryPlans;
+    private long userId;
+    private long exerciseId;
+    private long workoutId;
+
+    @BeforeAll
+    void seedDataset() throws Exception {
+        DatasetGenerator.Summary summary = DatasetGenerator.generate(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword(), DatasetGenerator.Spec.ofUsers(1000).withWorkoutsPerUser(20));
+        queryPlans = new QueryPlans(jdbcTemplate);
+        userId = jdbcTemplate.queryForObject(
+                "SELECT user_id FROM workouts GROUP BY user_id ORDER BY count(*) DESC, user_id LIMIT 1", Long.class);
+        exerciseId = summary.catalogIds().getFirst();
+        workoutId = jdbcTemplate.queryForObject(
+                "SELECT max(id) FROM workouts WHERE user_id = ?", Long.class, userId);
+    }
+
+    @AfterAll
+    void deleteDataset() {
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM exercises WHERE created_by > 99");
+        jdbcTemplate.update("DELETE FROM user_profiles WHERE user_id > 99");
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+
+    @Test
+    void shouldKeepUserQueryPlans() throws Exception {
+        assertPlans("users", () -> {
+            userRepository.findById(userId);
+            userRepository.findByAuth0Id(Auth0Id.of(DatasetGenerator.Summary.auth0Id(userId)));
+            userRepository.findByEmail(Email.of("dataset-" + userId + "@example.com"));
+            userProfileRepository.findByUserId(userId);
+            userProfileRepository.findByUsername("lifter_" + userId);
+        });
+    }
+
+    @Test
+    void shouldKeepExerciseQueryPlans() throws Exception {
+        assertPlans("exercises", () -> {
+            exerciseRepository.findById(exerciseId);
+            exerciseRepository.findByName("Barbell Back Squat");
+            exerciseCategoryRepository.findAll();
+            muscleRepository.findAll();
+            exerciseSimilarityIndex.findSimilar(exerciseId, 10);
+            exerciseSimilarityIndex.dependentsOf(exerciseId);
+        });
+    }
+
+    @Test
+    void shouldKeepExerciseFilterQueryPlans() throws Exception {
+        Set<ExerciseCategoryEnum> strength = Set.of(ExerciseCategoryEnum.STRENGTH);
+        Set<MuscleEnum> pushMuscles = Set.of(MuscleEnum.CHEST, MuscleEnum.TRICEPS);
+        List<ExerciseFilter> filters = List.of(
+                ExerciseFilter.empty(),
+                new ExerciseFilter(strength, Set.of(), null, null),
+                new ExerciseFilter(Set.of(), Set.of(MuscleEnum.BACK), ExerciseFilter.MuscleMatch.ANY, null),
+                new ExerciseFilter(Set.of(), pushMuscles, ExerciseFilter.MuscleMatch.ANY, null),
+                new ExerciseFilter(Set.of(), pushMuscles, ExerciseFilter.MuscleMatch.ALL, null),
+                new ExerciseFilter(Set.of(), Set.of(), null, "press"),
+                new ExerciseFilter(strength, pushMuscles, ExerciseFilter.MuscleMatch.ALL, "press"));
+        assertPlans("exercise-filters", () -> {
+            for (ExerciseFilter filter : filters) {
+                exerciseRepository.findAll(filter, PageRequest.of(0, 20));
+                exerciseRepository.findAll(filter, PageRequest.of(2, 20));
+                exerciseRepository.countFacets(filter);
+            }
+        });
+    }
+
+    @Test
+    void shouldKeepWorkoutQueryPlans() throws Exception {
+        Instant now = Instant.now();
+        assertPlans("workouts", () -> {
+            workoutRepository.findById(workoutId);
+            workoutRepository.findByUserId(userId, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "startedAt")));
+            workoutRepository.findByUserId(userId, PageRequest.of(3, 20, Sort.by(Sort.Direction.ASC, "startedAt")));
+            workoutRepository.findByUserIdStartedBetween(userId, now.minus(Duration.ofDays(90)), now,
+                    PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "startedAt")));
+            workoutRepository.findExerciseSessions(userId, exerciseId, now.minus(Duration.ofDays(365)), now);
+            workoutTemplateRepository.findByUserId(userId);
+        });
+    }
+
+    // --- helpers ---
+
+    private void assertPlans(String scenario, CapturingDataSource.Action action) throws Exception {
+        List<QueryPlans.Plan> plans = queryPlans.explainAll(CapturingDataSource.capture(action));
+        assertFalse(plans.isEmpty(), "No queries captured for " + scenario);
+
+        List<String> violations = plans.stream()
+                .flatMap(plan -> plan.violations().stream().map(violation -> violation + " in: " + plan.sql()))
+                .toList();
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+
+        String actual = plans.stream().map(QueryPlans.Plan::toString).collect(Collectors.joining("\n"));
+        Path snapshot = SNAPSHOT_DIR.resolve(scenario + ".txt");
+        if (UPDATE) {
+            Files.createDirectories(SNAPSHOT_DIR);
+            Files.writeString(snapshot, actual);
+            return;
+        }
+        if (!Files.isDirectory(SNAPSHOT_DIR)) {
+            Files.createDirectories(ACTUAL_DIR);
+            Files.writeString(ACTUAL_DIR.resolve(scenario + ".txt"), actual);
+            abort("No query-plan snapshots recorded yet; plans are in " + ACTUAL_DIR.resolve(scenario + ".txt")
+                    + ". Record them with -Pqueryplans.update and commit them.");
+        }
+        if (!Files.exists(snapshot)) {
+            Files.createDirectories(ACTUAL_DIR);
+            Files.writeString(ACTUAL_DIR.resolve(scenario + ".txt"), actual);
+            fail("No query-plan snapshot " + snapshot + "; the plans are in " + ACTUAL_DIR.resolve(scenario + ".txt")
+                    + ". Record it with -Pqueryplans.update and commit it.");
+        }
+        String expected = Files.readString(snapshot);
+        if (!expected.equals(actual)) {
+            Files.createDirectories(ACTUAL_DIR);
+            Files.writeString(ACTUAL_DIR.resolve(scenario + ".txt"), actual);
+        }
+        assertEquals(expected, actual, "Query plans for " + scenario + " changed; new plans are in "
+                + ACTUAL_DIR.resolve(scenario + ".txt") + ". If intended, rerun with -Pqueryplans.update.");
+    }
+}
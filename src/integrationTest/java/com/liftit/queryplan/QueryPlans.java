@@ -0,0 +1,163 @@
+package com.liftit.queryplan;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Explains captured SQL and reduces each plan to the shape that matters for regressions.
+ *
+ * <p>Plans are generic ({@code EXPLAIN (GENERIC_PLAN)}), so they depend on the schema and
+ * statistics but not on parameter values. The normalized tree keeps node types, join types,
+ * aggregate strategies, relations and indexes, and drops costs, row estimates and
+ * conditions. Monthly partition names collapse to one pattern and identical partition
+ * branches under an append collapse to one, so a new month does not change the snapshot.
+ *
+ * <p>Independently of snapshots, a sequential scan of a populated partition of the hot
+ * workout tables is always a violation.
+ */
+final class QueryPlans {
+
+    /** Tables whose partitions must be reached by index once they hold data. */
+    static final Set<String> HOT_TABLES = Set.of("workouts", "workout_exercises", "workout_sets");
+
+    /** Fewer estimated rows than this, a sequential scan is the cheaper plan anyway. */
+    static final double SEQ_SCAN_ROW_LIMIT = 1000;
+
+    private static final String PARTITION_SUFFIX = "_y\\d{4}m\\d{2}";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /** One explained statement. */
+    record Plan(String sql, String tree, List<String> violations) {
+
+        @Override
+        public String toString() {
+            return "-- " + sql + "\n" + tree;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Double> rowEstimates = new HashMap<>();
+
+    QueryPlans(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Explains each distinct query or data-modifying statement in {@code captured}, in
+     * first-seen order. Inserts and session commands have nothing to plan and are skipped.
+     */
+    List<Plan> explainAll(List<String> captured) {
+        Set<String> seen = new LinkedHashSet<>();
+        for (String sql : captured) {
+            String collapsed = sql.strip().replaceAll("\\s+", " ");
+            String verb = collapsed.split(" ", 2)[0].toLowerCase(Locale.ROOT);
+            if (Set.of("select", "with", "update", "delete").contains(verb)) {
+                seen.add(collapsed);
+            }
+        }
+        return seen.stream().map(this::explain).toList();
+    }
+
+    Plan explain(String sql) {
+        String json = jdbcTemplate.queryForObject(
+                "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numberedParameters(sql), String.class);
+        JsonNode root = OBJECT_MAPPER.readTree(json).path(0).path("Plan");
+        StringBuilder tree = new StringBuilder();
+        List<String> violations = new ArrayList<>();
+        render(root, 0, tree, violations);
+        return new Plan(sql, tree.toString(), violations);
+    }
+
+    private void render(JsonNode node, int depth, StringBuilder out, List<String> violations) {
+        out.append("  ".repeat(depth)).append(describe(node)).append('\n');
+        checkSeqScan(node, violations);
+
+        JsonNode children = node.path("Plans");
+        boolean append = node.path("Node Type").asString().endsWith("Append");
+        Set<String> distinct = new TreeSet<>();
+        for (JsonNode child : children) {
+            StringBuilder rendered = new StringBuilder();
+            render(child, depth + 1, rendered, violations);
+            if (!append) {
+                out.append(rendered);
+            } else {
+                distinct.add(rendered.toString());
+            }
+        }
+        distinct.forEach(out::append);
+    }
+
+    private static String describe(JsonNode node) {
+        StringBuilder line = new StringBuilder(node.path("Node Type").asString());
+        appendIfPresent(line, " ", node.path("Strategy"));
+        appendIfPresent(line, " ", node.path("Join Type"));
+        if (node.path("Scan Direction").asString("").equals("Backward")) {
+            line.append(" Backward");
+        }
+        appendIfPresent(line, " on ", node.path("Relation Name"));
+        appendIfPresent(line, " using ", node.path("Index Name"));
+        String parent = node.path("Parent Relationship").asString("");
+        if (parent.equals("InitPlan") || parent.equals("SubPlan")) {
+            line.append(" (").append(parent).append(')');
+        }
+        return line.toString().replaceAll(PARTITION_SUFFIX, "_yYYYYmMM");
+    }
+
+    private static void appendIfPresent(StringBuilder line, String prefix, JsonNode value) {
+        if (!value.isMissingNode()) {
+            line.append(prefix).append(value.asString());
+        }
+    }
+
+    private void checkSeqScan(JsonNode node, List<String> violations) {
+        if (!node.path("Node Type").asString().equals("Seq Scan")) {
+            return;
+        }
+        String relation = node.path("Relation Name").asString();
+        String table = relation.replaceAll(PARTITION_SUFFIX + "$", "");
+        if (HOT_TABLES.contains(table) && rowEstimate(relation) >= SEQ_SCAN_ROW_LIMIT) {
+            violations.add("Seq Scan on " + relation);
+        }
+    }
+
+    private double rowEstimate(String relation) {
+        return rowEstimates.computeIfAbsent(relation, name -> jdbcTemplate.queryForObject(
+                "SELECT COALESCE(max(reltuples), 0) FROM pg_class WHERE relname = ?", Double.class, name));
+    }
+
+    /**
+     * Rewrites JDBC {@code ?} placeholders as {@code $1, $2, ...}, which generic plans
+     * require, leaving quoted literals and identifiers alone.
+     */
+    static String numberedParameters(String sql) {
+        StringBuilder out = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        char quote = 0;
+        for (char c : sql.toCharArray()) {
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                out.append(c);
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+                out.append(c);
+            } else if (c == '?') {
+                out.append('$').append(++parameter);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,249 @@
+package com.liftit.user.persistence;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.user.AccountPurge;
+import com.liftit.user.AccountPurgeService;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.CreateUserProfileRequest;
+import com.liftit.user.Email;
+import com.liftit.user.UserProfileService;
+import com.liftit.user.UserProvisioningService;
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutService;
+import com.liftit.workout.WorkoutSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for account deletion: {@link AccountPurger} removing everything a user
+ * owns in small chunks, keeping custom exercises other users rely on, and resuming a purge
+ * from its recorded step.
+ */
+@SpringBootTest(properties = {
+        "liftit.user-purge.chunk-size=2",
+        "liftit.user-purge.pause-ms=0"
+})
+@Testcontainers
+@ActiveProfiles("integrationTest")
+class AccountPurgeIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Autowired
+    private AccountPurger purger;
+
+    @Autowired
+    private AccountPurgeService accountPurgeService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private UserProfileService userProfileService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long otherUserId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userProvisioningService
+                .provision(Auth0Id.of("auth0|accountpurgeintegrationuser"), Email.of("purge-test@example.com"))
+                .id();
+        otherUserId = userProvisioningService
+                .provision(Auth0Id.of("auth0|accountpurgeotheruser"), Email.of("purge-other@example.com"))
+                .id();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM account_purges");
+        jdbcTemplate.update("DELETE FROM jobs");
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM workout_templates");
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM archived_workouts");
+        jdbcTemplate.update("DELETE FROM exercises WHERE name LIKE 'Purge Test %'");
+        jdbcTemplate.update("DELETE FROM user_profiles WHERE user_id > 99");
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+
+    @Test
+    void shouldDeleteEverythingTheUserOwnsAndTheAccount() throws InterruptedException {
+        // Given
+        Long exerciseId = customExercise("Purge Test Private", userId);
+        for (int i = 0; i < 5; i++) {
+            workoutWithSet(userId, exerciseId);
+        }
+        template(userId, exerciseId);
+        userProfileService.createProfile(userId,
+                new CreateUserProfileRequest("purge_tester", null, null, null, null));
+        accountPurgeService.requestPurge(userId);
+
+        // When
+        long deleted = purger.purge(userId);
+
+        // Then
+        assertEquals(8, deleted);
+        assertEquals(0, count("SELECT count(*) FROM workouts WHERE user_id = ?", userId));
+        assertEquals(0, count("SELECT count(*) FROM workout_templates WHERE user_id = ?", userId));
+        assertEquals(0, count("SELECT count(*) FROM exercises WHERE id = ?", exerciseId));
+        assertEquals(0, count("SELECT count(*) FROM user_profiles WHERE user_id = ?", userId));
+        assertEquals(0, count("SELECT count(*) FROM users WHERE id = ?", userId));
+        assertEquals(1, count("SELECT count(*) FROM outbox_events WHERE event_type = 'user.deleted' AND user_id = ?",
+                userId));
+        AccountPurge purge = accountPurgeService.getPurge(userId).orElseThrow();
+        assertEquals(AccountPurge.Step.DONE, purge.step());
+        assertEquals(8, purge.rowsDeleted());
+        assertNotNull(purge.completedAt());
+    }
+
+    @Test
+    void shouldHandSharedCustomExercisesToTheSystemUser() throws InterruptedException {
+        // Given
+        Long shared = customExercise("Purge Test Shared", userId);
+        template(otherUserId, shared);
+        accountPurgeService.requestPurge(userId);
+
+        // When
+        purger.purge(userId);
+
+        // Then
+        assertEquals(AccountPurger.SYSTEM_USER_ID, jdbcTemplate.queryForObject(
+                "SELECT created_by FROM exercises WHERE id = ?", Long.class, shared));
+        assertEquals(0, count("SELECT count(*) FROM users WHERE id = ?", userId));
+        assertEquals(1, count("SELECT count(*) FROM workout_templates WHERE user_id = ?", otherUserId));
+    }
+
+    @Test
+    void shouldKeepCustomExercisesOnlyArchivedWorkoutsStillUse() throws InterruptedException {
+        // Given — the exercise's only remaining use is inside another user's archived document
+        Long shared = customExercise("Purge Test Archived", userId);
+        jdbcTemplate.update("""
+                INSERT INTO archived_workouts (id, user_id, started_at, completed_at, format_version, document,
+                                               exercise_ids, created_at, created_by, updated_at, updated_by)
+                VALUES (999999, ?, now() - interval '2 years', now() - interval '2 years', 1, '\\x00',
+                        ARRAY[?]::BIGINT[], now(), 1, now(), 1)
+                """, otherUserId, shared);
+        accountPurgeService.requestPurge(userId);
+
+        // When
+        purger.purge(userId);
+
+        // Then
+        assertEquals(AccountPurger.SYSTEM_USER_ID, jdbcTemplate.queryForObject(
+                "SELECT created_by FROM exercises WHERE id = ?", Long.class, shared));
+    }
+
+    @Test
+    void shouldResumeFromTheRecordedStep() throws InterruptedException {
+        // Given
+        Long exerciseId = customExercise("Purge Test Resume", userId);
+        workoutWithSet(userId, exerciseId);
+        accountPurgeService.requestPurge(userId);
+        jdbcTemplate.update("DELETE FROM workouts WHERE user_id = ?", userId);
+        jdbcTemplate.update("UPDATE account_purges SET step = 'EXERCISES', rows_deleted = 7 WHERE user_id = ?",
+                userId);
+
+        // When
+        purger.purge(userId);
+
+        // Then
+        AccountPurge purge = accountPurgeService.getPurge(userId).orElseThrow();
+        assertTrue(purge.isCompleted());
+        assertEquals(8, purge.rowsDeleted());
+    }
+
+    @Test
+    void shouldQueueOnePurgeJobPerUser() {
+        // When
+        accountPurgeService.requestPurge(userId);
+        accountPurgeService.requestPurge(userId);
+
+        // Then
+        assertEquals(List.of(String.valueOf(userId)), jdbcTemplate.queryForList(
+                "SELECT payload FROM jobs WHERE queue = ?", String.class, AccountPurger.QUEUE));
+    }
+
+    @Test
+    void shouldReportPurgeRequestedUntilTheAccountIsGone() throws InterruptedException {
+        // Given
+        Auth0Id auth0Id = Auth0Id.of("auth0|accountpurgeintegrationuser");
+        assertFalse(accountPurgeService.isPurgeRequested(auth0Id));
+
+        // When
+        accountPurgeService.requestPurge(userId);
+
+        // Then — read-only while pending, unknown once purged
+        assertTrue(accountPurgeService.isPurgeRequested(auth0Id));
+        assertFalse(accountPurgeService.isPurgeRequested(Auth0Id.of("auth0|accountpurgeotheruser")));
+        purger.purge(userId);
+        assertFalse(accountPurgeService.isPurgeRequested(auth0Id));
+    }
+
+    // --- helpers ---
+
+    private Long customExercise(String name, Long owner) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO exercises (name, category_id, created_at, created_by, updated_at, updated_by) "
+                + "VALUES (?, 1, now(), ?, now(), ?) RETURNING id",
+                Long.class, name, owner, owner);
+    }
+
+    private void workoutWithSet(Long owner, Long exerciseId) {
+        Workout workout = workoutService.start(owner, null);
+        workoutService.addExercise(workout.id(), new WorkoutExercise(0L, exerciseId, 1,
+                List.of(new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), null)), null), owner);
+    }
+
+    private void template(Long owner, Long exerciseId) {
+        Long templateId = jdbcTemplate.queryForObject(
+                "INSERT INTO workout_templates (user_id, name, created_at, created_by, updated_at, updated_by) "
+                + "VALUES (?, 'Purge Test Template', now(), ?, now(), ?) RETURNING id",
+                Long.class, owner, owner, owner);
+        jdbcTemplate.update(
+                "INSERT INTO workout_template_exercises (template_id, exercise_id, order_index) VALUES (?, ?, 0)",
+                templateId, exerciseId);
+    }
+
+    private int count(String sql, Long id) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return count == null ? 0 : count;
+    }
+}
@@ -23,6 +23,12 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -83,6 +89,7 @@ class WorkoutServiceIntegrationTest {
 
     @AfterEach
     void tearDown() {
+        jdbcTemplate.update("DELETE FROM archived_workouts");
         jdbcTemplate.update("DELETE FROM workout_sets");
         jdbcTemplate.update("DELETE FROM workout_exercises");
         jdbcTemplate.update("DELETE FROM workouts");
@@ -164,6 +171,78 @@ class WorkoutServiceIntegrationTest {
         assertEquals(userId, page.getContent().getFirst().userId());
     }
 
+    @Test
+    void shouldListOnlyWorkoutsStartedWithinRange() {
+        // Given
+        Workout workout = workoutService.start(userId, "In range");
+        Instant startedAt = workout.startedAt();
+
+        // When
+        Page<Workout> inRange = workoutService.listByUser(userId,
+                startedAt.minusSeconds(60), startedAt.plusSeconds(60), PageRequest.of(0, 10));
+        Page<Workout> before = workoutService.listByUser(userId,
+                startedAt.minusSeconds(7200), startedAt.minusSeconds(3600), PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(1, inRange.getTotalElements());
+        assertEquals(0, before.getTotalElements());
+    }
+
+    // --- partitioning ---
+
+    @Test
+    void shouldRouteWorkoutExercisesAndSetsToTheWorkoutMonthPartition() {
+        // Given
+        Workout workout = workoutService.start(userId, null);
+        workoutService.addExercise(workout.id(), new WorkoutExercise(0L, testExerciseId, 1,
+                List.of(new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), null)), null), userId);
+        String suffix = DateTimeFormatter.ofPattern("'_y'yyyy'm'MM")
+                .format(workout.startedAt().atZone(ZoneOffset.UTC));
+
+        // When
+        String workoutPartition = jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM workouts WHERE id = ?", String.class, workout.id());
+        String setPartition = jdbcTemplate.queryForObject(
+                "SELECT ws.tableoid::regclass::text FROM workout_sets ws "
+                + "JOIN workout_exercises we ON we.id = ws.workout_exercise_id WHERE we.workout_id = ?",
+                String.class, workout.id());
+
+        // Then
+        assertEquals("workouts" + suffix, workoutPartition);
+        assertEquals("workout_sets" + suffix, setPartition);
+    }
+
+    @Test
+    void shouldPrunePartitionsOutsideTheRequestedRange() {
+        // Given — partitions exist for several months around now
+        LocalDate monthStart = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+        Instant from = monthStart.atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        // When
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM workouts WHERE user_id = ? AND started_at >= ? AND started_at < ?",
+                String.class, userId, Timestamp.from(from), Timestamp.from(from.plus(Duration.ofDays(1))));
+
+        // Then — only the current month's partition is scanned
+        String currentMonth = DateTimeFormatter.ofPattern("'workouts_y'yyyy'm'MM").format(monthStart);
+        assertTrue(plan.stream().anyMatch(line -> line.contains(currentMonth)), String.join("\n", plan));
+        assertEquals(1, plan.stream().filter(line -> line.contains(" on workouts_y")).count(),
+                String.join("\n", plan));
+    }
+
+    @Test
+    void shouldCreatePartitionsAheadOfTheCurrentMonth() {
+        // Given
+        String threeMonthsAhead = DateTimeFormatter.ofPattern("'workouts_y'yyyy'm'MM")
+                .format(LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1).plusMonths(3));
+
+        // When
+        String partition = jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, threeMonthsAhead);
+
+        // Then
+        assertEquals(threeMonthsAhead, partition);
+    }
+
     // --- addExercise ---
 
     @Test
@@ -0,0 +1,217 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.UserProvisioningService;
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutEvent;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutRepository;
+import com.liftit.workout.WorkoutService;
+import com.liftit.workout.WorkoutSet;
+import com.liftit.workout.WorkoutStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for {@link AbandonedWorkoutSweeper}: idle in-progress workouts are
+ * completed or discarded with their outbox events, active or completed ones are left alone, and
+ * a workout a request is saving is skipped rather than deadlocking on its user's outbox lock.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("integrationTest")
+class AbandonedWorkoutSweepIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Autowired
+    private AbandonedWorkoutSweeper sweeper;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long testExerciseId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userProvisioningService
+                .provision(Auth0Id.of("auth0|workoutsweepintegrationuser"),
+                        Email.of("workout-sweep-test@example.com"))
+                .id();
+        testExerciseId = jdbcTemplate.queryForObject(
+                "INSERT INTO exercises (name, category_id, created_at, created_by, updated_at, updated_by) "
+                + "VALUES ('Sweep Test Exercise', 1, now(), 1, now(), 1) RETURNING id",
+                Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM exercises WHERE id = ?", testExerciseId);
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+
+    @Test
+    void shouldCompleteIdleWorkoutWithSetsAtItsLastActivity() {
+        // Given
+        Workout workout = workoutWithSet();
+        Instant lastActivity = jdbcTemplate.queryForObject(
+                "SELECT updated_at FROM workouts WHERE id = ?", OffsetDateTime.class, workout.id()).toInstant();
+
+        // When
+        int closed = sweeper.sweepIdleSince(Instant.now().plusSeconds(60));
+
+        // Then
+        assertEquals(1, closed);
+        Workout swept = workoutService.getOwnedById(workout.id(), userId);
+        assertEquals(WorkoutStatus.COMPLETED, swept.status());
+        assertEquals(lastActivity, swept.completedAt());
+        assertEquals(List.of("workout.completed"), eventsFor(workout.id()));
+    }
+
+    @Test
+    void shouldDiscardIdleWorkoutWithoutSets() {
+        // Given
+        Workout workout = workoutService.start(userId, null);
+        workoutService.addExercise(workout.id(), new WorkoutExercise(0L, testExerciseId, 1, List.of(), null), userId);
+
+        // When
+        int closed = sweeper.sweepIdleSince(Instant.now().plusSeconds(60));
+
+        // Then
+        assertEquals(1, closed);
+        assertEquals(0, count("SELECT count(*) FROM workouts WHERE id = ?", workout.id()));
+        assertEquals(0, count("SELECT count(*) FROM workout_exercises WHERE workout_id = ?", workout.id()));
+        assertEquals(List.of("workout.deleted"), eventsFor(workout.id()));
+    }
+
+    @Test
+    void shouldLeaveActiveAndCompletedWorkoutsAlone() {
+        // Given
+        Workout active = workoutService.start(userId, null);
+        Workout completed = workoutService.complete(workoutWithSet().id(), userId);
+
+        // When
+        int closed = sweeper.sweepIdleSince(active.startedAt().minusSeconds(3600));
+
+        // Then
+        assertEquals(0, closed);
+        assertEquals(WorkoutStatus.IN_PROGRESS, workoutService.getOwnedById(active.id(), userId).status());
+        assertEquals(completed.completedAt().truncatedTo(ChronoUnit.MICROS), workoutService.getOwnedById(completed.id(), userId).completedAt());
+    }
+
+    @Test
+    void shouldSkipAWorkoutARequestIsSavingInsteadOfDeadlocking() throws Exception {
+        // Given — a request has saved an idle workout, outbox event included, and not committed yet
+        Workout workout = workoutWithSet();
+        CountDownLatch saved = new CountDownLatch(1);
+        CountDownLatch swept = new CountDownLatch(1);
+        CompletableFuture<Void> request = CompletableFuture.runAsync(
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    workoutRepository.save(withNotes(workout, "still lifting"), WorkoutEvent.EXERCISE_ADDED);
+                    saved.countDown();
+                    awaitUninterruptibly(swept);
+                }));
+        assertTrue(saved.await(10, TimeUnit.SECONDS));
+
+        // When — the sweep reaches the same workout and the same user's outbox lock
+        int closed;
+        try {
+            closed = CompletableFuture.supplyAsync(() -> sweeper.sweepIdleSince(Instant.now().plusSeconds(60)))
+                    .get(10, TimeUnit.SECONDS);
+        } finally {
+            swept.countDown();
+        }
+        request.get(10, TimeUnit.SECONDS);
+
+        // Then — the row lock taken first makes the sweep skip the workout
+        assertEquals(0, closed);
+        Workout current = workoutService.getOwnedById(workout.id(), userId);
+        assertEquals(WorkoutStatus.IN_PROGRESS, current.status());
+        assertEquals("still lifting", current.notes());
+    }
+
+    // --- helpers ---
+
+    private static Workout withNotes(Workout workout, String notes) {
+        return new Workout(workout.id(), workout.userId(), workout.startedAt(), workout.completedAt(),
+                workout.status(), notes, workout.exercises(), workout.createdAt(), workout.createdBy(),
+                workout.updatedAt(), workout.updatedBy());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Workout workoutWithSet() {
+        Workout workout = workoutService.start(userId, null);
+        return workoutService.addExercise(workout.id(), new WorkoutExercise(0L, testExerciseId, 1,
+                List.of(new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), null)), null), userId);
+    }
+
+    private List<String> eventsFor(Long workoutId) {
+        return jdbcTemplate.queryForList(
+                "SELECT event_type FROM outbox_events WHERE aggregate_id = ? AND event_type IN "
+                + "('workout.completed', 'workout.deleted') ORDER BY id", String.class, workoutId);
+    }
+
+    private int count(String sql, Long id) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,226 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.WorkoutStatus;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the legacy and compact layouts of {@code workout_sets} and {@code workouts}.
+ *
+ * <p>Run by the {@code compactStorageBenchmark} Gradle task. Against a Testcontainers
+ * Postgres it loads the same generated rows into a table per layout — column order as it
+ * is after the V16/V17 expand/contract, i.e. new columns appended — and reports:
+ * <ul>
+ *   <li>average row width ({@code pg_column_size} of the whole row, tuple header included);</li>
+ *   <li>heap size and index size (primary key, foreign-key index, and an index on the
+ *       weight or status column);</li>
+ *   <li>in-JVM cost of mapping stored values to the domain: {@code BigDecimal} plus
+ *       {@code valueOf(String)} before, fixed-point arithmetic plus a code switch after.</li>
+ * </ul>
+ *
+ * <p>Arguments: {@code <report file>}. Row count: {@code -Dbenchmark.rows} (default 1,000,000).
+ */
+public final class CompactStorageBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int MAPPING_ROUNDS = 10;
+
+    private record Layout(String table, String ddl, String insert, List<String> indexes) {
+    }
+
+    private record Sizes(double rowBytes, long heapBytes, long indexBytes) {
+    }
+
+    private static final List<Layout> SET_LAYOUTS = List.of(
+            new Layout("sets_legacy", """
+                    CREATE TABLE sets_legacy (
+                        id BIGINT NOT NULL PRIMARY KEY, workout_exercise_id BIGINT NOT NULL,
+                        workout_started_at TIMESTAMPTZ NOT NULL, set_number INTEGER NOT NULL,
+                        reps INTEGER NOT NULL, weight_value NUMERIC(10, 4) NOT NULL,
+                        weight_unit VARCHAR(10) NOT NULL, rpe INTEGER)""", """
+                    INSERT INTO sets_legacy
+                    SELECT i, i / 4, now(), i % 4 + 1, 5 + i % 8,
+                           (i % 80) * 2.5, CASE WHEN i % 3 = 0 THEN 'LBS' ELSE 'KG' END,
+                           CASE WHEN i % 2 = 0 THEN 8 END
+                    FROM generate_series(1, ?) AS i""",
+                    List.of("CREATE INDEX ON sets_legacy (workout_exercise_id)",
+                            "CREATE INDEX ON sets_legacy (weight_value)")),
+            new Layout("sets_compact", """
+                    CREATE TABLE sets_compact (
+                        id BIGINT NOT NULL PRIMARY KEY, workout_exercise_id BIGINT NOT NULL,
+                        workout_started_at TIMESTAMPTZ NOT NULL, set_number INTEGER NOT NULL,
+                        reps INTEGER NOT NULL, rpe INTEGER, weight_milli INTEGER NOT NULL,
+                        weight_grams INTEGER NOT NULL, weight_unit_code SMALLINT NOT NULL)""", """
+                    INSERT INTO sets_compact
+                    SELECT i, i / 4, now(), i % 4 + 1, 5 + i % 8,
+                           CASE WHEN i % 2 = 0 THEN 8 END, (i % 80) * 2500,
+                           CASE WHEN i % 3 = 0 THEN round((i % 80) * 2500 * 0.45359237) ELSE (i % 80) * 2500 END,
+                           CASE WHEN i % 3 = 0 THEN 2 ELSE 1 END
+                    FROM generate_series(1, ?) AS i""",
+                    List.of("CREATE INDEX ON sets_compact (workout_exercise_id)",
+                            "CREATE INDEX ON sets_compact (weight_grams)")));
+
+    private static final List<Layout> WORKOUT_LAYOUTS = List.of(
+            new Layout("workouts_legacy", """
+                    CREATE TABLE workouts_legacy (
+                        id BIGINT NOT NULL PRIMARY KEY, user_id BIGINT NOT NULL,
+                        status VARCHAR(20) NOT NULL, started_at TIMESTAMPTZ NOT NULL,
+                        completed_at TIMESTAMPTZ, notes VARCHAR(1000),
+                        created_at TIMESTAMPTZ NOT NULL, created_by BIGINT NOT NULL,
+                        updated_at TIMESTAMPTZ NOT NULL, updated_by BIGINT NOT NULL)""", """
+                    INSERT INTO workouts_legacy
+                    SELECT i, i % 1000, CASE WHEN i % 50 = 0 THEN 'IN_PROGRESS' ELSE 'COMPLETED' END,
+                           now(), CASE WHEN i % 50 = 0 THEN NULL ELSE now() END, NULL,
+                           now(), i % 1000, now(), i % 1000
+                    FROM generate_series(1, ?) AS i""",
+                    List.of("CREATE INDEX ON workouts_legacy (user_id, started_at DESC)",
+                            "CREATE INDEX ON workouts_legacy (status)")),
+            new Layout("workouts_compact", """
+                    CREATE TABLE workouts_compact (
+                        id BIGINT NOT NULL PRIMARY KEY, user_id BIGINT NOT NULL,
+                        started_at TIMESTAMPTZ NOT NULL, completed_at TIMESTAMPTZ,
+                        notes VARCHAR(1000), created_at TIMESTAMPTZ NOT NULL,
+                        created_by BIGINT NOT NULL, updated_at TIMESTAMPTZ NOT NULL,
+                        updated_by BIGINT NOT NULL, status_code SMALLINT NOT NULL)""", """
+                    INSERT INTO workouts_compact
+                    SELECT i, i % 1000, now(), CASE WHEN i % 50 = 0 THEN NULL ELSE now() END, NULL,
+                           now(), i % 1000, now(), i % 1000, CASE WHEN i % 50 = 0 THEN 1 ELSE 2 END
+                    FROM generate_series(1, ?) AS i""",
+                    List.of("CREATE INDEX ON workouts_compact (user_id, started_at DESC)",
+                            "CREATE INDEX ON workouts_compact (status_code)")));
+
+    private CompactStorageBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: CompactStorageBenchmark <reportFile>");
+        }
+        Path report = Path.of(args[0]).toAbsolutePath();
+
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "Compact workout storage benchmark (%,d rows per table)%n%n", ROWS));
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")) {
+            postgres.start();
+            try (Connection connection = DriverManager.getConnection(
+                    postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+                text.append(compare(connection, SET_LAYOUTS));
+                text.append(compare(connection, WORKOUT_LAYOUTS));
+            }
+        }
+        text.append(mappingCost());
+
+        Files.createDirectories(report.getParent());
+        Files.writeString(report, text);
+        System.out.println(text);
+    }
+
+    private static String compare(Connection connection, List<Layout> layouts) throws SQLException {
+        Sizes before = load(connection, layouts.get(0));
+        Sizes after = load(connection, layouts.get(1));
+        return String.format(Locale.ROOT, """
+                %s -> %s
+                                           legacy      compact     change
+                  avg row width (B)     %9.1f    %9.1f    %+7.1f%%
+                  heap (MiB)            %9.1f    %9.1f    %+7.1f%%
+                  indexes (MiB)         %9.1f    %9.1f    %+7.1f%%
+
+                """,
+                layouts.get(0).table(), layouts.get(1).table(),
+                before.rowBytes(), after.rowBytes(), change(before.rowBytes(), after.rowBytes()),
+                mib(before.heapBytes()), mib(after.heapBytes()), change(before.heapBytes(), after.heapBytes()),
+                mib(before.indexBytes()), mib(after.indexBytes()), change(before.indexBytes(), after.indexBytes()));
+    }
+
+    private static Sizes load(Connection connection, Layout layout) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(layout.ddl());
+            try (PreparedStatement insert = connection.prepareStatement(layout.insert())) {
+                insert.setInt(1, ROWS);
+                insert.executeUpdate();
+            }
+            for (String index : layout.indexes()) {
+                statement.execute(index);
+            }
+            statement.execute("VACUUM ANALYZE " + layout.table());
+            try (ResultSet rs = statement.executeQuery("SELECT (SELECT avg(pg_column_size(t.*)) FROM "
+                    + layout.table() + " t), pg_relation_size('" + layout.table() + "'), pg_indexes_size('"
+                    + layout.table() + "')")) {
+                rs.next();
+                return new Sizes(rs.getDouble(1), rs.getLong(2), rs.getLong(3));
+            }
+        }
+    }
+
+    /** Best of {@link #MAPPING_ROUNDS} rounds, so JIT warm-up does not count. */
+    private static String mappingCost() {
+        SplittableRandom random = new SplittableRandom(42);
+        BigDecimal[] values = new BigDecimal[ROWS];
+        String[] units = new String[ROWS];
+        String[] statuses = new String[ROWS];
+        int[] millis = new int[ROWS];
+        short[] unitCodes = new short[ROWS];
+        short[] statusCodes = new short[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            double weight = random.nextInt(80) * 2.5;
+            WeightUnit unit = random.nextInt(3) == 0 ? WeightUnit.LBS : WeightUnit.KG;
+            WorkoutStatus status = random.nextInt(50) == 0 ? WorkoutStatus.IN_PROGRESS : WorkoutStatus.COMPLETED;
+            values[i] = BigDecimal.valueOf(weight).setScale(4);
+            units[i] = unit.name();
+            statuses[i] = status.name();
+            millis[i] = StorageCodes.toMilli(weight);
+            unitCodes[i] = StorageCodes.unitCode(unit);
+            statusCodes[i] = StorageCodes.statusCode(status);
+        }
+
+        long legacyBest = Long.MAX_VALUE;
+        long compactBest = Long.MAX_VALUE;
+        double sink = 0;
+        for (int round = 0; round < MAPPING_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ROWS; i++) {
+                Weight weight = new Weight(values[i].doubleValue(), WeightUnit.valueOf(units[i]));
+                sink += weight.value() + WorkoutStatus.valueOf(statuses[i]).ordinal();
+            }
+            legacyBest = Math.min(legacyBest, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < ROWS; i++) {
+                Weight weight = new Weight(StorageCodes.fromMilli(millis[i]), StorageCodes.unit(unitCodes[i]));
+                sink += weight.value() + StorageCodes.status(statusCodes[i]).ordinal();
+            }
+            compactBest = Math.min(compactBest, System.nanoTime() - start);
+        }
+        double legacyNanos = (double) legacyBest / ROWS;
+        double compactNanos = (double) compactBest / ROWS;
+        return String.format(Locale.ROOT, """
+                mapping to domain (set weight + workout status)
+                                           legacy      compact     change
+                  ns per row            %9.2f    %9.2f    %+7.1f%%
+                  (checksum %.0f)
+                """,
+                legacyNanos, compactNanos, change(legacyNanos, compactNanos), sink);
+    }
+
+    private static double mib(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) * 100.0 / before;
+    }
+}
@@ -0,0 +1,123 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.UserProvisioningService;
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutService;
+import com.liftit.workout.WorkoutSet;
+import com.liftit.workout.WorkoutStatus;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration test for the contract phase of the compact workout row layout (V17).
+ *
+ * <p>Applies the {@code contract} changesets on top of a database holding data written
+ * during the expand phase, then checks the final schema and that this build still reads
+ * and writes workouts. Uses its own container because the schema change is permanent.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("integrationTest")
+class CompactWorkoutStorageContractIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${spring.liquibase.change-log}")
+    private String changeLog;
+
+    @Test
+    void shouldDropLegacyColumnsAndKeepWorkoutsReadable() throws Exception {
+        // Given
+        Long userId = userProvisioningService
+                .provision(Auth0Id.of("auth0|compactcontractintegrationuser"),
+                        Email.of("compact-contract-test@example.com"))
+                .id();
+        Long exerciseId = jdbcTemplate.queryForObject(
+                "INSERT INTO exercises (name, category_id, created_at, created_by, updated_at, updated_by) "
+                + "VALUES ('Compact Contract Exercise', 1, now(), 1, now(), 1) RETURNING id",
+                Long.class);
+        Workout before = workoutService.start(userId, null);
+        workoutService.addExercise(before.id(), new WorkoutExercise(0L, exerciseId, 1,
+                List.of(new WorkoutSet(1, 5, new Weight(60.0, WeightUnit.KG), 7)), null), userId);
+
+        // When
+        applyContract();
+        workoutService.complete(before.id(), userId);
+        Workout after = workoutService.start(userId, "After contract");
+
+        // Then
+        assertEquals(0, count("SELECT count(*) FROM information_schema.columns WHERE table_name IN "
+                + "('workouts', 'workout_sets') AND column_name IN ('status', 'weight_value', 'weight_unit')"));
+        assertEquals(0, count("SELECT count(*) FROM information_schema.columns WHERE table_name IN "
+                + "('workouts', 'workout_sets') AND column_name IN "
+                + "('status_code', 'weight_milli', 'weight_grams', 'weight_unit_code') AND is_nullable = 'YES'"));
+        assertEquals(0, count("SELECT count(*) FROM pg_constraint WHERE conname LIKE 'workout%\\_nn'"));
+        assertEquals(0, count("SELECT count(*) FROM pg_trigger WHERE tgname LIKE 'trg_workout%sync%'"));
+        Workout completed = workoutService.getOwnedById(before.id(), userId);
+        assertEquals(WorkoutStatus.COMPLETED, completed.status());
+        assertEquals(new Weight(60.0, WeightUnit.KG), completed.exercises().getFirst().sets().getFirst().weight());
+        assertEquals(WorkoutStatus.IN_PROGRESS, workoutService.getOwnedById(after.id(), userId).status());
+    }
+
+    // --- helpers ---
+
+    private void applyContract() throws Exception {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setResourceLoader(applicationContext);
+        liquibase.setChangeLog(changeLog);
+        liquibase.setContexts("expand,contract");
+        liquibase.afterPropertiesSet();
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,179 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.UserProvisioningService;
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutService;
+import com.liftit.workout.WorkoutSet;
+import com.liftit.workout.WorkoutStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Integration tests for the expand phase of the compact workout row layout (V16).
+ *
+ * <p>This build writes only the compact columns and the previous build only the legacy
+ * ones; the sync triggers must keep both readable by either build.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("integrationTest")
+class CompactWorkoutStorageIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long testExerciseId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userProvisioningService
+                .provision(Auth0Id.of("auth0|compactstorageintegrationuser"),
+                        Email.of("compact-storage-test@example.com"))
+                .id();
+        testExerciseId = jdbcTemplate.queryForObject(
+                "INSERT INTO exercises (name, category_id, created_at, created_by, updated_at, updated_by) "
+                + "VALUES ('Compact Storage Exercise', 1, now(), 1, now(), 1) RETURNING id",
+                Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM schema_backfills WHERE backfill LIKE 'test-%'");
+        jdbcTemplate.update("DELETE FROM exercise_muscle_groups WHERE exercise_id = ?", testExerciseId);
+        jdbcTemplate.update("DELETE FROM exercises WHERE id = ?", testExerciseId);
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+
+    @Test
+    void shouldFillLegacyColumnsWhenThisBuildWrites() {
+        // Given
+        Workout workout = workoutWithSet(new Weight(225.0, WeightUnit.LBS));
+
+        // When
+        Map<String, Object> set = jdbcTemplate.queryForMap(
+                "SELECT ws.* FROM workout_sets ws JOIN workout_exercises we ON we.id = ws.workout_exercise_id "
+                + "WHERE we.workout_id = ?", workout.id());
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT status, status_code FROM workouts WHERE id = ?", workout.id());
+
+        // Then
+        assertEquals(225_000, set.get("weight_milli"));
+        assertEquals(102_058, set.get("weight_grams"));
+        assertEquals((short) 2, ((Number) set.get("weight_unit_code")).shortValue());
+        assertEquals(0, new BigDecimal("225").compareTo((BigDecimal) set.get("weight_value")));
+        assertEquals("LBS", set.get("weight_unit"));
+        assertEquals("IN_PROGRESS", row.get("status"));
+        assertEquals((short) 1, ((Number) row.get("status_code")).shortValue());
+    }
+
+    @Test
+    void shouldReadRowsWrittenByThePreviousBuild() {
+        // Given — the previous build completes the workout and logs a set via legacy columns only
+        Workout workout = workoutWithSet(new Weight(100.0, WeightUnit.KG));
+        jdbcTemplate.update("UPDATE workouts SET status = 'COMPLETED', completed_at = now() WHERE id = ?",
+                workout.id());
+        jdbcTemplate.update("INSERT INTO workout_sets "
+                + "(workout_exercise_id, workout_started_at, set_number, reps, weight_value, weight_unit) "
+                + "SELECT id, workout_started_at, 2, 3, 102.5, 'KG' FROM workout_exercises WHERE workout_id = ?",
+                workout.id());
+
+        // When
+        Workout found = workoutService.getOwnedById(workout.id(), userId);
+
+        // Then
+        assertEquals(WorkoutStatus.COMPLETED, found.status());
+        assertEquals(List.of(
+                        new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), null),
+                        new WorkoutSet(2, 3, new Weight(102.5, WeightUnit.KG), null)),
+                found.exercises().getFirst().sets());
+        assertEquals(102_500, jdbcTemplate.queryForObject(
+                "SELECT weight_grams FROM workout_sets WHERE set_number = 2", Integer.class));
+    }
+
+    @Test
+    void shouldResumeBackfillAfterTheLastRecordedBatch() {
+        // Given — two rows the sync trigger never saw, the first already covered by an earlier run
+        Workout processed = workoutService.start(userId, null);
+        Workout pending = workoutService.start(userId, null);
+        jdbcTemplate.execute("ALTER TABLE workouts DISABLE TRIGGER trg_workouts_sync_status_code");
+        try {
+            jdbcTemplate.update("UPDATE workouts SET status_code = NULL WHERE user_id = ?", userId);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE workouts ENABLE TRIGGER trg_workouts_sync_status_code");
+        }
+        String partition = jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM workouts WHERE id = ?", String.class, pending.id());
+        jdbcTemplate.update("INSERT INTO schema_backfills (backfill, relation, last_id) VALUES ('test-status', ?, ?)",
+                partition, processed.id());
+
+        // When
+        jdbcTemplate.execute("CALL run_backfill('test-status', 'workouts', "
+                + "'UPDATE %s SET status_code = 1 WHERE id > $1 AND id <= $2 AND status_code IS NULL', 1)");
+
+        // Then
+        assertNull(statusCode(processed.id()));
+        assertEquals(Short.valueOf((short) 1), statusCode(pending.id()));
+        assertEquals(pending.id(), jdbcTemplate.queryForObject(
+                "SELECT last_id FROM schema_backfills WHERE backfill = 'test-status' AND relation = ?",
+                Long.class, partition));
+        assertEquals(Integer.valueOf(0), jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM schema_backfills WHERE backfill = 'test-status' AND completed_at IS NULL",
+                Integer.class));
+    }
+
+    // --- helpers ---
+
+    private Short statusCode(Long workoutId) {
+        return jdbcTemplate.queryForObject("SELECT status_code FROM workouts WHERE id = ?", Short.class, workoutId);
+    }
+
+    private Workout workoutWithSet(Weight weight) {
+        Workout workout = workoutService.start(userId, null);
+        return workoutService.addExercise(workout.id(), new WorkoutExercise(0L, testExerciseId, 1,
+                List.of(new WorkoutSet(1, 5, weight, null)), null), userId);
+    }
+}
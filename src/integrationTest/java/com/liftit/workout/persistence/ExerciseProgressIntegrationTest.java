@@ -0,0 +1,170 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.UserProvisioningService;
+import com.liftit.workout.ExerciseProgress;
+import com.liftit.workout.ExerciseSession;
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutRepository;
+import com.liftit.workout.WorkoutService;
+import com.liftit.workout.WorkoutSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for exercise progress: the per-session aggregate query over the
+ * partitioned hot tables and the matching computation over archived documents in
+ * {@link JpaWorkoutRepository}.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("integrationTest")
+class ExerciseProgressIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutArchiver archiver;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long squatId;
+    private Long benchId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userProvisioningService
+                .provision(Auth0Id.of("auth0|exerciseprogressintegrationuser"),
+                        Email.of("exercise-progress-test@example.com"))
+                .id();
+        squatId = createExercise("Progress Test Squat");
+        benchId = createExercise("Progress Test Bench");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM archived_workouts");
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM exercises WHERE id IN (?, ?)", squatId, benchId);
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+
+    @Test
+    void shouldSummariseEachSessionOfTheExercise() {
+        // Given
+        Workout workout = completedWorkout(new Weight(100.0, WeightUnit.KG), new Weight(110.0, WeightUnit.KG));
+
+        // When
+        List<ExerciseSession> sessions = workoutRepository.findExerciseSessions(
+                userId, squatId, Instant.EPOCH, Instant.now().plusSeconds(60));
+
+        // Then
+        assertEquals(1, sessions.size());
+        ExerciseSession session = sessions.getFirst();
+        assertEquals(workout.id(), session.workoutId());
+        assertEquals(121.0, session.estimatedOneRepMaxKg(), 1e-6);
+        assertEquals(110.0, session.topSetKg(), 1e-6);
+        assertEquals(830.0, session.volumeKg(), 1e-6);
+    }
+
+    @Test
+    void shouldReportTheSameFiguresOnceArchived() {
+        // Given
+        Weight lbs = new Weight(225.0, WeightUnit.LBS);
+        completedWorkout(lbs, lbs);
+        Instant to = Instant.now().plusSeconds(60);
+        ExerciseSession hot = workoutRepository.findExerciseSessions(userId, squatId, Instant.EPOCH, to).getFirst();
+
+        // When
+        archiver.archiveCompletedBefore(to);
+        ExerciseSession archived =
+                workoutRepository.findExerciseSessions(userId, squatId, Instant.EPOCH, to).getFirst();
+
+        // Then
+        assertEquals(hot.workoutId(), archived.workoutId());
+        assertEquals(hot.estimatedOneRepMaxKg(), archived.estimatedOneRepMaxKg(), 1e-6);
+        assertEquals(hot.topSetKg(), archived.topSetKg(), 1e-6);
+        assertEquals(hot.volumeKg(), archived.volumeKg(), 1e-6);
+    }
+
+    @Test
+    void shouldChartHotAndArchivedSessionsInOrder() {
+        // Given
+        Weight kg = new Weight(100.0, WeightUnit.KG);
+        Workout first = completedWorkout(kg, kg);
+        archiver.archiveCompletedBefore(Instant.now().plusSeconds(60));
+        Workout second = completedWorkout(kg, new Weight(120.0, WeightUnit.KG));
+
+        // When
+        ExerciseProgress progress = workoutService.progress(
+                userId, squatId, Instant.EPOCH, Instant.now().plusSeconds(60), 300);
+
+        // Then
+        assertEquals(2, progress.sessions());
+        assertEquals(List.of(first.startedAt(), second.startedAt()),
+                progress.topSet().stream().map(ExerciseProgress.Point::at).toList());
+        assertEquals(List.of(100.0, 120.0),
+                progress.topSet().stream().map(ExerciseProgress.Point::value).toList());
+    }
+
+    // --- helpers ---
+
+    private Workout completedWorkout(Weight five, Weight three) {
+        Workout workout = workoutService.start(userId, null);
+        workoutService.addExercise(workout.id(), new WorkoutExercise(0L, squatId, 1, List.of(
+                new WorkoutSet(1, 5, five, null),
+                new WorkoutSet(2, 3, three, null)), null), userId);
+        workoutService.addExercise(workout.id(), new WorkoutExercise(0L, benchId, 2, List.of(
+                new WorkoutSet(1, 8, new Weight(80.0, WeightUnit.KG), null)), null), userId);
+        return workoutService.complete(workout.id(), userId);
+    }
+
+    private Long createExercise(String name) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO exercises (name, category_id, created_at, created_by, updated_at, updated_by) "
+                + "VALUES (?, 1, now(), 1, now(), 1) RETURNING id",
+                Long.class, name);
+    }
+}
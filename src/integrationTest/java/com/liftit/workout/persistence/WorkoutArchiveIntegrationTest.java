@@ -0,0 +1,172 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.UserProvisioningService;
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutService;
+import com.liftit.workout.WorkoutSet;
+import com.liftit.workout.WorkoutStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for the cold workout tier: {@link WorkoutArchiver} moving workouts to
+ * {@code archived_workouts} and {@link JpaWorkoutRepository} reading them back.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("integrationTest")
+class WorkoutArchiveIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Autowired
+    private WorkoutArchiver archiver;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long testExerciseId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userProvisioningService
+                .provision(Auth0Id.of("auth0|workoutarchiveintegrationuser"),
+                        Email.of("workout-archive-test@example.com"))
+                .id();
+        testExerciseId = jdbcTemplate.queryForObject(
+                "INSERT INTO exercises (name, category_id, created_at, created_by, updated_at, updated_by) "
+                + "VALUES ('Archive Test Exercise', 1, now(), 1, now(), 1) RETURNING id",
+                Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM archived_workouts");
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM exercise_muscle_groups WHERE exercise_id = ?", testExerciseId);
+        jdbcTemplate.update("DELETE FROM exercises WHERE id = ?", testExerciseId);
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+
+    @Test
+    void shouldMoveCompletedWorkoutToTheArchive() {
+        // Given
+        Workout workout = completedWorkout("Leg day");
+
+        // When
+        int archived = archiver.archiveCompletedBefore(Instant.now().plusSeconds(60));
+
+        // Then
+        assertEquals(1, archived);
+        assertEquals(0, count("SELECT count(*) FROM workouts WHERE id = ?", workout.id()));
+        assertEquals(0, count("SELECT count(*) FROM workout_exercises WHERE workout_id = ?", workout.id()));
+        assertEquals(0, count("SELECT count(*) FROM workout_start_times WHERE workout_id = ?", workout.id()));
+        assertEquals(1, count("SELECT count(*) FROM archived_workouts WHERE id = ?", workout.id()));
+    }
+
+    @Test
+    void shouldReadArchivedWorkoutById() {
+        // Given
+        Workout workout = completedWorkout("Leg day");
+        archiver.archiveCompletedBefore(Instant.now().plusSeconds(60));
+
+        // When
+        Workout found = workoutService.getOwnedById(workout.id(), userId);
+
+        // Then
+        assertEquals(WorkoutStatus.COMPLETED, found.status());
+        assertEquals("Leg day", found.notes());
+        assertEquals(workout.completedAt().truncatedTo(ChronoUnit.MICROS), found.completedAt());
+        assertEquals(1, found.exercises().size());
+        assertEquals(List.of(new WorkoutSet(1, 5, new Weight(140.0, WeightUnit.KG), 8)),
+                found.exercises().getFirst().sets());
+    }
+
+    @Test
+    void shouldListHotAndArchivedWorkoutsTogether() {
+        // Given
+        Workout old = completedWorkout("Old");
+        archiver.archiveCompletedBefore(Instant.now().plusSeconds(60));
+        Workout current = workoutService.start(userId, "Current");
+
+        // When
+        Page<Workout> page = workoutService.listByUser(userId,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "startedAt")));
+
+        // Then
+        assertEquals(2, page.getTotalElements());
+        assertEquals(List.of(current.id(), old.id()), page.getContent().stream().map(Workout::id).toList());
+    }
+
+    @Test
+    void shouldNotArchiveInProgressOrRecentWorkouts() {
+        // Given
+        Workout inProgress = workoutService.start(userId, null);
+        Workout recent = completedWorkout(null);
+
+        // When
+        int archived = archiver.archiveCompletedBefore(recent.completedAt().minusSeconds(3600));
+
+        // Then
+        assertEquals(0, archived);
+        assertEquals(2, count("SELECT count(*) FROM workouts WHERE user_id = ?", userId));
+        assertEquals(WorkoutStatus.IN_PROGRESS, workoutService.getOwnedById(inProgress.id(), userId).status());
+    }
+
+    // --- helpers ---
+
+    private Workout completedWorkout(String notes) {
+        Workout workout = workoutService.start(userId, notes);
+        workoutService.addExercise(workout.id(), new WorkoutExercise(0L, testExerciseId, 1,
+                List.of(new WorkoutSet(1, 5, new Weight(140.0, WeightUnit.KG), 8)), null), userId);
+        return workoutService.complete(workout.id(), userId);
+    }
+
+    private int count(String sql, Long id) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,215 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.auth.JwtTestTokenFactory;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.UserProvisioningService;
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutService;
+import com.liftit.workout.WorkoutSet;
+import com.liftit.workout.WorkoutStatus;
+import com.liftit.workout.WorkoutTemplate;
+import com.liftit.workout.WorkoutTemplateService;
+import com.liftit.workout.exception.WorkoutTemplateOwnershipException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Integration tests for starting workouts from templates and repeating workouts: the
+ * {@code start_workout_from_template} and {@code start_workout_from_workout} functions
+ * (V20) and the archived-source fallback in {@link JpaWorkoutRepository}.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("integrationTest")
+class WorkoutTemplateIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void registerJwtPublicKey(DynamicPropertyRegistry registry) {
+        registry.add("security.jwt.public-key", JwtTestTokenFactory::publicKeyPem);
+    }
+
+    @Autowired
+    private WorkoutTemplateService templateService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private WorkoutArchiver archiver;
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long otherUserId;
+    private Long squatId;
+    private Long benchId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userProvisioningService
+                .provision(Auth0Id.of("auth0|workouttemplateintegrationuser"),
+                        Email.of("workout-template-test@example.com"))
+                .id();
+        otherUserId = userProvisioningService
+                .provision(Auth0Id.of("auth0|otherworkouttemplateintegrationuser"),
+                        Email.of("other-workout-template-test@example.com"))
+                .id();
+        squatId = createExercise("Template Test Squat");
+        benchId = createExercise("Template Test Bench");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM workout_templates");
+        jdbcTemplate.update("DELETE FROM archived_workouts");
+        jdbcTemplate.update("DELETE FROM workout_sets");
+        jdbcTemplate.update("DELETE FROM workout_exercises");
+        jdbcTemplate.update("DELETE FROM workouts");
+        jdbcTemplate.update("DELETE FROM exercises WHERE id IN (?, ?)", squatId, benchId);
+        jdbcTemplate.update("DELETE FROM users WHERE id > 99");
+    }
+
+    @Test
+    void shouldStartWorkoutWithEveryPlannedExerciseAndSet() {
+        // Given
+        WorkoutTemplate template = templateService.create(userId, "Full body", null, plannedExercises());
+
+        // When
+        Workout workout = templateService.start(template.id(), userId, "Week 1");
+
+        // Then
+        assertEquals(WorkoutStatus.IN_PROGRESS, workout.status());
+        assertEquals("Week 1", workout.notes());
+        assertEquals(userId, workout.userId());
+        assertEquals(List.of(squatId, benchId),
+                workout.exercises().stream().map(WorkoutExercise::exerciseId).toList());
+        assertEquals(template.exercises().getFirst().sets(), workout.exercises().getFirst().sets());
+        assertEquals(5, workout.totalSetCount());
+        assertEquals(5, count("SELECT count(*) FROM workout_sets ws JOIN workout_exercises we "
+                + "ON we.id = ws.workout_exercise_id WHERE we.workout_id = ?", workout.id()));
+    }
+
+    @Test
+    void shouldStartTheSameTemplateRepeatedly() {
+        // Given
+        WorkoutTemplate template = templateService.create(userId, "Full body", null, plannedExercises());
+
+        // When
+        Workout first = templateService.start(template.id(), userId, null);
+        Workout second = templateService.start(template.id(), userId, null);
+
+        // Then
+        assertNotEquals(first.id(), second.id());
+        assertNotEquals(first.exercises().getFirst().id(), second.exercises().getFirst().id());
+        assertEquals(10, count("SELECT count(*) FROM workout_sets ws JOIN workout_exercises we "
+                + "ON we.id = ws.workout_exercise_id JOIN workouts w ON w.id = we.workout_id WHERE w.user_id = ?",
+                userId));
+    }
+
+    @Test
+    void shouldNotStartAnotherUsersTemplate() {
+        // Given
+        WorkoutTemplate template = templateService.create(userId, "Full body", null, plannedExercises());
+
+        // When / Then
+        assertThrows(WorkoutTemplateOwnershipException.class,
+                () -> templateService.start(template.id(), otherUserId, null));
+        assertEquals(0, count("SELECT count(*) FROM workouts WHERE user_id = ?", otherUserId));
+    }
+
+    @Test
+    void shouldRepeatHotWorkout() {
+        // Given
+        Workout source = completedWorkout();
+
+        // When
+        Workout repeated = workoutService.repeat(source.id(), userId, null);
+
+        // Then
+        assertEquals(WorkoutStatus.IN_PROGRESS, repeated.status());
+        assertNotEquals(source.id(), repeated.id());
+        assertEquals(source.exercises().getFirst().sets(), repeated.exercises().getFirst().sets());
+        assertEquals(WorkoutStatus.COMPLETED, workoutService.getById(source.id()).status());
+    }
+
+    @Test
+    void shouldRepeatArchivedWorkout() {
+        // Given
+        Workout source = completedWorkout();
+        archiver.archiveCompletedBefore(Instant.now().plusSeconds(60));
+
+        // When
+        Workout repeated = workoutService.repeat(source.id(), userId, "Again");
+
+        // Then
+        assertEquals(WorkoutStatus.IN_PROGRESS, repeated.status());
+        assertEquals("Again", repeated.notes());
+        assertEquals(source.exercises().getFirst().sets(), repeated.exercises().getFirst().sets());
+    }
+
+    // --- helpers ---
+
+    private List<WorkoutExercise> plannedExercises() {
+        Weight squat = new Weight(140.0, WeightUnit.KG);
+        Weight bench = new Weight(225.0, WeightUnit.LBS);
+        return List.of(
+                new WorkoutExercise(0L, squatId, 1, List.of(
+                        new WorkoutSet(1, 5, squat, null),
+                        new WorkoutSet(2, 5, squat, null),
+                        new WorkoutSet(3, 5, squat, 9)), null),
+                new WorkoutExercise(0L, benchId, 2, List.of(
+                        new WorkoutSet(1, 8, bench, null),
+                        new WorkoutSet(2, 8, bench, 8)), "Pause reps"));
+    }
+
+    private Workout completedWorkout() {
+        Workout workout = workoutService.start(userId, null);
+        for (WorkoutExercise exercise : plannedExercises()) {
+            workoutService.addExercise(workout.id(), exercise, userId);
+        }
+        return workoutService.complete(workout.id(), userId);
+    }
+
+    private Long createExercise(String name) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO exercises (name, category_id, created_at, created_by, updated_at, updated_by) "
+                + "VALUES (?, 1, now(), 1, now(), 1) RETURNING id",
+                Long.class, name);
+    }
+
+    private int count(String sql, Long id) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,60 @@
+package com.liftit.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microseconds) and error counts, collected by interval.
+ *
+ * <p>Endpoints are keyed by method and path template ({@code GET /api/v1/workouts/{id}}),
+ * not by concrete URL. Recording is lock-free; {@link #interval()} hands back everything
+ * recorded since the previous call and starts a new interval.
+ */
+final class EndpointRecorder {
+
+    static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    /** Latency and errors of one endpoint over an interval. */
+    record EndpointStats(String endpoint, Histogram latencyMicros, long errors) {
+
+        long count() {
+            return latencyMicros.getTotalCount();
+        }
+    }
+
+    private final Map<String, Recorder> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_LATENCY_MICROS);
+        latencies.computeIfAbsent(endpoint, key -> new Recorder(MAX_LATENCY_MICROS, 3))
+                .recordValue(Math.max(micros, 1));
+    }
+
+    void error(String endpoint) {
+        errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns each endpoint's latency and errors since the previous call, sorted by endpoint.
+     */
+    Map<String, EndpointStats> interval() {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        for (String endpoint : latencies.keySet()) {
+            stats.put(endpoint, new EndpointStats(endpoint, latencies.get(endpoint).getIntervalHistogram(), 0));
+        }
+        errors.forEach((endpoint, count) -> {
+            long failed = count.sumThenReset();
+            EndpointStats current = stats.get(endpoint);
+            Histogram latency = current == null ? new Histogram(MAX_LATENCY_MICROS, 3) : current.latencyMicros();
+            stats.put(endpoint, new EndpointStats(endpoint, latency, failed));
+        });
+        return stats;
+    }
+}
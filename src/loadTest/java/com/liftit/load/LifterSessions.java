@@ -0,0 +1,114 @@
+package com.liftit.load;
+
+import com.liftit.load.TrafficMix.Scenario;
+import tools.jackson.databind.JsonNode;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The request sequences a lifter's visit produces, one per {@link Scenario}.
+ *
+ * <p>Requests inside a session are sequential, as the app issues them, with a random
+ * think time of up to twice {@code thinkMillis} between logging exercises. Exercises come
+ * from the catalog seeded before the run.
+ */
+final class LifterSessions {
+
+    private static final String[] SEARCH_TERMS = {"press", "squat", "curl", "row", "dead", "raise", "fly"};
+    private static final String[] MUSCLE_GROUPS = {
+            "ABDOMINALS", "BACK", "BICEPS", "CALVES", "CHEST", "FOREARMS", "SHOULDERS", "THIGHS", "TRICEPS"};
+
+    private final LoadClient client;
+    private final List<Long> catalog;
+    private final long thinkMillis;
+
+    LifterSessions(LoadClient client, List<Long> catalog, long thinkMillis) {
+        if (catalog.isEmpty()) {
+            throw new IllegalArgumentException("catalog must not be empty");
+        }
+        this.client = client;
+        this.catalog = List.copyOf(catalog);
+        this.thinkMillis = thinkMillis;
+    }
+
+    /** Runs one session of {@code scenario} as {@code subject}. */
+    void run(Scenario scenario, String subject) throws InterruptedException {
+        switch (scenario) {
+            case APP_OPEN -> appOpen(subject);
+            case CATALOG -> catalog(subject);
+            case WORKOUT -> workout(subject, true);
+            case HISTORY -> history(subject);
+        }
+    }
+
+    void appOpen(String subject) {
+        client.send(subject, "GET /api/v1/bootstrap", "GET", "/api/v1/bootstrap", null, 200);
+        client.send(subject, "GET /api/v1/users/me/profile", "GET", "/api/v1/users/me/profile", null, 200, 404);
+    }
+
+    void catalog(String subject) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String muscle = MUSCLE_GROUPS[random.nextInt(MUSCLE_GROUPS.length)];
+        client.send(subject, "GET /api/v1/exercises/search", "GET",
+                "/api/v1/exercises/search?muscleGroup=" + muscle + "&search="
+                        + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], null, 200);
+        client.send(subject, "GET /api/v1/exercises", "GET",
+                "/api/v1/exercises?page=" + random.nextInt(3) + "&size=20&muscleGroup=" + muscle, null, 200);
+        long exerciseId = anyExercise();
+        client.send(subject, "GET /api/v1/exercises/{id}", "GET", "/api/v1/exercises/" + exerciseId, null, 200);
+        client.send(subject, "GET /api/v1/exercises/{id}/similar", "GET",
+                "/api/v1/exercises/" + exerciseId + "/similar", null, 200);
+    }
+
+    /**
+     * Starts a workout, logs three to six exercises of three to five sets and, when
+     * {@code complete}, completes it.
+     */
+    void workout(String subject, boolean think) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long workoutId = client.send(subject, "POST /api/v1/workouts", "POST", "/api/v1/workouts",
+                "{\"notes\": \"load test\"}", 201).get("id").asLong();
+        int exercises = random.nextInt(3, 7);
+        for (int order = 1; order <= exercises; order++) {
+            if (think && thinkMillis > 0) {
+                Thread.sleep(random.nextLong(thinkMillis * 2 + 1));
+            }
+            client.send(subject, "POST /api/v1/workouts/{id}/exercises", "POST",
+                    "/api/v1/workouts/" + workoutId + "/exercises", addExercise(order, random), 200);
+        }
+        client.send(subject, "POST /api/v1/workouts/{id}/complete", "POST",
+                "/api/v1/workouts/" + workoutId + "/complete", null, 200);
+    }
+
+    void history(String subject) {
+        JsonNode page = client.send(subject, "GET /api/v1/workouts", "GET", "/api/v1/workouts?page=0&size=20",
+                null, 200);
+        JsonNode content = page.path("content");
+        if (!content.isEmpty()) {
+            JsonNode workout = content.get(ThreadLocalRandom.current().nextInt(content.size()));
+            client.send(subject, "GET /api/v1/workouts/{id}", "GET",
+                    "/api/v1/workouts/" + workout.get("id").asLong(), null, 200);
+        }
+        client.send(subject, "GET /api/v1/workouts/progress", "GET",
+                "/api/v1/workouts/progress?exerciseId=" + anyExercise(), null, 200);
+    }
+
+    private String addExercise(int order, ThreadLocalRandom random) {
+        StringBuilder sets = new StringBuilder();
+        double weight = 20 + random.nextInt(30) * 2.5;
+        int count = random.nextInt(3, 6);
+        for (int set = 0; set < count; set++) {
+            sets.append(set == 0 ? "" : ", ").append(String.format(Locale.ROOT,
+                    "{\"reps\": %d, \"weight\": %.1f, \"unit\": \"KG\", \"rpe\": %d}",
+                    random.nextInt(3, 13), weight + set * 2.5, random.nextInt(6, 11)));
+        }
+        return String.format(Locale.ROOT, "{\"exerciseId\": %d, \"order\": %d, \"sets\": [%s]}",
+                anyExercise(), order, sets);
+    }
+
+    private long anyExercise() {
+        return catalog.get(ThreadLocalRandom.current().nextInt(catalog.size()));
+    }
+}
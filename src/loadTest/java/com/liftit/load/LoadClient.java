@@ -0,0 +1,87 @@
+package com.liftit.load;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP client for virtual users: sends one request as a user, records its latency under
+ * the endpoint's name and checks the status.
+ *
+ * <p>A request that fails or returns an unexpected status is counted as an error of its
+ * endpoint and ends the session with a {@link SessionFailedException}; later steps of a
+ * session depend on earlier ones.
+ */
+final class LoadClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /** Ends a session after a failed request; already counted against the endpoint. */
+    static final class SessionFailedException extends RuntimeException {
+
+        SessionFailedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final String baseUrl;
+    private final StubJwtIssuer issuer;
+    private final EndpointRecorder recorder;
+
+    LoadClient(String baseUrl, StubJwtIssuer issuer, EndpointRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.issuer = issuer;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Sends a request as {@code subject} and returns the parsed JSON body ({@code null} for
+     * an empty one).
+     *
+     * @param endpoint the name latency is recorded under, e.g. {@code GET /api/v1/workouts/{id}}
+     * @param expected the statuses that count as success
+     */
+    JsonNode send(String subject, String endpoint, String method, String path, String json, int... expected) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", issuer.bearer(subject));
+        if (json == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json));
+        }
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start);
+            recorder.error(endpoint);
+            throw new SessionFailedException(endpoint + " failed: " + e, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionFailedException(endpoint + " interrupted", e);
+        }
+        recorder.record(endpoint, System.nanoTime() - start);
+        for (int status : expected) {
+            if (response.statusCode() == status) {
+                return response.body().isEmpty() ? null : OBJECT_MAPPER.readTree(response.body());
+            }
+        }
+        recorder.error(endpoint);
+        throw new SessionFailedException(endpoint + " returned " + response.statusCode(), null);
+    }
+}
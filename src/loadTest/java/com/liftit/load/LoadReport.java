@@ -0,0 +1,90 @@
+package com.liftit.load;
+
+import com.liftit.load.OpenModelDriver.StepResult;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the results of a load test run to a report directory:
+ * <ul>
+ *   <li>{@code summary.txt}: per step, the achieved throughput and per-endpoint latency
+ *       percentiles and errors;</li>
+ *   <li>{@code throughput.csv}: the throughput curve, one row per arrival rate;</li>
+ *   <li>{@code step-<n>/<endpoint>.hgrm}: full HdrHistogram percentile distributions in
+ *       milliseconds, for plotting or comparing runs.</li>
+ * </ul>
+ */
+final class LoadReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private LoadReport() {
+    }
+
+    /**
+     * Writes the report and returns the summary text.
+     */
+    static String write(Path dir, String header, List<StepResult> steps) throws IOException {
+        Files.createDirectories(dir);
+        StringBuilder summary = new StringBuilder(header).append('\n');
+        summary.append(String.format(Locale.ROOT, "  %4s %9s %11s %11s %8s %8s %8s %9s %9s%n",
+                "step", "target/s", "sessions/s", "requests/s", "failed", "dropped", "errors", "p99 ms",
+                "lag p99"));
+        StringBuilder csv = new StringBuilder(
+                "step,target_sessions_per_s,sessions_per_s,requests_per_s,failed_sessions,dropped_sessions,"
+                + "errors,p50_ms,p90_ms,p99_ms,p999_ms,start_lag_p99_ms\n");
+        for (int i = 0; i < steps.size(); i++) {
+            StepResult step = steps.get(i);
+            Histogram overall = step.overall();
+            summary.append(String.format(Locale.ROOT, "  %4d %9.1f %11.1f %11.1f %8d %8d %8d %9.1f %9.1f%n",
+                    i + 1, step.targetRate(), step.sessionsPerSecond(), step.requestsPerSecond(), step.failed(),
+                    step.dropped(), step.errors(), millis(overall, 99), millis(step.startLagMicros(), 99)));
+            csv.append(String.format(Locale.ROOT, "%d,%.2f,%.2f,%.2f,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                    i + 1, step.targetRate(), step.sessionsPerSecond(), step.requestsPerSecond(), step.failed(),
+                    step.dropped(), step.errors(), millis(overall, 50), millis(overall, 90), millis(overall, 99),
+                    millis(overall, 99.9), millis(step.startLagMicros(), 99)));
+        }
+        for (int i = 0; i < steps.size(); i++) {
+            StepResult step = steps.get(i);
+            summary.append(String.format(Locale.ROOT, "%nStep %d: %.1f sessions/s for %.0f s%n",
+                    i + 1, step.targetRate(), step.elapsedSeconds()));
+            summary.append(String.format(Locale.ROOT, "  %-40s %8s %8s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+            Path stepDir = Files.createDirectories(dir.resolve("step-" + (i + 1)));
+            for (EndpointRecorder.EndpointStats stats : step.endpoints().values()) {
+                Histogram latency = stats.latencyMicros();
+                summary.append(String.format(Locale.ROOT, "  %-40s %8d %8.1f %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                        stats.endpoint(), stats.count(), stats.count() / step.elapsedSeconds(), stats.errors(),
+                        millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                        latency.getMaxValue() / MICROS_PER_MILLI));
+                writeDistribution(stepDir.resolve(fileName(stats.endpoint())), latency);
+            }
+        }
+        String text = summary.toString();
+        Files.writeString(dir.resolve("summary.txt"), text);
+        Files.writeString(dir.resolve("throughput.csv"), csv);
+        return text;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static void writeDistribution(Path file, Histogram latency) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    /** {@code GET /api/v1/workouts/{id}} becomes {@code GET_api_v1_workouts_id.hgrm}. */
+    static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("_+$", "") + ".hgrm";
+    }
+}
@@ -0,0 +1,203 @@
+package com.liftit.load;
+
+import com.liftit.aot.LaunchedApp;
+import com.liftit.dataset.DatasetGenerator;
+import com.liftit.load.OpenModelDriver.StepResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * Load test of the packaged application with a realistic lifter traffic mix.
+ *
+ * <p>Run by the {@code loadTest} Gradle task. Against a Testcontainers Postgres, migrated
+ * by the {@code migrate} run mode, it launches the extracted boot jar in its own JVM
+ * (trusting the {@link StubJwtIssuer} key), seeds virtual users, an exercise catalog and
+ * some workout history, then drives sessions at each arrival rate in {@code load.rates}
+ * with an {@link OpenModelDriver}. With {@code load.dataset-users} set, the database is
+ * instead filled by {@link DatasetGenerator} first and {@code load.users} of the generated
+ * users, evenly spaced, become the virtual users. A warm-up step at the first rate runs before the
+ * measured steps and is not reported. Results go to {@link LoadReport}.
+ *
+ * <p>System properties: {@code load.rates} (sessions per second, comma-separated),
+ * {@code load.step-seconds}, {@code load.warmup-seconds}, {@code load.users},
+ * {@code load.catalog-size}, {@code load.history-workouts} (per user),
+ * {@code load.dataset-users} (0 to seed through the API instead),
+ * {@code load.think-ms}, {@code load.max-sessions}, {@code load.mix} (see
+ * {@link TrafficMix}) and {@code load.jvm-args} (space-separated, for the launched app).
+ *
+ * <p>Arguments: {@code <workDir> <jar relative to workDir> <report dir>}.
+ */
+public final class LoadTestRun {
+
+    private static final String RATES = System.getProperty("load.rates", "5,10,20,40,80");
+    private static final int STEP_SECONDS = Integer.getInteger("load.step-seconds", 60);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 30);
+    private static final int USERS = Integer.getInteger("load.users", 200);
+    private static final int CATALOG_SIZE = Integer.getInteger("load.catalog-size", 120);
+    private static final int HISTORY_WORKOUTS = Integer.getInteger("load.history-workouts", 5);
+    private static final int DATASET_USERS = Integer.getInteger("load.dataset-users", 0);
+    private static final int THINK_MS = Integer.getInteger("load.think-ms", 250);
+    private static final int MAX_SESSIONS = Integer.getInteger("load.max-sessions", 5000);
+    private static final String MIX = System.getProperty("load.mix", TrafficMix.DEFAULT);
+    private static final String JVM_ARGS = System.getProperty("load.jvm-args", "");
+
+    private static final String[] EXERCISE_WORDS = {
+            "Bench Press", "Back Squat", "Barbell Row", "Deadlift", "Lateral Raise", "Cable Fly", "Hammer Curl",
+            "Overhead Press", "Front Squat", "Skull Crusher", "Calf Raise", "Hanging Leg Raise"};
+    private static final String[][] EXERCISE_MUSCLES = {
+            {"CHEST", "TRICEPS"}, {"THIGHS"}, {"BACK", "BICEPS"}, {"BACK", "THIGHS"}, {"SHOULDERS"}, {"CHEST"},
+            {"BICEPS", "FOREARMS"}, {"SHOULDERS", "TRICEPS"}, {"THIGHS", "ABDOMINALS"}, {"TRICEPS"}, {"CALVES"},
+            {"ABDOMINALS"}};
+
+    private LoadTestRun() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: LoadTestRun <workDir> <jar> <reportDir>");
+        }
+        Path workDir = Path.of(args[0]).toAbsolutePath();
+        List<String> command = command(args[1]);
+        Path reportDir = Path.of(args[2]).toAbsolutePath();
+        List<Double> rates = Arrays.stream(RATES.split(",")).map(String::trim).map(Double::valueOf).toList();
+        TrafficMix mix = TrafficMix.parse(MIX);
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")) {
+            postgres.start();
+            LaunchedApp.migrate(command, workDir, postgres);
+            try (LaunchedApp app = LaunchedApp.launch(command, workDir, postgres)) {
+                app.awaitFirstSuccessfulRequest();
+                EndpointRecorder recorder = new EndpointRecorder();
+                LoadClient client = new LoadClient(app.baseUrl(), new StubJwtIssuer(), recorder);
+
+                List<String> users;
+                List<Long> catalog;
+                LifterSessions sessions;
+                String dataset;
+                if (DATASET_USERS > 0) {
+                    DatasetGenerator.Summary summary = DatasetGenerator.generate(postgres.getJdbcUrl(),
+                            postgres.getUsername(), postgres.getPassword(),
+                            DatasetGenerator.Spec.ofUsers(DATASET_USERS));
+                    users = datasetUsers(summary);
+                    catalog = summary.catalogIds();
+                    sessions = new LifterSessions(client, catalog, THINK_MS);
+                    dataset = "generated " + summary;
+                } else {
+                    users = provisionUsers(client);
+                    catalog = seedCatalog(client, users);
+                    sessions = new LifterSessions(client, catalog, THINK_MS);
+                    seedHistory(sessions, users);
+                    dataset = String.format(Locale.ROOT, "%d users, catalog: %d exercises, history: %d workouts "
+                            + "per user", USERS, catalog.size(), HISTORY_WORKOUTS);
+                }
+
+                OpenModelDriver driver = new OpenModelDriver(sessions, mix, users, recorder, MAX_SESSIONS);
+                System.out.printf(Locale.ROOT, "Warming up at %.1f sessions/s for %d s%n", rates.getFirst(),
+                        WARMUP_SECONDS);
+                driver.run(rates.getFirst(), Duration.ofSeconds(WARMUP_SECONDS));
+                List<StepResult> steps = new ArrayList<>();
+                for (double rate : rates) {
+                    System.out.printf(Locale.ROOT, "Driving %.1f sessions/s for %d s%n", rate, STEP_SECONDS);
+                    steps.add(driver.run(rate, Duration.ofSeconds(STEP_SECONDS)));
+                }
+
+                String header = String.format(Locale.ROOT, """
+                        Load test report
+                          target: %s (log: %s)
+                          data: %s; %d virtual users
+                          mix: %s, think time: up to %d ms, step: %d s after %d s warm-up
+                        """, app.baseUrl(), app.log(), dataset, users.size(), mix, THINK_MS * 2, STEP_SECONDS,
+                        WARMUP_SECONDS);
+                System.out.println(LoadReport.write(reportDir, header, steps));
+            }
+        }
+    }
+
+    private static List<String> command(String jar) {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        if (!JVM_ARGS.isBlank()) {
+            command.addAll(Arrays.asList(JVM_ARGS.trim().split("\\s+")));
+        }
+        command.add("-jar");
+        command.add(jar);
+        return command;
+    }
+
+    private static List<String> provisionUsers(LoadClient client) throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<String> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add("auth0|load-" + run + "-" + i);
+        }
+        forEach(users, subject -> client.send(subject, "POST /api/v1/users/me", "POST", "/api/v1/users/me",
+                "{\"auth0Id\": \"%s\", \"email\": \"%s@example.com\"}".formatted(subject, subject.substring(6)),
+                201));
+        return users;
+    }
+
+    /** {@link #USERS} generated users spread evenly over the dataset, light and heavy alike. */
+    private static List<String> datasetUsers(DatasetGenerator.Summary summary) {
+        int count = Math.min(USERS, summary.users());
+        return IntStream.range(0, count)
+                .mapToObj(i -> DatasetGenerator.Summary.auth0Id(
+                        summary.firstUserId() + (long) i * summary.users() / count))
+                .toList();
+    }
+
+    /** Creates {@link #CATALOG_SIZE} exercises, spread over the users who create them. */
+    private static List<Long> seedCatalog(LoadClient client, List<String> users) throws Exception {
+        List<Long> catalog = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> indexes = IntStream.range(0, CATALOG_SIZE).boxed().toList();
+        forEach(indexes, i -> {
+            int kind = i % EXERCISE_WORDS.length;
+            String muscles = String.join("\", \"", EXERCISE_MUSCLES[kind]);
+            catalog.add(client.send(users.get(i % users.size()), "POST /api/v1/exercises", "POST",
+                    "/api/v1/exercises", """
+                    {"name": "%s %d", "category": "STRENGTH", "muscleGroups": ["%s"]}
+                    """.formatted(EXERCISE_WORDS[kind], i / EXERCISE_WORDS.length + 1, muscles), 201)
+                    .get("id").asLong());
+        });
+        return List.copyOf(catalog);
+    }
+
+    private static void seedHistory(LifterSessions sessions, List<String> users) throws Exception {
+        forEach(users, subject -> {
+            for (int i = 0; i < HISTORY_WORKOUTS; i++) {
+                sessions.workout(subject, false);
+            }
+        });
+    }
+
+    private interface Task<T> {
+        void run(T item) throws Exception;
+    }
+
+    /** Runs {@code task} for every item on virtual threads and rethrows the first failure. */
+    private static <T> void forEach(List<T> items, Task<T> task) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (T item : items) {
+                futures.add(executor.submit(() -> {
+                    task.run(item);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+}
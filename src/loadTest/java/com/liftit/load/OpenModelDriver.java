@@ -0,0 +1,150 @@
+package com.liftit.load;
+
+import com.liftit.load.TrafficMix.Scenario;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts sessions at a target arrival rate, independent of how fast the server answers.
+ *
+ * <p>Arrivals are a Poisson process: inter-arrival gaps are exponentially distributed
+ * with mean {@code 1 / rate}. Each session runs on its own virtual thread, so a slow
+ * server builds up concurrent sessions instead of slowing the arrival rate (an open
+ * model, unlike a fixed pool of looping clients, which hides queueing delay). Sessions
+ * beyond {@code maxSessions} in flight are dropped and counted. How late sessions start
+ * against their scheduled time is recorded too; a large start lag means the generator,
+ * not the server, is saturated.
+ */
+final class OpenModelDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(1);
+
+    /** The outcome of one step at a fixed arrival rate. */
+    record StepResult(
+            double targetRate,
+            double elapsedSeconds,
+            long started,
+            long completed,
+            long failed,
+            long dropped,
+            Histogram startLagMicros,
+            Map<String, EndpointRecorder.EndpointStats> endpoints) {
+
+        double sessionsPerSecond() {
+            return completed / elapsedSeconds;
+        }
+
+        long requests() {
+            return endpoints.values().stream().mapToLong(EndpointRecorder.EndpointStats::count).sum();
+        }
+
+        long errors() {
+            return endpoints.values().stream().mapToLong(EndpointRecorder.EndpointStats::errors).sum();
+        }
+
+        double requestsPerSecond() {
+            return requests() / elapsedSeconds;
+        }
+
+        /** All endpoints' latencies in one histogram. */
+        Histogram overall() {
+            Histogram overall = new Histogram(EndpointRecorder.MAX_LATENCY_MICROS, 3);
+            endpoints.values().forEach(stats -> overall.add(stats.latencyMicros()));
+            return overall;
+        }
+    }
+
+    private final LifterSessions sessions;
+    private final TrafficMix mix;
+    private final List<String> users;
+    private final EndpointRecorder recorder;
+    private final int maxSessions;
+
+    OpenModelDriver(LifterSessions sessions, TrafficMix mix, List<String> users, EndpointRecorder recorder,
+            int maxSessions) {
+        if (users.isEmpty()) {
+            throw new IllegalArgumentException("users must not be empty");
+        }
+        this.sessions = sessions;
+        this.mix = mix;
+        this.users = List.copyOf(users);
+        this.recorder = recorder;
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Starts sessions at {@code sessionsPerSecond} for {@code duration}, then waits for
+     * the ones in flight to finish.
+     */
+    StepResult run(double sessionsPerSecond, Duration duration) throws InterruptedException {
+        if (sessionsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        recorder.interval();
+        Semaphore inFlight = new Semaphore(maxSessions);
+        Recorder startLag = new Recorder(EndpointRecorder.MAX_LATENCY_MICROS, 3);
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long started = 0;
+        long dropped = 0;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long begin = System.nanoTime();
+        long end = begin + duration.toNanos();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / sessionsPerSecond;
+        long next = begin;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                next += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+                if (next >= end) {
+                    break;
+                }
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    dropped++;
+                    continue;
+                }
+                started++;
+                long scheduled = next;
+                Scenario scenario = mix.pick(random.nextDouble());
+                String user = users.get(random.nextInt(users.size()));
+                executor.submit(() -> {
+                    startLag.recordValue(Math.min(EndpointRecorder.MAX_LATENCY_MICROS,
+                            Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled))));
+                    try {
+                        sessions.run(scenario, user);
+                        completed.increment();
+                    } catch (LoadClient.SessionFailedException e) {
+                        failed.increment();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failed.increment();
+                    } finally {
+                        inFlight.release();
+                    }
+                    return null;
+                });
+            }
+            if (!inFlight.tryAcquire(maxSessions, DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - begin) / 1e9;
+        return new StepResult(sessionsPerSecond, elapsedSeconds, started, completed.sum(), failed.sum(), dropped,
+                startLag.getIntervalHistogram(), recorder.interval());
+    }
+}
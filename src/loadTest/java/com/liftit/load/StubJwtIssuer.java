@@ -0,0 +1,34 @@
+package com.liftit.load;
+
+import com.liftit.auth.JwtTestTokenFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues bearer tokens for virtual users, signed with the {@link JwtTestTokenFactory} key
+ * the launched application trusts.
+ *
+ * <p>Signing is RSA and would otherwise be the load generator's hottest path, so each
+ * subject's token is reused until it is {@link #REISSUE_AFTER} old; the tokens are valid
+ * for an hour.
+ */
+final class StubJwtIssuer {
+
+    static final Duration REISSUE_AFTER = Duration.ofMinutes(30);
+
+    private record Issued(String bearer, long issuedAtNanos) {
+    }
+
+    private final Map<String, Issued> tokens = new ConcurrentHashMap<>();
+
+    /** Returns an {@code Authorization} header value for {@code subject}. */
+    String bearer(String subject) {
+        Issued issued = tokens.compute(subject, (key, current) ->
+                current == null || System.nanoTime() - current.issuedAtNanos() > REISSUE_AFTER.toNanos()
+                        ? new Issued(JwtTestTokenFactory.bearerToken(key), System.nanoTime())
+                        : current);
+        return issued.bearer();
+    }
+}
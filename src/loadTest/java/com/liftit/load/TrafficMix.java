@@ -0,0 +1,86 @@
+package com.liftit.load;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * How arriving sessions are split between the {@link Scenario}s.
+ *
+ * <p>Parsed from {@code scenario:weight} pairs, e.g.
+ * {@code app-open:35,catalog:20,workout:20,history:25}; weights are relative and
+ * scenarios left out never run.
+ */
+final class TrafficMix {
+
+    /** What a lifter does in one visit to the app. */
+    enum Scenario {
+        /** Open the app: bootstrap payload and profile. */
+        APP_OPEN,
+        /** Browse and search the exercise catalog, open an exercise and its substitutes. */
+        CATALOG,
+        /** Start a workout, log several exercises with sets, complete it. */
+        WORKOUT,
+        /** Page through past workouts, open one, chart progress on an exercise. */
+        HISTORY;
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    static final String DEFAULT = "app-open:35,catalog:20,workout:20,history:25";
+
+    private final Map<Scenario, Double> weights;
+    private final double total;
+
+    private TrafficMix(Map<Scenario, Double> weights) {
+        this.weights = weights;
+        this.total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+        if (total <= 0) {
+            throw new IllegalArgumentException("Traffic mix needs at least one positive weight");
+        }
+    }
+
+    static TrafficMix parse(String spec) {
+        Map<Scenario, Double> weights = new EnumMap<>(Scenario.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected scenario:weight but got '" + part + "'");
+            }
+            Scenario scenario = Scenario.valueOf(pair[0].trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            double weight = Double.parseDouble(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + pair[0] + " must not be negative");
+            }
+            weights.put(scenario, weight);
+        }
+        return new TrafficMix(weights);
+    }
+
+    /**
+     * Picks a scenario for a uniformly distributed {@code u} in {@code [0, 1)}.
+     */
+    Scenario pick(double u) {
+        double target = u * total;
+        double cumulative = 0;
+        Scenario last = null;
+        for (Map.Entry<Scenario, Double> entry : weights.entrySet()) {
+            cumulative += entry.getValue();
+            last = entry.getKey();
+            if (target < cumulative) {
+                return last;
+            }
+        }
+        return last;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        weights.forEach((scenario, weight) -> text.append(text.isEmpty() ? "" : ",")
+                .append(scenario.label()).append(':').append(weight % 1 == 0 ? String.valueOf(weight.longValue()) : weight.toString()));
+        return text.toString();
+    }
+}
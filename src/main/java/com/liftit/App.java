@@ -2,11 +2,39 @@ package com.liftit;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.env.Profiles;
 
+/**
+ * Application entry point.
+ *
+ * <p>The same artifact runs in two modes:
+ * <ul>
+ *   <li><strong>serving</strong> (default) — starts the web server without running
+ *       Liquibase or Hibernate schema validation; the schema is only checked against
+ *       the packaged changelog in a single query (see
+ *       {@link com.liftit.schema.SchemaFingerprintVerifier}).</li>
+ *   <li><strong>migrate</strong> ({@code SPRING_PROFILES_ACTIVE=migrate}) — applies the
+ *       Liquibase changelog, validates the JPA mappings and reference-data enums, then
+ *       exits with status 0. Run it once per release, before rolling serving nodes.
+ *       Scheduled tasks are not started (see {@link SchedulingConfig}).</li>
+ * </ul>
+ */
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class App {
 
+    /** Upper bound on recorded startup steps; a cold start records well under this. */
+    static final int STARTUP_STEP_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(App.class, args);
+        SpringApplication application = new SpringApplication(App.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        ConfigurableApplicationContext context = application.run(args);
+        if (context.getEnvironment().acceptsProfiles(Profiles.of("migrate"))) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
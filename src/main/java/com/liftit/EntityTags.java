@@ -0,0 +1,107 @@
+package com.liftit;
+
+import org.springframework.data.domain.Page;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Builds HTTP entity tags ({@code ETag} header values) for API responses.
+ *
+ * <p>Two flavours are produced:
+ * <ul>
+ *   <li><strong>Strong</strong> tags for a single resource, derived from its ID and
+ *       version timestamp ({@code updated_at}, or {@code completed_at} for immutable
+ *       workouts). Two responses with the same strong tag are byte-for-byte identical.</li>
+ *   <li><strong>Weak</strong> tags for collections and reference data, derived from a
+ *       64-bit FNV-1a hash of the parts that determine the representation. Weak tags
+ *       are sufficient for {@code If-None-Match} revalidation of {@code GET} requests.</li>
+ * </ul>
+ *
+ * <p>Spring compares {@code If-None-Match} against the {@code ETag} set on a
+ * {@link org.springframework.http.ResponseEntity} and replaces the body with an empty
+ * {@code 304 Not Modified} when they match, so controllers only need to attach the tag.
+ */
+public final class EntityTags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private EntityTags() {
+    }
+
+    /**
+     * Returns a strong entity tag for a single versioned resource.
+     *
+     * @param id      the resource ID; must not be null
+     * @param version the resource version timestamp; must not be null
+     * @return a quoted strong tag, e.g. {@code "42-1767261600000"}
+     */
+    public static String strong(Object id, Instant version) {
+        requireNonNull(id, "id");
+        requireNonNull(version, "version");
+        return "\"" + id + "-" + version.toEpochMilli() + "\"";
+    }
+
+    /**
+     * Returns a weak entity tag hashed from the given parts.
+     *
+     * <p>Parts are hashed in order using their {@link String#valueOf(Object)} form;
+     * {@code null} parts are hashed as the literal {@code "null"}.
+     *
+     * @param parts the values that determine the representation
+     * @return a weak tag, e.g. {@code W/"9f0c1b2a3d4e5f60"}
+     */
+    public static String weak(Object... parts) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Object part : parts) {
+            hash = mix(hash, String.valueOf(part));
+            hash = mix(hash, "|");
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Returns a weak entity tag for a page of versioned resources.
+     *
+     * <p>The tag covers the page coordinates, the total element count, and the
+     * ID and version of every element, so any insert, delete, or update that
+     * affects the page produces a different tag.
+     *
+     * @param page    the page of resources; must not be null
+     * @param id      extracts the resource ID; must not be null
+     * @param version extracts the resource version timestamp; must not be null
+     * @param <T>     the resource type
+     * @return a weak tag for the page
+     */
+    public static <T> String weakForPage(Page<T> page, Function<T, ?> id, Function<T, Instant> version) {
+        requireNonNull(page, "page");
+        requireNonNull(id, "id");
+        requireNonNull(version, "version");
+        Object[] parts = new Object[3 + page.getNumberOfElements() * 2];
+        parts[0] = page.getNumber();
+        parts[1] = page.getSize();
+        parts[2] = page.getTotalElements();
+        int i = 3;
+        for (T element : page.getContent()) {
+            parts[i++] = id.apply(element);
+            Instant v = version.apply(element);
+            parts[i++] = v == null ? null : v.toEpochMilli();
+        }
+        return weak(parts);
+    }
+
+    private static long mix(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static void requireNonNull(Object value, String fieldName) {
+        if (value == null) {
+            throw new IllegalArgumentException(fieldName + " must not be null");
+        }
+    }
+}
@@ -3,12 +3,17 @@ package com.liftit;
 import com.liftit.exercise.exception.DuplicateExerciseException;
 import com.liftit.exercise.exception.ExerciseNotFoundException;
 import com.liftit.exercise.exception.ExerciseOwnershipException;
+import com.liftit.job.exception.JobQueueFullException;
+import com.liftit.profiling.exception.ProfilingInProgressException;
+import com.liftit.user.exception.AccountDeletionPendingException;
 import com.liftit.user.exception.DuplicateProfileException;
 import com.liftit.user.exception.DuplicateUserException;
 import com.liftit.user.exception.UnauthorizedException;
 import com.liftit.workout.exception.WorkoutAlreadyCompletedException;
 import com.liftit.workout.exception.WorkoutNotFoundException;
 import com.liftit.workout.exception.WorkoutOwnershipException;
+import com.liftit.workout.exception.WorkoutTemplateNotFoundException;
+import com.liftit.workout.exception.WorkoutTemplateOwnershipException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -60,11 +65,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
     }
 
+    @ExceptionHandler(WorkoutTemplateNotFoundException.class)
+    public ResponseEntity<Void> handleWorkoutTemplateNotFound(WorkoutTemplateNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    }
+
+    @ExceptionHandler(WorkoutTemplateOwnershipException.class)
+    public ResponseEntity<Void> handleWorkoutTemplateOwnership(WorkoutTemplateOwnershipException ex) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+
     @ExceptionHandler(WorkoutAlreadyCompletedException.class)
     public ResponseEntity<Void> handleWorkoutAlreadyCompleted(WorkoutAlreadyCompletedException ex) {
         return ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<Void> handleJobQueueFull(JobQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "30").build();
+    }
+
+    @ExceptionHandler(ProfilingInProgressException.class)
+    public ResponseEntity<Void> handleProfilingInProgress(ProfilingInProgressException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @ExceptionHandler(AccountDeletionPendingException.class)
+    public ResponseEntity<Void> handleAccountDeletionPending(AccountDeletionPendingException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<Void> handleUnauthorized(UnauthorizedException ex) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
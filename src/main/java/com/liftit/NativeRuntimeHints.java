@@ -0,0 +1,159 @@
+package com.liftit;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import jakarta.persistence.Entity;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * GraalVM native-image hints for types and resources reached reflectively at runtime.
+ *
+ * <p>Registered on {@link App} via {@code @ImportRuntimeHints} and evaluated during AOT
+ * processing (on the JVM, at build time), so the application packages can be scanned
+ * instead of listing classes by hand — new entities and DTOs are picked up automatically:
+ * <ul>
+ *   <li><strong>JPA entities</strong> — every {@code @Entity} under {@code com.liftit}
+ *       (the package-private {@code *JpaEntity} classes): Hibernate instantiates them and
+ *       reads and writes their fields reflectively.</li>
+ *   <li><strong>API records</strong> — every {@code *Request}/{@code *Response} type under
+ *       {@code com.liftit}, plus the nested types they expose, for Jackson binding.</li>
+ *   <li><strong>Nimbus JOSE</strong> — the JWT parsing and RSA verification types used by
+ *       {@link com.liftit.auth.JwtAuthenticationStrategy}, including the shaded Gson map
+ *       that backs parsed claims.</li>
+ *   <li><strong>Liquibase</strong> — the changelog XML and SQL files, which are loaded as
+ *       classpath resources.</li>
+ *   <li><strong>Ports and services</strong> — every {@code com.liftit.<domain>.*Repository}
+ *       and {@code *Service} interface, plus the JDBC connection and statement interfaces,
+ *       for the JDK proxies behind {@link com.liftit.profiling.RepositoryCallEvent repository
+ *       call events} and tracing.</li>
+ * </ul>
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String BASE_PACKAGE = "com.liftit";
+    static final String CHANGELOG_PATTERN = "db/changelog/*";
+
+    private static final Pattern API_RECORD = Pattern.compile("com\\.liftit\\..*(Request|Response)");
+    private static final Pattern PROXIED_INTERFACE =
+            Pattern.compile("com\\.liftit\\.[a-z]+\\.[A-Za-z]+(Repository|Service)");
+
+    private static final List<Class<?>> JDBC_PROXY_TYPES = List.of(
+            Connection.class,
+            Statement.class,
+            PreparedStatement.class,
+            CallableStatement.class
+    );
+
+    private static final List<String> NIMBUS_INTERNAL_TYPES = List.of(
+            "com.nimbusds.jose.shaded.gson.internal.LinkedTreeMap"
+    );
+
+    private static final List<Class<?>> NIMBUS_TYPES = List.of(
+            SignedJWT.class,
+            JWTClaimsSet.class,
+            JWSHeader.class,
+            JWSAlgorithm.class,
+            JOSEObjectType.class,
+            RSASSAVerifier.class,
+            Base64URL.class
+    );
+
+    /** Records nested in API responses that do not follow the Request/Response naming. */
+    private static final List<String> EXTRA_API_TYPES = List.of(
+            "com.liftit.bootstrap.BootstrapSection",
+            "com.liftit.exercise.ExerciseCategory",
+            "com.liftit.exercise.ExerciseFacets",
+            "com.liftit.workout.ExerciseProgress$Point"
+    );
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        registerEntities(hints);
+        registerApiRecords(hints, classLoader);
+        registerNimbus(hints);
+        registerProxies(hints);
+        hints.resources().registerPattern(CHANGELOG_PATTERN);
+    }
+
+    private void registerEntities(RuntimeHints hints) {
+        for (String className : scan(new AnnotationTypeFilter(Entity.class))) {
+            hints.reflection().registerType(TypeReference.of(className),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+    }
+
+    private void registerApiRecords(RuntimeHints hints, ClassLoader classLoader) {
+        Stream.concat(scan(new RegexPatternTypeFilter(API_RECORD)).stream(), EXTRA_API_TYPES.stream())
+                .map(className -> ClassUtils.resolveClassName(className, classLoader))
+                .forEach(type -> bindingRegistrar.registerReflectionHints(hints.reflection(), type));
+    }
+
+    private void registerNimbus(RuntimeHints hints) {
+        for (Class<?> type : NIMBUS_TYPES) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        for (String className : NIMBUS_INTERNAL_TYPES) {
+            hints.reflection().registerType(TypeReference.of(className),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+    }
+
+    private void registerProxies(RuntimeHints hints) {
+        for (String className : scanInterfaces(new RegexPatternTypeFilter(PROXIED_INTERFACE))) {
+            hints.proxies().registerJdkProxy(TypeReference.of(className));
+        }
+        for (Class<?> type : JDBC_PROXY_TYPES) {
+            hints.proxies().registerJdkProxy(type);
+        }
+    }
+
+    private static List<String> scan(TypeFilter filter) {
+        return scan(new ClassPathScanningCandidateComponentProvider(false), filter);
+    }
+
+    private static List<String> scanInterfaces(TypeFilter filter) {
+        return scan(new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        }, filter);
+    }
+
+    private static List<String> scan(ClassPathScanningCandidateComponentProvider scanner, TypeFilter filter) {
+        scanner.addIncludeFilter(filter);
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(BASE_PACKAGE);
+        return candidates.stream().map(BeanDefinition::getBeanClassName).sorted().toList();
+    }
+}
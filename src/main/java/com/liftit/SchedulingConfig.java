@@ -0,0 +1,19 @@
+package com.liftit;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods on serving nodes only.
+ *
+ * <p>Scheduled tasks start when the context refreshes, before the {@code migrate} run mode
+ * exits; enabled there, a migrate run would lease jobs and deliver outbox events only to
+ * interrupt them on the way out. Work that a migrate run must do, such as creating workout
+ * partitions, runs from an {@code ApplicationRunner} instead.
+ */
+@Configuration
+@Profile("!migrate")
+@EnableScheduling
+class SchedulingConfig {
+}
@@ -0,0 +1,97 @@
+package com.liftit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Logs how long each startup phase took once the application is ready.
+ *
+ * <p>{@link App#main} records startup steps in a {@link BufferingApplicationStartup}.
+ * When it is present this reporter logs one line with the context refresh time, the
+ * instantiation time of the infrastructure beans that dominate startup (data source,
+ * Liquibase, JPA), the schema fingerprint check, and the slowest other beans. With any
+ * other {@link ApplicationStartup} (e.g. in tests) nothing is logged.
+ */
+@Component
+class StartupPhaseReporter {
+
+    static final List<String> PHASE_BEANS =
+            List.of("dataSource", "liquibase", "entityManagerFactory", "schemaFingerprintVerifier");
+    static final int SLOWEST_BEANS = 5;
+
+    private static final Logger log = LoggerFactory.getLogger(StartupPhaseReporter.class);
+
+    @EventListener
+    void onReady(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (startup instanceof BufferingApplicationStartup buffering && log.isInfoEnabled()) {
+            log.info("Startup phases (total {} ms): {}", event.getTimeTaken().toMillis(),
+                    format(phases(buffering.getBufferedTimeline())));
+        }
+    }
+
+    /**
+     * Extracts the reported phases from a startup timeline, in reporting order: context
+     * refresh, the named infrastructure beans, the custom {@code liftit.*} steps, then the
+     * {@link #SLOWEST_BEANS} slowest remaining bean instantiations.
+     */
+    static Map<String, Duration> phases(StartupTimeline timeline) {
+        Map<String, Duration> phases = new LinkedHashMap<>();
+        Map<String, Duration> named = new LinkedHashMap<>();
+        Map<String, Duration> custom = new LinkedHashMap<>();
+        List<Map.Entry<String, Duration>> otherBeans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            String name = step.getName();
+            if ("spring.context.refresh".equals(name)) {
+                phases.put("context.refresh", event.getDuration());
+            } else if (name.startsWith("liftit.")) {
+                custom.put(name.substring("liftit.".length()), event.getDuration());
+            } else if ("spring.beans.instantiate".equals(name)) {
+                String bean = tag(step, "beanName");
+                if (PHASE_BEANS.contains(bean)) {
+                    named.put(bean, event.getDuration());
+                } else if (bean != null) {
+                    otherBeans.add(Map.entry(bean, event.getDuration()));
+                }
+            }
+        }
+        PHASE_BEANS.stream().filter(named::containsKey).forEach(bean -> phases.put(bean, named.get(bean)));
+        phases.putAll(custom);
+        otherBeans.stream()
+                .sorted(Map.Entry.<String, Duration>comparingByValue(Comparator.reverseOrder()))
+                .limit(SLOWEST_BEANS)
+                .forEach(entry -> phases.put(entry.getKey(), entry.getValue()));
+        return phases;
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String format(Map<String, Duration> phases) {
+        return phases.entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue().toMillis() + "ms")
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -2,6 +2,9 @@ package com.liftit.auth;
 
 import com.liftit.auth.exception.AuthenticationException;
 import com.liftit.auth.exception.InvalidTokenException;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,6 +13,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
 
 import java.io.IOException;
 import java.util.List;
@@ -22,12 +26,17 @@ import java.util.Optional;
  * the {@code Authorization} header, validates it using {@link AuthenticationService},
  * and populates the {@link SecurityContextHolder} on success.
  *
- * <p>The user-provisioning endpoint ({@code POST /api/v1/users/me}) is excluded from
- * token validation via {@link #shouldNotFilter}. Login, registration, and token refresh
+ * <p>The user-provisioning endpoint ({@code POST /api/v1/users/me}) and the health
+ * probes ({@code GET /actuator/health/**}) are excluded from token validation via
+ * {@link #shouldNotFilter}. Login, registration, and token refresh
  * are handled entirely by Auth0's hosted UI — the client never calls this server for those.
  *
  * <p>Returns {@code 401 Unauthorized} immediately for missing or invalid tokens
  * without invoking downstream filters.
+ *
+ * <p>Token validation is observed as {@code liftit.auth}, so traces separate it from the
+ * handler, and the authenticated subject is added to the request's observation as
+ * {@code enduser.id}.
  */
 public class AuthenticationFilter extends OncePerRequestFilter {
 
@@ -36,9 +45,14 @@ public class AuthenticationFilter extends OncePerRequestFilter {
     private static final String INVALID_TOKEN_MSG = "Invalid or expired token";
 
     private static final String PUBLIC_URI = "/api/v1/users/me";
+    private static final String HEALTH_URI = "/actuator/health";
+
+    static final String AUTH_OBSERVATION = "liftit.auth";
+    static final String USER_KEY = "enduser.id";
 
     private final AuthenticationService authenticationService;
     private final BearerTokenExtractor tokenExtractor;
+    private final ObservationRegistry observationRegistry;
 
     /**
      * @param authenticationService validates JWT bearer tokens; must not be null
@@ -47,19 +61,37 @@ public class AuthenticationFilter extends OncePerRequestFilter {
     public AuthenticationFilter(
             AuthenticationService authenticationService,
             BearerTokenExtractor tokenExtractor) {
+        this(authenticationService, tokenExtractor, ObservationRegistry.NOOP);
+    }
+
+    /**
+     * @param authenticationService validates JWT bearer tokens; must not be null
+     * @param tokenExtractor        extracts token strings from header values; must not be null
+     * @param observationRegistry   records the {@code liftit.auth} observation; must not be null
+     */
+    public AuthenticationFilter(
+            AuthenticationService authenticationService,
+            BearerTokenExtractor tokenExtractor,
+            ObservationRegistry observationRegistry) {
         this.authenticationService = authenticationService;
         this.tokenExtractor = tokenExtractor;
+        this.observationRegistry = observationRegistry;
     }
 
     /**
-     * Skips token validation for the user-provisioning endpoint.
+     * Skips token validation for the user-provisioning endpoint and the health probes.
      *
-     * <p>Only {@code POST /api/v1/users/me} is public; all other paths require a bearer token.
+     * <p>Only {@code POST /api/v1/users/me} and {@code GET /actuator/health} (with its
+     * {@code liveness} and {@code readiness} groups) are public; all other paths require a
+     * bearer token.
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        return HttpMethod.POST.matches(request.getMethod())
-                && PUBLIC_URI.equals(request.getRequestURI());
+        String uri = request.getRequestURI();
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            return uri.equals(HEALTH_URI) || uri.startsWith(HEALTH_URI + "/");
+        }
+        return HttpMethod.POST.matches(request.getMethod()) && PUBLIC_URI.equals(uri);
     }
 
     @Override
@@ -74,9 +106,12 @@ public class AuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         try {
-            AuthenticationResult result = authenticationService.authenticate(
-                    Credentials.bearer(rawToken.get()));
+            AuthenticationResult result = Observation.createNotStarted(AUTH_OBSERVATION, observationRegistry)
+                    .contextualName("authenticate")
+                    .observe(() -> authenticationService.authenticate(Credentials.bearer(rawToken.get())));
             populateSecurityContext(result);
+            ServerHttpObservationFilter.findObservationContext(request).ifPresent(context ->
+                    context.addHighCardinalityKeyValue(KeyValue.of(USER_KEY, result.auth0Id().value())));
             filterChain.doFilter(request, response);
         } catch (InvalidTokenException | AuthenticationException ex) {
             SecurityContextHolder.clearContext();
@@ -1,6 +1,7 @@
 package com.liftit.auth;
 
 import com.liftit.auth.exception.InvalidTokenException;
+import com.liftit.profiling.JwtVerificationEvent;
 import com.liftit.user.Auth0Id;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
@@ -17,6 +18,7 @@ import java.util.Date;
  * extracts the {@code sub} claim as the {@link Auth0Id} of the authenticated principal.
  *
  * <p>Throws {@link InvalidTokenException} for expired, malformed, or signature-invalid tokens.
+ * Each verification is timed as a {@link JwtVerificationEvent} for JFR.
  */
 public class JwtAuthenticationStrategy implements AuthenticationStrategy {
 
@@ -42,11 +44,21 @@ public class JwtAuthenticationStrategy implements AuthenticationStrategy {
      */
     @Override
     public AuthenticationResult execute(Credentials credentials) {
-        SignedJWT jwt = parse(credentials.value());
-        verifySignature(jwt);
-        verifyNotExpired(jwt);
-        Auth0Id auth0Id = extractSubject(jwt);
-        return AuthenticationResult.of(Token.of(credentials.value()), auth0Id);
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        try {
+            SignedJWT jwt = parse(credentials.value());
+            verifySignature(jwt);
+            verifyNotExpired(jwt);
+            Auth0Id auth0Id = extractSubject(jwt);
+            event.valid = true;
+            return AuthenticationResult.of(Token.of(credentials.value()), auth0Id);
+        } catch (InvalidTokenException e) {
+            event.failure = e.getMessage();
+            throw e;
+        } finally {
+            event.commit();
+        }
     }
 
     private SignedJWT parse(String raw) {
@@ -1,13 +1,16 @@
 package com.liftit.auth;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -16,6 +19,7 @@ import java.security.interfaces.RSAPublicKey;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Spring Security configuration for the LiftIt API.
@@ -26,16 +30,23 @@ import java.util.List;
  *
  * <p>The RSA public key for JWT signature verification is loaded from the
  * {@code security.jwt.public-key} property (PEM-encoded PKCS#8 SubjectPublicKeyInfo).
+ *
+ * <p>Auth0 tokens carry no roles, so operator endpoints under {@code /api/v1/admin} are
+ * limited to the Auth0 subjects listed in {@code liftit.admin.subjects}; with none listed,
+ * they are closed to everyone.
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     private final String rsaPublicKeyPem;
+    private final Set<String> adminSubjects;
 
     public SecurityConfig(
-            @Value("${security.jwt.public-key}") String rsaPublicKeyPem) {
+            @Value("${security.jwt.public-key}") String rsaPublicKeyPem,
+            @Value("${liftit.admin.subjects:}") Set<String> adminSubjects) {
         this.rsaPublicKeyPem = rsaPublicKeyPem;
+        this.adminSubjects = Set.copyOf(adminSubjects);
     }
 
     /**
@@ -44,11 +55,14 @@ public class SecurityConfig {
      * <p>Public endpoints (no token required):
      * <ul>
      *   <li>{@code POST /api/v1/users/me} — user provisioning (bootstrap after first Auth0 login)
+     *   <li>{@code GET /actuator/health/**} — liveness and readiness probes
      * </ul>
      *
      * <p>Login, registration, and token refresh are handled entirely by Auth0's hosted UI.
      * The client obtains a JWT directly from Auth0 and presents it as a bearer token.
-     * All other {@code /api/**} routes require a valid JWT bearer token.
+     * {@code /api/v1/admin/**} routes additionally require the token's subject to be one of
+     * {@code liftit.admin.subjects}. All other {@code /api/**} routes require a valid JWT
+     * bearer token.
      */
     @Bean
     public SecurityFilterChain securityFilterChain(
@@ -58,6 +72,9 @@ public class SecurityConfig {
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.POST, "/api/v1/users/me").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/api/v1/admin/**").access((authentication, context) ->
+                                new AuthorizationDecision(isAdmin(authentication.get())))
                         .anyRequest().authenticated())
                 .addFilterBefore(authFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
@@ -81,8 +98,15 @@ public class SecurityConfig {
     @Bean
     public AuthenticationFilter authenticationFilter(
             AuthenticationService authenticationService,
-            BearerTokenExtractor bearerTokenExtractor) {
-        return new AuthenticationFilter(authenticationService, bearerTokenExtractor);
+            BearerTokenExtractor bearerTokenExtractor,
+            ObservationRegistry observationRegistry) {
+        return new AuthenticationFilter(authenticationService, bearerTokenExtractor, observationRegistry);
+    }
+
+    boolean isAdmin(Authentication authentication) {
+        return authentication != null
+                && authentication.isAuthenticated()
+                && adminSubjects.contains(authentication.getName());
     }
 
     private RSAPublicKey parsePublicKey(String pem) {
@@ -0,0 +1,88 @@
+package com.liftit.bootstrap;
+
+import com.liftit.user.Auth0Id;
+import com.liftit.user.User;
+import com.liftit.user.UserRepository;
+import com.liftit.user.exception.UnauthorizedException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller serving the app-launch payload.
+ *
+ * <p>Replaces the five sequential launch calls (catalog, categories, muscle groups,
+ * profile, workout history) with one authenticated round trip: the JWT is verified and
+ * the user is resolved once, then the sections are read concurrently by
+ * {@link BootstrapService}.
+ *
+ * <p>Clients pass the section versions they already hold as query parameters; those
+ * sections come back with {@code modified=false} and no data.
+ */
+@Tag(name = "Bootstrap", description = "App launch endpoint")
+@RestController
+@RequestMapping("/api/v1/bootstrap")
+public class BootstrapController {
+
+    private final BootstrapService bootstrapService;
+    private final UserRepository userRepository;
+
+    public BootstrapController(BootstrapService bootstrapService, UserRepository userRepository) {
+        this.bootstrapService = bootstrapService;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Returns everything the client needs at launch.
+     *
+     * @param catalog      known catalog version; optional
+     * @param categories   known categories version; optional
+     * @param muscleGroups known muscle groups version; optional
+     * @param profile      known profile version; optional
+     * @param workouts     known recent workouts version; optional
+     * @return {@code 200 OK} with the bootstrap payload
+     */
+    @Operation(summary = "Load catalog, reference data, profile and workouts in one call")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Bootstrap payload"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @GetMapping
+    public ResponseEntity<BootstrapResponse> bootstrap(
+            @RequestParam(required = false) String catalog,
+            @RequestParam(required = false) String categories,
+            @RequestParam(required = false) String muscleGroups,
+            @RequestParam(required = false) String profile,
+            @RequestParam(required = false) String workouts) {
+        Long userId = resolveUserId();
+        BootstrapVersions known = new BootstrapVersions(catalog, categories, muscleGroups, profile, workouts);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(bootstrapService.load(userId, known));
+    }
+
+    /**
+     * Resolves the internal userId from the JWT principal stored in the security context.
+     *
+     * <p>Returns {@code 401 Unauthorized} if no authentication is present or the
+     * auth0Id is not found in the users table.
+     */
+    private Long resolveUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null) {
+            throw new UnauthorizedException();
+        }
+        return userRepository.findByAuth0Id(Auth0Id.of(authentication.getName()))
+                .map(User::id)
+                .orElseThrow(UnauthorizedException::new);
+    }
+}
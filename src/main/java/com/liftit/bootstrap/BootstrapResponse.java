@@ -0,0 +1,31 @@
+package com.liftit.bootstrap;
+
+import com.liftit.exercise.ExerciseCategory;
+import com.liftit.exercise.ExerciseResponse;
+import com.liftit.muscle.MuscleEnum;
+import com.liftit.user.UserProfileResponse;
+import com.liftit.workout.WorkoutResponse;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * API response for {@code GET /api/v1/bootstrap}: everything the client needs at launch
+ * in a single payload.
+ *
+ * @param catalog       the first page of the exercise catalog
+ * @param categories    all exercise categories
+ * @param muscleGroups  all muscle groups
+ * @param profile       the caller's profile; data is null if no profile exists
+ * @param workouts      the caller's most recent workouts, most recent first
+ * @param activeWorkout the caller's in-progress workout, or {@code null} if none
+ */
+public record BootstrapResponse(
+        BootstrapSection<Page<ExerciseResponse>> catalog,
+        BootstrapSection<List<ExerciseCategory>> categories,
+        BootstrapSection<List<MuscleEnum>> muscleGroups,
+        BootstrapSection<UserProfileResponse> profile,
+        BootstrapSection<Page<WorkoutResponse>> workouts,
+        WorkoutResponse activeWorkout
+) {
+}
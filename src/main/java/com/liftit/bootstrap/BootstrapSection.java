@@ -0,0 +1,40 @@
+package com.liftit.bootstrap;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * One independently versioned section of the {@link BootstrapResponse}.
+ *
+ * <p>{@code version} is the same entity tag the section's standalone endpoint returns
+ * as its {@code ETag}, so clients may use the two interchangeably. When the client
+ * already holds the current version, {@code modified} is {@code false} and {@code data}
+ * is omitted ({@code null}); the client keeps its cached copy.
+ *
+ * @param version  the current version of the section; may be null if the resource does not exist
+ * @param modified {@code true} if {@code data} is included
+ * @param data     the section payload, or {@code null} if unmodified or absent
+ * @param <T>      the payload type
+ */
+public record BootstrapSection<T>(String version, boolean modified, T data) {
+
+    /**
+     * Builds a section, materialising the payload only when the client's known
+     * version differs from the current one.
+     *
+     * @param version the current version; may be null
+     * @param known   the version the client already holds; may be null
+     * @param data    supplies the payload; must not be null
+     * @param <T>     the payload type
+     * @return a new section
+     */
+    public static <T> BootstrapSection<T> of(String version, String known, Supplier<T> data) {
+        if (data == null) {
+            throw new IllegalArgumentException("data must not be null");
+        }
+        if (Objects.equals(version, known)) {
+            return new BootstrapSection<>(version, false, null);
+        }
+        return new BootstrapSection<>(version, true, data.get());
+    }
+}
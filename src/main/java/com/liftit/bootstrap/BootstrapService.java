@@ -0,0 +1,19 @@
+package com.liftit.bootstrap;
+
+/**
+ * Application service that assembles the app-launch payload.
+ *
+ * <p>Callers depend on this abstraction (Dependency Inversion Principle).
+ */
+public interface BootstrapService {
+
+    /**
+     * Loads every bootstrap section for the given user, omitting the payload of
+     * sections whose version the client already holds.
+     *
+     * @param userId the ID of the authenticated user; must not be null
+     * @param known  the section versions the client already holds; must not be null
+     * @return the bootstrap payload
+     */
+    BootstrapResponse load(Long userId, BootstrapVersions known);
+}
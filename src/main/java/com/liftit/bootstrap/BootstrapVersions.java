@@ -0,0 +1,30 @@
+package com.liftit.bootstrap;
+
+/**
+ * Section versions the client already holds from a previous bootstrap or from the
+ * standalone endpoints' {@code ETag} headers. Any field may be null, meaning the client
+ * has no cached copy of that section.
+ *
+ * @param catalog       known version of the first exercise catalog page
+ * @param categories    known version of the exercise categories
+ * @param muscleGroups  known version of the muscle groups
+ * @param profile       known version of the user's profile
+ * @param workouts      known version of the recent workouts page
+ */
+public record BootstrapVersions(
+        String catalog,
+        String categories,
+        String muscleGroups,
+        String profile,
+        String workouts
+) {
+
+    /**
+     * Returns versions for a client with no cached data.
+     *
+     * @return a {@code BootstrapVersions} with all fields null
+     */
+    public static BootstrapVersions none() {
+        return new BootstrapVersions(null, null, null, null, null);
+    }
+}
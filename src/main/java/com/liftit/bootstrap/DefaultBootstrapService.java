@@ -0,0 +1,181 @@
+package com.liftit.bootstrap;
+
+import com.liftit.EntityTags;
+import com.liftit.exercise.Exercise;
+import com.liftit.exercise.ExerciseCategory;
+import com.liftit.exercise.ExerciseFilter;
+import com.liftit.exercise.ExerciseResponse;
+import com.liftit.exercise.ExerciseService;
+import com.liftit.exercise.ReferenceDataTags;
+import com.liftit.muscle.MuscleEnum;
+import com.liftit.user.UserProfile;
+import com.liftit.user.UserProfileResponse;
+import com.liftit.user.UserProfileService;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutResponse;
+import com.liftit.workout.WorkoutService;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Default implementation of {@link BootstrapService}.
+ *
+ * <p>The section reads are independent, so they run concurrently on virtual threads —
+ * one per section — and the request costs roughly the slowest read rather than the sum.
+ * The fan-out is scoped to the call: the executor is closed (joining every task) before
+ * {@link #load} returns, and the first failing section cancels the rest and propagates
+ * its exception unchanged so {@link com.liftit.GlobalExceptionHandler} maps it as usual.
+ * The caller's thread-local context, including the current trace, is propagated to each
+ * section so its spans stay part of the request's trace.
+ *
+ * <p>Each section read holds a pooled connection while it runs, so one bootstrap can take
+ * five at once. Section reads therefore share {@code liftit.bootstrap.max-concurrent-reads}
+ * permits across all requests; keep it well below
+ * {@code spring.datasource.hikari.maximum-pool-size} so a burst of app launches queues here
+ * instead of draining the pool every other endpoint needs.
+ *
+ * <p>Categories and muscle groups are versioned by constant tags, so when the client
+ * already holds them they are skipped without touching the database.
+ */
+@Service
+public class DefaultBootstrapService implements BootstrapService {
+
+    /** Matches the default page size of the standalone list endpoints so versions agree. */
+    static final int PAGE_SIZE = 20;
+
+    private static final ContextSnapshotFactory CONTEXT = ContextSnapshotFactory.builder().build();
+
+    private final ExerciseService exerciseService;
+    private final UserProfileService userProfileService;
+    private final WorkoutService workoutService;
+    private final Semaphore reads;
+
+    public DefaultBootstrapService(
+            ExerciseService exerciseService,
+            UserProfileService userProfileService,
+            WorkoutService workoutService,
+            @Value("${liftit.bootstrap.max-concurrent-reads:5}") int maxConcurrentReads) {
+        if (exerciseService == null) {
+            throw new IllegalArgumentException("exerciseService must not be null");
+        }
+        if (userProfileService == null) {
+            throw new IllegalArgumentException("userProfileService must not be null");
+        }
+        if (workoutService == null) {
+            throw new IllegalArgumentException("workoutService must not be null");
+        }
+        if (maxConcurrentReads < 1) {
+            throw new IllegalArgumentException("liftit.bootstrap.max-concurrent-reads must be at least 1");
+        }
+        this.exerciseService = exerciseService;
+        this.userProfileService = userProfileService;
+        this.workoutService = workoutService;
+        this.reads = new Semaphore(maxConcurrentReads);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BootstrapResponse load(Long userId, BootstrapVersions known) {
+        requireNonNull(userId, "userId");
+        requireNonNull(known, "known");
+        try (ExecutorService executor =
+                ContextExecutorService.wrap(Executors.newVirtualThreadPerTaskExecutor(), CONTEXT)) {
+            Future<BootstrapSection<Page<ExerciseResponse>>> catalog =
+                    executor.submit(bounded(() -> loadCatalog(known.catalog())));
+            Future<BootstrapSection<List<ExerciseCategory>>> categories =
+                    executor.submit(bounded(() -> BootstrapSection.of(ReferenceDataTags.CATEGORIES_VERSION,
+                            known.categories(), exerciseService::getCategories)));
+            Future<BootstrapSection<List<MuscleEnum>>> muscleGroups =
+                    executor.submit(bounded(() -> BootstrapSection.of(ReferenceDataTags.MUSCLE_GROUPS_VERSION,
+                            known.muscleGroups(), exerciseService::getMuscleGroups)));
+            Future<BootstrapSection<UserProfileResponse>> profile =
+                    executor.submit(bounded(() -> loadProfile(userId, known.profile())));
+            Future<Page<Workout>> workouts = executor.submit(bounded(() -> workoutService.listByUser(userId,
+                    PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "startedAt")))));
+
+            List<Future<?>> all = List.of(catalog, categories, muscleGroups, profile, workouts);
+            Page<Workout> recent = join(workouts, all);
+            return new BootstrapResponse(
+                    join(catalog, all),
+                    join(categories, all),
+                    join(muscleGroups, all),
+                    join(profile, all),
+                    BootstrapSection.of(EntityTags.weakForPage(recent, Workout::id, Workout::version),
+                            known.workouts(), () -> recent.map(WorkoutResponse::from)),
+                    activeWorkout(recent).map(WorkoutResponse::from).orElse(null));
+        }
+    }
+
+    /** Runs {@code read} once one of the shared read permits is free. */
+    private <T> Callable<T> bounded(Callable<T> read) {
+        return () -> {
+            reads.acquire();
+            try {
+                return read.call();
+            } finally {
+                reads.release();
+            }
+        };
+    }
+
+    private BootstrapSection<Page<ExerciseResponse>> loadCatalog(String known) {
+        Page<Exercise> page = exerciseService.list(ExerciseFilter.empty(), PageRequest.of(0, PAGE_SIZE));
+        return BootstrapSection.of(EntityTags.weakForPage(page, Exercise::id, Exercise::updatedAt),
+                known, () -> page.map(ExerciseResponse::from));
+    }
+
+    private BootstrapSection<UserProfileResponse> loadProfile(Long userId, String known) {
+        Optional<UserProfile> profile = userProfileService.getProfile(userId);
+        String version = profile.map(p -> EntityTags.strong(p.id(), p.updatedAt())).orElse(null);
+        return BootstrapSection.of(version, known,
+                () -> profile.map(UserProfileResponse::from).orElse(null));
+    }
+
+    /**
+     * The active workout is the most recently started one, provided it is still in
+     * progress; it is therefore the head of the recent-workouts page.
+     */
+    private static Optional<Workout> activeWorkout(Page<Workout> recent) {
+        return recent.getContent().stream().findFirst().filter(Workout::isInProgress);
+    }
+
+    /**
+     * Waits for one section; on failure cancels every other section and rethrows the
+     * original cause.
+     */
+    private static <T> T join(Future<T> future, List<Future<?>> all) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            all.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bootstrap interrupted", e);
+        } catch (ExecutionException e) {
+            all.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Bootstrap section failed", e.getCause());
+        }
+    }
+
+    private static void requireNonNull(Object value, String fieldName) {
+        if (value == null) {
+            throw new IllegalArgumentException(fieldName + " must not be null");
+        }
+    }
+}
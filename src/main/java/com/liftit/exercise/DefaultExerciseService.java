@@ -11,13 +11,15 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Default implementation of {@link ExerciseService}.
  *
  * <p>Enforces ownership checks (users may only modify their own exercises),
  * name uniqueness, and delegates persistence to {@link ExerciseRepository}
- * and category lookup to {@link ExerciseCategoryRepository}.
+ * and category lookup to {@link ExerciseCategoryRepository}. Every create, update and
+ * delete schedules an incremental update of the {@link ExerciseSimilarityIndex}.
  *
  * <p>The database assigns the real {@code BIGINT IDENTITY} primary key;
  * {@code 0L} is used for unsaved exercise IDs.
@@ -29,18 +31,24 @@ public class DefaultExerciseService implements ExerciseService {
 
     private final ExerciseRepository exerciseRepository;
     private final ExerciseCategoryRepository categoryRepository;
+    private final ExerciseSimilarityIndex similarityIndex;
 
     public DefaultExerciseService(
             ExerciseRepository exerciseRepository,
-            ExerciseCategoryRepository categoryRepository) {
+            ExerciseCategoryRepository categoryRepository,
+            ExerciseSimilarityIndex similarityIndex) {
         if (exerciseRepository == null) {
             throw new IllegalArgumentException("exerciseRepository must not be null");
         }
         if (categoryRepository == null) {
             throw new IllegalArgumentException("categoryRepository must not be null");
         }
+        if (similarityIndex == null) {
+            throw new IllegalArgumentException("similarityIndex must not be null");
+        }
         this.exerciseRepository = exerciseRepository;
         this.categoryRepository = categoryRepository;
+        this.similarityIndex = similarityIndex;
     }
 
     /** {@inheritDoc} */
@@ -49,7 +57,9 @@ public class DefaultExerciseService implements ExerciseService {
         requireNonNull(request, "request");
         requireNonNull(userId, "userId");
         checkNameAvailable(request.name());
-        return exerciseRepository.save(buildNewExercise(request, userId));
+        Exercise created = exerciseRepository.save(buildNewExercise(request, userId));
+        similarityIndex.refresh(created.id());
+        return created;
     }
 
     /** {@inheritDoc} */
@@ -70,7 +80,9 @@ public class DefaultExerciseService implements ExerciseService {
                 .orElseThrow(() -> new ExerciseNotFoundException(id));
         checkOwnership(existing, userId);
         checkNameAvailableForUpdate(request.name(), id);
-        return exerciseRepository.save(applyUpdate(existing, request));
+        Exercise updated = exerciseRepository.save(applyUpdate(existing, request));
+        similarityIndex.refresh(id);
+        return updated;
     }
 
     /** {@inheritDoc} */
@@ -81,7 +93,9 @@ public class DefaultExerciseService implements ExerciseService {
         Exercise existing = exerciseRepository.findById(id)
                 .orElseThrow(() -> new ExerciseNotFoundException(id));
         checkOwnership(existing, userId);
+        Set<Long> dependents = similarityIndex.dependentsOf(id);
         exerciseRepository.delete(id);
+        similarityIndex.recompute(dependents);
     }
 
     /** {@inheritDoc} */
@@ -92,6 +106,26 @@ public class DefaultExerciseService implements ExerciseService {
         return exerciseRepository.findAll(filter, pageable);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<SimilarExercise> similar(Long id, int limit) {
+        requireNonNull(id, "id");
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        if (exerciseRepository.findById(id).isEmpty()) {
+            throw new ExerciseNotFoundException(id);
+        }
+        return similarityIndex.findSimilar(id, limit);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ExerciseFacets facets(ExerciseFilter filter) {
+        requireNonNull(filter, "filter");
+        return exerciseRepository.countFacets(filter);
+    }
+
     /** {@inheritDoc} */
     @Override
     public List<ExerciseCategory> getCategories() {
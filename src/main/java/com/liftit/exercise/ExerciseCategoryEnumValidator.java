@@ -2,6 +2,7 @@ package com.liftit.exercise;
 
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -11,13 +12,17 @@ import java.util.stream.Stream;
 
 /**
  * Validates that {@link ExerciseCategoryEnum} constants are in sync with the
- * {@code exercise_categories} reference table at application startup.
+ * {@code exercise_categories} reference table when migrations are applied.
  *
  * <p>Throws {@link IllegalStateException} if the enum and table diverge — either
  * in count or in the set of IDs present. This ensures the Java enum and the
  * database seed never silently fall out of sync.
+ *
+ * <p>Active only under the {@code migrate} profile: the categories are seeded by a
+ * changeset, so the check belongs with the run that applies it.
  */
 @Component
+@Profile("migrate")
 class ExerciseCategoryEnumValidator implements ApplicationRunner {
 
     private final ExerciseCategoryRepository exerciseCategoryRepository;
@@ -1,5 +1,6 @@
 package com.liftit.exercise;
 
+import com.liftit.EntityTags;
 import com.liftit.muscle.MuscleEnum;
 import com.liftit.user.Auth0Id;
 import com.liftit.user.User;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -25,8 +27,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for exercise management.
@@ -41,12 +46,21 @@ import java.util.List;
  * <h3>Authorization</h3>
  * <p>All endpoints require authentication. Update and delete operations additionally
  * require that the authenticated user is the creator of the exercise.
+ *
+ * <h3>Conditional requests</h3>
+ * <p>Read endpoints attach an {@code ETag} (see {@link EntityTags}) so clients can
+ * revalidate with {@code If-None-Match} and receive an empty {@code 304 Not Modified}.
+ * Categories and muscle groups are fixed at startup by the enum validators, so their
+ * tags are constants and a matching request is answered before the database is touched.
  */
 @Tag(name = "Exercises", description = "Exercise management endpoints")
 @RestController
 @RequestMapping("/api/v1/exercises")
 public class ExerciseController {
 
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    private static final CacheControl REFERENCE_DATA = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+
     private final ExerciseService exerciseService;
     private final UserRepository userRepository;
 
@@ -78,19 +92,56 @@ public class ExerciseController {
     /**
      * Returns a single exercise by ID.
      *
+     * <p>The response carries a strong {@code ETag} and {@code Last-Modified} derived
+     * from {@code updatedAt}.
+     *
      * @param id the exercise ID
-     * @return {@code 200 OK} with the exercise, or {@code 404 Not Found}
+     * @return {@code 200 OK} with the exercise, {@code 304 Not Modified}, or {@code 404 Not Found}
      */
     @Operation(summary = "Get an exercise by ID")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Exercise found"),
+        @ApiResponse(responseCode = "304", description = "Exercise unchanged since the supplied ETag"),
         @ApiResponse(responseCode = "401", description = "Not authenticated"),
         @ApiResponse(responseCode = "404", description = "Exercise not found")
     })
     @GetMapping("/{id}")
     public ResponseEntity<ExerciseResponse> getById(@PathVariable Long id) {
         Exercise exercise = exerciseService.getById(id);
-        return ResponseEntity.ok(ExerciseResponse.from(exercise));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.strong(exercise.id(), exercise.updatedAt()))
+                .lastModified(exercise.updatedAt())
+                .cacheControl(REVALIDATE)
+                .body(ExerciseResponse.from(exercise));
+    }
+
+    /**
+     * Returns substitutes for an exercise, most similar first.
+     *
+     * <p>Scores combine muscle-group overlap, category, and how often the exercises are done
+     * in the same workout. They are read from a precomputed index, so the lookup does not
+     * depend on catalog size.
+     *
+     * @param id    the exercise ID
+     * @param limit maximum number of results (default 10)
+     * @return {@code 200 OK} with the similar exercises, {@code 400 Bad Request} if
+     *         {@code limit} is below 1, or {@code 404 Not Found}
+     */
+    @Operation(summary = "List exercises similar to an exercise")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Similar exercises, most similar first"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "404", description = "Exercise not found")
+    })
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarExerciseResponse>> similar(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SimilarExerciseResponse> similar = exerciseService.similar(id, limit).stream()
+                .map(SimilarExerciseResponse::from)
+                .toList();
+        return ResponseEntity.ok(similar);
     }
 
     /**
@@ -141,51 +192,126 @@ public class ExerciseController {
     /**
      * Returns a paginated, filtered list of exercises.
      *
-     * @param category    optional category filter
-     * @param muscleGroup optional muscle group filter
+     * @param category    optional categories; repeat or comma-separate to match any of several
+     * @param muscleGroup optional muscle groups; repeat or comma-separate for several
+     * @param muscleMatch whether exercises must target {@code ANY} (default) or {@code ALL}
+     *                    of the muscle groups
      * @param search      optional name substring search
      * @param page        zero-based page number (default 0)
      * @param size        page size (default 20)
-     * @return {@code 200 OK} with the page of exercises
+     * @return {@code 200 OK} with the page of exercises, or {@code 304 Not Modified}
+     *         when the page's weak {@code ETag} matches
      */
     @Operation(summary = "List exercises with optional filters and pagination")
-    @ApiResponse(responseCode = "200", description = "Paginated list of exercises")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Paginated list of exercises"),
+        @ApiResponse(responseCode = "304", description = "Page unchanged since the supplied ETag")
+    })
     @GetMapping
     public ResponseEntity<Page<ExerciseResponse>> list(
-            @RequestParam(required = false) ExerciseCategoryEnum category,
-            @RequestParam(required = false) MuscleEnum muscleGroup,
+            @RequestParam(required = false) Set<ExerciseCategoryEnum> category,
+            @RequestParam(required = false) Set<MuscleEnum> muscleGroup,
+            @RequestParam(defaultValue = "ANY") ExerciseFilter.MuscleMatch muscleMatch,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        ExerciseFilter filter = new ExerciseFilter(category, muscleGroup, muscleMatch, search);
+        Page<Exercise> exercises = exerciseService.list(filter, PageRequest.of(page, size));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.weakForPage(exercises, Exercise::id, Exercise::updatedAt))
+                .cacheControl(REVALIDATE)
+                .body(exercises.map(ExerciseResponse::from));
+    }
+
+    /**
+     * Returns a page of exercises together with facet counts for the same filter.
+     *
+     * <p>Takes the same parameters as {@link #list}. The facets count the whole filtered
+     * catalog, not just the page; see {@link ExerciseFacets} for how each one applies the
+     * filter.
+     *
+     * @param category    optional categories
+     * @param muscleGroup optional muscle groups
+     * @param muscleMatch whether exercises must target {@code ANY} (default) or {@code ALL}
+     *                    of the muscle groups
+     * @param search      optional name substring search
+     * @param page        zero-based page number (default 0)
+     * @param size        page size (default 20)
+     * @return {@code 200 OK} with the page and facets, or {@code 304 Not Modified} when the
+     *         weak {@code ETag} matches
+     */
+    @Operation(summary = "Search exercises and count them per category and muscle group")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page of exercises with facet counts"),
+        @ApiResponse(responseCode = "304", description = "Results unchanged since the supplied ETag")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ExerciseSearchResponse> search(
+            @RequestParam(required = false) Set<ExerciseCategoryEnum> category,
+            @RequestParam(required = false) Set<MuscleEnum> muscleGroup,
+            @RequestParam(defaultValue = "ANY") ExerciseFilter.MuscleMatch muscleMatch,
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
-        ExerciseFilter filter = new ExerciseFilter(category, muscleGroup, search);
-        Page<ExerciseResponse> result = exerciseService
-                .list(filter, PageRequest.of(page, size))
-                .map(ExerciseResponse::from);
-        return ResponseEntity.ok(result);
+        ExerciseFilter filter = new ExerciseFilter(category, muscleGroup, muscleMatch, search);
+        Page<Exercise> exercises = exerciseService.list(filter, PageRequest.of(page, size));
+        ExerciseFacets facets = exerciseService.facets(filter);
+        String pageTag = EntityTags.weakForPage(exercises, Exercise::id, Exercise::updatedAt);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.weak(pageTag, facets))
+                .cacheControl(REVALIDATE)
+                .body(ExerciseSearchResponse.of(exercises, facets));
     }
 
     /**
      * Returns all available exercise categories.
      *
-     * @return {@code 200 OK} with the list of categories
+     * @param webRequest the current request, used for {@code If-None-Match} evaluation
+     * @return {@code 200 OK} with the list of categories, or {@code 304 Not Modified}
      */
     @Operation(summary = "List all exercise categories")
-    @ApiResponse(responseCode = "200", description = "List of categories")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "List of categories"),
+        @ApiResponse(responseCode = "304", description = "Categories unchanged since the supplied ETag")
+    })
     @GetMapping("/categories")
-    public ResponseEntity<List<ExerciseCategory>> getCategories() {
-        return ResponseEntity.ok(exerciseService.getCategories());
+    public ResponseEntity<List<ExerciseCategory>> getCategories(WebRequest webRequest) {
+        if (webRequest.checkNotModified(ReferenceDataTags.CATEGORIES_VERSION)) {
+            return notModified(ReferenceDataTags.CATEGORIES_VERSION);
+        }
+        return ResponseEntity.ok()
+                .eTag(ReferenceDataTags.CATEGORIES_VERSION)
+                .cacheControl(REFERENCE_DATA)
+                .body(exerciseService.getCategories());
     }
 
     /**
      * Returns all available muscle groups.
      *
-     * @return {@code 200 OK} with the list of muscle groups
+     * @param webRequest the current request, used for {@code If-None-Match} evaluation
+     * @return {@code 200 OK} with the list of muscle groups, or {@code 304 Not Modified}
      */
     @Operation(summary = "List all muscle groups")
-    @ApiResponse(responseCode = "200", description = "List of muscle groups")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "List of muscle groups"),
+        @ApiResponse(responseCode = "304", description = "Muscle groups unchanged since the supplied ETag")
+    })
     @GetMapping("/muscle-groups")
-    public ResponseEntity<List<MuscleEnum>> getMuscleGroups() {
-        return ResponseEntity.ok(exerciseService.getMuscleGroups());
+    public ResponseEntity<List<MuscleEnum>> getMuscleGroups(WebRequest webRequest) {
+        if (webRequest.checkNotModified(ReferenceDataTags.MUSCLE_GROUPS_VERSION)) {
+            return notModified(ReferenceDataTags.MUSCLE_GROUPS_VERSION);
+        }
+        return ResponseEntity.ok()
+                .eTag(ReferenceDataTags.MUSCLE_GROUPS_VERSION)
+                .cacheControl(REFERENCE_DATA)
+                .body(exerciseService.getMuscleGroups());
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(REFERENCE_DATA)
+                .build();
     }
 
     /**
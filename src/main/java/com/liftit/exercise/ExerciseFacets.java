@@ -0,0 +1,50 @@
+package com.liftit.exercise;
+
+import com.liftit.muscle.MuscleEnum;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Facet counts for a filtered exercise catalog, e.g. "Chest (42)".
+ *
+ * <p>Each facet is counted against the rest of the filter, so a client can show how many
+ * exercises a value would contribute:
+ * <ul>
+ *   <li>{@code categories} ignores the filter's own categories and applies its muscle
+ *       groups and search;</li>
+ *   <li>{@code muscleGroups} applies the categories and search; with
+ *       {@link ExerciseFilter.MuscleMatch#ANY ANY} it ignores the selected muscle groups,
+ *       with {@link ExerciseFilter.MuscleMatch#ALL ALL} it counts within the current
+ *       results, since selecting another muscle can only narrow them.</li>
+ * </ul>
+ *
+ * <p>Every enum constant is present, with {@code 0} when nothing matches.
+ *
+ * @param total        the number of exercises matching the whole filter
+ * @param categories   exercise count per category
+ * @param muscleGroups exercise count per muscle group
+ */
+public record ExerciseFacets(
+        long total,
+        Map<ExerciseCategoryEnum, Long> categories,
+        Map<MuscleEnum, Long> muscleGroups
+) {
+
+    /**
+     * Compact constructor — fills absent keys with {@code 0} and makes the maps unmodifiable.
+     */
+    public ExerciseFacets {
+        categories = complete(ExerciseCategoryEnum.class, categories);
+        muscleGroups = complete(MuscleEnum.class, muscleGroups);
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> complete(Class<E> type, Map<E, Long> counts) {
+        Map<E, Long> complete = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            complete.put(value, counts == null ? 0L : counts.getOrDefault(value, 0L));
+        }
+        return Collections.unmodifiableMap(complete);
+    }
+}
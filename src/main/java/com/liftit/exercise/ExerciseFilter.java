@@ -2,28 +2,53 @@ package com.liftit.exercise;
 
 import com.liftit.muscle.MuscleEnum;
 
+import java.util.Set;
+
 /**
  * Filter parameters for listing exercises.
  *
- * <p>All fields are optional — a {@code null} value means "no filter on this field".
- * Use {@link #empty()} to create a filter that matches all exercises.
+ * <p>All fields are optional — an empty set or a {@code null} search means "no filter on
+ * this field". Set fields are copied and never {@code null}. Use {@link #empty()} to create
+ * a filter that matches all exercises.
  *
- * @param category    optional category filter
- * @param muscleGroup optional muscle group filter
- * @param search      optional name substring search (case-insensitive)
+ * @param categories   categories to match; an exercise matches if it is in any of them
+ * @param muscleGroups muscle groups to match, combined according to {@code muscleMatch}
+ * @param muscleMatch  whether an exercise must target any or all of {@code muscleGroups};
+ *                     defaults to {@link MuscleMatch#ANY}
+ * @param search       optional name substring search (case-insensitive)
  */
 public record ExerciseFilter(
-        ExerciseCategoryEnum category,
-        MuscleEnum muscleGroup,
+        Set<ExerciseCategoryEnum> categories,
+        Set<MuscleEnum> muscleGroups,
+        MuscleMatch muscleMatch,
         String search
 ) {
 
+    /** How the muscle groups of a filter are combined. */
+    public enum MuscleMatch {
+
+        /** The exercise targets at least one of the muscle groups. */
+        ANY,
+
+        /** The exercise targets every one of the muscle groups. */
+        ALL
+    }
+
+    /**
+     * Compact constructor — normalises absent values.
+     */
+    public ExerciseFilter {
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+        muscleGroups = muscleGroups == null ? Set.of() : Set.copyOf(muscleGroups);
+        muscleMatch = muscleMatch == null ? MuscleMatch.ANY : muscleMatch;
+    }
+
     /**
      * Returns a filter that matches all exercises (no restrictions).
      *
      * @return an empty filter
      */
     public static ExerciseFilter empty() {
-        return new ExerciseFilter(null, null, null);
+        return new ExerciseFilter(Set.of(), Set.of(), MuscleMatch.ANY, null);
     }
 }
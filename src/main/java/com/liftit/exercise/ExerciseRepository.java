@@ -50,6 +50,14 @@ public interface ExerciseRepository {
      */
     Page<Exercise> findAll(ExerciseFilter filter, Pageable pageable);
 
+    /**
+     * Counts exercises per category and per muscle group for the given filter, in one pass.
+     *
+     * @param filter the filter criteria; must not be null
+     * @return the facet counts, see {@link ExerciseFacets} for how each facet applies the filter
+     */
+    ExerciseFacets countFacets(ExerciseFilter filter);
+
     /**
      * Deletes the exercise with the given ID. If no such exercise exists, this is a no-op.
      *
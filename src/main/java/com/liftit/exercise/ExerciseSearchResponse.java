@@ -0,0 +1,27 @@
+package com.liftit.exercise;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * API response for an exercise search: one page of results plus facet counts for the
+ * whole filtered catalog.
+ *
+ * @param results the requested page of matching exercises
+ * @param facets  per-category and per-muscle-group counts for the filter
+ */
+public record ExerciseSearchResponse(
+        Page<ExerciseResponse> results,
+        ExerciseFacets facets
+) {
+
+    /**
+     * Builds the response from a page of domain exercises and their facets.
+     *
+     * @param exercises the page of exercises; must not be null
+     * @param facets    the facet counts; must not be null
+     * @return a new {@code ExerciseSearchResponse}
+     */
+    public static ExerciseSearchResponse of(Page<Exercise> exercises, ExerciseFacets facets) {
+        return new ExerciseSearchResponse(exercises.map(ExerciseResponse::from), facets);
+    }
+}
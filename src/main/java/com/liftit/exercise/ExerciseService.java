@@ -1,5 +1,6 @@
 package com.liftit.exercise;
 
+import com.liftit.muscle.MuscleEnum;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -64,6 +65,24 @@ public interface ExerciseService {
      */
     Page<Exercise> list(ExerciseFilter filter, Pageable pageable);
 
+    /**
+     * Returns the exercises most similar to the given one, most similar first.
+     *
+     * @param id    the exercise to find substitutes for; must not be null
+     * @param limit maximum number of results; must be at least 1
+     * @return the similar exercises, possibly fewer than {@code limit}
+     * @throws com.liftit.exercise.exception.ExerciseNotFoundException if no exercise has the given ID
+     */
+    List<SimilarExercise> similar(Long id, int limit);
+
+    /**
+     * Returns per-category and per-muscle-group exercise counts for a filter.
+     *
+     * @param filter the filter criteria; must not be null
+     * @return the facet counts for the filter
+     */
+    ExerciseFacets facets(ExerciseFilter filter);
+
     /**
      * Returns all available exercise categories.
      *
@@ -76,5 +95,5 @@ public interface ExerciseService {
      *
      * @return a list of all muscle group enum constants
      */
-    List<com.liftit.muscle.MuscleEnum> getMuscleGroups();
+    List<MuscleEnum> getMuscleGroups();
 }
@@ -0,0 +1,50 @@
+package com.liftit.exercise;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Precomputed top-k similar exercises for every exercise.
+ *
+ * <p>Similarity combines muscle-group overlap, category, and how often two exercises are
+ * done in the same workout. The index is kept current incrementally as exercises change,
+ * so a lookup never scores the catalog. Updates are applied in the background shortly after
+ * the change, so a lookup right after a write may not reflect it yet.
+ */
+public interface ExerciseSimilarityIndex {
+
+    /**
+     * Returns the exercises most similar to the given one, most similar first.
+     *
+     * @param exerciseId the exercise to find substitutes for; must not be null
+     * @param limit      maximum number of results; at most the index's top-k are stored
+     * @return the similar exercises, possibly empty
+     */
+    List<SimilarExercise> findSimilar(Long exerciseId, int limit);
+
+    /**
+     * Schedules an update of the index after an exercise was created or changed.
+     *
+     * @param exerciseId the saved exercise; must not be null
+     */
+    void refresh(Long exerciseId);
+
+    /**
+     * Returns the exercises whose similar list contains the given one.
+     *
+     * <p>Call before deleting an exercise and pass the result to {@link #recompute}
+     * afterwards, so those lists are refilled.
+     *
+     * @param exerciseId the exercise; must not be null
+     * @return the IDs of the dependent exercises
+     */
+    Set<Long> dependentsOf(Long exerciseId);
+
+    /**
+     * Schedules a recompute of the similar lists of the given exercises.
+     *
+     * @param exerciseIds the exercises to recompute; must not be null
+     */
+    void recompute(Collection<Long> exerciseIds);
+}
@@ -0,0 +1,27 @@
+package com.liftit.exercise;
+
+import com.liftit.EntityTags;
+import com.liftit.muscle.MuscleEnum;
+
+import java.util.Arrays;
+
+/**
+ * Entity tags of the exercise reference data, served by {@link ExerciseController} and by
+ * the bootstrap endpoint.
+ *
+ * <p>Categories and muscle groups are fixed at startup by the enum validators, so their
+ * versions are constants derived from the enums rather than read from the database.
+ */
+public final class ReferenceDataTags {
+
+    /** Version (weak entity tag) of {@link ExerciseService#getCategories()}. */
+    public static final String CATEGORIES_VERSION = EntityTags.weak(Arrays.stream(ExerciseCategoryEnum.values())
+            .map(c -> c.name() + ":" + c.getCategoryId()).toArray());
+
+    /** Version (weak entity tag) of {@link ExerciseService#getMuscleGroups()}. */
+    public static final String MUSCLE_GROUPS_VERSION = EntityTags.weak(Arrays.stream(MuscleEnum.values())
+            .map(m -> m.name() + ":" + m.getMuscleId()).toArray());
+
+    private ReferenceDataTags() {
+    }
+}
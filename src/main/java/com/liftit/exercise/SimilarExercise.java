@@ -0,0 +1,10 @@
+package com.liftit.exercise;
+
+/**
+ * An exercise recommended as a substitute for another, with its similarity score.
+ *
+ * @param exercise the similar exercise
+ * @param score    similarity in {@code [0, 1]}; higher is more similar
+ */
+public record SimilarExercise(Exercise exercise, double score) {
+}
@@ -0,0 +1,23 @@
+package com.liftit.exercise;
+
+/**
+ * API response representing a recommended substitute exercise.
+ *
+ * @param exercise the similar exercise
+ * @param score    similarity in {@code [0, 1]}; higher is more similar
+ */
+public record SimilarExerciseResponse(
+        ExerciseResponse exercise,
+        double score
+) {
+
+    /**
+     * Converts a {@link SimilarExercise} to a {@code SimilarExerciseResponse}.
+     *
+     * @param similar the similar exercise; must not be null
+     * @return a new {@code SimilarExerciseResponse}
+     */
+    public static SimilarExerciseResponse from(SimilarExercise similar) {
+        return new SimilarExerciseResponse(ExerciseResponse.from(similar.exercise()), similar.score());
+    }
+}
@@ -0,0 +1,35 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.outbox.OutboxConsumer;
+import com.liftit.outbox.OutboxEvent;
+import com.liftit.workout.WorkoutEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@code exercise_cooccurrence} current as workouts complete and are deleted.
+ *
+ * <p>A completed workout is immutable, so it is counted once, when its
+ * {@code workout.completed} event arrives, and subtracted again on {@code workout.deleted};
+ * archiving it changes nothing. Both are single calls of the {@code V26} database functions,
+ * which remember what each workout contributed, so redelivered events are harmless. The
+ * lists themselves pick up the new counts on the next {@link ExerciseSimilarityRebuilder} run.
+ */
+@Component
+class ExerciseCooccurrenceCounter implements OutboxConsumer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ExerciseCooccurrenceCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        if (WorkoutEvent.COMPLETED.type().equals(event.type())) {
+            jdbcTemplate.queryForObject("SELECT count_workout_cooccurrence(?)", Boolean.class, event.aggregateId());
+        } else if (WorkoutEvent.DELETED.type().equals(event.type())) {
+            jdbcTemplate.queryForObject("SELECT uncount_workout_cooccurrence(?)", Boolean.class, event.aggregateId());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.exercise.ExerciseCategoryEnum;
+import com.liftit.exercise.ExerciseFacets;
+import com.liftit.exercise.ExerciseFilter;
+import com.liftit.muscle.MuscleEnum;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes {@link ExerciseFacets} from the catalog grouped by category and muscle mask.
+ *
+ * <p>The groups carry everything the category and muscle filters look at, so all facets
+ * and the total come from one walk over the groups, with the filter applied per group in
+ * memory — the same bit tests {@link ExerciseSpecifications} runs in SQL. The search term
+ * is not a facet and is applied by the grouping query.
+ */
+final class ExerciseFacetCounter {
+
+    private static final MuscleEnum[] MUSCLES = MuscleEnum.values();
+
+    private ExerciseFacetCounter() {
+    }
+
+    static ExerciseFacets count(ExerciseFilter filter, List<ExerciseJpaRepository.FacetGroup> groups) {
+        Set<ExerciseCategoryEnum> selectedCategories = filter.categories().isEmpty()
+                ? EnumSet.allOf(ExerciseCategoryEnum.class)
+                : EnumSet.copyOf(filter.categories());
+        long wanted = MuscleMasks.of(filter.muscleGroups());
+        boolean matchAll = filter.muscleMatch() == ExerciseFilter.MuscleMatch.ALL;
+        long[] muscleBits = new long[MUSCLES.length];
+        for (int i = 0; i < MUSCLES.length; i++) {
+            muscleBits[i] = MuscleMasks.bit(MUSCLES[i]);
+        }
+
+        long total = 0;
+        Map<ExerciseCategoryEnum, Long> categories = new EnumMap<>(ExerciseCategoryEnum.class);
+        long[] muscleCounts = new long[MUSCLES.length];
+        for (ExerciseJpaRepository.FacetGroup group : groups) {
+            ExerciseCategoryEnum category = ExerciseCategoryEnum.fromCategoryId(group.getCategoryId());
+            long mask = group.getMuscleMask();
+            long exercises = group.getExercises();
+            boolean inCategory = selectedCategories.contains(category);
+            boolean musclesMatch = wanted == 0
+                    || (matchAll ? (mask & wanted) == wanted : (mask & wanted) != 0);
+
+            if (musclesMatch) {
+                categories.merge(category, exercises, Long::sum);
+            }
+            if (inCategory && musclesMatch) {
+                total += exercises;
+            }
+            if (inCategory && (musclesMatch || !matchAll)) {
+                for (int i = 0; i < muscleBits.length; i++) {
+                    if ((mask & muscleBits[i]) != 0) {
+                        muscleCounts[i] += exercises;
+                    }
+                }
+            }
+        }
+
+        Map<MuscleEnum, Long> muscleGroups = new EnumMap<>(MuscleEnum.class);
+        for (int i = 0; i < MUSCLES.length; i++) {
+            muscleGroups.put(MUSCLES[i], muscleCounts[i]);
+        }
+        return new ExerciseFacets(total, categories, muscleGroups);
+    }
+}
@@ -3,6 +3,7 @@ package com.liftit.exercise.persistence;
 import com.liftit.exercise.Exercise;
 import com.liftit.exercise.ExerciseCategoryEnum;
 import com.liftit.muscle.MuscleEnum;
+import com.liftit.profiling.DomainMappingEvent;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -31,6 +32,10 @@ import java.util.stream.Collectors;
  * <p>The {@code category_id} column stores the {@link ExerciseCategoryEnum#getCategoryId()} value.
  * The {@code exercise_muscle_groups} join table stores the {@link MuscleEnum#getMuscleId()} value
  * for each targeted muscle group.
+ *
+ * <p>The same set is denormalised into {@code muscle_mask} (see {@link MuscleMasks}), which a
+ * trigger on {@code exercise_muscle_groups} keeps in sync. Reads decode the mask, so the
+ * join table is loaded only when an exercise is written.
  */
 @Entity
 @Table(name = "exercises")
@@ -46,11 +51,14 @@ class ExerciseJpaEntity {
     @Column(name = "category_id", nullable = false)
     private Long categoryId;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "exercise_muscle_groups", joinColumns = @JoinColumn(name = "exercise_id"))
     @Column(name = "muscle_id", nullable = false)
     private Set<Long> muscleIds;
 
+    @Column(name = "muscle_mask", nullable = false)
+    private Long muscleMask;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
@@ -72,6 +80,7 @@ class ExerciseJpaEntity {
             String name,
             Long categoryId,
             Set<Long> muscleIds,
+            Long muscleMask,
             Instant createdAt,
             Long createdBy,
             Instant updatedAt,
@@ -80,6 +89,7 @@ class ExerciseJpaEntity {
         this.name = name;
         this.categoryId = categoryId;
         this.muscleIds = muscleIds;
+        this.muscleMask = muscleMask;
         this.createdAt = createdAt;
         this.createdBy = createdBy;
         this.updatedAt = updatedAt;
@@ -97,11 +107,11 @@ class ExerciseJpaEntity {
      * @return a fully populated {@link Exercise}
      */
     Exercise toDomain() {
+        DomainMappingEvent event = DomainMappingEvent.toDomain("Exercise");
         ExerciseCategoryEnum category = ExerciseCategoryEnum.fromCategoryId(categoryId);
-        Set<MuscleEnum> muscleGroups = muscleIds.stream()
-                .map(MuscleEnum::fromMuscleId)
-                .collect(Collectors.toSet());
-        return new Exercise(id, name, category, muscleGroups, createdAt, createdBy, updatedAt, updatedBy);
+        Set<MuscleEnum> muscleGroups = MuscleMasks.toMuscles(muscleMask);
+        return event.end(
+                new Exercise(id, name, category, muscleGroups, createdAt, createdBy, updatedAt, updatedBy));
     }
 
     /**
@@ -114,12 +124,13 @@ class ExerciseJpaEntity {
      * @return a new {@code ExerciseJpaEntity} ready for persistence
      */
     static ExerciseJpaEntity fromDomain(Exercise exercise) {
+        DomainMappingEvent event = DomainMappingEvent.fromDomain("Exercise");
         Long id = exercise.id() == 0 ? null : exercise.id();
         Long categoryId = exercise.category().getCategoryId();
         Set<Long> muscleIds = exercise.muscleGroups().stream()
                 .map(MuscleEnum::getMuscleId)
                 .collect(Collectors.toSet());
-        return new ExerciseJpaEntity(id, exercise.name(), categoryId, muscleIds,
-                exercise.createdAt(), exercise.createdBy(), exercise.updatedAt(), exercise.updatedBy());
+        return event.end(new ExerciseJpaEntity(id, exercise.name(), categoryId, muscleIds,
+                MuscleMasks.of(exercise.muscleGroups()), exercise.createdAt(), exercise.createdBy(), exercise.updatedAt(), exercise.updatedBy()));
     }
 }
@@ -2,7 +2,10 @@ package com.liftit.exercise.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,10 +16,39 @@ import java.util.Optional;
  *
  * <p>Extends {@link JpaSpecificationExecutor} to support dynamic filtering via
  * JPA Criteria API Specifications.
+ *
+ * <p>Facet queries group the catalog by {@code (category_id, muscle_mask)}: the number of
+ * distinct combinations is small however many exercises there are, and without a search
+ * they are answered from {@code idx_exercises_category_muscle_mask} alone.
  */
 interface ExerciseJpaRepository
         extends JpaRepository<ExerciseJpaEntity, Long>,
                 JpaSpecificationExecutor<ExerciseJpaEntity> {
 
     Optional<ExerciseJpaEntity> findByName(String name);
+
+    /** Number of exercises sharing one category and one set of muscle groups. */
+    interface FacetGroup {
+
+        Long getCategoryId();
+
+        Long getMuscleMask();
+
+        Long getExercises();
+    }
+
+    @Query(value = """
+            SELECT category_id AS categoryId, muscle_mask AS muscleMask, count(*) AS exercises
+            FROM exercises
+            GROUP BY category_id, muscle_mask
+            """, nativeQuery = true)
+    List<FacetGroup> countFacetGroups();
+
+    @Query(value = """
+            SELECT category_id AS categoryId, muscle_mask AS muscleMask, count(*) AS exercises
+            FROM exercises
+            WHERE lower(name) LIKE :pattern
+            GROUP BY category_id, muscle_mask
+            """, nativeQuery = true)
+    List<FacetGroup> countFacetGroupsByNameLike(@Param("pattern") String pattern);
 }
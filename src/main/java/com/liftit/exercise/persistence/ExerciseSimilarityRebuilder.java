@@ -0,0 +1,212 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.job.Job;
+import com.liftit.job.JobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Recomputes every similar list nightly, as a recurring job
+ * ({@code liftit.exercise-similarity.cron}, UTC), so one node does it per schedule.
+ *
+ * <p>Exercise writes update the index as they happen (see {@link ExerciseSimilarityRefresher})
+ * and {@link ExerciseCooccurrenceCounter} counts workouts as they complete, but the lists
+ * only pick up new co-occurrence counts here. The run also repairs any update that failed.
+ *
+ * <p>All work is done in short transactions:
+ * <ol>
+ *   <li>Workouts completed before co-occurrence was counted incrementally are counted once,
+ *       {@code liftit.exercise-similarity.count-batch-size} per transaction, first the hot
+ *       tier, then the archived one once {@code WorkoutArchiver} has filled in the exercise
+ *       ids of every archived row. Progress is kept in {@code schema_backfills}, so a failed
+ *       or interrupted run resumes where it stopped.</li>
+ *   <li>The lists are recomputed by exercise id, {@code liftit.exercise-similarity.batch-size}
+ *       exercises per transaction. Each list costs one scan of the catalog.</li>
+ * </ol>
+ */
+@Component
+class ExerciseSimilarityRebuilder implements JobHandler {
+
+    static final String QUEUE = "exercise.similarity.rebuild";
+    static final String BACKFILL = "exercise-cooccurrence";
+
+    private static final Logger log = LoggerFactory.getLogger(ExerciseSimilarityRebuilder.class);
+
+    /** One tier of workouts to count: the id to page by and the rows to count. */
+    record Tier(String relation, String nextSql, String countSql) {
+    }
+
+    static final Tier HOT = new Tier("workouts",
+            """
+            SELECT max(workout_id) FROM (
+                SELECT workout_id FROM workout_start_times WHERE workout_id > ? ORDER BY workout_id LIMIT ?) b
+            """,
+            """
+            SELECT count(*) FILTER (WHERE counted) FROM (
+                SELECT count_workout_cooccurrence(workout_id) AS counted FROM workout_start_times
+                WHERE workout_id > ? AND workout_id <= ?) c
+            """);
+
+    static final Tier ARCHIVED = new Tier("archived_workouts",
+            """
+            SELECT max(id) FROM (SELECT id FROM archived_workouts WHERE id > ? ORDER BY id LIMIT ?) b
+            """,
+            """
+            SELECT count(*) FILTER (WHERE counted) FROM (
+                SELECT count_workout_cooccurrence(id) AS counted FROM archived_workouts
+                WHERE id > ? AND id <= ?) c
+            """);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int topK;
+    private final int batchSize;
+    private final int countBatchSize;
+    private final String cron;
+
+    ExerciseSimilarityRebuilder(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${liftit.exercise-similarity.top-k:20}") int topK,
+            @Value("${liftit.exercise-similarity.batch-size:50}") int batchSize,
+            @Value("${liftit.exercise-similarity.count-batch-size:1000}") int countBatchSize,
+            @Value("${liftit.exercise-similarity.cron:0 30 4 * * *}") String cron) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("liftit.exercise-similarity.top-k must be at least 1");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("liftit.exercise-similarity.batch-size must be at least 1");
+        }
+        if (countBatchSize < 1) {
+            throw new IllegalArgumentException("liftit.exercise-similarity.count-batch-size must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.topK = topK;
+        this.batchSize = batchSize;
+        this.countBatchSize = countBatchSize;
+        this.cron = cron;
+    }
+
+    @Override
+    public String queue() {
+        return QUEUE;
+    }
+
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public void run(Job job) {
+        long start = System.nanoTime();
+        long counted = countUncountedWorkouts();
+        int indexed = recomputeAll();
+        log.info("Rebuilt exercise similarity index for {} exercises ({} workouts newly counted) in {} ms",
+                indexed, counted, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Counts the workouts of both tiers that were completed before incremental counting,
+     * resuming from the recorded progress. The archived tier waits until every archived
+     * row has its exercise ids.
+     *
+     * @return the number of workouts counted by this call
+     */
+    long countUncountedWorkouts() {
+        long counted = countTier(HOT);
+        if (!isCompleted(HOT)) {
+            return counted;
+        }
+        Boolean missing = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM archived_workouts WHERE exercise_ids IS NULL)", Boolean.class);
+        if (Boolean.TRUE.equals(missing)) {
+            log.info("Counting archived workouts waits until their exercise ids are filled in");
+            return counted;
+        }
+        return counted + countTier(ARCHIVED);
+    }
+
+    /**
+     * Recomputes every similar list, batch by batch in exercise id order.
+     *
+     * @return the number of exercises indexed
+     */
+    int recomputeAll() {
+        int total = 0;
+        long after = 0;
+        while (true) {
+            long from = after;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> batch = jdbcTemplate.queryForList(
+                        "SELECT id FROM exercises WHERE id > ? ORDER BY id LIMIT ?", Long.class, from, batchSize);
+                if (!batch.isEmpty()) {
+                    jdbcTemplate.queryForObject("SELECT refresh_exercise_similarities(?, ?)", Integer.class,
+                            batch.toArray(Long[]::new), topK);
+                }
+                return batch;
+            });
+            if (ids == null || ids.isEmpty()) {
+                return total;
+            }
+            total += ids.size();
+            if (ids.size() < batchSize) {
+                return total;
+            }
+            after = ids.getLast();
+        }
+    }
+
+    private long countTier(Tier tier) {
+        jdbcTemplate.update("""
+                INSERT INTO schema_backfills (backfill, relation) VALUES (?, ?)
+                ON CONFLICT (backfill, relation) DO NOTHING
+                """, BACKFILL, tier.relation());
+        long total = 0;
+        while (true) {
+            Integer counted = transactionTemplate.execute(status -> countBatch(tier));
+            if (counted == null || counted < 0) {
+                return total;
+            }
+            total += counted;
+        }
+    }
+
+    /** Counts the next batch of the tier; returns -1 once the tier is done. */
+    private int countBatch(Tier tier) {
+        List<Long> lastIds = jdbcTemplate.queryForList("""
+                SELECT last_id FROM schema_backfills
+                WHERE backfill = ? AND relation = ? AND completed_at IS NULL
+                FOR UPDATE
+                """, Long.class, BACKFILL, tier.relation());
+        if (lastIds.isEmpty()) {
+            return -1;
+        }
+        long fromId = lastIds.getFirst();
+        Long toId = jdbcTemplate.queryForObject(tier.nextSql(), Long.class, fromId, countBatchSize);
+        if (toId == null) {
+            jdbcTemplate.update("UPDATE schema_backfills SET completed_at = now() WHERE backfill = ? AND relation = ?",
+                    BACKFILL, tier.relation());
+            return -1;
+        }
+        Integer counted = jdbcTemplate.queryForObject(tier.countSql(), Integer.class, fromId, toId);
+        jdbcTemplate.update("UPDATE schema_backfills SET last_id = ? WHERE backfill = ? AND relation = ?",
+                toId, BACKFILL, tier.relation());
+        return counted == null ? 0 : counted;
+    }
+
+    private boolean isCompleted(Tier tier) {
+        Boolean completed = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM schema_backfills
+                               WHERE backfill = ? AND relation = ? AND completed_at IS NOT NULL)
+                """, Boolean.class, BACKFILL, tier.relation());
+        return Boolean.TRUE.equals(completed);
+    }
+}
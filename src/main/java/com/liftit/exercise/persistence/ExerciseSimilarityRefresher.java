@@ -0,0 +1,77 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.job.Job;
+import com.liftit.job.JobHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the similarity index updates {@link JpaExerciseSimilarityIndex} queues after
+ * exercise writes, off the request path.
+ *
+ * <p>A {@code refresh:<id>} job runs the {@code refresh_exercise_similarity} database
+ * function for one created or changed exercise; it is queued with the payload as dedupe
+ * key, so repeated writes to an exercise collapse into one pending refresh. A
+ * {@code recompute:<id>,<id>,...} job recomputes the lists a deleted exercise was in. Both
+ * are single statements and can be rerun.
+ */
+@Component
+class ExerciseSimilarityRefresher implements JobHandler {
+
+    static final String QUEUE = "exercise.similarity.refresh";
+
+    /** Most exercise ids per recompute job, so the payload stays within its limit. */
+    static final int MAX_RECOMPUTE_IDS = 40;
+
+    private static final String REFRESH = "refresh:";
+    private static final String RECOMPUTE = "recompute:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int topK;
+
+    ExerciseSimilarityRefresher(
+            JdbcTemplate jdbcTemplate,
+            @Value("${liftit.exercise-similarity.top-k:20}") int topK) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("liftit.exercise-similarity.top-k must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.topK = topK;
+    }
+
+    /** Returns the payload, and dedupe key, of a refresh job for the exercise. */
+    static String refreshPayload(Long exerciseId) {
+        return REFRESH + exerciseId;
+    }
+
+    /** Returns the payload of a recompute job; at most {@link #MAX_RECOMPUTE_IDS} ids. */
+    static String recomputePayload(Collection<Long> exerciseIds) {
+        return RECOMPUTE + exerciseIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public String queue() {
+        return QUEUE;
+    }
+
+    @Override
+    public void run(Job job) {
+        String payload = job.payload();
+        if (payload.startsWith(REFRESH)) {
+            jdbcTemplate.queryForObject("SELECT refresh_exercise_similarity(?, ?)", Integer.class,
+                    Long.parseLong(payload.substring(REFRESH.length())), topK);
+        } else if (payload.startsWith(RECOMPUTE)) {
+            Long[] ids = Arrays.stream(payload.substring(RECOMPUTE.length()).split(","))
+                    .map(Long::valueOf)
+                    .toArray(Long[]::new);
+            jdbcTemplate.queryForObject("SELECT refresh_exercise_similarities(?, ?)", Integer.class, ids, topK);
+        } else {
+            throw new IllegalArgumentException("Unknown similarity job: " + payload);
+        }
+    }
+}
@@ -3,15 +3,20 @@ package com.liftit.exercise.persistence;
 import com.liftit.exercise.ExerciseCategoryEnum;
 import com.liftit.exercise.ExerciseFilter;
 import com.liftit.muscle.MuscleEnum;
-import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Expression;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Set;
+
 /**
  * JPA Specification factory for {@link ExerciseJpaEntity} queries.
  *
  * <p>Each method returns a composable predicate. The {@link #from(ExerciseFilter)}
- * factory combines all active filters with AND logic. A {@code null} filter field
- * means "no restriction" and is skipped.
+ * factory combines all active filters with AND logic. An empty or {@code null} filter
+ * field means "no restriction" and is skipped.
+ *
+ * <p>Muscle groups are matched with bit operations on {@code exercises.muscle_mask}
+ * rather than a join, so a multi-muscle filter is one predicate on the row.
  */
 class ExerciseSpecifications {
 
@@ -21,18 +26,18 @@ class ExerciseSpecifications {
     /**
      * Builds a composite {@link Specification} from the given filter.
      *
-     * <p>Only non-null filter fields contribute predicates.
+     * <p>Only non-empty filter fields contribute predicates.
      *
      * @param filter the filter criteria; must not be null
      * @return a specification matching all active filter constraints
      */
     static Specification<ExerciseJpaEntity> from(ExerciseFilter filter) {
         Specification<ExerciseJpaEntity> spec = (root, query, cb) -> null;
-        if (filter.category() != null) {
-            spec = spec.and(hasCategory(filter.category()));
+        if (!filter.categories().isEmpty()) {
+            spec = spec.and(inCategories(filter.categories()));
         }
-        if (filter.muscleGroup() != null) {
-            spec = spec.and(hasMuscleGroup(filter.muscleGroup()));
+        if (!filter.muscleGroups().isEmpty()) {
+            spec = spec.and(targetsMuscleGroups(filter.muscleGroups(), filter.muscleMatch()));
         }
         if (filter.search() != null && !filter.search().isBlank()) {
             spec = spec.and(nameContains(filter.search()));
@@ -40,20 +45,33 @@ class ExerciseSpecifications {
         return spec;
     }
 
-    private static Specification<ExerciseJpaEntity> hasCategory(ExerciseCategoryEnum category) {
+    private static Specification<ExerciseJpaEntity> inCategories(Set<ExerciseCategoryEnum> categories) {
         return (root, query, cb) ->
-                cb.equal(root.get("categoryId"), category.getCategoryId());
+                root.get("categoryId").in(categories.stream().map(ExerciseCategoryEnum::getCategoryId).toList());
     }
 
-    private static Specification<ExerciseJpaEntity> hasMuscleGroup(MuscleEnum muscleGroup) {
+    /**
+     * {@code ANY}: {@code muscle_mask & wanted <> 0}; {@code ALL}: {@code muscle_mask & wanted = wanted}.
+     */
+    private static Specification<ExerciseJpaEntity> targetsMuscleGroups(
+            Set<MuscleEnum> muscleGroups, ExerciseFilter.MuscleMatch match) {
+        long wanted = MuscleMasks.of(muscleGroups);
         return (root, query, cb) -> {
-            Join<ExerciseJpaEntity, Long> muscleIds = root.join("muscleIds");
-            return cb.equal(muscleIds, muscleGroup.getMuscleId());
+            Expression<Long> matched = cb.function("bitand", Long.class, root.get("muscleMask"), cb.literal(wanted));
+            return match == ExerciseFilter.MuscleMatch.ALL
+                    ? cb.equal(matched, wanted)
+                    : cb.notEqual(matched, 0L);
         };
     }
 
     private static Specification<ExerciseJpaEntity> nameContains(String search) {
-        return (root, query, cb) ->
-                cb.like(cb.lower(root.get("name")), "%" + search.toLowerCase() + "%");
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), namePattern(search));
+    }
+
+    /**
+     * Returns the {@code LIKE} pattern for a case-insensitive name substring search.
+     */
+    static String namePattern(String search) {
+        return "%" + search.toLowerCase() + "%";
     }
 }
@@ -1,12 +1,14 @@
 package com.liftit.exercise.persistence;
 
 import com.liftit.exercise.Exercise;
+import com.liftit.exercise.ExerciseFacets;
 import com.liftit.exercise.ExerciseFilter;
 import com.liftit.exercise.ExerciseRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -51,6 +53,15 @@ class JpaExerciseRepository implements ExerciseRepository {
                 .map(ExerciseJpaEntity::toDomain);
     }
 
+    @Override
+    public ExerciseFacets countFacets(ExerciseFilter filter) {
+        String search = filter.search();
+        List<ExerciseJpaRepository.FacetGroup> groups = search == null || search.isBlank()
+                ? springDataRepository.countFacetGroups()
+                : springDataRepository.countFacetGroupsByNameLike(ExerciseSpecifications.namePattern(search));
+        return ExerciseFacetCounter.count(filter, groups);
+    }
+
     @Override
     public void delete(Long id) {
         springDataRepository.deleteById(id);
@@ -0,0 +1,120 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.exercise.Exercise;
+import com.liftit.exercise.ExerciseSimilarityIndex;
+import com.liftit.exercise.SimilarExercise;
+import com.liftit.job.JobQueue;
+import com.liftit.job.exception.JobQueueFullException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Postgres-backed implementation of {@link ExerciseSimilarityIndex}.
+ *
+ * <p>The index is the {@code exercise_similarities} table, holding the
+ * {@code liftit.exercise-similarity.top-k} best-scoring substitutes per exercise, so a
+ * lookup is a primary-key range read of at most k rows. Scoring and maintenance are done by
+ * the database functions in changelog {@code V19}.
+ *
+ * <p>Maintenance is queued as {@link ExerciseSimilarityRefresher} jobs rather than run in
+ * the exercise write, so a write never waits for catalog scans. Queueing never fails the
+ * write either: errors are logged and the nightly {@link ExerciseSimilarityRebuilder}
+ * repairs the affected lists.
+ */
+@Repository
+class JpaExerciseSimilarityIndex implements ExerciseSimilarityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(JpaExerciseSimilarityIndex.class);
+
+    record Entry(Long exerciseId, double score) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobQueue jobQueue;
+    private final ExerciseJpaRepository exerciseRepository;
+    private final int topK;
+
+    JpaExerciseSimilarityIndex(
+            JdbcTemplate jdbcTemplate,
+            JobQueue jobQueue,
+            ExerciseJpaRepository exerciseRepository,
+            @Value("${liftit.exercise-similarity.top-k:20}") int topK) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("liftit.exercise-similarity.top-k must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobQueue = jobQueue;
+        this.exerciseRepository = exerciseRepository;
+        this.topK = topK;
+    }
+
+    @Override
+    public List<SimilarExercise> findSimilar(Long exerciseId, int limit) {
+        List<Entry> entries = jdbcTemplate.query("""
+                        SELECT similar_exercise_id, score FROM exercise_similarities
+                        WHERE exercise_id = ?
+                        ORDER BY score DESC, similar_exercise_id
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> new Entry(rs.getLong(1), rs.getDouble(2)),
+                exerciseId, Math.min(limit, topK));
+        Map<Long, Exercise> exercises = exerciseRepository.findAllById(entries.stream().map(Entry::exerciseId).toList())
+                .stream()
+                .map(ExerciseJpaEntity::toDomain)
+                .collect(Collectors.toMap(Exercise::id, Function.identity()));
+        return entries.stream()
+                .filter(entry -> exercises.containsKey(entry.exerciseId()))
+                .map(entry -> new SimilarExercise(exercises.get(entry.exerciseId()), entry.score()))
+                .toList();
+    }
+
+    @Override
+    public void refresh(Long exerciseId) {
+        String payload = ExerciseSimilarityRefresher.refreshPayload(exerciseId);
+        enqueue("refresh similar exercises of " + exerciseId,
+                () -> jobQueue.enqueue(ExerciseSimilarityRefresher.QUEUE, payload, Instant.now(), payload));
+    }
+
+    @Override
+    public Set<Long> dependentsOf(Long exerciseId) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT exercise_id FROM exercise_similarities WHERE similar_exercise_id = ?",
+                Long.class, exerciseId));
+    }
+
+    @Override
+    public void recompute(Collection<Long> exerciseIds) {
+        if (exerciseIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(exerciseIds);
+        int chunkSize = ExerciseSimilarityRefresher.MAX_RECOMPUTE_IDS;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            enqueue("recompute similar exercises of " + chunk.size() + " exercises",
+                    () -> jobQueue.enqueue(ExerciseSimilarityRefresher.QUEUE,
+                            ExerciseSimilarityRefresher.recomputePayload(chunk)));
+        }
+    }
+
+    private void enqueue(String description, Runnable work) {
+        try {
+            work.run();
+        } catch (DataAccessException | JobQueueFullException e) {
+            log.warn("Could not queue a job to {}; the nightly rebuild will repair it", description, e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.muscle.MuscleEnum;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Encodes an exercise's muscle groups as the {@code exercises.muscle_mask} bitmask.
+ *
+ * <p>Muscle {@code id} sets bit {@code id - 1}, the same rule the
+ * {@code sync_exercise_muscle_mask} trigger applies in SQL, so a {@code BIGINT} covers
+ * muscle ids 1-64.
+ */
+final class MuscleMasks {
+
+    private static final int MAX_MUSCLE_ID = Long.SIZE;
+
+    private MuscleMasks() {
+    }
+
+    /**
+     * Returns the bit of a single muscle group.
+     *
+     * @throws IllegalStateException if the muscle id does not fit the mask
+     */
+    static long bit(MuscleEnum muscle) {
+        long id = muscle.getMuscleId();
+        if (id < 1 || id > MAX_MUSCLE_ID) {
+            throw new IllegalStateException("Muscle id " + id + " does not fit the muscle mask");
+        }
+        return 1L << (id - 1);
+    }
+
+    static long of(Collection<MuscleEnum> muscles) {
+        long mask = 0;
+        for (MuscleEnum muscle : muscles) {
+            mask |= bit(muscle);
+        }
+        return mask;
+    }
+
+    static Set<MuscleEnum> toMuscles(long mask) {
+        Set<MuscleEnum> muscles = EnumSet.noneOf(MuscleEnum.class);
+        for (MuscleEnum muscle : MuscleEnum.values()) {
+            if ((mask & bit(muscle)) != 0) {
+                muscles.add(muscle);
+            }
+        }
+        return muscles;
+    }
+}
@@ -0,0 +1,60 @@
+package com.liftit.job;
+
+import com.liftit.job.exception.JobQueueFullException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Default implementation of {@link JobQueue}, backed by the {@code jobs} table.
+ *
+ * <p>Producers get backpressure from {@link JobHandler#maxQueued()}: once a queue holds
+ * that many waiting jobs, enqueueing fails fast with {@link JobQueueFullException}
+ * instead of growing the backlog without bound.
+ */
+@Service
+public class DefaultJobQueue implements JobQueue {
+
+    static final int MAX_PAYLOAD_LENGTH = 1000;
+    static final int MAX_DEDUPE_KEY_LENGTH = 100;
+
+    private final JdbcJobStore store;
+    private final JobHandlers handlers;
+
+    DefaultJobQueue(JdbcJobStore store, JobHandlers handlers) {
+        if (store == null) {
+            throw new IllegalArgumentException("store must not be null");
+        }
+        if (handlers == null) {
+            throw new IllegalArgumentException("handlers must not be null");
+        }
+        this.store = store;
+        this.handlers = handlers;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long enqueue(String queue, String payload) {
+        return enqueue(queue, payload, Instant.now(), null).orElseThrow();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Long> enqueue(String queue, String payload, Instant runAt, String dedupeKey) {
+        JobHandler handler = handlers.get(queue);
+        if (runAt == null) {
+            throw new IllegalArgumentException("runAt must not be null");
+        }
+        if (payload != null && payload.length() > MAX_PAYLOAD_LENGTH) {
+            throw new IllegalArgumentException("payload must be at most " + MAX_PAYLOAD_LENGTH + " characters");
+        }
+        if (dedupeKey != null && (dedupeKey.isBlank() || dedupeKey.length() > MAX_DEDUPE_KEY_LENGTH)) {
+            throw new IllegalArgumentException("dedupeKey must be 1-" + MAX_DEDUPE_KEY_LENGTH + " characters");
+        }
+        if (store.countQueued(queue, handler.maxQueued()) >= handler.maxQueued()) {
+            throw new JobQueueFullException(queue);
+        }
+        return store.insert(queue, payload, runAt, dedupeKey, handler.maxAttempts());
+    }
+}
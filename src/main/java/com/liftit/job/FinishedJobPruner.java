@@ -0,0 +1,56 @@
+package com.liftit.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Deletes finished jobs once they are older than {@code liftit.jobs.retention-days}. Runs
+ * as a recurring job itself ({@code liftit.jobs.prune-cron}, UTC), so one node prunes per
+ * schedule. Failed jobs are kept as long as succeeded ones, for inspection.
+ */
+@Component
+class FinishedJobPruner implements JobHandler {
+
+    static final String QUEUE = "jobs.prune";
+
+    private static final Logger log = LoggerFactory.getLogger(FinishedJobPruner.class);
+
+    private final JdbcJobStore store;
+    private final Duration retention;
+    private final String cron;
+
+    FinishedJobPruner(
+            JdbcJobStore store,
+            @Value("${liftit.jobs.retention-days:7}") int retentionDays,
+            @Value("${liftit.jobs.prune-cron:0 30 5 * * *}") String cron) {
+        if (retentionDays < 1) {
+            throw new IllegalArgumentException("liftit.jobs.retention-days must be at least 1");
+        }
+        this.store = store;
+        this.retention = Duration.ofDays(retentionDays);
+        this.cron = cron;
+    }
+
+    @Override
+    public String queue() {
+        return QUEUE;
+    }
+
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public void run(Job job) {
+        int deleted = store.deleteFinishedBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Pruned {} finished jobs", deleted);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.liftit.job;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code jobs} table access for {@link DefaultJobQueue} and {@link JobWorker}.
+ *
+ * <p>Lease times are computed from the database clock, so nodes with skewed clocks agree
+ * on when a lease has expired.
+ */
+@Repository
+class JdbcJobStore {
+
+    static final int QUEUED = 1;
+    static final int RUNNING = 2;
+    static final int SUCCEEDED = 3;
+    static final int FAILED = 4;
+
+    /** First key of the two-key advisory locks serialising claims per queue ("jobs" in ASCII). */
+    private static final int CLAIM_LOCK_SPACE = 0x6A6F6273;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO jobs (queue, payload, dedupe_key, status_code, attempts, max_attempts, run_at, created_at)
+            VALUES (?, ?, ?, 1, 0, ?, ?, now())
+            ON CONFLICT (queue, dedupe_key) WHERE status_code IN (1, 2) AND dedupe_key IS NOT NULL DO NOTHING
+            RETURNING id
+            """;
+
+    /**
+     * Leases up to {@code limit} due jobs of one queue without letting the queue's running
+     * jobs exceed {@code concurrency}. Must run after {@link #lockQueue} in the same
+     * transaction, so that concurrent claimers count each other's leases.
+     */
+    private static final String CLAIM_SQL = """
+            WITH due AS (
+                SELECT id FROM jobs
+                WHERE queue = ? AND status_code = 1 AND run_at <= now()
+                ORDER BY run_at, id
+                LIMIT GREATEST(0, LEAST(?, ? - (SELECT count(*) FROM jobs WHERE queue = ? AND status_code = 2)))
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE jobs j
+            SET status_code = 2, attempts = j.attempts + 1, lease_owner = ?,
+                lease_expires_at = now() + ? * INTERVAL '1 millisecond'
+            FROM due
+            WHERE j.id = due.id
+            RETURNING j.id, j.queue, j.payload, j.attempts, j.run_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JdbcJobStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts a queued job, or nothing if a queued or running job has the same dedupe key.
+     *
+     * @return the new job's ID, or empty if it was deduplicated
+     */
+    Optional<Long> insert(String queue, String payload, Instant runAt, String dedupeKey, int maxAttempts) {
+        return jdbcTemplate.query(INSERT_SQL, (rs, rowNum) -> rs.getLong("id"),
+                queue, payload, dedupeKey, maxAttempts, utc(runAt)).stream().findFirst();
+    }
+
+    /**
+     * Counts the jobs waiting in {@code queue}, stopping at {@code cap}.
+     */
+    int countQueued(String queue, int cap) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM (SELECT 1 FROM jobs WHERE queue = ? AND status_code = 1 LIMIT ?) q",
+                Integer.class, queue, cap);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Takes the transaction-scoped claim lock of {@code queue}, waiting for other claimers.
+     */
+    void lockQueue(String queue) {
+        jdbcTemplate.queryForObject("SELECT true FROM pg_advisory_xact_lock(?, hashtext(?))",
+                Boolean.class, CLAIM_LOCK_SPACE, queue);
+    }
+
+    /**
+     * Leases due jobs to {@code owner}. See {@link #CLAIM_SQL}.
+     *
+     * @return the claimed jobs, oldest first
+     */
+    List<Job> claim(String queue, int limit, int concurrency, String owner, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new Job(
+                rs.getLong("id"),
+                rs.getString("queue"),
+                rs.getString("payload"),
+                rs.getInt("attempts"),
+                rs.getObject("run_at", OffsetDateTime.class).toInstant()),
+                queue, limit, concurrency, queue, owner, lease.toMillis()).stream()
+                .sorted(Comparator.comparingLong(Job::id))
+                .toList();
+    }
+
+    /**
+     * Marks a job succeeded if {@code owner} still holds its lease.
+     *
+     * @return whether the job was updated
+     */
+    boolean complete(long id, String owner) {
+        return jdbcTemplate.update("""
+                UPDATE jobs SET status_code = 3, finished_at = now(), lease_owner = NULL, lease_expires_at = NULL
+                WHERE id = ? AND status_code = 2 AND lease_owner = ?
+                """, id, owner) == 1;
+    }
+
+    /**
+     * Records a failed attempt if {@code owner} still holds the lease: the job is queued
+     * again for {@code retryAt}, or marked failed when {@code giveUp}.
+     *
+     * @return whether the job was updated
+     */
+    boolean fail(long id, String owner, String error, Instant retryAt, boolean giveUp) {
+        return jdbcTemplate.update("""
+                UPDATE jobs
+                SET status_code = ?, run_at = ?, last_error = ?, lease_owner = NULL, lease_expires_at = NULL,
+                    finished_at = CASE WHEN ? THEN now() END
+                WHERE id = ? AND status_code = 2 AND lease_owner = ?
+                """, giveUp ? FAILED : QUEUED, utc(retryAt), error, giveUp, id, owner) == 1;
+    }
+
+    /**
+     * Extends the lease of every job {@code owner} is running.
+     */
+    int extendLeases(String owner, Duration lease) {
+        return jdbcTemplate.update("""
+                UPDATE jobs SET lease_expires_at = now() + ? * INTERVAL '1 millisecond'
+                WHERE status_code = 2 AND lease_owner = ?
+                """, lease.toMillis(), owner);
+    }
+
+    /**
+     * Takes back jobs whose lease ran out, e.g. because their node died. The lost attempt
+     * counts: a job that has used all its attempts is marked failed instead of queued.
+     *
+     * @return the number of jobs taken back
+     */
+    int reclaimExpired() {
+        return jdbcTemplate.update("""
+                UPDATE jobs
+                SET status_code = CASE WHEN attempts >= max_attempts THEN 4 ELSE 1 END,
+                    finished_at = CASE WHEN attempts >= max_attempts THEN now() END,
+                    run_at = now(), last_error = 'Lease expired', lease_owner = NULL, lease_expires_at = NULL
+                WHERE status_code = 2 AND lease_expires_at < now()
+                """);
+    }
+
+    /**
+     * Queues again, without charging an attempt, the jobs {@code owner} is running; used
+     * when a node shuts down.
+     */
+    int release(String owner) {
+        return jdbcTemplate.update("""
+                UPDATE jobs
+                SET status_code = 1, attempts = attempts - 1, run_at = now(), lease_owner = NULL, lease_expires_at = NULL
+                WHERE status_code = 2 AND lease_owner = ?
+                """, owner);
+    }
+
+    /**
+     * Deletes succeeded and failed jobs finished before {@code cutoff}.
+     *
+     * @return the number of jobs deleted
+     */
+    int deleteFinishedBefore(Instant cutoff) {
+        return jdbcTemplate.update(
+                "DELETE FROM jobs WHERE status_code IN (3, 4) AND finished_at < ?", utc(cutoff));
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,21 @@
+package com.liftit.job;
+
+import java.time.Instant;
+
+/**
+ * A claimed background job, handed to its {@link JobHandler}.
+ *
+ * @param id      job ID
+ * @param queue   the queue (and handler) the job belongs to
+ * @param payload handler-defined argument, e.g. a user ID; may be null
+ * @param attempt the current attempt, starting at 1
+ * @param runAt   when the job became due
+ */
+public record Job(
+        long id,
+        String queue,
+        String payload,
+        int attempt,
+        Instant runAt
+) {
+}
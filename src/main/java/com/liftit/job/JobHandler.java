@@ -0,0 +1,57 @@
+package com.liftit.job;
+
+/**
+ * Runs the jobs of one queue.
+ *
+ * <p>Every handler bean owns the queue named by {@link #queue()}; jobs enqueued there are
+ * claimed by {@link JobWorker} on whichever node has a free slot and run on a virtual
+ * thread, outside any transaction. Execution is at least once: a job whose node dies or
+ * loses its lease is run again, so handlers must be idempotent. Long-running handlers
+ * should commit their work in chunks so a rerun resumes instead of starting over.
+ */
+public interface JobHandler {
+
+    /**
+     * Returns the queue this handler serves, e.g. {@code workout.sweep}; at most 50 characters.
+     */
+    String queue();
+
+    /**
+     * Runs one job. Throwing schedules another attempt with backoff until
+     * {@link #maxAttempts()} is reached.
+     *
+     * @param job the job; never null
+     * @throws Exception if the job failed
+     */
+    void run(Job job) throws Exception;
+
+    /**
+     * Returns how many jobs of this queue may run at once across all nodes.
+     */
+    default int concurrency() {
+        return 1;
+    }
+
+    /**
+     * Returns how many attempts a job gets before it is marked failed.
+     */
+    default int maxAttempts() {
+        return 5;
+    }
+
+    /**
+     * Returns how many jobs may wait in the queue before {@link JobQueue#enqueue} rejects
+     * new ones.
+     */
+    default int maxQueued() {
+        return 10_000;
+    }
+
+    /**
+     * Returns a Spring cron expression (UTC) to run this handler on a schedule, or
+     * {@code null} if it only runs enqueued jobs. Scheduled runs have a null payload.
+     */
+    default String cron() {
+        return null;
+    }
+}
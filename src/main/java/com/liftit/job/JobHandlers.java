@@ -0,0 +1,68 @@
+package com.liftit.job;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The registered {@link JobHandler} beans by queue, validated once at startup.
+ */
+@Component
+class JobHandlers {
+
+    static final int MAX_QUEUE_LENGTH = 50;
+
+    private final Map<String, JobHandler> byQueue = new LinkedHashMap<>();
+    private final Map<String, CronExpression> schedules = new LinkedHashMap<>();
+
+    JobHandlers(ObjectProvider<JobHandler> handlers) {
+        handlers.orderedStream().forEach(this::register);
+    }
+
+    /**
+     * Returns the handler serving {@code queue}.
+     *
+     * @throws IllegalArgumentException if no handler serves it
+     */
+    JobHandler get(String queue) {
+        JobHandler handler = byQueue.get(queue);
+        if (handler == null) {
+            throw new IllegalArgumentException("Unknown job queue: " + queue);
+        }
+        return handler;
+    }
+
+    Collection<JobHandler> all() {
+        return Collections.unmodifiableCollection(byQueue.values());
+    }
+
+    /**
+     * Returns the parsed schedules of recurring handlers by queue.
+     */
+    Map<String, CronExpression> schedules() {
+        return Collections.unmodifiableMap(schedules);
+    }
+
+    private void register(JobHandler handler) {
+        String queue = handler.queue();
+        if (queue == null || queue.isBlank() || queue.length() > MAX_QUEUE_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Job queue name must be 1-" + MAX_QUEUE_LENGTH + " characters: " + handler.getClass().getName());
+        }
+        if (handler.concurrency() < 1 || handler.maxAttempts() < 1 || handler.maxQueued() < 1) {
+            throw new IllegalArgumentException(
+                    "Job queue " + queue + " must allow at least 1 concurrent run, attempt and queued job");
+        }
+        if (byQueue.putIfAbsent(queue, handler) != null) {
+            throw new IllegalArgumentException("Job queue " + queue + " has more than one handler");
+        }
+        if (handler.cron() != null) {
+            schedules.put(queue, CronExpression.parse(handler.cron()));
+        }
+    }
+}
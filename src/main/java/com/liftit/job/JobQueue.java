@@ -0,0 +1,40 @@
+package com.liftit.job;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Enqueues durable background jobs for a {@link JobHandler}.
+ *
+ * <p>Jobs are rows in Postgres. Enqueueing inside a transaction makes the job visible only
+ * if that transaction commits, so a change and the work it triggers are recorded together.
+ */
+public interface JobQueue {
+
+    /**
+     * Enqueues a job to run as soon as a worker is free.
+     *
+     * @param queue   the handler's queue; must be registered
+     * @param payload handler-defined argument; may be null, at most 1000 characters
+     * @return the job ID
+     * @throws IllegalArgumentException if the queue is unknown or the payload too long
+     * @throws com.liftit.job.exception.JobQueueFullException if the queue is at its
+     *         {@link JobHandler#maxQueued()} limit
+     */
+    long enqueue(String queue, String payload);
+
+    /**
+     * Enqueues a job to run at {@code runAt}, unless a job with the same dedupe key is
+     * already queued or running in the queue.
+     *
+     * @param queue     the handler's queue; must be registered
+     * @param payload   handler-defined argument; may be null, at most 1000 characters
+     * @param runAt     when the job becomes due; must not be null
+     * @param dedupeKey at most 100 characters; null to enqueue unconditionally
+     * @return the job ID, or empty if an equal job is pending
+     * @throws IllegalArgumentException if the queue is unknown or an argument is invalid
+     * @throws com.liftit.job.exception.JobQueueFullException if the queue is at its
+     *         {@link JobHandler#maxQueued()} limit
+     */
+    Optional<Long> enqueue(String queue, String payload, Instant runAt, String dedupeKey);
+}
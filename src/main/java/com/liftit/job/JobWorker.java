@@ -0,0 +1,226 @@
+package com.liftit.job;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Claims due jobs and runs them on virtual threads.
+ *
+ * <p>Every {@code liftit.jobs.poll-interval-ms} the worker takes back expired leases, then
+ * visits each queue (starting from a different one every poll, so a busy queue cannot
+ * starve the rest) and leases as many due jobs as it has free slots. A node runs at most
+ * {@code liftit.jobs.max-concurrent} jobs; a queue runs at most
+ * {@link JobHandler#concurrency()} jobs across all nodes, enforced in the claim
+ * transaction under a per-queue advisory lock. Jobs beyond that stay in the table until a
+ * slot frees up, so load is pulled, never pushed.
+ *
+ * <p>A claim is a lease, not a held transaction: the job runs outside any transaction and
+ * the worker extends its leases every {@code liftit.jobs.heartbeat-ms}. If a node dies,
+ * its leases expire after {@code liftit.jobs.lease-ms} and another node reruns the jobs.
+ * Failed jobs are retried with exponential backoff from {@code liftit.jobs.retry-backoff-ms}
+ * up to {@link JobHandler#maxAttempts()}. Recurring handlers keep exactly one pending run,
+ * deduplicated across nodes, at their next cron time.
+ *
+ * <p>{@code liftit.jobs.polling-enabled=false} stops the scheduled poll and heartbeat; jobs
+ * are still enqueued, and {@link #claimAndRun()} still runs them when called directly.
+ *
+ * <p>Metrics: the {@code liftit.jobs.run} timer (tags {@code queue}, {@code outcome}) and
+ * the {@code liftit.jobs.in.flight} gauge.
+ */
+@Component
+class JobWorker {
+
+    static final String RECURRING_DEDUPE_KEY = "recurring";
+
+    private static final Logger log = LoggerFactory.getLogger(JobWorker.class);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcJobStore store;
+    private final JobHandlers registry;
+    private final List<JobHandler> handlers;
+    private final Map<String, CronExpression> schedules;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean pollingEnabled;
+    private final int maxConcurrent;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final String owner = System.getenv().getOrDefault("HOSTNAME", "node")
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+    private final Semaphore slots;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private int nextQueue;
+    private volatile boolean stopping;
+
+    JobWorker(
+            JdbcJobStore store,
+            JobHandlers handlers,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${liftit.jobs.polling-enabled:true}") boolean pollingEnabled,
+            @Value("${liftit.jobs.max-concurrent:8}") int maxConcurrent,
+            @Value("${liftit.jobs.lease-ms:120000}") long leaseMs,
+            @Value("${liftit.jobs.retry-backoff-ms:5000}") long retryBackoffMs) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("liftit.jobs.max-concurrent must be at least 1");
+        }
+        if (leaseMs < 1 || retryBackoffMs < 1) {
+            throw new IllegalArgumentException("liftit.jobs lease and retry backoff must be positive");
+        }
+        this.store = store;
+        this.registry = handlers;
+        this.handlers = List.copyOf(handlers.all());
+        this.schedules = handlers.schedules();
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.pollingEnabled = pollingEnabled;
+        this.maxConcurrent = maxConcurrent;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.slots = new Semaphore(maxConcurrent);
+        Gauge.builder("liftit.jobs.in.flight", slots, s -> maxConcurrent - s.availablePermits())
+                .description("Jobs running on this node")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${liftit.jobs.poll-interval-ms:1000}")
+    void poll() {
+        if (pollingEnabled) {
+            claimAndRun();
+        }
+    }
+
+    /**
+     * Extends this node's leases and makes sure every recurring handler has a pending run.
+     * The first call, right after startup, schedules new recurring handlers.
+     */
+    @Scheduled(fixedDelayString = "${liftit.jobs.heartbeat-ms:30000}")
+    void heartbeat() {
+        if (stopping || !pollingEnabled) {
+            return;
+        }
+        if (slots.availablePermits() < maxConcurrent) {
+            store.extendLeases(owner, lease);
+        }
+        schedules.keySet().forEach(this::scheduleNextRun);
+    }
+
+    /**
+     * Leases due jobs up to the free slots and starts them.
+     *
+     * @return the number of jobs started
+     */
+    synchronized int claimAndRun() {
+        if (stopping || handlers.isEmpty()) {
+            return 0;
+        }
+        int reclaimed = store.reclaimExpired();
+        if (reclaimed > 0) {
+            log.warn("Took back {} jobs whose lease expired", reclaimed);
+        }
+        int started = 0;
+        int first = nextQueue;
+        nextQueue = (nextQueue + 1) % handlers.size();
+        for (int i = 0; i < handlers.size() && slots.availablePermits() > 0; i++) {
+            JobHandler handler = handlers.get((first + i) % handlers.size());
+            int free = slots.availablePermits();
+            List<Job> jobs = transactionTemplate.execute(status -> {
+                store.lockQueue(handler.queue());
+                return store.claim(handler.queue(), free, handler.concurrency(), owner, lease);
+            });
+            if (jobs == null) {
+                continue;
+            }
+            for (Job job : jobs) {
+                slots.acquireUninterruptibly();
+                executor.execute(() -> run(handler, job));
+                started++;
+            }
+        }
+        return started;
+    }
+
+    /**
+     * Stops claiming and hands this node's running jobs back to the queue for other nodes.
+     */
+    @PreDestroy
+    void shutdown() {
+        stopping = true;
+        executor.shutdownNow();
+        int released = store.release(owner);
+        if (released > 0) {
+            log.info("Released {} running jobs on shutdown", released);
+        }
+    }
+
+    private void run(JobHandler handler, Job job) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome;
+        try {
+            handler.run(job);
+            store.complete(job.id(), owner);
+            outcome = "succeeded";
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            outcome = fail(handler, job, e.toString()) ? "failed" : "retried";
+        } finally {
+            slots.release();
+        }
+        sample.stop(meterRegistry.timer("liftit.jobs.run", "queue", handler.queue(), "outcome", outcome));
+        if (schedules.containsKey(handler.queue()) && !stopping) {
+            scheduleNextRun(handler.queue());
+        }
+    }
+
+    /**
+     * Records a failed attempt.
+     *
+     * @return whether the job was given up on
+     */
+    private boolean fail(JobHandler handler, Job job, String error) {
+        boolean giveUp = job.attempt() >= handler.maxAttempts();
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(job.attempt() - 1, 20));
+        Instant retryAt = Instant.now().plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff);
+        String truncated = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        store.fail(job.id(), owner, truncated, retryAt, giveUp);
+        if (giveUp) {
+            log.warn("Giving up on job {} ({}) after {} attempts: {}", job.id(), job.queue(), job.attempt(), truncated);
+        }
+        return giveUp;
+    }
+
+    private void scheduleNextRun(String queue) {
+        ZonedDateTime next = schedules.get(queue).next(ZonedDateTime.now(ZoneOffset.UTC));
+        if (next != null) {
+            store.insert(queue, null, next.toInstant(), RECURRING_DEDUPE_KEY, registry.get(queue).maxAttempts());
+        }
+    }
+
+    /** Jobs this node is running, for tests. */
+    int inFlight() {
+        return maxConcurrent - slots.availablePermits();
+    }
+}
@@ -0,0 +1,14 @@
+package com.liftit.job.exception;
+
+/**
+ * Thrown when a job queue already holds its maximum number of waiting jobs.
+ *
+ * <p>Maps to {@code 503 Service Unavailable} at the controller layer via
+ * {@link com.liftit.GlobalExceptionHandler}.
+ */
+public class JobQueueFullException extends RuntimeException {
+
+    public JobQueueFullException(String queue) {
+        super("Job queue is full: " + queue);
+    }
+}
@@ -2,6 +2,7 @@ package com.liftit.muscle;
 
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -11,13 +12,17 @@ import java.util.stream.Stream;
 
 /**
  * Validates that {@link MuscleEnum} constants are in sync with the {@code muscles}
- * reference table at application startup.
+ * reference table when migrations are applied.
  *
  * <p>Throws {@link IllegalStateException} if the enum and table diverge — either
  * in count or in the set of IDs present. This ensures the Java enum and the
  * database seed never silently fall out of sync.
+ *
+ * <p>Runs only in the {@code migrate} run mode, right after the seed changesets are
+ * applied; serving nodes rely on the schema fingerprint check instead.
  */
 @Component
+@Profile("migrate")
 class MuscleEnumValidator implements ApplicationRunner {
 
     private final MuscleRepository muscleRepository;
@@ -0,0 +1,153 @@
+package com.liftit.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code outbox_events} table access for {@link Outbox} writers and the
+ * {@link OutboxDispatcher}.
+ *
+ * <p>Event ids come from a sequence when the row is inserted, but transactions commit in
+ * their own order, so two concurrent transactions of one user could otherwise make the
+ * later id visible first. {@link #append} therefore takes a transaction-scoped advisory
+ * lock per user: a user's appending transactions run one after the other, and their
+ * events become visible in id order, which {@link #LOCK_SQL} relies on.
+ *
+ * <p>The advisory lock is always the last lock a writer takes: callers lock the rows they
+ * change first (a JPA writer flushes before appending). Taken in the other order, a
+ * request and a background job touching the same user could deadlock.
+ */
+@Repository
+class JdbcOutbox implements Outbox {
+
+    static final int PENDING = 1;
+    static final int DISPATCHED = 2;
+    static final int DEAD = 3;
+
+    /** First key of the two-key advisory locks serialising appends per user ("obox" in ASCII). */
+    private static final int APPEND_LOCK_SPACE = 0x6F626F78;
+
+    /**
+     * Locks up to {@code limit} due events, skipping rows other nodes hold, and returns
+     * the ones that may be delivered now. A user's events stay in order across nodes:
+     * events queued behind one of the user's retries are not claimed at all, and a claimed
+     * event is held back while an earlier pending event of the user is locked by another
+     * node. Both checks assume a user's events commit in id order, which {@link #append}
+     * guarantees.
+     */
+    private static final String LOCK_SQL = """
+            WITH locked AS (
+                SELECT e.id, e.event_type, e.user_id, e.aggregate_id, e.attempts, e.created_at
+                FROM outbox_events e
+                WHERE e.status_code = 1 AND e.available_at <= now()
+                  AND NOT EXISTS (
+                      SELECT 1 FROM outbox_events r
+                      WHERE r.status_code = 1 AND r.user_id = e.user_id AND r.id < e.id
+                        AND r.available_at > now())
+                ORDER BY e.id
+                LIMIT ?
+                FOR UPDATE OF e SKIP LOCKED
+            )
+            SELECT l.id, l.event_type, l.user_id, l.aggregate_id, l.attempts, l.created_at
+            FROM locked l
+            WHERE NOT EXISTS (
+                SELECT 1 FROM outbox_events o
+                WHERE o.status_code = 1 AND o.user_id = l.user_id AND o.id < l.id
+                  AND o.id NOT IN (SELECT id FROM locked))
+            ORDER BY l.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JdbcOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void append(String type, Long userId, Long aggregateId) {
+        if (type == null || type.isBlank()) {
+            throw new IllegalArgumentException("type must not be blank");
+        }
+        if (userId == null || aggregateId == null) {
+            throw new IllegalArgumentException("userId and aggregateId must not be null");
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox events must be appended inside the transaction making the change");
+        }
+        jdbcTemplate.queryForObject("SELECT true FROM pg_advisory_xact_lock(?, hashint8(?))",
+                Boolean.class, APPEND_LOCK_SPACE, userId);
+        jdbcTemplate.update("""
+                INSERT INTO outbox_events (event_type, user_id, aggregate_id, status_code, attempts, available_at, created_at)
+                VALUES (?, ?, ?, 1, 0, now(), now())
+                """, type, userId, aggregateId);
+    }
+
+    /**
+     * Locks a batch of due events for the current transaction. See {@link #LOCK_SQL}.
+     *
+     * @param limit the maximum number of events to lock
+     * @return the deliverable events, oldest first
+     */
+    List<OutboxEvent> lockBatch(int limit) {
+        return jdbcTemplate.query(LOCK_SQL, (rs, rowNum) -> new OutboxEvent(
+                rs.getLong("id"),
+                rs.getString("event_type"),
+                rs.getLong("user_id"),
+                rs.getLong("aggregate_id"),
+                rs.getInt("attempts"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant()), limit);
+    }
+
+    void markDispatched(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE outbox_events SET status_code = ?, processed_at = now() WHERE id = ?",
+                ids.stream().map(id -> new Object[] {DISPATCHED, id}).toList());
+    }
+
+    /**
+     * Records a failed attempt: the event is retried at {@code retryAt}, or given up on
+     * when {@code dead}.
+     */
+    void markFailed(long id, Instant retryAt, String error, boolean dead) {
+        jdbcTemplate.update("""
+                UPDATE outbox_events
+                SET attempts = attempts + 1, available_at = ?, last_error = ?,
+                    status_code = ?, processed_at = CASE WHEN ? THEN now() END
+                WHERE id = ?
+                """, utc(retryAt), error, dead ? DEAD : PENDING, dead, id);
+    }
+
+    /**
+     * Returns when the oldest pending event was created, for the lag gauge.
+     */
+    Optional<Instant> oldestPending() {
+        return jdbcTemplate.query(
+                "SELECT created_at FROM outbox_events WHERE status_code = 1 ORDER BY id LIMIT 1",
+                (rs, rowNum) -> rs.getObject("created_at", OffsetDateTime.class).toInstant()).stream().findFirst();
+    }
+
+    /**
+     * Deletes dispatched and dead events processed before {@code cutoff}.
+     *
+     * @return the number of events deleted
+     */
+    int deleteProcessedBefore(Instant cutoff) {
+        return jdbcTemplate.update(
+                "DELETE FROM outbox_events WHERE status_code <> 1 AND processed_at < ?", utc(cutoff));
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
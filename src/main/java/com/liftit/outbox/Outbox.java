@@ -0,0 +1,24 @@
+package com.liftit.outbox;
+
+/**
+ * Records domain events for asynchronous delivery to {@link OutboxConsumer}s.
+ *
+ * <p>An event is appended in the same database transaction as the change it describes,
+ * so it is recorded if and only if the change commits. Delivery happens later, on a
+ * background dispatcher, and never adds latency to the request that made the change.
+ */
+public interface Outbox {
+
+    /**
+     * Appends an event to the outbox as part of the current transaction.
+     *
+     * <p>Call it once the change has been written, not just staged in a persistence context:
+     * appending locks the user, and that lock must come after the locks on the changed rows.
+     *
+     * @param type        event type, e.g. {@code workout.completed}; must not be blank
+     * @param userId      the user the event belongs to; must not be null
+     * @param aggregateId the ID of the changed aggregate; must not be null
+     * @throws IllegalStateException if no transaction is active
+     */
+    void append(String type, Long userId, Long aggregateId);
+}
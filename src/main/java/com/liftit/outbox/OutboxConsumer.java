@@ -0,0 +1,21 @@
+package com.liftit.outbox;
+
+/**
+ * Reacts to outbox events, e.g. to update analytics, personal records, feeds or caches.
+ *
+ * <p>Every consumer bean receives every event. Delivery is at least once: an event whose
+ * delivery fails or times out is retried for all consumers, so handlers must be
+ * idempotent. Events of one user are delivered in order, one at a time; events of
+ * different users are delivered concurrently on virtual threads.
+ */
+public interface OutboxConsumer {
+
+    /**
+     * Handles one event. Throwing schedules the event, and the user's later events,
+     * for another attempt.
+     *
+     * @param event the event; never null
+     * @throws Exception if the event could not be handled
+     */
+    void handle(OutboxEvent event) throws Exception;
+}
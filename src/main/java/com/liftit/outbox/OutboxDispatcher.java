@@ -0,0 +1,289 @@
+package com.liftit.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Delivers pending outbox events to every {@link OutboxConsumer}.
+ *
+ * <p>Every {@code liftit.outbox.poll-interval-ms} the dispatcher claims batches of up to
+ * {@code liftit.outbox.batch-size} events, each batch in its own transaction, with
+ * {@code FOR UPDATE SKIP LOCKED}: nodes sharing the database split the backlog instead of
+ * contending for it, and a node that dies mid-batch releases its rows when its transaction
+ * rolls back. A batch is split by user; each user's events run in order on one virtual
+ * thread, different users concurrently. Delivered events are marked dispatched when the
+ * batch commits.
+ *
+ * <p>A failed or timed-out event ({@code liftit.outbox.consumer-timeout-ms} per batch)
+ * stops its user's lane and is retried with exponential backoff from
+ * {@code liftit.outbox.retry-backoff-ms}; the user's later events wait for it. After
+ * {@code liftit.outbox.max-attempts} attempts it is marked dead and logged, so one poison
+ * event cannot stall a user for good.
+ *
+ * <p>{@code liftit.outbox.polling-enabled=false} stops the scheduled poll; events are still
+ * recorded, and {@link #dispatchPending()} still delivers them when called directly.
+ *
+ * <p>Metrics: {@code liftit.outbox.lag} (commit to delivery), {@code liftit.outbox.oldest.pending.age},
+ * and the {@code liftit.outbox.dispatched}, {@code .retried} and {@code .dead} counters.
+ */
+@Component
+class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcOutbox outbox;
+    private final List<OutboxConsumer> consumers;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean pollingEnabled;
+    private final int batchSize;
+    private final int maxBatches;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration consumerTimeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicReference<Instant> oldestPending = new AtomicReference<>();
+    private final Timer lag;
+    private final Counter dispatched;
+    private final Counter retried;
+    private final Counter dead;
+
+    OutboxDispatcher(
+            JdbcOutbox outbox,
+            ObjectProvider<OutboxConsumer> consumers,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${liftit.outbox.polling-enabled:true}") boolean pollingEnabled,
+            @Value("${liftit.outbox.batch-size:100}") int batchSize,
+            @Value("${liftit.outbox.max-batches:20}") int maxBatches,
+            @Value("${liftit.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${liftit.outbox.retry-backoff-ms:1000}") long retryBackoffMs,
+            @Value("${liftit.outbox.consumer-timeout-ms:10000}") long consumerTimeoutMs) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("liftit.outbox.batch-size must be at least 1");
+        }
+        if (maxBatches < 1) {
+            throw new IllegalArgumentException("liftit.outbox.max-batches must be at least 1");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("liftit.outbox.max-attempts must be at least 1");
+        }
+        if (retryBackoffMs < 1 || consumerTimeoutMs < 1) {
+            throw new IllegalArgumentException("liftit.outbox retry backoff and consumer timeout must be positive");
+        }
+        this.outbox = outbox;
+        this.consumers = consumers.orderedStream().toList();
+        this.transactionTemplate = transactionTemplate;
+        this.pollingEnabled = pollingEnabled;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.consumerTimeout = Duration.ofMillis(consumerTimeoutMs);
+        this.lag = Timer.builder("liftit.outbox.lag")
+                .description("Time from an event's commit to its delivery")
+                .register(meterRegistry);
+        this.dispatched = meterRegistry.counter("liftit.outbox.dispatched");
+        this.retried = meterRegistry.counter("liftit.outbox.retried");
+        this.dead = meterRegistry.counter("liftit.outbox.dead");
+        TimeGauge.builder("liftit.outbox.oldest.pending.age", oldestPending, TimeUnit.MILLISECONDS,
+                        oldest -> oldest.get() == null ? 0 : Duration.between(oldest.get(), Instant.now()).toMillis())
+                .description("Age of the oldest undelivered event")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${liftit.outbox.poll-interval-ms:500}")
+    void poll() {
+        if (pollingEnabled) {
+            dispatchPending();
+        }
+    }
+
+    /**
+     * Dispatches batches until the backlog is drained or {@code maxBatches} is reached.
+     *
+     * @return the number of events delivered
+     */
+    int dispatchPending() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            BatchResult result = transactionTemplate.execute(status -> dispatchBatch());
+            if (result == null) {
+                break;
+            }
+            total += result.delivered();
+            if (result.claimed() < batchSize) {
+                break;
+            }
+        }
+        oldestPending.set(outbox.oldestPending().orElse(null));
+        return total;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private BatchResult dispatchBatch() {
+        List<OutboxEvent> events = outbox.lockBatch(batchSize);
+        if (events.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+        Map<Long, List<OutboxEvent>> byUser = new LinkedHashMap<>();
+        events.forEach(event -> byUser.computeIfAbsent(event.userId(), id -> new ArrayList<>()).add(event));
+        List<Lane> lanes = byUser.values().stream().map(Lane::new).toList();
+        List<Future<?>> futures = lanes.stream().map(lane -> executor.submit(lane::run)).toList();
+        awaitLanes(lanes, futures);
+
+        Instant now = Instant.now();
+        List<Long> delivered = new ArrayList<>();
+        for (Lane lane : lanes) {
+            for (OutboxEvent event : lane.delivered()) {
+                delivered.add(event.id());
+                lag.record(Duration.between(event.createdAt(), now));
+            }
+            Failure failure = lane.failure();
+            if (failure != null) {
+                fail(failure, now);
+            }
+        }
+        outbox.markDispatched(delivered);
+        dispatched.increment(delivered.size());
+        return new BatchResult(events.size(), delivered.size());
+    }
+
+    private void awaitLanes(List<Lane> lanes, List<Future<?>> futures) {
+        long deadline = System.nanoTime() + consumerTimeout.toNanos();
+        for (int i = 0; i < lanes.size(); i++) {
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                futures.get(i).cancel(true);
+                lanes.get(i).abandon("Timed out after " + consumerTimeout.toMillis() + " ms");
+            } catch (ExecutionException e) {
+                lanes.get(i).abandon(String.valueOf(e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lanes.forEach(lane -> lane.abandon("Dispatcher interrupted"));
+                return;
+            }
+        }
+    }
+
+    private void fail(Failure failure, Instant now) {
+        OutboxEvent event = failure.event();
+        int attempts = event.attempts() + 1;
+        boolean giveUp = attempts >= maxAttempts;
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        Instant retryAt = now.plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff);
+        String error = failure.error().length() > MAX_ERROR_LENGTH
+                ? failure.error().substring(0, MAX_ERROR_LENGTH)
+                : failure.error();
+        outbox.markFailed(event.id(), retryAt, error, giveUp);
+        if (giveUp) {
+            dead.increment();
+            log.warn("Giving up on outbox event {} ({}) after {} attempts: {}", event.id(), event.type(), attempts, error);
+        } else {
+            retried.increment();
+        }
+    }
+
+    private record BatchResult(int claimed, int delivered) {
+    }
+
+    private record Failure(OutboxEvent event, String error) {
+    }
+
+    /**
+     * One user's events in a batch, delivered in order until the first failure. Once
+     * the dispatcher stops waiting, the lane is closed and later deliveries are not counted.
+     */
+    private final class Lane {
+
+        private final List<OutboxEvent> events;
+        private final List<OutboxEvent> delivered = new ArrayList<>();
+        private Failure failure;
+        private boolean closed;
+
+        Lane(List<OutboxEvent> events) {
+            this.events = events;
+        }
+
+        void run() {
+            for (OutboxEvent event : events) {
+                try {
+                    for (OutboxConsumer consumer : consumers) {
+                        consumer.handle(event);
+                    }
+                } catch (Exception e) {
+                    recordFailure(new Failure(event, e.toString()));
+                    return;
+                }
+                if (!recordDelivery(event)) {
+                    return;
+                }
+            }
+        }
+
+        synchronized boolean recordDelivery(OutboxEvent event) {
+            if (closed) {
+                return false;
+            }
+            delivered.add(event);
+            return true;
+        }
+
+        synchronized void recordFailure(Failure failure) {
+            if (!closed) {
+                this.failure = failure;
+                closed = true;
+            }
+        }
+
+        /** Closes the lane, charging the first undelivered event with {@code error}. */
+        synchronized void abandon(String error) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (delivered.size() < events.size()) {
+                failure = new Failure(events.get(delivered.size()), error);
+            }
+        }
+
+        synchronized List<OutboxEvent> delivered() {
+            closed = true;
+            return List.copyOf(delivered);
+        }
+
+        synchronized Failure failure() {
+            return failure;
+        }
+    }
+}
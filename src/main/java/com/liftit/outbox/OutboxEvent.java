@@ -0,0 +1,27 @@
+package com.liftit.outbox;
+
+import java.time.Instant;
+
+/**
+ * A domain event recorded in the outbox.
+ *
+ * <p>Events are thin: they name what happened and to which aggregate, and consumers read
+ * the current state they need. That keeps the outbox row small and lets a consumer that
+ * falls behind act on fresh data rather than on a stale payload.
+ *
+ * @param id          outbox sequence number; increases with insertion order
+ * @param type        event type, e.g. {@code workout.completed}
+ * @param userId      the user the event belongs to; events of one user are delivered in order
+ * @param aggregateId the ID of the changed aggregate, e.g. the workout ID
+ * @param attempts    the number of earlier failed delivery attempts
+ * @param createdAt   when the change was committed
+ */
+public record OutboxEvent(
+        long id,
+        String type,
+        Long userId,
+        Long aggregateId,
+        int attempts,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,59 @@
+package com.liftit.outbox;
+
+import com.liftit.job.Job;
+import com.liftit.job.JobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Deletes processed outbox events once they are older than
+ * {@code liftit.outbox.retention-days}. Runs as a recurring job
+ * ({@code liftit.outbox.prune-cron}, UTC), so one node prunes per schedule. Dead events are
+ * kept as long as dispatched ones, for inspection.
+ */
+@Component
+class OutboxPruner implements JobHandler {
+
+    static final String QUEUE = "outbox.prune";
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPruner.class);
+
+    private final JdbcOutbox outbox;
+    private final Duration retention;
+    private final String cron;
+
+    OutboxPruner(
+            JdbcOutbox outbox,
+            @Value("${liftit.outbox.retention-days:7}") int retentionDays,
+            @Value("${liftit.outbox.prune-cron:0 0 5 * * *}") String cron) {
+        if (retentionDays < 1) {
+            throw new IllegalArgumentException("liftit.outbox.retention-days must be at least 1");
+        }
+        this.outbox = outbox;
+        this.retention = Duration.ofDays(retentionDays);
+        this.cron = cron;
+    }
+
+    @Override
+    public String queue() {
+        return QUEUE;
+    }
+
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public void run(Job job) {
+        int deleted = outbox.deleteProcessedBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Pruned {} processed outbox events", deleted);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.liftit.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Emits a {@link ControllerRequestEvent} per request handled by a controller method.
+ *
+ * <p>The event begins when the handler is chosen and is committed when the request
+ * completes, so it covers argument binding, the handler and writing the response body.
+ */
+class ControllerEventInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = ControllerEventInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            ControllerRequestEvent event = new ControllerRequestEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                request.setAttribute(EVENT_ATTRIBUTE, event);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof ControllerRequestEvent event)) {
+            return;
+        }
+        request.removeAttribute(EVENT_ATTRIBUTE);
+        event.end();
+        if (event.shouldCommit()) {
+            HandlerMethod method = (HandlerMethod) handler;
+            event.httpMethod = request.getMethod();
+            event.route = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+            event.handler = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+            event.status = response.getStatus();
+            event.commit();
+        }
+    }
+}
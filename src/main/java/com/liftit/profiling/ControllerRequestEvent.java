@@ -0,0 +1,34 @@
+package com.liftit.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one request from handler selection to completion, emitted by
+ * {@link ControllerEventInterceptor}. Authentication runs before it, in its own
+ * {@link JwtVerificationEvent}.
+ */
+@Name("com.liftit.ControllerRequest")
+@Label("Controller Request")
+@Category({"LiftIt", "Web"})
+@Description("One request handled by a controller, response serialization included")
+@StackTrace(false)
+public final class ControllerRequestEvent extends Event {
+
+    @Label("HTTP Method")
+    public String httpMethod;
+
+    @Label("Route")
+    @Description("The matched path pattern, e.g. /api/v1/workouts/{id}")
+    public String route;
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("Status")
+    public int status;
+}
@@ -0,0 +1,121 @@
+package com.liftit.profiling;
+
+import com.liftit.profiling.exception.ProfilingInProgressException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Default implementation of {@link ProfilingService}.
+ *
+ * <p>One recording runs at a time per node; a second request is refused rather than
+ * queued, because the caller is holding an HTTP request open for the duration. The
+ * recording is independent of any continuous recording started with
+ * {@code -XX:StartFlightRecording}. The LiftIt events are enabled with no threshold so
+ * that every call inside the window is captured.
+ */
+@Service
+public class DefaultProfilingService implements ProfilingService {
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final List<Class<? extends Event>> LIFTIT_EVENTS = List.of(JwtVerificationEvent.class,
+            RepositoryCallEvent.class, DomainMappingEvent.class, ControllerRequestEvent.class);
+
+    private final Duration maxDuration;
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    public DefaultProfilingService(@Value("${liftit.profiling.max-seconds:120}") int maxSeconds) {
+        if (maxSeconds < 1) {
+            throw new IllegalArgumentException("liftit.profiling.max-seconds must be at least 1");
+        }
+        this.maxDuration = Duration.ofSeconds(maxSeconds);
+    }
+
+    @Override
+    public Path record(Duration duration) throws IOException, InterruptedException {
+        if (duration == null || duration.compareTo(Duration.ofSeconds(1)) < 0 || duration.compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException(
+                    "duration must be between 1 and " + maxDuration.toSeconds() + " seconds");
+        }
+        if (!recording.compareAndSet(false, true)) {
+            throw new ProfilingInProgressException();
+        }
+        try (Recording jfr = new Recording(profileSettings())) {
+            jfr.setName("liftit-on-demand");
+            for (Class<? extends Event> type : LIFTIT_EVENTS) {
+                jfr.enable(type).withThreshold(Duration.ZERO);
+            }
+            jfr.start();
+            Thread.sleep(duration);
+            jfr.stop();
+            Path file = Files.createTempFile("liftit-profile-", ".jfr");
+            try {
+                jfr.dump(file);
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            return file;
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    @Override
+    public String collapsedStacks(Path recording) throws IOException {
+        Map<String, Long> stacks = new HashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (event.getEventType().getName().equals(EXECUTION_SAMPLE) && event.getStackTrace() != null) {
+                    stacks.merge(collapse(event.getStackTrace()), 1L, Long::sum);
+                }
+            }
+        }
+        return stacks.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(stack -> stack.getKey() + " " + stack.getValue() + "\n")
+                .collect(Collectors.joining());
+    }
+
+    private static String collapse(RecordedStackTrace stackTrace) {
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringJoiner joined = new StringJoiner(";");
+        if (stackTrace.isTruncated()) {
+            joined.add("[truncated]");
+        }
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            RecordedFrame frame = frames.get(i);
+            joined.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName());
+        }
+        return joined.toString();
+    }
+
+    private static Configuration profileSettings() throws IOException {
+        try {
+            return Configuration.getConfiguration("profile");
+        } catch (ParseException e) {
+            throw new IllegalStateException("JFR profile settings could not be parsed", e);
+        }
+    }
+}
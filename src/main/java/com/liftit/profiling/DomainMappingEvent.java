@@ -0,0 +1,62 @@
+package com.liftit.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the conversion of an aggregate between its JPA entity and its domain
+ * form. Emitted by the aggregate roots only; child entities are mapped inside their
+ * parent's event.
+ *
+ * <p>Usage, with the existing body in between:
+ * <pre>
+ *   DomainMappingEvent event = DomainMappingEvent.toDomain("Workout");
+ *   ...
+ *   return event.end(new Workout(...));
+ * </pre>
+ */
+@Name("com.liftit.DomainMapping")
+@Label("Domain Mapping")
+@Category({"LiftIt", "Persistence"})
+@Description("Converting an aggregate between its JPA entity and its domain form")
+@StackTrace(false)
+public final class DomainMappingEvent extends Event {
+
+    @Label("Aggregate")
+    public String aggregate;
+
+    @Label("Direction")
+    @Description("toDomain or fromDomain")
+    public String direction;
+
+    private DomainMappingEvent(String aggregate, String direction) {
+        this.aggregate = aggregate;
+        this.direction = direction;
+    }
+
+    /** Starts timing an entity-to-domain conversion of {@code aggregate}. */
+    public static DomainMappingEvent toDomain(String aggregate) {
+        return start(aggregate, "toDomain");
+    }
+
+    /** Starts timing a domain-to-entity conversion of {@code aggregate}. */
+    public static DomainMappingEvent fromDomain(String aggregate) {
+        return start(aggregate, "fromDomain");
+    }
+
+    private static DomainMappingEvent start(String aggregate, String direction) {
+        DomainMappingEvent event = new DomainMappingEvent(aggregate, direction);
+        event.begin();
+        return event;
+    }
+
+    /** Commits the event and returns {@code mapped}, so a mapping can end in one return. */
+    public <T> T end(T mapped) {
+        commit();
+        return mapped;
+    }
+}
@@ -0,0 +1,26 @@
+package com.liftit.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the parse, signature check and claim validation of one bearer token.
+ */
+@Name("com.liftit.JwtVerification")
+@Label("JWT Verification")
+@Category({"LiftIt", "Security"})
+@Description("Parsing and verifying one bearer token")
+@StackTrace(false)
+public final class JwtVerificationEvent extends Event {
+
+    @Label("Valid")
+    public boolean valid;
+
+    @Label("Failure")
+    @Description("Why the token was rejected, when it was")
+    public String failure;
+}
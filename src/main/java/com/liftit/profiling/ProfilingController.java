@@ -0,0 +1,84 @@
+package com.liftit.profiling;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * REST controller for on-demand JFR profiling of the node that serves the request.
+ *
+ * <p>Both endpoints hold the request open while recording. They are restricted to the
+ * subjects listed in {@code liftit.admin.subjects} by {@link com.liftit.auth.SecurityConfig}.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/profiling")
+public class ProfilingController {
+
+    private final ProfilingService profilingService;
+
+    public ProfilingController(ProfilingService profilingService) {
+        this.profilingService = profilingService;
+    }
+
+    /**
+     * Records for {@code seconds} and streams back the JFR file, for JDK Mission Control
+     * or {@code jfr print}. The file is deleted once it has been sent.
+     *
+     * @param seconds how long to record
+     * @return {@code 200 OK} with the recording as an attachment, {@code 400 Bad Request}
+     *         for a duration outside the allowed range, or {@code 409 Conflict} while
+     *         another recording is running
+     */
+    @PostMapping("/recording")
+    public ResponseEntity<StreamingResponseBody> record(@RequestParam(defaultValue = "30") int seconds)
+            throws IOException, InterruptedException {
+        Path recording = profilingService.record(Duration.ofSeconds(seconds));
+        ContentDisposition attachment = ContentDisposition.attachment()
+                .filename(recording.getFileName().toString())
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment.toString())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(recording))
+                .body(out -> {
+                    try {
+                        Files.copy(recording, out);
+                    } finally {
+                        Files.deleteIfExists(recording);
+                    }
+                });
+    }
+
+    /**
+     * Records for {@code seconds} and returns the CPU samples as collapsed stacks, ready
+     * for a flame graph renderer such as {@code flamegraph.pl} or speedscope.
+     *
+     * @param seconds how long to record
+     * @return {@code 200 OK} with one {@code frame;frame;frame count} line per stack,
+     *         {@code 400 Bad Request} for a duration outside the allowed range, or
+     *         {@code 409 Conflict} while another recording is running
+     */
+    @PostMapping("/flame-graph")
+    public ResponseEntity<String> flameGraph(@RequestParam(defaultValue = "30") int seconds)
+            throws IOException, InterruptedException {
+        Path recording = profilingService.record(Duration.ofSeconds(seconds));
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(profilingService.collapsedStacks(recording));
+        } finally {
+            Files.deleteIfExists(recording);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.liftit.profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Application service that records this node with JFR on demand.
+ *
+ * <p>Callers depend on this abstraction (Dependency Inversion Principle).
+ */
+public interface ProfilingService {
+
+    /**
+     * Records for {@code duration} with the JFR {@code profile} settings plus the LiftIt
+     * events, and returns the recording file. The caller owns the file and deletes it.
+     *
+     * @param duration how long to record; between one second and the configured maximum
+     * @return the dumped {@code .jfr} file
+     * @throws com.liftit.profiling.exception.ProfilingInProgressException if a recording is already running
+     */
+    Path record(Duration duration) throws IOException, InterruptedException;
+
+    /**
+     * Folds the execution samples in {@code recording} into collapsed stacks, one
+     * {@code frame;frame;frame count} line per distinct stack, root first, most frequent
+     * first — the input format of flame graph tools.
+     *
+     * @param recording a {@code .jfr} file returned by {@link #record(Duration)}
+     * @return the collapsed stacks, empty if the recording holds no samples
+     */
+    String collapsedStacks(Path recording) throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.liftit.profiling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers {@link ControllerEventInterceptor} for every API route.
+ */
+@Configuration
+class ProfilingWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ControllerEventInterceptor()).addPathPatterns("/api/**");
+    }
+}
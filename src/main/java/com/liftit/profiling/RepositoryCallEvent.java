@@ -0,0 +1,29 @@
+package com.liftit.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one call to a domain repository port, emitted by the port proxies of
+ * {@code com.liftit.tracing.TracingPostProcessor}.
+ */
+@Name("com.liftit.RepositoryCall")
+@Label("Repository Call")
+@Category({"LiftIt", "Persistence"})
+@Description("One call to a domain repository port, database round trips and mapping included")
+@StackTrace(false)
+public final class RepositoryCallEvent extends Event {
+
+    @Label("Port")
+    public String port;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,14 @@
+package com.liftit.profiling.exception;
+
+/**
+ * Thrown when an on-demand profiling recording is requested while another is running.
+ *
+ * <p>Maps to {@code 409 Conflict} at the controller layer via
+ * {@link com.liftit.GlobalExceptionHandler}.
+ */
+public class ProfilingInProgressException extends RuntimeException {
+
+    public ProfilingInProgressException() {
+        super("A profiling recording is already in progress");
+    }
+}
@@ -0,0 +1,102 @@
+package com.liftit.schema;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The changesets this build expects to find applied, read from the classpath changelogs.
+ *
+ * <p>Parses the master changelog's {@code <include file="..."/>} entries in order and the
+ * {@code --changeset author:id} headers of each Liquibase formatted-SQL file. Only the
+ * subset of Liquibase syntax this repository uses is supported (see the README's
+ * migration rules).
+ *
+ * <p>Context filtering mirrors Liquibase: when no contexts are active every changeset is
+ * expected; otherwise a changeset with a {@code context:} attribute is expected only if
+ * one of its contexts is active.
+ */
+public final class ChangeLog {
+
+    private static final Pattern INCLUDE = Pattern.compile("<include\\s+file=\"([^\"]+)\"");
+    private static final Pattern CHANGESET = Pattern.compile("^--changeset\\s+([^:\\s]+):(\\S+)(.*)$");
+    private static final Pattern CONTEXT = Pattern.compile("\\bcontext:(\\S+)");
+
+    private final List<Entry> entries;
+
+    private record Entry(ChangeSetId id, Set<String> contexts) {
+    }
+
+    private ChangeLog(List<Entry> entries) {
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Reads the master changelog and all files it includes from the classpath.
+     *
+     * @param masterLocation classpath location of the master changelog, with or without
+     *                       a {@code classpath:} prefix; must not be null
+     * @return the parsed changelog
+     * @throws IllegalStateException if a changelog file cannot be read
+     */
+    public static ChangeLog load(String masterLocation) {
+        if (masterLocation == null) {
+            throw new IllegalArgumentException("masterLocation must not be null");
+        }
+        String master = read(masterLocation.replaceFirst("^classpath:", ""));
+        List<Entry> entries = new ArrayList<>();
+        Matcher include = INCLUDE.matcher(master);
+        while (include.find()) {
+            entries.addAll(parseSql(read(include.group(1))));
+        }
+        return new ChangeLog(entries);
+    }
+
+    /**
+     * Returns the changesets expected to be applied under the given active contexts,
+     * in changelog order.
+     *
+     * @param activeContexts the active Liquibase contexts; empty means all
+     * @return the expected changeset ids
+     */
+    public List<ChangeSetId> expected(Set<String> activeContexts) {
+        return entries.stream()
+                .filter(e -> activeContexts.isEmpty() || e.contexts().isEmpty()
+                        || e.contexts().stream().anyMatch(activeContexts::contains))
+                .map(Entry::id)
+                .toList();
+    }
+
+    private static List<Entry> parseSql(String sql) {
+        List<Entry> entries = new ArrayList<>();
+        for (String line : sql.split("\\R")) {
+            Matcher changeset = CHANGESET.matcher(line.strip());
+            if (changeset.matches()) {
+                Matcher context = CONTEXT.matcher(changeset.group(3));
+                Set<String> contexts = context.find()
+                        ? Arrays.stream(context.group(1).split(",")).map(String::strip).collect(Collectors.toSet())
+                        : Set.of();
+                entries.add(new Entry(new ChangeSetId(changeset.group(1), changeset.group(2)), contexts));
+            }
+        }
+        return entries;
+    }
+
+    private static String read(String location) {
+        Resource resource = new ClassPathResource(location);
+        try {
+            return resource.getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read changelog " + location, e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.liftit.schema;
+
+/**
+ * Identity of a Liquibase changeset, as stored in {@code databasechangelog.author}
+ * and {@code databasechangelog.id}.
+ *
+ * @param author the changeset author; must not be blank
+ * @param id     the changeset id; must not be blank
+ */
+public record ChangeSetId(String author, String id) {
+
+    public ChangeSetId {
+        if (author == null || author.isBlank()) {
+            throw new IllegalArgumentException("ChangeSetId.author must not be blank");
+        }
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("ChangeSetId.id must not be blank");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return author + ":" + id;
+    }
+}
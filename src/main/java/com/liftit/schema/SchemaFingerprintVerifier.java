@@ -0,0 +1,105 @@
+package com.liftit.schema;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fails serving startup fast when the database schema is older than this build expects.
+ *
+ * <p>Serving nodes do not run Liquibase or Hibernate schema validation; migrations are
+ * applied once per release by the {@code migrate} run mode (see {@link com.liftit.App}). Instead,
+ * this bean reads the applied changeset ids from {@code databasechangelog} in a single
+ * query and compares them with the changesets packaged in this build's changelog:
+ * <ul>
+ *   <li>a changeset packaged here but not applied means the schema is behind — startup
+ *       fails with instructions to run the migration;</li>
+ *   <li>changesets applied but unknown to this build are tolerated with a warning, so an
+ *       older build can keep serving while a newer one rolls out (expand/contract).</li>
+ * </ul>
+ * Changesets outside the active contexts (e.g. {@code contract}) are not required, and
+ * are not reported as unknown once applied.
+ *
+ * <p>Runs during context refresh, so a stale schema stops the node before it accepts
+ * traffic. Under the {@code integrationTest} profile Liquibase is still enabled in-process;
+ * {@link DependsOnDatabaseInitialization} orders this check after it.
+ */
+@Component
+@Profile("!migrate")
+@DependsOnDatabaseInitialization
+class SchemaFingerprintVerifier implements InitializingBean {
+
+    static final String STEP_NAME = "liftit.schema.verify";
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaFingerprintVerifier.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationStartup applicationStartup;
+    private final List<ChangeSetId> expected;
+    private final List<ChangeSetId> packaged;
+
+    SchemaFingerprintVerifier(
+            JdbcTemplate jdbcTemplate,
+            ApplicationStartup applicationStartup,
+            @Value("${spring.liquibase.change-log}") String changeLog,
+            @Value("${spring.liquibase.contexts:}") String contexts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.applicationStartup = applicationStartup;
+        ChangeLog packagedChangeLog = ChangeLog.load(changeLog);
+        this.expected = packagedChangeLog
+                .expected(StringUtils.commaDelimitedListToSet(contexts.replace(" ", "")));
+        this.packaged = packagedChangeLog.expected(Set.of());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        StartupStep step = applicationStartup.start(STEP_NAME);
+        try {
+            verify(applied());
+            step.tag("changesets", Integer.toString(expected.size()));
+        } finally {
+            step.end();
+        }
+    }
+
+    private List<ChangeSetId> applied() {
+        try {
+            return jdbcTemplate.query(
+                    "SELECT author, id FROM databasechangelog ORDER BY orderexecuted",
+                    (rs, rowNum) -> new ChangeSetId(rs.getString("author"), rs.getString("id")));
+        } catch (BadSqlGrammarException e) {
+            throw new IllegalStateException(
+                    "Database has no Liquibase changelog; apply migrations first by running "
+                    + "the application with SPRING_PROFILES_ACTIVE=migrate", e);
+        }
+    }
+
+    private void verify(List<ChangeSetId> applied) {
+        Set<ChangeSetId> missing = new LinkedHashSet<>(expected);
+        applied.forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException(
+                    "Database schema is behind this build; missing changesets " + missing
+                    + ". Apply migrations first by running the application with "
+                    + "SPRING_PROFILES_ACTIVE=migrate");
+        }
+        Set<ChangeSetId> unknown = new LinkedHashSet<>(applied);
+        packaged.forEach(unknown::remove);
+        if (!unknown.isEmpty()) {
+            log.warn("Database schema is ahead of this build; unknown changesets {}", unknown);
+        }
+    }
+}
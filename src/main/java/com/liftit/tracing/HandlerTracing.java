@@ -0,0 +1,120 @@
+package com.liftit.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Splits a traced request into a {@code liftit.controller} observation — argument binding
+ * and the handler method, with the service and repository observations nested in it —
+ * and a {@code liftit.serialization} observation for writing the response body.
+ *
+ * <p>Both are children of the request's {@code http.server.requests} observation. The
+ * handler observation starts when the handler is chosen and stops when the body is about
+ * to be written ({@link #beforeBodyWrite}); serialization stops when the request
+ * completes. Responses without a body have no serialization observation. The request
+ * observation gets the handler's statement count.
+ */
+@ControllerAdvice
+class HandlerTracing implements AsyncHandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    static final String CONTROLLER_OBSERVATION = "liftit.controller";
+    static final String SERIALIZATION_OBSERVATION = "liftit.serialization";
+
+    private static final String HANDLER_ATTRIBUTE = HandlerTracing.class.getName() + ".handler";
+    private static final String SCOPE_ATTRIBUTE = HandlerTracing.class.getName() + ".scope";
+    private static final String SERIALIZATION_ATTRIBUTE = HandlerTracing.class.getName() + ".serialization";
+
+    private final ObservationRegistry registry;
+
+    HandlerTracing(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || registry.getCurrentObservation() == null) {
+            return true;
+        }
+        Observation observation = Observation.createNotStarted(CONTROLLER_OBSERVATION, registry)
+                .contextualName(method.getBeanType().getSimpleName() + "." + method.getMethod().getName())
+                .lowCardinalityKeyValue("liftit.component", method.getBeanType().getSimpleName())
+                .lowCardinalityKeyValue("liftit.method", method.getMethod().getName());
+        StatementCounter.attach(observation.getContext());
+        observation.start();
+        request.setAttribute(HANDLER_ATTRIBUTE, observation);
+        request.setAttribute(SCOPE_ATTRIBUTE, observation.openScope());
+        return true;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(HANDLER_ATTRIBUTE) != null) {
+            HttpServletRequest servlet = servletRequest.getServletRequest();
+            stopHandler(servlet, null);
+            Observation serialization = Observation.createNotStarted(SERIALIZATION_OBSERVATION, registry)
+                    .contextualName("serialize " + selectedContentType.getSubtype())
+                    .lowCardinalityKeyValue("liftit.content-type", selectedContentType.getSubtype())
+                    .start();
+            servlet.setAttribute(SERIALIZATION_ATTRIBUTE, serialization);
+        }
+        return body;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        stopHandler(request, null);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        stopHandler(request, ex);
+        if (request.getAttribute(SERIALIZATION_ATTRIBUTE) instanceof Observation serialization) {
+            request.removeAttribute(SERIALIZATION_ATTRIBUTE);
+            serialization.stop();
+        }
+    }
+
+    private static void stopHandler(HttpServletRequest request, Exception ex) {
+        if (!(request.getAttribute(HANDLER_ATTRIBUTE) instanceof Observation handler)) {
+            return;
+        }
+        request.removeAttribute(HANDLER_ATTRIBUTE);
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof Observation.Scope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+        if (ex != null) {
+            handler.error(ex);
+        }
+        StatementCounter.tag(handler.getContext());
+        KeyValue statements = KeyValue.of(StatementCounter.COUNT_KEY,
+                String.valueOf(StatementCounter.count(handler.getContext())));
+        ServerHttpObservationFilter.findObservationContext(request)
+                .ifPresent(context -> context.addHighCardinalityKeyValue(statements));
+        handler.stop();
+    }
+}
@@ -0,0 +1,48 @@
+package com.liftit.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationView;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the JDBC statements executed inside an observation, nested observations included.
+ *
+ * <p>A counter is attached to the context of each controller, service and repository
+ * observation; every statement increments the counters of all its enclosing observations.
+ * Counters are thread-safe because bootstrap sections run on their own threads under the
+ * request's observation.
+ */
+final class StatementCounter {
+
+    static final String COUNT_KEY = "db.statement.count";
+
+    private StatementCounter() {
+    }
+
+    static void attach(Observation.Context context) {
+        context.put(StatementCounter.class, new AtomicInteger());
+    }
+
+    static void increment(ObservationView innermost) {
+        for (ObservationView view = innermost; view != null; view = view.getContextView().getParentObservation()) {
+            AtomicInteger count = view.getContextView().get(StatementCounter.class);
+            if (count != null) {
+                count.incrementAndGet();
+            }
+        }
+    }
+
+    static int count(Observation.ContextView context) {
+        AtomicInteger count = context.get(StatementCounter.class);
+        return count == null ? 0 : count.get();
+    }
+
+    /** Adds the count to the context as a span attribute; no-op without a counter. */
+    static void tag(Observation.Context context) {
+        if (context.containsKey(StatementCounter.class)) {
+            context.addHighCardinalityKeyValue(KeyValue.of(COUNT_KEY, String.valueOf(count(context))));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.liftit.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.ObservationView;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.handler.TracingObservationHandler;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Wraps the application {@link DataSource} so that each executed JDBC statement is
+ * observed as {@code liftit.jdbc}, with its SQL as the {@code db.statement} attribute.
+ *
+ * <p>Statements are only observed inside an existing observation — a request or a
+ * scheduled task — so they always belong to a trace and connection-pool housekeeping
+ * does not start traces of its own. Hibernate and {@code JdbcTemplate} both go through
+ * here.
+ *
+ * <p>A statement observation is only created when the enclosing span is sampled. In the
+ * other traces the statement is just counted towards {@code db.statement.count}, so an
+ * unsampled request pays no observation, context or scope per statement.
+ */
+class TracingDataSource extends DelegatingDataSource {
+
+    static final String JDBC_OBSERVATION = "liftit.jdbc";
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final Supplier<ObservationRegistry> registry;
+
+    TracingDataSource(DataSource target, Supplier<ObservationRegistry> registry) {
+        super(target);
+        this.registry = registry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return tracing(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return tracing(super.getConnection(username, password));
+    }
+
+    private Connection tracing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (!STATEMENT_METHODS.contains(method.getName())) {
+                        return result;
+                    }
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                    return tracing((Statement) result, method.getReturnType(), sql);
+                });
+    }
+
+    private Object tracing(Statement statement, Class<?> type, String preparedSql) {
+        return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    if (!EXECUTE_METHODS.contains(method.getName())) {
+                        return invoke(statement, method, args);
+                    }
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                    return observe(statement, method, args, sql);
+                });
+    }
+
+    private Object observe(Statement statement, Method method, Object[] args, String sql) throws Throwable {
+        ObservationRegistry observationRegistry = registry.get();
+        Observation parent = observationRegistry.getCurrentObservation();
+        if (parent == null) {
+            return invoke(statement, method, args);
+        }
+        if (!isSampled(parent)) {
+            StatementCounter.increment(parent);
+            return invoke(statement, method, args);
+        }
+        String operation = operation(sql);
+        Observation observation = Observation.createNotStarted(JDBC_OBSERVATION, observationRegistry)
+                .contextualName("jdbc " + operation)
+                .lowCardinalityKeyValue("db.operation", operation)
+                .highCardinalityKeyValue(KeyValue.of("db.statement", sql == null ? "" : sql))
+                .start();
+        StatementCounter.increment(parent);
+        try (Observation.Scope scope = observation.openScope()) {
+            return invoke(statement, method, args);
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Whether the span of the nearest enclosing observation that has one is recorded;
+     * false when no tracer handled any of them.
+     */
+    static boolean isSampled(ObservationView innermost) {
+        for (ObservationView view = innermost; view != null; view = view.getContextView().getParentObservation()) {
+            TracingObservationHandler.TracingContext tracing =
+                    view.getContextView().get(TracingObservationHandler.TracingContext.class);
+            Span span = tracing == null ? null : tracing.getSpan();
+            if (span != null) {
+                return Boolean.TRUE.equals(span.context().sampled());
+            }
+        }
+        return false;
+    }
+
+    /** The leading SQL keyword, lower-cased; {@code batch} when the SQL is unknown. */
+    static String operation(String sql) {
+        if (sql == null || sql.isBlank()) {
+            return "batch";
+        }
+        return sql.strip().split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.liftit.tracing;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Span exporters beyond OTLP.
+ *
+ * <p>Spring Boot hands every {@link SpanExporter} bean to the OpenTelemetry tracer
+ * provider, so an exporter is plugged in by declaring a bean; OTLP export is configured
+ * through the standard {@code management.opentelemetry.tracing.export.otlp.*} properties.
+ */
+@Configuration
+class TracingExportConfig {
+
+    /** Writes spans to {@code liftit.tracing.file} as JSON lines, when that is set. */
+    @Bean
+    @ConditionalOnProperty("liftit.tracing.file")
+    SpanExporter fileSpanExporter(@Value("${liftit.tracing.file}") Path file) {
+        return new FileSpanExporter(file);
+    }
+}
@@ -0,0 +1,177 @@
+package com.liftit.tracing;
+
+import com.liftit.profiling.RepositoryCallEvent;
+import com.liftit.workout.Workout;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+/**
+ * Adds the service, repository and JDBC layers to request traces and repository calls to
+ * JFR recordings.
+ *
+ * <p>Beans named {@code Default*Service} are wrapped in a JDK proxy over their
+ * {@code *Service} interfaces and observed as {@code liftit.service}; beans implementing
+ * domain repository ports (the {@code com.liftit} {@code *Repository} interfaces outside
+ * the {@code persistence} packages, i.e. the {@code Jpa*} and {@code Jdbc*} adapters) are
+ * observed as {@code liftit.repository}; the {@link DataSource} is wrapped in a
+ * {@link TracingDataSource}. Callers inject all of them by interface. Each bean gets one
+ * proxy, so a port call pays for one reflective hop whatever is listening.
+ *
+ * <p>Like JDBC statements, calls are only observed inside an existing observation. Each
+ * observation carries the number of statements it issued, the {@code userId} argument
+ * when the method has one, and the exercise and set counts of a {@link Workout} passed in
+ * or returned. Every port call also emits a {@link RepositoryCallEvent}, which is only
+ * committed while JFR is recording.
+ */
+@Component
+class TracingPostProcessor implements BeanPostProcessor {
+
+    static final String SERVICE_OBSERVATION = "liftit.service";
+    static final String REPOSITORY_OBSERVATION = "liftit.repository";
+
+    private final ObjectProvider<ObservationRegistry> registry;
+
+    TracingPostProcessor(ObjectProvider<ObservationRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+            return new TracingDataSource(dataSource, this::observationRegistry);
+        }
+        if (isService(bean.getClass())) {
+            return proxy(bean, SERVICE_OBSERVATION, interfaces(bean, "Service"));
+        }
+        return proxy(bean, REPOSITORY_OBSERVATION, interfaces(bean, "Repository"));
+    }
+
+    static boolean isService(Class<?> type) {
+        return type.getName().startsWith("com.liftit.")
+                && type.getSimpleName().startsWith("Default")
+                && type.getSimpleName().endsWith("Service");
+    }
+
+    static boolean isPort(Class<?> type) {
+        return isDomainInterface(type, "Repository");
+    }
+
+    private static boolean isDomainInterface(Class<?> type, String suffix) {
+        return type.getName().startsWith("com.liftit.")
+                && type.getSimpleName().endsWith(suffix)
+                && !type.getPackageName().endsWith(".persistence");
+    }
+
+    private static Class<?>[] interfaces(Object bean, String suffix) {
+        return Arrays.stream(ClassUtils.getAllInterfaces(bean))
+                .filter(type -> isDomainInterface(type, suffix))
+                .toArray(Class<?>[]::new);
+    }
+
+    private Object proxy(Object bean, String name, Class<?>[] interfaces) {
+        if (interfaces.length == 0) {
+            return bean;
+        }
+        String component = interfaces[0].getSimpleName();
+        return Proxy.newProxyInstance(bean.getClass().getClassLoader(), interfaces,
+                (proxy, method, args) -> invoke(bean, name, component, method, args));
+    }
+
+    private ObservationRegistry observationRegistry() {
+        return registry.getIfAvailable(() -> ObservationRegistry.NOOP);
+    }
+
+    private Object invoke(Object target, String name, String component, Method method, Object[] args)
+            throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeTarget(target, method, args);
+        }
+        if (!REPOSITORY_OBSERVATION.equals(name)) {
+            return observe(target, name, component, method, args);
+        }
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        try {
+            return observe(target, name, component, method, args);
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.port = component;
+                event.method = method.getName();
+                event.commit();
+            }
+        }
+    }
+
+    private Object observe(Object target, String name, String component, Method method, Object[] args)
+            throws Throwable {
+        ObservationRegistry observationRegistry = observationRegistry();
+        if (observationRegistry.getCurrentObservation() == null) {
+            return invokeTarget(target, method, args);
+        }
+        Observation observation = Observation.createNotStarted(name, observationRegistry)
+                .contextualName(component + "." + method.getName())
+                .lowCardinalityKeyValue("liftit.component", component)
+                .lowCardinalityKeyValue("liftit.method", method.getName());
+        StatementCounter.attach(observation.getContext());
+        tagArguments(observation, method, args);
+        observation.start();
+        try (Observation.Scope scope = observation.openScope()) {
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Workout workout) {
+                tagWorkout(observation, workout);
+            }
+            return result;
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            StatementCounter.tag(observation.getContext());
+            observation.stop();
+        }
+    }
+
+    private static void tagArguments(Observation observation, Method method, Object[] args) {
+        if (args == null) {
+            return;
+        }
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Long userId && parameters[i].getName().equals("userId")) {
+                observation.highCardinalityKeyValue(KeyValue.of("liftit.user.id", userId.toString()));
+            } else if (args[i] instanceof Workout workout) {
+                tagWorkout(observation, workout);
+            }
+        }
+    }
+
+    private static void tagWorkout(Observation observation, Workout workout) {
+        int sets = workout.exercises().stream().mapToInt(exercise -> exercise.sets().size()).sum();
+        observation.highCardinalityKeyValue(KeyValue.of("liftit.workout.exercises",
+                String.valueOf(workout.exercises().size())));
+        observation.highCardinalityKeyValue(KeyValue.of("liftit.workout.sets", String.valueOf(sets)));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.liftit.tracing;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers {@link HandlerTracing} for every API route.
+ */
+@Configuration
+class TracingWebConfig implements WebMvcConfigurer {
+
+    private final HandlerTracing handlerTracing;
+
+    TracingWebConfig(HandlerTracing handlerTracing) {
+        this.handlerTracing = handlerTracing;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(handlerTracing).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,45 @@
+package com.liftit.user;
+
+import java.time.Instant;
+
+/**
+ * Progress of an account deletion.
+ *
+ * <p>A purge removes the user's data in bounded chunks, one short transaction each, in
+ * {@link Step} order; the users row goes last. It can be interrupted at any point and
+ * resumes from {@link #step()}.
+ *
+ * @param userId      the account being deleted
+ * @param step        the step the purge is at; {@link Step#DONE} once finished
+ * @param rowsDeleted top-level rows deleted so far
+ * @param requestedAt when the deletion was requested
+ * @param completedAt when the account was deleted; null while in progress
+ */
+public record AccountPurge(
+        Long userId,
+        Step step,
+        long rowsDeleted,
+        Instant requestedAt,
+        Instant completedAt
+) {
+
+    /** Purge steps, in execution order. */
+    public enum Step {
+        WORKOUTS,
+        ARCHIVED_WORKOUTS,
+        WORKOUT_TEMPLATES,
+        EXERCISES,
+        PROFILE,
+        ACCOUNT,
+        DONE
+    }
+
+    /**
+     * Returns whether the account has been deleted.
+     *
+     * @return {@code true} once the purge has finished
+     */
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
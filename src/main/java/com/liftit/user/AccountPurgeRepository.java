@@ -0,0 +1,35 @@
+package com.liftit.user;
+
+import java.util.Optional;
+
+/**
+ * Data-access contract for {@link AccountPurge} progress.
+ */
+public interface AccountPurgeRepository {
+
+    /**
+     * Records a deletion request for the user and schedules the background purge, in one
+     * transaction. Requesting again while a purge is pending returns its progress; if
+     * the purge had stopped, it is scheduled again and resumes where it left off.
+     *
+     * @param userId the user to delete; must not be null
+     * @return the purge's current progress
+     */
+    AccountPurge request(Long userId);
+
+    /**
+     * Finds the purge of the given user.
+     *
+     * @param userId the user's application ID; must not be null
+     * @return an {@link Optional} containing the purge, or empty if none was requested
+     */
+    Optional<AccountPurge> findByUserId(Long userId);
+
+    /**
+     * Returns whether deletion was requested for the existing user with this Auth0 subject.
+     *
+     * @param auth0Id the user's Auth0 subject; must not be null
+     * @return true from the request until the account is gone
+     */
+    boolean isRequested(Auth0Id auth0Id);
+}
@@ -0,0 +1,37 @@
+package com.liftit.user;
+
+import java.time.Instant;
+
+/**
+ * API response describing the progress of an account deletion.
+ *
+ * <p>Returned by {@code DELETE /api/v1/users/me} (202 Accepted) and
+ * {@code GET /api/v1/users/me/deletion} (200 OK).
+ *
+ * @param step        the purge step in progress, e.g. {@code WORKOUTS}; {@code DONE} when finished
+ * @param rowsDeleted top-level rows deleted so far
+ * @param requestedAt when the deletion was requested (UTC)
+ * @param completedAt when the account was deleted (UTC); null while in progress
+ */
+public record AccountPurgeResponse(
+        String step,
+        long rowsDeleted,
+        Instant requestedAt,
+        Instant completedAt
+) {
+
+    /**
+     * Converts an {@link AccountPurge} domain object to an {@code AccountPurgeResponse}.
+     *
+     * @param purge the domain purge; must not be null
+     * @return a new {@code AccountPurgeResponse}
+     */
+    public static AccountPurgeResponse from(AccountPurge purge) {
+        return new AccountPurgeResponse(
+                purge.step().name(),
+                purge.rowsDeleted(),
+                purge.requestedAt(),
+                purge.completedAt()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.liftit.user;
+
+import java.util.Optional;
+
+/**
+ * Contract for deleting a user account and all of its data.
+ *
+ * <p>Deletion is asynchronous: a request is recorded and a background job removes the
+ * data in chunks, so a heavy account never holds locks or bloats WAL in one huge
+ * transaction. Callers depend on this abstraction rather than any concrete
+ * implementation (Dependency Inversion Principle).
+ */
+public interface AccountPurgeService {
+
+    /**
+     * Requests deletion of the user's account. Idempotent.
+     *
+     * @param userId the user to delete; must not be null
+     * @return the purge's progress
+     * @throws IllegalArgumentException if userId is null
+     * @throws com.liftit.job.exception.JobQueueFullException if too many purges are queued
+     */
+    AccountPurge requestPurge(Long userId);
+
+    /**
+     * Returns the progress of the user's account deletion.
+     *
+     * @param userId the user's application ID; must not be null
+     * @return an {@link Optional} containing the purge, or empty if none was requested
+     * @throws IllegalArgumentException if userId is null
+     */
+    Optional<AccountPurge> getPurge(Long userId);
+
+    /**
+     * Returns whether deletion of the user's account was requested and the account still
+     * exists. Such a user may read but not write: new rows would make the purge restart.
+     *
+     * @param auth0Id the user's Auth0 subject; must not be null
+     * @return true while the user's purge is pending
+     * @throws IllegalArgumentException if auth0Id is null
+     */
+    boolean isPurgeRequested(Auth0Id auth0Id);
+}
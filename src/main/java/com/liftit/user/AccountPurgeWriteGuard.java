@@ -0,0 +1,57 @@
+package com.liftit.user;
+
+import com.liftit.user.exception.AccountDeletionPendingException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Rejects writes by users whose account deletion was requested.
+ *
+ * <p>The purge job deletes the user's rows in chunks
+ * and finally the user; a row written in between would make that last delete fail and
+ * the purge start over. Reads stay allowed, and so does repeating the deletion request.
+ */
+class AccountPurgeWriteGuard implements HandlerInterceptor {
+
+    private static final String DELETE_ACCOUNT_ROUTE = "/api/v1/users/me";
+
+    private final AccountPurgeService accountPurgeService;
+
+    AccountPurgeWriteGuard(AccountPurgeService accountPurgeService) {
+        this.accountPurgeService = accountPurgeService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod) || !isWrite(request) || isDeleteAccount(request)) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken || authentication.getName() == null) {
+            return true;
+        }
+        if (accountPurgeService.isPurgeRequested(Auth0Id.of(authentication.getName()))) {
+            throw new AccountDeletionPendingException();
+        }
+        return true;
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)
+                && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    private static boolean isDeleteAccount(HttpServletRequest request) {
+        return HttpMethod.DELETE.matches(request.getMethod())
+                && DELETE_ACCOUNT_ROUTE.equals(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+    }
+}
@@ -0,0 +1,56 @@
+package com.liftit.user;
+
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Default implementation of {@link AccountPurgeService}.
+ */
+@Service
+public class DefaultAccountPurgeService implements AccountPurgeService {
+
+    private final AccountPurgeRepository purgeRepository;
+
+    public DefaultAccountPurgeService(AccountPurgeRepository purgeRepository) {
+        if (purgeRepository == null) {
+            throw new IllegalArgumentException("purgeRepository must not be null");
+        }
+        this.purgeRepository = purgeRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AccountPurge requestPurge(Long userId) {
+        requireUserId(userId);
+        return purgeRepository.request(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<AccountPurge> getPurge(Long userId) {
+        requireUserId(userId);
+        return purgeRepository.findByUserId(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPurgeRequested(Auth0Id auth0Id) {
+        if (auth0Id == null) {
+            throw new IllegalArgumentException("auth0Id must not be null");
+        }
+        return purgeRepository.isRequested(auth0Id);
+    }
+
+    private static void requireUserId(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("userId must not be null");
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package com.liftit.user;
 
+import com.liftit.EntityTags;
 import com.liftit.user.exception.UnauthorizedException;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
+
 /**
  * REST controller for user provisioning and profile management.
  *
@@ -28,14 +33,17 @@ public class UserController {
 
     private final UserProvisioningService userProvisioningService;
     private final UserProfileService userProfileService;
+    private final AccountPurgeService accountPurgeService;
     private final UserRepository userRepository;
 
     public UserController(
             UserProvisioningService userProvisioningService,
             UserProfileService userProfileService,
+            AccountPurgeService accountPurgeService,
             UserRepository userRepository) {
         this.userProvisioningService = userProvisioningService;
         this.userProfileService = userProfileService;
+        this.accountPurgeService = accountPurgeService;
         this.userRepository = userRepository;
     }
 
@@ -84,14 +92,58 @@ public class UserController {
      * {@link SecurityContextHolder}, placed there by
      * {@link com.liftit.auth.AuthenticationFilter}.
      *
-     * @return {@code 200 OK} with the profile, or {@code 404 Not Found} if no profile exists
+     * <p>The response carries a strong {@code ETag} and {@code Last-Modified} derived from
+     * the profile's {@code updatedAt}; a matching {@code If-None-Match} yields an empty
+     * {@code 304 Not Modified}.
+     *
+     * @return {@code 200 OK} with the profile, {@code 304 Not Modified}, or
+     *         {@code 404 Not Found} if no profile exists
      */
     @GetMapping("/me/profile")
     public ResponseEntity<UserProfileResponse> getProfile() {
         Long userId = resolveUserId();
         return userProfileService.getProfile(userId)
-                .map(UserProfileResponse::from)
-                .map(ResponseEntity::ok)
+                .map(profile -> ResponseEntity.ok()
+                        .eTag(EntityTags.strong(profile.id(), profile.updatedAt()))
+                        .lastModified(profile.updatedAt())
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .body(UserProfileResponse.from(profile)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Requests deletion of the authenticated user's account and all of its data.
+     *
+     * <p>The data is removed in the background, in small chunks, so the request returns at
+     * once; {@code Location} points at the progress resource. Repeating the request is
+     * harmless. Once the purge finishes, the account no longer exists and further calls
+     * return {@code 401 Unauthorized}.
+     *
+     * @return {@code 202 Accepted} with the purge progress, or {@code 503 Service Unavailable}
+     *         if too many deletions are queued
+     */
+    @DeleteMapping("/me")
+    public ResponseEntity<AccountPurgeResponse> deleteAccount() {
+        Long userId = resolveUserId();
+        AccountPurge purge = accountPurgeService.requestPurge(userId);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/users/me/deletion"))
+                .body(AccountPurgeResponse.from(purge));
+    }
+
+    /**
+     * Returns the progress of the authenticated user's account deletion.
+     *
+     * @return {@code 200 OK} with the purge progress, or {@code 404 Not Found} if no
+     *         deletion was requested
+     */
+    @GetMapping("/me/deletion")
+    public ResponseEntity<AccountPurgeResponse> getAccountDeletion() {
+        Long userId = resolveUserId();
+        return accountPurgeService.getPurge(userId)
+                .map(purge -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noStore())
+                        .body(AccountPurgeResponse.from(purge)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
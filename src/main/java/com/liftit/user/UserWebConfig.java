@@ -0,0 +1,23 @@
+package com.liftit.user;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers {@link AccountPurgeWriteGuard} for every API route.
+ */
+@Configuration
+class UserWebConfig implements WebMvcConfigurer {
+
+    private final AccountPurgeService accountPurgeService;
+
+    UserWebConfig(AccountPurgeService accountPurgeService) {
+        this.accountPurgeService = accountPurgeService;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AccountPurgeWriteGuard(accountPurgeService)).addPathPatterns("/api/**");
+    }
+}
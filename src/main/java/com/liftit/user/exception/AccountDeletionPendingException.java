@@ -0,0 +1,14 @@
+package com.liftit.user.exception;
+
+/**
+ * Thrown when a user whose account deletion was requested tries to write data.
+ *
+ * <p>Maps to {@code 409 Conflict} at the controller layer via
+ * {@link com.liftit.GlobalExceptionHandler}.
+ */
+public final class AccountDeletionPendingException extends RuntimeException {
+
+    public AccountDeletionPendingException() {
+        super("Account deletion is pending; the account is read-only");
+    }
+}
@@ -0,0 +1,231 @@
+package com.liftit.user.persistence;
+
+import com.liftit.job.Job;
+import com.liftit.job.JobHandler;
+import com.liftit.outbox.Outbox;
+import com.liftit.user.AccountPurge;
+import com.liftit.user.AccountPurge.Step;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+/**
+ * Deletes a user's account and data as a background job, one bounded chunk at a time.
+ *
+ * <p>Each {@link Step} deletes up to {@code liftit.user-purge.chunk-size} top-level rows
+ * per transaction (children go by {@code ON DELETE CASCADE}) and records its progress in
+ * {@code account_purges} in the same transaction, then pauses
+ * {@code liftit.user-purge.pause-ms} before the next chunk. Transactions stay short, WAL is
+ * written at a bounded rate, and a rerun after a crash or redeploy resumes from the
+ * recorded step. Every chunk runs with {@code lock_timeout}
+ * ({@code liftit.user-purge.lock-timeout-ms}), so the purge gives way to requests instead of
+ * queueing behind them; a timed-out chunk fails the job, which is retried with backoff.
+ * At most {@code liftit.user-purge.concurrency} purges run at once across all nodes.
+ *
+ * <p>Custom exercises still used by other users' workouts, archived workouts or templates
+ * are handed to the system user instead of being deleted. The users row is deleted last,
+ * together with a {@code user.deleted} outbox event. Writes by the user are rejected once
+ * the purge is requested; if one slipped in just before, that delete fails and the purge
+ * restarts from the first step on the next attempt.
+ */
+@Component
+class AccountPurger implements JobHandler {
+
+    static final String QUEUE = "user.purge";
+    static final String USER_DELETED_EVENT = "user.deleted";
+
+    /** The seeded system admin user, which takes over shared custom exercises. */
+    static final long SYSTEM_USER_ID = 1L;
+
+    private static final Logger log = LoggerFactory.getLogger(AccountPurger.class);
+
+    private static final String DELETE_WORKOUTS_SQL = """
+            DELETE FROM workouts
+            WHERE (id, started_at) IN (
+                SELECT id, started_at FROM workouts WHERE user_id = ? ORDER BY started_at LIMIT ?)
+            """;
+
+    private static final String DELETE_ARCHIVED_WORKOUTS_SQL = """
+            DELETE FROM archived_workouts
+            WHERE id IN (SELECT id FROM archived_workouts WHERE user_id = ? ORDER BY started_at LIMIT ?)
+            """;
+
+    private static final String DELETE_TEMPLATES_SQL = """
+            DELETE FROM workout_templates
+            WHERE id IN (SELECT id FROM workout_templates WHERE user_id = ? ORDER BY id LIMIT ?)
+            """;
+
+    /**
+     * Deletes a chunk of the user's custom exercises, or hands those another user's
+     * workout, archived workout or template still references to the system user.
+     * Archived workouts are matched on {@code exercise_ids}; while any archived row still
+     * lacks it (see {@code WorkoutArchiver}), every exercise counts as in use.
+     */
+    private static final String PURGE_EXERCISES_SQL = """
+            WITH owned AS (
+                SELECT e.id,
+                       EXISTS (SELECT 1 FROM workout_exercises we WHERE we.exercise_id = e.id)
+                       OR EXISTS (SELECT 1 FROM workout_template_exercises te WHERE te.exercise_id = e.id)
+                       OR EXISTS (SELECT 1 FROM archived_workouts a WHERE a.exercise_ids @> ARRAY[e.id])
+                       OR EXISTS (SELECT 1 FROM archived_workouts a WHERE a.exercise_ids IS NULL) AS in_use
+                FROM exercises e
+                WHERE e.created_by = ?
+                ORDER BY e.id
+                LIMIT ?
+            ), kept AS (
+                UPDATE exercises e SET created_by = ?, updated_by = ?, updated_at = now()
+                FROM owned o
+                WHERE e.id = o.id AND o.in_use
+                RETURNING e.id
+            ), deleted AS (
+                DELETE FROM exercises e
+                USING owned o
+                WHERE e.id = o.id AND NOT o.in_use
+                RETURNING e.id
+            )
+            SELECT (SELECT count(*) FROM kept) + (SELECT count(*) FROM deleted)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Outbox outbox;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final long lockTimeoutMs;
+    private final int concurrency;
+
+    AccountPurger(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            Outbox outbox,
+            @Value("${liftit.user-purge.chunk-size:100}") int chunkSize,
+            @Value("${liftit.user-purge.pause-ms:50}") long pauseMs,
+            @Value("${liftit.user-purge.lock-timeout-ms:2000}") long lockTimeoutMs,
+            @Value("${liftit.user-purge.concurrency:2}") int concurrency) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("liftit.user-purge.chunk-size must be at least 1");
+        }
+        if (pauseMs < 0 || lockTimeoutMs < 1) {
+            throw new IllegalArgumentException("liftit.user-purge pause must not be negative and lock timeout must be positive");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("liftit.user-purge.concurrency must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.outbox = outbox;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        this.lockTimeoutMs = lockTimeoutMs;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public String queue() {
+        return QUEUE;
+    }
+
+    @Override
+    public int concurrency() {
+        return concurrency;
+    }
+
+    @Override
+    public int maxAttempts() {
+        return 10;
+    }
+
+    @Override
+    public void run(Job job) throws InterruptedException {
+        purge(Long.parseLong(job.payload()));
+    }
+
+    /**
+     * Runs the user's purge from its recorded step to the end.
+     *
+     * @param userId the user being deleted
+     * @return the number of rows deleted by this run
+     * @throws InterruptedException if interrupted between chunks
+     */
+    long purge(long userId) throws InterruptedException {
+        Optional<AccountPurge> purge = jdbcTemplate.query(JdbcAccountPurgeRepository.SELECT_BY_USER_SQL,
+                JdbcAccountPurgeRepository.ROW_MAPPER, userId).stream().findFirst();
+        if (purge.isEmpty() || purge.get().isCompleted()) {
+            return 0;
+        }
+        long deleted = 0;
+        for (Step step : Step.values()) {
+            if (step.ordinal() < purge.get().step().ordinal() || step == Step.DONE) {
+                continue;
+            }
+            if (step == Step.ACCOUNT) {
+                deleteAccount(userId);
+                break;
+            }
+            int chunk;
+            do {
+                Integer count = transactionTemplate.execute(status -> deleteChunk(userId, step));
+                chunk = count == null ? 0 : count;
+                deleted += chunk;
+                if (chunk >= chunkSize && pauseMs > 0) {
+                    Thread.sleep(pauseMs);
+                }
+            } while (chunk >= chunkSize);
+        }
+        log.info("Purged account {}: {} rows deleted", userId, deleted);
+        return deleted;
+    }
+
+    private int deleteChunk(long userId, Step step) {
+        limitLockWait();
+        int count = switch (step) {
+            case WORKOUTS -> jdbcTemplate.update(DELETE_WORKOUTS_SQL, userId, chunkSize);
+            case ARCHIVED_WORKOUTS -> jdbcTemplate.update(DELETE_ARCHIVED_WORKOUTS_SQL, userId, chunkSize);
+            case WORKOUT_TEMPLATES -> jdbcTemplate.update(DELETE_TEMPLATES_SQL, userId, chunkSize);
+            case EXERCISES -> {
+                Integer purged = jdbcTemplate.queryForObject(PURGE_EXERCISES_SQL, Integer.class,
+                        userId, chunkSize, SYSTEM_USER_ID, SYSTEM_USER_ID);
+                yield purged == null ? 0 : purged;
+            }
+            case PROFILE -> jdbcTemplate.update("DELETE FROM user_profiles WHERE user_id = ?", userId);
+            case ACCOUNT, DONE -> throw new IllegalStateException("Not a chunked step: " + step);
+        };
+        recordProgress(userId, step, count);
+        return count;
+    }
+
+    private void deleteAccount(long userId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                limitLockWait();
+                recordProgress(userId, Step.ACCOUNT, 0);
+                jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+                outbox.append(USER_DELETED_EVENT, userId, userId);
+                jdbcTemplate.update(
+                        "UPDATE account_purges SET step = ?, completed_at = now() WHERE user_id = ?",
+                        Step.DONE.name(), userId);
+            });
+        } catch (DataIntegrityViolationException e) {
+            jdbcTemplate.update("UPDATE account_purges SET step = ?, updated_at = now() WHERE user_id = ?",
+                    Step.WORKOUTS.name(), userId);
+            throw e;
+        }
+    }
+
+    private void recordProgress(long userId, Step step, int deleted) {
+        jdbcTemplate.update("""
+                UPDATE account_purges SET step = ?, rows_deleted = rows_deleted + ?, updated_at = now()
+                WHERE user_id = ?
+                """, step.name(), deleted, userId);
+    }
+
+    private void limitLockWait() {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+    }
+}
@@ -0,0 +1,79 @@
+package com.liftit.user.persistence;
+
+import com.liftit.job.JobQueue;
+import com.liftit.user.AccountPurge;
+import com.liftit.user.AccountPurgeRepository;
+import com.liftit.user.Auth0Id;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+/**
+ * {@code account_purges} table access; schedules {@link AccountPurger} jobs.
+ */
+@Repository
+class JdbcAccountPurgeRepository implements AccountPurgeRepository {
+
+    static final String SELECT_BY_USER_SQL = """
+            SELECT user_id, step, rows_deleted, requested_at, completed_at FROM account_purges WHERE user_id = ?
+            """;
+
+    static final RowMapper<AccountPurge> ROW_MAPPER = (rs, rowNum) -> new AccountPurge(
+            rs.getLong("user_id"),
+            AccountPurge.Step.valueOf(rs.getString("step")),
+            rs.getLong("rows_deleted"),
+            rs.getObject("requested_at", OffsetDateTime.class).toInstant(),
+            Optional.ofNullable(rs.getObject("completed_at", OffsetDateTime.class))
+                    .map(OffsetDateTime::toInstant)
+                    .orElse(null));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobQueue jobQueue;
+
+    JdbcAccountPurgeRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, JobQueue jobQueue) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.jobQueue = jobQueue;
+    }
+
+    @Override
+    public AccountPurge request(Long userId) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.update("""
+                    INSERT INTO account_purges (user_id, step, rows_deleted, requested_at, updated_at)
+                    VALUES (?, ?, 0, now(), now())
+                    ON CONFLICT (user_id) DO NOTHING
+                    """, userId, AccountPurge.Step.WORKOUTS.name());
+            AccountPurge purge = findByUserId(userId).orElseThrow();
+            if (!purge.isCompleted()) {
+                jobQueue.enqueue(AccountPurger.QUEUE, String.valueOf(userId), Instant.now(), dedupeKey(userId));
+            }
+            return purge;
+        });
+    }
+
+    @Override
+    public Optional<AccountPurge> findByUserId(Long userId) {
+        return jdbcTemplate.query(SELECT_BY_USER_SQL, ROW_MAPPER, userId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public boolean isRequested(Auth0Id auth0Id) {
+        Boolean requested = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM account_purges p JOIN users u ON u.id = p.user_id
+                               WHERE u.auth0_id = ?)
+                """, Boolean.class, auth0Id.value());
+        return Boolean.TRUE.equals(requested);
+    }
+
+    static String dedupeKey(Long userId) {
+        return "user-" + userId;
+    }
+}
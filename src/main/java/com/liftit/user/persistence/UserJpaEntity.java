@@ -1,5 +1,6 @@
 package com.liftit.user.persistence;
 
+import com.liftit.profiling.DomainMappingEvent;
 import com.liftit.user.Auth0Id;
 import com.liftit.user.Email;
 import com.liftit.user.User;
@@ -77,8 +78,9 @@ class UserJpaEntity {
      * @return a fully populated {@link User}
      */
     User toDomain() {
-        return new User(id, Auth0Id.of(auth0Id), Email.of(email),
-                createdAt, createdBy, updatedAt, updatedBy);
+        DomainMappingEvent event = DomainMappingEvent.toDomain("User");
+        return event.end(new User(id, Auth0Id.of(auth0Id), Email.of(email),
+                createdAt, createdBy, updatedAt, updatedBy));
     }
 
     /**
@@ -91,8 +93,9 @@ class UserJpaEntity {
      * @return a new {@code UserJpaEntity} ready for persistence
      */
     static UserJpaEntity fromDomain(User user) {
+        DomainMappingEvent event = DomainMappingEvent.fromDomain("User");
         Long id = user.id() == 0 ? null : user.id();
-        return new UserJpaEntity(id, user.auth0Id().value(), user.email().value(),
-                user.createdAt(), user.createdBy(), user.updatedAt(), user.updatedBy());
+        return event.end(new UserJpaEntity(id, user.auth0Id().value(), user.email().value(),
+                user.createdAt(), user.createdBy(), user.updatedAt(), user.updatedBy()));
     }
 }
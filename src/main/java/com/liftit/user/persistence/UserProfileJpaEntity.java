@@ -1,5 +1,6 @@
 package com.liftit.user.persistence;
 
+import com.liftit.profiling.DomainMappingEvent;
 import com.liftit.user.UserProfile;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -97,9 +98,10 @@ class UserProfileJpaEntity {
      * @return a fully populated {@link UserProfile}
      */
     UserProfile toDomain() {
+        DomainMappingEvent event = DomainMappingEvent.toDomain("UserProfile");
         Double heightInDouble = heightIn == null ? null : heightIn.doubleValue();
-        return new UserProfile(id, userId, username, displayName, gender, birthdate,
-                heightInDouble, createdAt, createdBy, updatedAt, updatedBy);
+        return event.end(new UserProfile(id, userId, username, displayName, gender, birthdate,
+                heightInDouble, createdAt, createdBy, updatedAt, updatedBy));
     }
 
     /**
@@ -112,10 +114,11 @@ class UserProfileJpaEntity {
      * @return a new {@code UserProfileJpaEntity} ready for persistence
      */
     static UserProfileJpaEntity fromDomain(UserProfile profile) {
+        DomainMappingEvent event = DomainMappingEvent.fromDomain("UserProfile");
         Long id = profile.id() == 0 ? null : profile.id();
-        return new UserProfileJpaEntity(id, profile.userId(), profile.username(),
+        return event.end(new UserProfileJpaEntity(id, profile.userId(), profile.username(),
                 profile.displayName(), profile.gender(), profile.birthdate(),
                 profile.heightIn(),
-                profile.createdAt(), profile.createdBy(), profile.updatedAt(), profile.updatedBy());
+                profile.createdAt(), profile.createdBy(), profile.updatedAt(), profile.updatedBy()));
     }
 }
@@ -0,0 +1,261 @@
+package com.liftit.warmup;
+
+import com.liftit.auth.Credentials;
+import com.liftit.auth.JwtAuthenticationStrategy;
+import com.liftit.exercise.Exercise;
+import com.liftit.exercise.ExerciseFacets;
+import com.liftit.exercise.ExerciseFilter;
+import com.liftit.exercise.ExerciseSearchResponse;
+import com.liftit.exercise.ExerciseService;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutResponse;
+import com.liftit.workout.WorkoutService;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.sql.DataSource;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Warms a serving node up before it reports ready.
+ *
+ * <p>Spring Boot keeps the readiness state ({@code /actuator/health/readiness}) at
+ * {@code REFUSING_TRAFFIC} until every {@link ApplicationRunner} has returned, so while
+ * this runs the node receives no traffic. It:
+ * <ol>
+ *   <li>waits until the Hikari pool has opened its minimum idle connections;</li>
+ *   <li>reads the categories, muscle groups and catalog facets and pages through the
+ *       exercise catalog, and lists the recent workouts of one lifter who has any,
+ *       {@code queries} times each, so Hibernate's query plans and Postgres's buffer
+ *       cache are populated and the entity mapping paths are compiled;</li>
+ *   <li>verifies a synthetic token with the production {@link JwtAuthenticationStrategy}
+ *       code and serializes the loaded catalog page and workouts to JSON,
+ *       {@code iterations} times each, so those paths reach their optimized compilation.
+ *       The token is signed with a throwaway key that is never trusted for requests.</li>
+ * </ol>
+ *
+ * <p>Warm-up is best effort: a failing step is logged and skipped, and steps stop once
+ * {@code max-seconds} have passed, so warm-up can delay readiness but never prevent it.
+ * It is recorded as the {@code liftit.warm-up} startup step.
+ */
+@Component
+@Profile("!migrate")
+class WarmUpRunner implements ApplicationRunner {
+
+    static final String STEP_NAME = "liftit.warm-up";
+    static final int PAGE_SIZE = 20;
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUpRunner.class);
+    private static final Duration POOL_POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExerciseService exerciseService;
+    private final WorkoutService workoutService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationStartup applicationStartup;
+    private final boolean enabled;
+    private final int iterations;
+    private final int queries;
+    private final Duration maxDuration;
+
+    /** One warm-up step; checked so that steps can touch JDBC and JOSE directly. */
+    interface Step {
+        void run() throws Exception;
+    }
+
+    /** The deadline and what earlier steps loaded for later ones. */
+    static final class Pass {
+
+        private long deadline;
+        private Page<Exercise> catalogPage;
+        private ExerciseFacets facets;
+        private Page<Workout> workouts;
+
+        Pass(Duration maxDuration) {
+            this.deadline = System.nanoTime() + maxDuration.toNanos();
+        }
+
+        boolean expired() {
+            return System.nanoTime() - deadline >= 0;
+        }
+
+        void expire() {
+            deadline = System.nanoTime();
+        }
+    }
+
+    WarmUpRunner(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            ExerciseService exerciseService,
+            WorkoutService workoutService,
+            ObjectMapper objectMapper,
+            ApplicationStartup applicationStartup,
+            @Value("${liftit.warm-up.enabled:true}") boolean enabled,
+            @Value("${liftit.warm-up.iterations:10000}") int iterations,
+            @Value("${liftit.warm-up.queries:200}") int queries,
+            @Value("${liftit.warm-up.max-seconds:60}") int maxSeconds) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("liftit.warm-up.iterations must be at least 1");
+        }
+        if (queries < 1) {
+            throw new IllegalArgumentException("liftit.warm-up.queries must be at least 1");
+        }
+        if (maxSeconds < 1) {
+            throw new IllegalArgumentException("liftit.warm-up.max-seconds must be at least 1");
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.exerciseService = exerciseService;
+        this.workoutService = workoutService;
+        this.objectMapper = objectMapper;
+        this.applicationStartup = applicationStartup;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.queries = queries;
+        this.maxDuration = Duration.ofSeconds(maxSeconds);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        StartupStep startupStep = applicationStartup.start(STEP_NAME);
+        long started = System.nanoTime();
+        Pass pass = new Pass(maxDuration);
+        try {
+            attempt(pass, "connection pool", () -> fillConnectionPool(pass));
+            attempt(pass, "reference data", () -> loadReferenceData(pass));
+            attempt(pass, "workouts", () -> loadWorkouts(pass));
+            attempt(pass, "JWT verification", () -> verifyTokens(pass));
+            attempt(pass, "serialization", () -> serializeResponses(pass));
+        } finally {
+            startupStep.end();
+        }
+        log.info("Warm-up finished in {} ms{}", Duration.ofNanos(System.nanoTime() - started).toMillis(),
+                pass.expired() ? " (stopped at liftit.warm-up.max-seconds)" : "");
+    }
+
+    private static void attempt(Pass pass, String name, Step step) {
+        if (pass.expired()) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            step.run();
+            log.debug("Warm-up step '{}' took {} ms", name, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pass.expire();
+        } catch (Exception e) {
+            log.warn("Warm-up step '{}' failed; continuing without it", name, e);
+        }
+    }
+
+    private void fillConnectionPool(Pass pass) throws SQLException, InterruptedException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return;
+        }
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        if (hikari.getHikariPoolMXBean() == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.isValid(1);
+            }
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int target = Math.min(hikari.getMinimumIdle(), hikari.getMaximumPoolSize());
+        while (pool.getTotalConnections() < target && !pass.expired()) {
+            Thread.sleep(POOL_POLL_INTERVAL);
+        }
+    }
+
+    private void loadReferenceData(Pass pass) {
+        exerciseService.getCategories();
+        exerciseService.getMuscleGroups();
+        pass.facets = exerciseService.facets(ExerciseFilter.empty());
+        pass.catalogPage = exerciseService.list(ExerciseFilter.empty(), PageRequest.of(0, PAGE_SIZE));
+        int pages = Math.max(1, pass.catalogPage.getTotalPages());
+        for (int i = 1; i < queries && !pass.expired(); i++) {
+            exerciseService.list(ExerciseFilter.empty(), PageRequest.of(i % pages, PAGE_SIZE));
+        }
+    }
+
+    private void loadWorkouts(Pass pass) {
+        Long userId = jdbcTemplate.query("SELECT user_id FROM workouts LIMIT 1",
+                rs -> rs.next() ? rs.getLong(1) : null);
+        if (userId == null) {
+            return;
+        }
+        PageRequest recent = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "startedAt"));
+        for (int i = 0; i < queries && !pass.expired(); i++) {
+            pass.workouts = workoutService.listByUser(userId, recent);
+        }
+    }
+
+    private void verifyTokens(Pass pass) throws NoSuchAlgorithmException, JOSEException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        Credentials credentials = Credentials.bearer(syntheticToken(keyPair));
+        JwtAuthenticationStrategy strategy = new JwtAuthenticationStrategy((RSAPublicKey) keyPair.getPublic());
+        for (int i = 0; i < iterations && !pass.expired(); i++) {
+            strategy.execute(credentials);
+        }
+    }
+
+    static String syntheticToken(KeyPair keyPair) throws JOSEException {
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).type(JOSEObjectType.JWT).build(),
+                new JWTClaimsSet.Builder()
+                        .subject("warm-up|synthetic")
+                        .issueTime(Date.from(now))
+                        .expirationTime(Date.from(now.plus(Duration.ofHours(1))))
+                        .build());
+        jwt.sign(new RSASSASigner(keyPair.getPrivate()));
+        return jwt.serialize();
+    }
+
+    private void serializeResponses(Pass pass) {
+        if (pass.catalogPage == null) {
+            return;
+        }
+        for (int i = 0; i < iterations && !pass.expired(); i++) {
+            objectMapper.writeValueAsBytes(ExerciseSearchResponse.of(pass.catalogPage, pass.facets));
+            if (pass.workouts != null) {
+                objectMapper.writeValueAsBytes(pass.workouts.map(WorkoutResponse::from));
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.liftit.workout;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Request body for {@code POST /api/v1/workouts/{id}/exercises}, and one planned exercise of
+ * a {@link CreateWorkoutTemplateRequest}.
+ *
+ * @param exerciseId the catalog exercise performed; must not be null
+ * @param order      the 1-based position of the exercise in the workout; must be &gt;= 1
+ * @param notes      optional notes; may be null
+ * @param sets       the sets performed, in order; must not be null
+ */
+public record AddWorkoutExerciseRequest(
+        @NotNull(message = "exerciseId must not be null") Long exerciseId,
+        @Min(value = 1, message = "order must be >= 1") int order,
+        String notes,
+        @NotNull(message = "sets must not be null") List<@Valid LogSetRequest> sets
+) {
+
+    private static final long UNASSIGNED_ID = 0L;
+
+    /**
+     * Converts this request to an unsaved {@link WorkoutExercise}, numbering the sets
+     * by their position in {@code sets}.
+     *
+     * @return a new {@code WorkoutExercise} with id {@code 0L}
+     */
+    public WorkoutExercise toDomain() {
+        List<WorkoutSet> workoutSets = IntStream.range(0, sets.size())
+                .mapToObj(i -> sets.get(i).toDomain(i + 1))
+                .toList();
+        return new WorkoutExercise(UNASSIGNED_ID, exerciseId, order, workoutSets, notes);
+    }
+}
@@ -0,0 +1,33 @@
+package com.liftit.workout;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Request body for {@code POST /api/v1/workout-templates}.
+ *
+ * <p>Each exercise has the same shape as a logged exercise; its sets are the planned
+ * reps, weight and RPE copied into every workout started from the template.
+ *
+ * @param name      the template name; must not be blank
+ * @param notes     optional notes; may be null
+ * @param exercises the planned exercises, in order; must not be null
+ */
+public record CreateWorkoutTemplateRequest(
+        @NotBlank(message = "name must not be blank") String name,
+        String notes,
+        @NotNull(message = "exercises must not be null") List<@Valid AddWorkoutExerciseRequest> exercises
+) {
+
+    /**
+     * Converts the planned exercises to unsaved {@link WorkoutExercise} values.
+     *
+     * @return the exercises, in request order
+     */
+    public List<WorkoutExercise> toExercises() {
+        return exercises.stream().map(AddWorkoutExerciseRequest::toDomain).toList();
+    }
+}
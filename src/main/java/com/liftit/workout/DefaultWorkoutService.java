@@ -9,12 +9,15 @@ import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Default implementation of {@link WorkoutService}.
  *
  * <p>Enforces ownership checks, lifecycle state transitions (IN_PROGRESS → COMPLETED),
- * and delegates persistence to {@link WorkoutRepository}.
+ * and delegates persistence to {@link WorkoutRepository}. Every change is saved together
+ * with its {@link WorkoutEvent}, so derived data is updated asynchronously rather than
+ * in the request.
  *
  * <p>The database assigns the real {@code BIGINT IDENTITY} primary key;
  * {@code 0L} is used for unsaved workout and exercise IDs.
@@ -23,6 +26,8 @@ import java.util.List;
 public class DefaultWorkoutService implements WorkoutService {
 
     private static final long UNASSIGNED_ID = 0L;
+    static final int MIN_PROGRESS_POINTS = 3;
+    static final int MAX_PROGRESS_POINTS = 2000;
 
     private final WorkoutRepository workoutRepository;
 
@@ -41,7 +46,16 @@ public class DefaultWorkoutService implements WorkoutService {
         Workout newWorkout = new Workout(UNASSIGNED_ID, userId,
                 now, null, WorkoutStatus.IN_PROGRESS, notes,
                 List.of(), now, userId, now, userId);
-        return workoutRepository.save(newWorkout);
+        return workoutRepository.save(newWorkout, WorkoutEvent.STARTED);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Workout repeat(Long workoutId, Long userId, String notes) {
+        requireNonNull(workoutId, "workoutId");
+        requireNonNull(userId, "userId");
+        Workout source = requireOwned(workoutId, userId);
+        return workoutRepository.startFrom(source, Instant.now(), notes);
     }
 
     /** {@inheritDoc} */
@@ -52,6 +66,14 @@ public class DefaultWorkoutService implements WorkoutService {
                 .orElseThrow(() -> new WorkoutNotFoundException(id));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Workout getOwnedById(Long workoutId, Long userId) {
+        requireNonNull(workoutId, "workoutId");
+        requireNonNull(userId, "userId");
+        return requireOwned(workoutId, userId);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Page<Workout> listByUser(Long userId, Pageable pageable) {
@@ -60,6 +82,40 @@ public class DefaultWorkoutService implements WorkoutService {
         return workoutRepository.findByUserId(userId, pageable);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Page<Workout> listByUser(Long userId, Instant from, Instant to, Pageable pageable) {
+        requireNonNull(userId, "userId");
+        requireNonNull(from, "from");
+        requireNonNull(to, "to");
+        requireNonNull(pageable, "pageable");
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+        return workoutRepository.findByUserIdStartedBetween(userId, from, to, pageable);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ExerciseProgress progress(Long userId, Long exerciseId, Instant from, Instant to, int maxPoints) {
+        requireNonNull(userId, "userId");
+        requireNonNull(exerciseId, "exerciseId");
+        requireNonNull(from, "from");
+        requireNonNull(to, "to");
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+        if (maxPoints < MIN_PROGRESS_POINTS || maxPoints > MAX_PROGRESS_POINTS) {
+            throw new IllegalArgumentException(
+                    "maxPoints must be between " + MIN_PROGRESS_POINTS + " and " + MAX_PROGRESS_POINTS);
+        }
+        List<ExerciseSession> sessions = workoutRepository.findExerciseSessions(userId, exerciseId, from, to);
+        return new ExerciseProgress(exerciseId, sessions.size(),
+                series(sessions, ExerciseSession::estimatedOneRepMaxKg, maxPoints),
+                series(sessions, ExerciseSession::topSetKg, maxPoints),
+                series(sessions, ExerciseSession::volumeKg, maxPoints));
+    }
+
     /** {@inheritDoc} */
     @Override
     public Workout addExercise(Long workoutId, WorkoutExercise exercise, Long userId) {
@@ -68,7 +124,7 @@ public class DefaultWorkoutService implements WorkoutService {
         requireNonNull(userId, "userId");
         Workout workout = requireOwned(workoutId, userId);
         checkNotCompleted(workout);
-        return workoutRepository.save(workout.withExercise(exercise));
+        return workoutRepository.save(workout.withExercise(exercise), WorkoutEvent.EXERCISE_ADDED);
     }
 
     /** {@inheritDoc} */
@@ -78,7 +134,7 @@ public class DefaultWorkoutService implements WorkoutService {
         requireNonNull(userId, "userId");
         Workout workout = requireOwned(workoutId, userId);
         checkNotCompleted(workout);
-        return workoutRepository.save(workout.complete());
+        return workoutRepository.save(workout.complete(), WorkoutEvent.COMPLETED);
     }
 
     /** {@inheritDoc} */
@@ -86,8 +142,7 @@ public class DefaultWorkoutService implements WorkoutService {
     public void delete(Long workoutId, Long userId) {
         requireNonNull(workoutId, "workoutId");
         requireNonNull(userId, "userId");
-        requireOwned(workoutId, userId);
-        workoutRepository.delete(workoutId);
+        workoutRepository.delete(requireOwned(workoutId, userId));
     }
 
     private Workout requireOwned(Long workoutId, Long userId) {
@@ -99,6 +154,14 @@ public class DefaultWorkoutService implements WorkoutService {
         return workout;
     }
 
+    private static List<ExerciseProgress.Point> series(
+            List<ExerciseSession> sessions, ToDoubleFunction<ExerciseSession> value, int maxPoints) {
+        List<ExerciseProgress.Point> points = sessions.stream()
+                .map(session -> new ExerciseProgress.Point(session.startedAt(), value.applyAsDouble(session)))
+                .toList();
+        return Lttb.downsample(points, maxPoints);
+    }
+
     private void checkNotCompleted(Workout workout) {
         if (!workout.isInProgress()) {
             throw new WorkoutAlreadyCompletedException(workout.id());
@@ -0,0 +1,107 @@
+package com.liftit.workout;
+
+import com.liftit.workout.exception.WorkoutTemplateNotFoundException;
+import com.liftit.workout.exception.WorkoutTemplateOwnershipException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Default implementation of {@link WorkoutTemplateService}.
+ *
+ * <p>Templates are stored through {@link WorkoutTemplateRepository}. Starting one is
+ * delegated to {@link WorkoutRepository#startFromTemplate}, which checks ownership and
+ * writes the workout and all of its exercises and sets in one operation, without loading
+ * the template first.
+ */
+@Service
+public class DefaultWorkoutTemplateService implements WorkoutTemplateService {
+
+    private static final long UNASSIGNED_ID = 0L;
+
+    private final WorkoutTemplateRepository templateRepository;
+    private final WorkoutRepository workoutRepository;
+
+    public DefaultWorkoutTemplateService(
+            WorkoutTemplateRepository templateRepository,
+            WorkoutRepository workoutRepository) {
+        if (templateRepository == null) {
+            throw new IllegalArgumentException("templateRepository must not be null");
+        }
+        if (workoutRepository == null) {
+            throw new IllegalArgumentException("workoutRepository must not be null");
+        }
+        this.templateRepository = templateRepository;
+        this.workoutRepository = workoutRepository;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public WorkoutTemplate create(Long userId, String name, String notes, List<WorkoutExercise> exercises) {
+        requireNonNull(userId, "userId");
+        requireNonNull(name, "name");
+        requireNonNull(exercises, "exercises");
+        Instant now = Instant.now();
+        WorkoutTemplate template = new WorkoutTemplate(UNASSIGNED_ID, userId, name, notes,
+                exercises, now, userId, now, userId);
+        return templateRepository.save(template);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public WorkoutTemplate getOwnedById(Long templateId, Long userId) {
+        requireNonNull(templateId, "templateId");
+        requireNonNull(userId, "userId");
+        return requireOwned(templateId, userId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<WorkoutTemplate> listByUser(Long userId) {
+        requireNonNull(userId, "userId");
+        return templateRepository.findByUserId(userId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Workout start(Long templateId, Long userId, String notes) {
+        requireNonNull(templateId, "templateId");
+        requireNonNull(userId, "userId");
+        return workoutRepository.startFromTemplate(templateId, userId, Instant.now(), notes)
+                .orElseThrow(() -> notStarted(templateId, userId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void delete(Long templateId, Long userId) {
+        requireNonNull(templateId, "templateId");
+        requireNonNull(userId, "userId");
+        requireOwned(templateId, userId);
+        templateRepository.delete(templateId);
+    }
+
+    private WorkoutTemplate requireOwned(Long templateId, Long userId) {
+        WorkoutTemplate template = templateRepository.findById(templateId)
+                .orElseThrow(() -> new WorkoutTemplateNotFoundException(templateId));
+        if (!template.userId().equals(userId)) {
+            throw new WorkoutTemplateOwnershipException(templateId, userId);
+        }
+        return template;
+    }
+
+    /**
+     * The start is guarded by ownership in the same statement, so the template is only
+     * loaded when nothing was started, to tell a missing template from someone else's.
+     */
+    private RuntimeException notStarted(Long templateId, Long userId) {
+        requireOwned(templateId, userId);
+        return new WorkoutTemplateNotFoundException(templateId);
+    }
+
+    private static void requireNonNull(Object value, String fieldName) {
+        if (value == null) {
+            throw new IllegalArgumentException(fieldName + " must not be null");
+        }
+    }
+}
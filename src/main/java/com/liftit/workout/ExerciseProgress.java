@@ -0,0 +1,34 @@
+package com.liftit.workout;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Progress chart series for one exercise over a date range.
+ *
+ * <p>Each series has at most the requested number of points; a series is downsampled on
+ * its own, so its points need not fall on the same sessions as another series'.
+ *
+ * @param exerciseId          the exercise charted
+ * @param sessions            the number of sessions in the range, before downsampling
+ * @param estimatedOneRepMax  best estimated one-rep max per session, in kilograms
+ * @param topSet              heaviest weight per session, in kilograms
+ * @param volume              total {@code reps * weight} per session, in kilograms
+ */
+public record ExerciseProgress(
+        Long exerciseId,
+        int sessions,
+        List<Point> estimatedOneRepMax,
+        List<Point> topSet,
+        List<Point> volume
+) {
+
+    /**
+     * One point of a series.
+     *
+     * @param at    when the session started
+     * @param value the metric value
+     */
+    public record Point(Instant at, double value) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.liftit.workout;
+
+import java.util.List;
+
+/**
+ * API response for an exercise progress chart.
+ *
+ * @param exerciseId         the exercise charted
+ * @param sessions           the number of sessions in the range, before downsampling
+ * @param estimatedOneRepMax best estimated one-rep max per session, in kilograms
+ * @param topSet             heaviest weight per session, in kilograms
+ * @param volume             total {@code reps * weight} per session, in kilograms
+ */
+public record ExerciseProgressResponse(
+        Long exerciseId,
+        int sessions,
+        List<ExerciseProgress.Point> estimatedOneRepMax,
+        List<ExerciseProgress.Point> topSet,
+        List<ExerciseProgress.Point> volume
+) {
+
+    /**
+     * Maps domain progress to its API representation.
+     *
+     * @param progress the progress series; must not be null
+     * @return a new {@code ExerciseProgressResponse}
+     */
+    public static ExerciseProgressResponse from(ExerciseProgress progress) {
+        return new ExerciseProgressResponse(
+                progress.exerciseId(),
+                progress.sessions(),
+                progress.estimatedOneRepMax(),
+                progress.topSet(),
+                progress.volume());
+    }
+}
@@ -0,0 +1,37 @@
+package com.liftit.workout;
+
+import java.time.Instant;
+
+/**
+ * Per-workout summary of the sets a user did for one exercise, the raw input of a
+ * progress chart.
+ *
+ * <p>All weights are in kilograms, whatever unit the sets were logged in. The estimated
+ * one-rep max uses the Epley formula, {@code weight * (1 + reps / 30)}, with a single rep
+ * counting as its own weight, and takes the best set of the session.
+ *
+ * @param workoutId            the workout the sets belong to
+ * @param startedAt            when the workout started
+ * @param estimatedOneRepMaxKg the best estimated one-rep max of the session's sets
+ * @param topSetKg             the heaviest weight lifted in the session
+ * @param volumeKg             the sum of {@code reps * weight} over the session's sets
+ */
+public record ExerciseSession(
+        Long workoutId,
+        Instant startedAt,
+        double estimatedOneRepMaxKg,
+        double topSetKg,
+        double volumeKg
+) {
+
+    /**
+     * Returns the Epley estimate of the one-rep max for a set.
+     *
+     * @param weightKg the weight lifted, in kilograms
+     * @param reps     the repetitions performed; must be &gt;= 1
+     * @return the estimated one-rep max, in kilograms
+     */
+    public static double estimateOneRepMax(double weightKg, int reps) {
+        return reps == 1 ? weightKg : weightKg * (1 + reps / 30.0);
+    }
+}
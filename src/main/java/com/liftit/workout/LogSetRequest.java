@@ -0,0 +1,37 @@
+package com.liftit.workout;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * One set within an {@link AddWorkoutExerciseRequest}.
+ *
+ * <p>The set number is not supplied by the client; it is the 1-based position of the
+ * set in the request's {@code sets} list.
+ *
+ * @param reps   the number of repetitions performed; must be &gt;= 1
+ * @param weight the weight used; must not be null or negative
+ * @param unit   the unit of {@code weight}; must not be null
+ * @param rpe    optional RPE rating 1–10; may be null
+ */
+public record LogSetRequest(
+        @Min(value = 1, message = "reps must be >= 1") int reps,
+        @NotNull(message = "weight must not be null")
+        @PositiveOrZero(message = "weight must not be negative") Double weight,
+        @NotNull(message = "unit must not be null") WeightUnit unit,
+        @Min(value = 1, message = "rpe must be between 1 and 10")
+        @Max(value = 10, message = "rpe must be between 1 and 10") Integer rpe
+) {
+
+    /**
+     * Converts this request to a {@link WorkoutSet} domain value.
+     *
+     * @param setNumber the 1-based position of the set
+     * @return a new {@code WorkoutSet}
+     */
+    public WorkoutSet toDomain(int setNumber) {
+        return new WorkoutSet(setNumber, reps, new Weight(weight, unit), rpe);
+    }
+}
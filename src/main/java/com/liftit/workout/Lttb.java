@@ -0,0 +1,74 @@
+package com.liftit.workout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling of a time series.
+ *
+ * <p>Keeps the first and last points and, from each of {@code threshold - 2} equal buckets
+ * in between, the point forming the largest triangle with the point kept from the
+ * previous bucket and the average of the next bucket. Peaks and troughs survive, which
+ * plain averaging or every-nth sampling would flatten or skip. Linear in the input size.
+ */
+final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * Downsamples {@code series} to at most {@code threshold} points.
+     *
+     * @param series    the points, ordered by time; must not be null
+     * @param threshold the maximum number of points; must be &gt;= 3
+     * @return the selected points, in order; {@code series} itself if it is already small enough
+     */
+    static List<ExerciseProgress.Point> downsample(List<ExerciseProgress.Point> series, int threshold) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("threshold must be >= 3");
+        }
+        int size = series.size();
+        if (size <= threshold) {
+            return series;
+        }
+        List<ExerciseProgress.Point> sampled = new ArrayList<>(threshold);
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int selected = 0;
+        sampled.add(series.getFirst());
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x(series.get(i));
+                avgY += series.get(i).value();
+            }
+            avgX /= nextEnd - nextStart;
+            avgY /= nextEnd - nextStart;
+
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = nextStart;
+            double ax = x(series.get(selected));
+            double ay = series.get(selected).value();
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((ax - avgX) * (series.get(i).value() - ay)
+                        - (ax - x(series.get(i))) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            sampled.add(series.get(chosen));
+            selected = chosen;
+        }
+        sampled.add(series.getLast());
+        return sampled;
+    }
+
+    private static double x(ExerciseProgress.Point point) {
+        return point.at().toEpochMilli();
+    }
+}
@@ -0,0 +1,10 @@
+package com.liftit.workout;
+
+/**
+ * Request body for {@code POST /api/v1/workouts}, {@code POST /api/v1/workouts/{id}/repeat}
+ * and {@code POST /api/v1/workout-templates/{id}/start}.
+ *
+ * @param notes optional notes for the workout; may be null
+ */
+public record StartWorkoutRequest(String notes) {
+}
@@ -97,6 +97,18 @@ public class Workout {
      */
     public boolean isInProgress() { return status == WorkoutStatus.IN_PROGRESS; }
 
+    /**
+     * Returns the instant this workout last changed.
+     *
+     * <p>For a completed workout this is {@code completedAt}, after which it never
+     * changes again; otherwise it is {@code updatedAt}. Used to derive HTTP entity tags.
+     *
+     * @return the version timestamp
+     */
+    public Instant version() {
+        return status == WorkoutStatus.COMPLETED && completedAt != null ? completedAt : updatedAt;
+    }
+
     /**
      * Returns a new {@code Workout} with the given exercise appended.
      *
@@ -0,0 +1,272 @@
+package com.liftit.workout;
+
+import com.liftit.EntityTags;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.User;
+import com.liftit.user.UserRepository;
+import com.liftit.user.exception.UnauthorizedException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * REST controller for the authenticated user's workouts.
+ *
+ * <h3>Identity resolution</h3>
+ * <p>The caller is identified from the JWT {@code sub} claim, which the
+ * {@link com.liftit.auth.AuthenticationFilter} stores as the principal in
+ * {@link SecurityContextHolder}. Users can only read and modify their own workouts.
+ *
+ * <h3>Conditional requests</h3>
+ * <p>Every response carries an {@code ETag} (see {@link EntityTags}). A completed
+ * workout can never change again, so its tag is derived from {@code completedAt} and it
+ * is served with {@code Cache-Control: private, immutable} and a one-year max-age —
+ * clients need not revalidate it at all. In-progress workouts and history pages must be
+ * revalidated on every use and yield an empty {@code 304 Not Modified} when unchanged.
+ */
+@Tag(name = "Workouts", description = "Workout logging and history endpoints")
+@RestController
+@RequestMapping("/api/v1/workouts")
+public class WorkoutController {
+
+    private static final CacheControl IMMUTABLE =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final WorkoutService workoutService;
+    private final UserRepository userRepository;
+
+    public WorkoutController(WorkoutService workoutService, UserRepository userRepository) {
+        this.workoutService = workoutService;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Starts a new workout for the authenticated user.
+     *
+     * @param request optional notes; the body may be omitted
+     * @return {@code 201 Created} with the started workout
+     */
+    @Operation(summary = "Start a workout")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Workout started"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @PostMapping
+    public ResponseEntity<WorkoutResponse> start(@RequestBody(required = false) StartWorkoutRequest request) {
+        Long userId = resolveUserId();
+        Workout workout = workoutService.start(userId, request == null ? null : request.notes());
+        return ResponseEntity.status(HttpStatus.CREATED).body(WorkoutResponse.from(workout));
+    }
+
+    /**
+     * Starts a new workout with the same exercises and sets as an earlier workout.
+     *
+     * @param id      the ID of the workout to repeat
+     * @param request optional notes for the new workout; the body may be omitted
+     * @return {@code 201 Created} with the started workout
+     */
+    @Operation(summary = "Start a new workout repeating an earlier one (owner only)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Workout started"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Not the workout owner"),
+        @ApiResponse(responseCode = "404", description = "Workout not found")
+    })
+    @PostMapping("/{id}/repeat")
+    public ResponseEntity<WorkoutResponse> repeat(
+            @PathVariable Long id,
+            @RequestBody(required = false) StartWorkoutRequest request) {
+        Long userId = resolveUserId();
+        Workout workout = workoutService.repeat(id, userId, request == null ? null : request.notes());
+        return ResponseEntity.status(HttpStatus.CREATED).body(WorkoutResponse.from(workout));
+    }
+
+    /**
+     * Logs an exercise, with its sets, to an in-progress workout.
+     *
+     * @param id      the workout ID
+     * @param request the exercise and its sets
+     * @return {@code 200 OK} with the updated workout
+     */
+    @Operation(summary = "Log an exercise to an in-progress workout (owner only)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Exercise logged"),
+        @ApiResponse(responseCode = "400", description = "Invalid request body"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Not the workout owner"),
+        @ApiResponse(responseCode = "404", description = "Workout not found"),
+        @ApiResponse(responseCode = "409", description = "Workout already completed")
+    })
+    @PostMapping("/{id}/exercises")
+    public ResponseEntity<WorkoutResponse> addExercise(
+            @PathVariable Long id,
+            @Valid @RequestBody AddWorkoutExerciseRequest request) {
+        Long userId = resolveUserId();
+        Workout workout = workoutService.addExercise(id, request.toDomain(), userId);
+        return ResponseEntity.ok(WorkoutResponse.from(workout));
+    }
+
+    /**
+     * Completes an in-progress workout. The workout is immutable afterwards.
+     *
+     * @param id the workout ID
+     * @return {@code 200 OK} with the completed workout
+     */
+    @Operation(summary = "Complete a workout (owner only)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Workout completed"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Not the workout owner"),
+        @ApiResponse(responseCode = "404", description = "Workout not found"),
+        @ApiResponse(responseCode = "409", description = "Workout already completed")
+    })
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<WorkoutResponse> complete(@PathVariable Long id) {
+        Long userId = resolveUserId();
+        Workout workout = workoutService.complete(id, userId);
+        return ResponseEntity.ok(WorkoutResponse.from(workout));
+    }
+
+    /**
+     * Returns a single workout owned by the authenticated user.
+     *
+     * @param id the workout ID
+     * @return {@code 200 OK} with the workout, {@code 304 Not Modified}, or an error status
+     */
+    @Operation(summary = "Get a workout by ID (owner only)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Workout found"),
+        @ApiResponse(responseCode = "304", description = "Workout unchanged since the supplied ETag"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Not the workout owner"),
+        @ApiResponse(responseCode = "404", description = "Workout not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<WorkoutResponse> getById(@PathVariable Long id) {
+        Long userId = resolveUserId();
+        Workout workout = workoutService.getOwnedById(id, userId);
+        Instant version = workout.version();
+        return ResponseEntity.ok()
+                .eTag(EntityTags.strong(workout.id(), version))
+                .lastModified(version)
+                .cacheControl(workout.isInProgress() ? REVALIDATE : IMMUTABLE)
+                .body(WorkoutResponse.from(workout));
+    }
+
+    /**
+     * Returns the authenticated user's workouts, most recent first.
+     *
+     * <p>When {@code from} or {@code to} is given only workouts started in
+     * {@code [from, to)} are returned; history is partitioned by month, so a bounded
+     * range is the cheap way to page through old workouts. A missing {@code from} means
+     * the beginning of time and a missing {@code to} means now.
+     *
+     * @param page zero-based page number (default 0)
+     * @param size page size (default 20)
+     * @param from optional inclusive lower bound on the start time (ISO-8601 instant)
+     * @param to   optional exclusive upper bound on the start time (ISO-8601 instant)
+     * @return {@code 200 OK} with the page of workouts, or {@code 304 Not Modified}
+     */
+    @Operation(summary = "List the authenticated user's workouts")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Paginated list of workouts"),
+        @ApiResponse(responseCode = "304", description = "Page unchanged since the supplied ETag"),
+        @ApiResponse(responseCode = "400", description = "to is not after from"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @GetMapping
+    public ResponseEntity<Page<WorkoutResponse>> list(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        Long userId = resolveUserId();
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "startedAt"));
+        Page<Workout> workouts = from == null && to == null
+                ? workoutService.listByUser(userId, pageRequest)
+                : workoutService.listByUser(userId,
+                        from == null ? Instant.EPOCH : from,
+                        to == null ? Instant.now() : to,
+                        pageRequest);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.weakForPage(workouts, Workout::id, Workout::version))
+                .cacheControl(REVALIDATE)
+                .body(workouts.map(WorkoutResponse::from));
+    }
+
+    /**
+     * Returns the authenticated user's progress chart for one exercise: estimated one-rep
+     * max, top-set weight and volume per workout, oldest first.
+     *
+     * <p>Long histories are downsampled on the server to at most {@code points} points per
+     * series, keeping the peaks and troughs a chart would show. A missing {@code from}
+     * means the beginning of time and a missing {@code to} means now.
+     *
+     * @param exerciseId the catalog exercise to chart
+     * @param from       optional inclusive lower bound on the start time (ISO-8601 instant)
+     * @param to         optional exclusive upper bound on the start time (ISO-8601 instant)
+     * @param points     maximum points per series (default 300, 3 to 2000)
+     * @return {@code 200 OK} with the series, or {@code 304 Not Modified}
+     */
+    @Operation(summary = "Chart the authenticated user's progress on an exercise")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Progress series"),
+        @ApiResponse(responseCode = "304", description = "Series unchanged since the supplied ETag"),
+        @ApiResponse(responseCode = "400", description = "to is not after from, or points out of range"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @GetMapping("/progress")
+    public ResponseEntity<ExerciseProgressResponse> progress(
+            @RequestParam Long exerciseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "300") int points) {
+        Long userId = resolveUserId();
+        ExerciseProgress progress = workoutService.progress(userId, exerciseId,
+                from == null ? Instant.EPOCH : from,
+                to == null ? Instant.now() : to,
+                points);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.weak(progress))
+                .cacheControl(REVALIDATE)
+                .body(ExerciseProgressResponse.from(progress));
+    }
+
+    /**
+     * Resolves the internal userId from the JWT principal stored in the security context.
+     *
+     * <p>Returns {@code 401 Unauthorized} if no authentication is present or the
+     * auth0Id is not found in the users table.
+     */
+    private Long resolveUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null) {
+            throw new UnauthorizedException();
+        }
+        return userRepository.findByAuth0Id(Auth0Id.of(authentication.getName()))
+                .map(User::id)
+                .orElseThrow(UnauthorizedException::new);
+    }
+}
@@ -0,0 +1,28 @@
+package com.liftit.workout;
+
+/**
+ * Workout lifecycle events, recorded by {@link WorkoutRepository} in the same transaction
+ * as the change and delivered asynchronously to {@link com.liftit.outbox.OutboxConsumer}s.
+ */
+public enum WorkoutEvent {
+
+    STARTED("workout.started"),
+    EXERCISE_ADDED("workout.exercise-added"),
+    COMPLETED("workout.completed"),
+    DELETED("workout.deleted");
+
+    private final String type;
+
+    WorkoutEvent(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the outbox event type, e.g. {@code workout.completed}.
+     *
+     * @return the event type
+     */
+    public String type() {
+        return type;
+    }
+}
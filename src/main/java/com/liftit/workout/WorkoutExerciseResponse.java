@@ -0,0 +1,37 @@
+package com.liftit.workout;
+
+import java.util.List;
+
+/**
+ * API response representing one exercise performed within a workout.
+ *
+ * @param id         the workout-exercise ID
+ * @param exerciseId the referenced catalog exercise ID
+ * @param order      the 1-based position of the exercise in the workout
+ * @param notes      optional notes; may be null
+ * @param sets       the logged sets, in order
+ */
+public record WorkoutExerciseResponse(
+        Long id,
+        Long exerciseId,
+        int order,
+        String notes,
+        List<WorkoutSetResponse> sets
+) {
+
+    /**
+     * Converts a {@link WorkoutExercise} entity to a {@code WorkoutExerciseResponse}.
+     *
+     * @param exercise the domain workout exercise; must not be null
+     * @return a new {@code WorkoutExerciseResponse}
+     */
+    public static WorkoutExerciseResponse from(WorkoutExercise exercise) {
+        return new WorkoutExerciseResponse(
+                exercise.id(),
+                exercise.exerciseId(),
+                exercise.order(),
+                exercise.notes(),
+                exercise.sets().stream().map(WorkoutSetResponse::from).toList()
+        );
+    }
+}
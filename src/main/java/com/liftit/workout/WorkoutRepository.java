@@ -3,6 +3,8 @@ package com.liftit.workout;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,17 +13,21 @@ import java.util.Optional;
  * <p>Callers depend on this abstraction rather than any concrete implementation
  * (Dependency Inversion Principle). Implementations may store workouts in a
  * relational database, in-memory store, or any other backing mechanism.
+ *
+ * <p>Old completed workouts may be moved to cheaper storage; every read method returns
+ * them as if they had never moved. History queries order by {@code startedAt} only.
  */
 public interface WorkoutRepository {
 
     /**
-     * Persists a workout. If a workout with the same {@code id} already exists,
-     * it is replaced (full update).
+     * Persists a workout and records {@code event} for it in one transaction. If a workout
+     * with the same {@code id} already exists, it is replaced (full update).
      *
      * @param workout the workout to save; must not be null
+     * @param event   the lifecycle event the save represents; must not be null
      * @return the saved workout with its database-assigned ID
      */
-    Workout save(Workout workout);
+    Workout save(Workout workout, WorkoutEvent event);
 
     /**
      * Finds a workout by its internal application ID.
@@ -37,13 +43,66 @@ public interface WorkoutRepository {
      * @param userId   the owning user's ID; must not be null
      * @param pageable pagination and sorting parameters; must not be null
      * @return a page of workouts for the user
+     * @throws IllegalArgumentException if the sort uses a property other than {@code startedAt}
      */
     Page<Workout> findByUserId(Long userId, Pageable pageable);
 
     /**
-     * Deletes the workout with the given ID. If no such workout exists, this is a no-op.
+     * Returns a paginated list of the user's workouts started in {@code [from, to)}.
+     *
+     * <p>Workouts are partitioned by month of {@code startedAt}, so a bounded range only
+     * reads the partitions it overlaps.
+     *
+     * @param userId   the owning user's ID; must not be null
+     * @param from     inclusive lower bound on {@code startedAt}; must not be null
+     * @param to       exclusive upper bound on {@code startedAt}; must not be null
+     * @param pageable pagination and sorting parameters; must not be null
+     * @return a page of workouts for the user within the range
+     */
+    Page<Workout> findByUserIdStartedBetween(Long userId, Instant from, Instant to, Pageable pageable);
+
+    /**
+     * Returns one summary per workout of the user's that includes the exercise and started
+     * in {@code [from, to)}, oldest first, across all storage tiers.
+     *
+     * @param userId     the owning user's ID; must not be null
+     * @param exerciseId the catalog exercise; must not be null
+     * @param from       inclusive lower bound on {@code startedAt}; must not be null
+     * @param to         exclusive upper bound on {@code startedAt}; must not be null
+     * @return the sessions, ordered by start time
+     */
+    List<ExerciseSession> findExerciseSessions(Long userId, Long exerciseId, Instant from, Instant to);
+
+    /**
+     * Starts an in-progress workout for the given user with a copy of the template's
+     * exercises and planned sets, written in one operation that also records
+     * {@link WorkoutEvent#STARTED}.
+     *
+     * @param templateId the template to copy; must not be null
+     * @param userId     the user starting the workout; must own the template
+     * @param startedAt  the start time of the new workout; must not be null
+     * @param notes      optional notes for the new workout; may be null
+     * @return the new workout, or empty if the template does not exist or is not the user's
+     */
+    Optional<Workout> startFromTemplate(Long templateId, Long userId, Instant startedAt, String notes);
+
+    /**
+     * Starts an in-progress workout for the source's owner with a copy of the source's
+     * exercises and sets, written in one operation that also records
+     * {@link WorkoutEvent#STARTED}. The source may be in any storage tier.
+     *
+     * @param source    the workout to repeat; must not be null
+     * @param startedAt the start time of the new workout; must not be null
+     * @param notes     optional notes for the new workout; may be null
+     * @return the new workout
+     */
+    Workout startFrom(Workout source, Instant startedAt, String notes);
+
+    /**
+     * Deletes the workout from every storage tier and records {@link WorkoutEvent#DELETED}
+     * in the same transaction.
      *
-     * @param id the ID of the workout to delete; must not be null
+     * @param workout the workout to delete; must not be null
      */
-    void delete(Long id);
+    void delete(Workout workout);
 }
@@ -0,0 +1,47 @@
+package com.liftit.workout;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * API response representing a workout.
+ *
+ * <p>Internal audit columns ({@code createdBy}, {@code updatedBy}) and the owning
+ * {@code userId} are excluded — workouts are only ever returned to their owner.
+ *
+ * @param id          the workout ID
+ * @param status      the lifecycle status
+ * @param startedAt   when the workout started
+ * @param completedAt when the workout completed; null while in progress
+ * @param notes       optional notes; may be null
+ * @param exercises   the exercises performed, in order
+ * @param updatedAt   the timestamp when the workout was last updated
+ */
+public record WorkoutResponse(
+        Long id,
+        WorkoutStatus status,
+        Instant startedAt,
+        Instant completedAt,
+        String notes,
+        List<WorkoutExerciseResponse> exercises,
+        Instant updatedAt
+) {
+
+    /**
+     * Converts a {@link Workout} aggregate to a {@code WorkoutResponse}.
+     *
+     * @param workout the domain workout; must not be null
+     * @return a new {@code WorkoutResponse}
+     */
+    public static WorkoutResponse from(Workout workout) {
+        return new WorkoutResponse(
+                workout.id(),
+                workout.status(),
+                workout.startedAt(),
+                workout.completedAt(),
+                workout.notes(),
+                workout.exercises().stream().map(WorkoutExerciseResponse::from).toList(),
+                workout.updatedAt()
+        );
+    }
+}
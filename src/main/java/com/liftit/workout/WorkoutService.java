@@ -3,6 +3,8 @@ package com.liftit.workout;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+
 /**
  * Application service for workout management.
  *
@@ -20,6 +22,19 @@ public interface WorkoutService {
      */
     Workout start(Long userId, String notes);
 
+    /**
+     * Starts a new workout for the given user with the same exercises and sets as one of
+     * their earlier workouts. The source may be in progress or completed.
+     *
+     * @param workoutId the ID of the workout to repeat; must not be null
+     * @param userId    the ID of the authenticated user; must not be null
+     * @param notes     optional notes for the new workout; may be null
+     * @return the new in-progress workout
+     * @throws com.liftit.workout.exception.WorkoutNotFoundException  if the source is not found
+     * @throws com.liftit.workout.exception.WorkoutOwnershipException if user does not own the source
+     */
+    Workout repeat(Long workoutId, Long userId, String notes);
+
     /**
      * Returns a single workout by ID.
      *
@@ -29,6 +44,17 @@ public interface WorkoutService {
      */
     Workout getById(Long id);
 
+    /**
+     * Returns a single workout by ID, provided it belongs to the given user.
+     *
+     * @param workoutId the workout ID; must not be null
+     * @param userId    the ID of the authenticated user; must not be null
+     * @return the workout
+     * @throws com.liftit.workout.exception.WorkoutNotFoundException  if not found
+     * @throws com.liftit.workout.exception.WorkoutOwnershipException if user does not own the workout
+     */
+    Workout getOwnedById(Long workoutId, Long userId);
+
     /**
      * Returns a paginated list of workouts belonging to the given user.
      *
@@ -38,6 +64,37 @@ public interface WorkoutService {
      */
     Page<Workout> listByUser(Long userId, Pageable pageable);
 
+    /**
+     * Returns a paginated list of the user's workouts started in {@code [from, to)}.
+     *
+     * @param userId   the owning user's ID; must not be null
+     * @param from     inclusive lower bound on the start time; must not be null
+     * @param to       exclusive upper bound on the start time; must be after {@code from}
+     * @param pageable pagination and sorting parameters; must not be null
+     * @return a page of workouts for the user within the range
+     * @throws IllegalArgumentException if {@code to} is not after {@code from}
+     */
+    Page<Workout> listByUser(Long userId, Instant from, Instant to, Pageable pageable);
+
+    /**
+     * Returns the user's progress on one exercise over {@code [from, to)}: estimated
+     * one-rep max, top-set weight and volume per workout, in kilograms.
+     *
+     * <p>Each series is downsampled independently to at most {@code maxPoints} points with
+     * Largest-Triangle-Three-Buckets, which keeps the first and last sessions and the visually significant
+     * peaks and troughs in between.
+     *
+     * @param userId     the owning user's ID; must not be null
+     * @param exerciseId the catalog exercise; must not be null
+     * @param from       inclusive lower bound on the start time; must not be null
+     * @param to         exclusive upper bound on the start time; must be after {@code from}
+     * @param maxPoints  point budget per series, between 3 and 2000
+     * @return the downsampled series
+     * @throws IllegalArgumentException if {@code to} is not after {@code from} or
+     *                                  {@code maxPoints} is out of range
+     */
+    ExerciseProgress progress(Long userId, Long exerciseId, Instant from, Instant to, int maxPoints);
+
     /**
      * Adds an exercise to an in-progress workout.
      *
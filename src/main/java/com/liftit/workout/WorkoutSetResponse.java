@@ -0,0 +1,35 @@
+package com.liftit.workout;
+
+/**
+ * API response representing a single logged set.
+ *
+ * @param setNumber   the 1-based position of the set within the exercise
+ * @param reps        the number of repetitions performed
+ * @param weightValue the weight used
+ * @param weightUnit  the unit of {@code weightValue}
+ * @param rpe         optional RPE rating 1–10; may be null
+ */
+public record WorkoutSetResponse(
+        int setNumber,
+        int reps,
+        double weightValue,
+        WeightUnit weightUnit,
+        Integer rpe
+) {
+
+    /**
+     * Converts a {@link WorkoutSet} value object to a {@code WorkoutSetResponse}.
+     *
+     * @param set the domain set; must not be null
+     * @return a new {@code WorkoutSetResponse}
+     */
+    public static WorkoutSetResponse from(WorkoutSet set) {
+        return new WorkoutSetResponse(
+                set.setNumber(),
+                set.reps(),
+                set.weight().value(),
+                set.weight().unit(),
+                set.rpe()
+        );
+    }
+}
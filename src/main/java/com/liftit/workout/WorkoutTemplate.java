@@ -0,0 +1,95 @@
+package com.liftit.workout;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A user's routine: a named, ordered list of exercises with their planned sets.
+ *
+ * <p>Exercises and sets use the same {@link WorkoutExercise} and {@link WorkoutSet} values
+ * as a logged workout, so starting a workout from a template copies them unchanged.
+ *
+ * <p>Use {@code 0L} for {@code id} when creating a new (unsaved) template; the
+ * persistence layer maps {@code 0L} to {@code null} so the database identity
+ * column assigns the real PK.
+ */
+public class WorkoutTemplate {
+
+    private final Long id;
+    private final Long userId;
+    private final String name;
+    private final String notes;
+    private final List<WorkoutExercise> exercises;
+    private final Instant createdAt;
+    private final Long createdBy;
+    private final Instant updatedAt;
+    private final Long updatedBy;
+
+    /**
+     * Full constructor used by the persistence layer and domain factories.
+     *
+     * @param id        entity ID; use {@code 0L} for unsaved templates
+     * @param userId    owning user ID; must not be null
+     * @param name      display name; must not be null or blank
+     * @param notes     optional notes; may be null
+     * @param exercises planned exercises, in order; must not be null
+     * @param createdAt audit timestamp; must not be null
+     * @param createdBy audit user ID; must not be null
+     * @param updatedAt audit timestamp; must not be null
+     * @param updatedBy audit user ID; must not be null
+     */
+    public WorkoutTemplate(
+            Long id, Long userId,
+            String name, String notes,
+            List<WorkoutExercise> exercises,
+            Instant createdAt, Long createdBy,
+            Instant updatedAt, Long updatedBy) {
+        requireNonNull(id, "id");
+        requireNonNull(userId, "userId");
+        requireNonNull(name, "name");
+        requireNonNull(exercises, "exercises");
+        requireNonNull(createdAt, "createdAt");
+        requireNonNull(createdBy, "createdBy");
+        requireNonNull(updatedAt, "updatedAt");
+        requireNonNull(updatedBy, "updatedBy");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("WorkoutTemplate.name must not be blank");
+        }
+        this.id = id;
+        this.userId = userId;
+        this.name = name;
+        this.notes = notes;
+        this.exercises = new ArrayList<>(exercises);
+        this.createdAt = createdAt;
+        this.createdBy = createdBy;
+        this.updatedAt = updatedAt;
+        this.updatedBy = updatedBy;
+    }
+
+    public Long id() { return id; }
+    public Long userId() { return userId; }
+    public String name() { return name; }
+    public String notes() { return notes; }
+    public List<WorkoutExercise> exercises() { return Collections.unmodifiableList(exercises); }
+    public Instant createdAt() { return createdAt; }
+    public Long createdBy() { return createdBy; }
+    public Instant updatedAt() { return updatedAt; }
+    public Long updatedBy() { return updatedBy; }
+
+    /**
+     * Returns the total number of planned sets across all exercises in this template.
+     *
+     * @return total set count
+     */
+    public int totalSetCount() {
+        return exercises.stream().mapToInt(WorkoutExercise::setCount).sum();
+    }
+
+    private static void requireNonNull(Object value, String fieldName) {
+        if (value == null) {
+            throw new IllegalArgumentException("WorkoutTemplate." + fieldName + " must not be null");
+        }
+    }
+}
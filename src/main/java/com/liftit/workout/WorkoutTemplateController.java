@@ -0,0 +1,162 @@
+package com.liftit.workout;
+
+import com.liftit.user.Auth0Id;
+import com.liftit.user.User;
+import com.liftit.user.UserRepository;
+import com.liftit.user.exception.UnauthorizedException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for the authenticated user's workout templates (routines).
+ *
+ * <p>The caller is identified from the JWT {@code sub} claim, as in
+ * {@link WorkoutController}. Users can only see, start and delete their own templates.
+ * {@code POST /{id}/start} creates the workout with all planned exercises and sets in a
+ * single database call.
+ */
+@Tag(name = "Workout templates", description = "Reusable routines and starting workouts from them")
+@RestController
+@RequestMapping("/api/v1/workout-templates")
+public class WorkoutTemplateController {
+
+    private final WorkoutTemplateService templateService;
+    private final UserRepository userRepository;
+
+    public WorkoutTemplateController(WorkoutTemplateService templateService, UserRepository userRepository) {
+        this.templateService = templateService;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Creates a template for the authenticated user.
+     *
+     * @param request the template name, notes and planned exercises
+     * @return {@code 201 Created} with the created template
+     */
+    @Operation(summary = "Create a workout template")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Template created"),
+        @ApiResponse(responseCode = "400", description = "Invalid request body"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @PostMapping
+    public ResponseEntity<WorkoutTemplateResponse> create(@Valid @RequestBody CreateWorkoutTemplateRequest request) {
+        Long userId = resolveUserId();
+        WorkoutTemplate template = templateService.create(userId, request.name(), request.notes(),
+                request.toExercises());
+        return ResponseEntity.status(HttpStatus.CREATED).body(WorkoutTemplateResponse.from(template));
+    }
+
+    /**
+     * Returns the authenticated user's templates, ordered by name.
+     *
+     * @return {@code 200 OK} with the templates
+     */
+    @Operation(summary = "List the authenticated user's workout templates")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Templates ordered by name"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    @GetMapping
+    public ResponseEntity<List<WorkoutTemplateResponse>> list() {
+        Long userId = resolveUserId();
+        return ResponseEntity.ok(templateService.listByUser(userId).stream()
+                .map(WorkoutTemplateResponse::from)
+                .toList());
+    }
+
+    /**
+     * Returns a single template owned by the authenticated user.
+     *
+     * @param id the template ID
+     * @return {@code 200 OK} with the template
+     */
+    @Operation(summary = "Get a workout template by ID (owner only)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Template found"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Not the template owner"),
+        @ApiResponse(responseCode = "404", description = "Template not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<WorkoutTemplateResponse> getById(@PathVariable Long id) {
+        Long userId = resolveUserId();
+        return ResponseEntity.ok(WorkoutTemplateResponse.from(templateService.getOwnedById(id, userId)));
+    }
+
+    /**
+     * Starts a new workout from a template.
+     *
+     * @param id      the template ID
+     * @param request optional notes for the new workout; the body may be omitted
+     * @return {@code 201 Created} with the started workout, exercises and planned sets included
+     */
+    @Operation(summary = "Start a workout from a template (owner only)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Workout started"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Not the template owner"),
+        @ApiResponse(responseCode = "404", description = "Template not found")
+    })
+    @PostMapping("/{id}/start")
+    public ResponseEntity<WorkoutResponse> start(
+            @PathVariable Long id,
+            @RequestBody(required = false) StartWorkoutRequest request) {
+        Long userId = resolveUserId();
+        Workout workout = templateService.start(id, userId, request == null ? null : request.notes());
+        return ResponseEntity.status(HttpStatus.CREATED).body(WorkoutResponse.from(workout));
+    }
+
+    /**
+     * Deletes a template owned by the authenticated user. Workouts started from it are kept.
+     *
+     * @param id the template ID
+     * @return {@code 204 No Content}
+     */
+    @Operation(summary = "Delete a workout template (owner only)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Template deleted"),
+        @ApiResponse(responseCode = "401", description = "Not authenticated"),
+        @ApiResponse(responseCode = "403", description = "Not the template owner"),
+        @ApiResponse(responseCode = "404", description = "Template not found")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        Long userId = resolveUserId();
+        templateService.delete(id, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Resolves the internal userId from the JWT principal stored in the security context.
+     *
+     * <p>Returns {@code 401 Unauthorized} if no authentication is present or the
+     * auth0Id is not found in the users table.
+     */
+    private Long resolveUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null) {
+            throw new UnauthorizedException();
+        }
+        return userRepository.findByAuth0Id(Auth0Id.of(authentication.getName()))
+                .map(User::id)
+                .orElseThrow(UnauthorizedException::new);
+    }
+}
@@ -0,0 +1,46 @@
+package com.liftit.workout;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Data-access contract for {@link WorkoutTemplate} aggregates.
+ *
+ * <p>Callers depend on this abstraction rather than any concrete implementation
+ * (Dependency Inversion Principle).
+ */
+public interface WorkoutTemplateRepository {
+
+    /**
+     * Persists a template. If a template with the same {@code id} already exists,
+     * it is replaced (full update).
+     *
+     * @param template the template to save; must not be null
+     * @return the saved template with its database-assigned ID
+     */
+    WorkoutTemplate save(WorkoutTemplate template);
+
+    /**
+     * Finds a template by its ID.
+     *
+     * @param id the template ID; must not be null
+     * @return an {@link Optional} containing the template, or empty if not found
+     */
+    Optional<WorkoutTemplate> findById(Long id);
+
+    /**
+     * Returns all templates belonging to the given user, ordered by name.
+     *
+     * @param userId the owning user's ID; must not be null
+     * @return the user's templates; empty if none
+     */
+    List<WorkoutTemplate> findByUserId(Long userId);
+
+    /**
+     * Deletes the template with the given ID. If no such template exists, this is a no-op.
+     * Workouts already started from it are not affected.
+     *
+     * @param id the ID of the template to delete; must not be null
+     */
+    void delete(Long id);
+}
@@ -0,0 +1,40 @@
+package com.liftit.workout;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * API response representing a workout template.
+ *
+ * <p>Planned exercises use the same shape as the exercises of a {@link WorkoutResponse}.
+ *
+ * @param id        the template ID
+ * @param name      the template name
+ * @param notes     optional notes; may be null
+ * @param exercises the planned exercises, in order
+ * @param updatedAt the timestamp when the template was last updated
+ */
+public record WorkoutTemplateResponse(
+        Long id,
+        String name,
+        String notes,
+        List<WorkoutExerciseResponse> exercises,
+        Instant updatedAt
+) {
+
+    /**
+     * Converts a {@link WorkoutTemplate} aggregate to a {@code WorkoutTemplateResponse}.
+     *
+     * @param template the domain template; must not be null
+     * @return a new {@code WorkoutTemplateResponse}
+     */
+    public static WorkoutTemplateResponse from(WorkoutTemplate template) {
+        return new WorkoutTemplateResponse(
+                template.id(),
+                template.name(),
+                template.notes(),
+                template.exercises().stream().map(WorkoutExerciseResponse::from).toList(),
+                template.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.liftit.workout;
+
+import java.util.List;
+
+/**
+ * Application service for workout templates (routines).
+ *
+ * <p>Callers depend on this abstraction (Dependency Inversion Principle).
+ * Implementations enforce ownership: users can only see, start and delete their own templates.
+ */
+public interface WorkoutTemplateService {
+
+    /**
+     * Creates a template for the given user.
+     *
+     * @param userId    the ID of the authenticated user; must not be null
+     * @param name      the template name; must not be null or blank
+     * @param notes     optional notes; may be null
+     * @param exercises the planned exercises, in order; must not be null
+     * @return the persisted template with its database-assigned ID
+     */
+    WorkoutTemplate create(Long userId, String name, String notes, List<WorkoutExercise> exercises);
+
+    /**
+     * Returns a single template by ID, provided it belongs to the given user.
+     *
+     * @param templateId the template ID; must not be null
+     * @param userId     the ID of the authenticated user; must not be null
+     * @return the template
+     * @throws com.liftit.workout.exception.WorkoutTemplateNotFoundException  if not found
+     * @throws com.liftit.workout.exception.WorkoutTemplateOwnershipException if user does not own the template
+     */
+    WorkoutTemplate getOwnedById(Long templateId, Long userId);
+
+    /**
+     * Returns all templates belonging to the given user, ordered by name.
+     *
+     * @param userId the owning user's ID; must not be null
+     * @return the user's templates
+     */
+    List<WorkoutTemplate> listByUser(Long userId);
+
+    /**
+     * Starts a new in-progress workout with the template's exercises and planned sets.
+     *
+     * @param templateId the template to start; must not be null
+     * @param userId     the ID of the authenticated user; must not be null
+     * @param notes      optional notes for the new workout; may be null
+     * @return the new workout
+     * @throws com.liftit.workout.exception.WorkoutTemplateNotFoundException  if not found
+     * @throws com.liftit.workout.exception.WorkoutTemplateOwnershipException if user does not own the template
+     */
+    Workout start(Long templateId, Long userId, String notes);
+
+    /**
+     * Deletes a template. Only the owner may delete; workouts started from it are kept.
+     *
+     * @param templateId the ID of the template to delete; must not be null
+     * @param userId     the ID of the authenticated user; must not be null
+     * @throws com.liftit.workout.exception.WorkoutTemplateNotFoundException  if not found
+     * @throws com.liftit.workout.exception.WorkoutTemplateOwnershipException if user does not own the template
+     */
+    void delete(Long templateId, Long userId);
+}
@@ -0,0 +1,14 @@
+package com.liftit.workout.exception;
+
+/**
+ * Thrown when a workout template cannot be found by its ID.
+ *
+ * <p>Maps to {@code 404 Not Found} at the controller layer via
+ * {@link com.liftit.GlobalExceptionHandler}.
+ */
+public class WorkoutTemplateNotFoundException extends RuntimeException {
+
+    public WorkoutTemplateNotFoundException(Long id) {
+        super("Workout template not found: " + id);
+    }
+}
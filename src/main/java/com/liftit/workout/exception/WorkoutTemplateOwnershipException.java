@@ -0,0 +1,14 @@
+package com.liftit.workout.exception;
+
+/**
+ * Thrown when a user attempts to read, start or delete a workout template they do not own.
+ *
+ * <p>Maps to {@code 403 Forbidden} at the controller layer via
+ * {@link com.liftit.GlobalExceptionHandler}.
+ */
+public class WorkoutTemplateOwnershipException extends RuntimeException {
+
+    public WorkoutTemplateOwnershipException(Long templateId, Long userId) {
+        super("User " + userId + " does not own workout template " + templateId);
+    }
+}
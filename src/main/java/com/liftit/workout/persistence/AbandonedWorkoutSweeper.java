@@ -0,0 +1,180 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.job.Job;
+import com.liftit.job.JobHandler;
+import com.liftit.outbox.Outbox;
+import com.liftit.workout.WorkoutEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Closes in-progress workouts nobody has touched for {@code liftit.workout-sweep.idle-hours}.
+ *
+ * <p>A workout with at least one logged set is completed, with its last activity as the
+ * completion time; one without sets is discarded. Either way the matching
+ * {@link WorkoutEvent} is recorded in the {@link Outbox} in the same transaction.
+ *
+ * <p>Runs as a recurring job ({@code liftit.workout-sweep.cron}, UTC), so one node sweeps
+ * per schedule. Work is done in batches of {@code liftit.workout-sweep.batch-size}, each a
+ * single statement in its own short transaction: the batch is locked with
+ * {@code FOR UPDATE SKIP LOCKED}, so a workout a request is saving right now is left for
+ * the next run, and closed with guarded set-based writes instead of loading aggregates. A
+ * run stops after {@code liftit.workout-sweep.max-batches} batches.
+ *
+ * <p>Metrics: the {@code liftit.workout.sweep.closed} counter, tagged {@code outcome}
+ * ({@code completed} or {@code discarded}).
+ */
+@Component
+class AbandonedWorkoutSweeper implements JobHandler {
+
+    static final String QUEUE = "workout.sweep";
+
+    /**
+     * Locks a batch of idle in-progress workouts and closes them: completed if any set was
+     * logged, deleted otherwise (exercises cascade). The writes repeat the idle condition,
+     * so a row is only closed in the state it was selected in. Status codes are
+     * {@link StorageCodes#STATUS_IN_PROGRESS} (1) and {@link StorageCodes#STATUS_COMPLETED} (2).
+     */
+    private static final String SWEEP_SQL = """
+            WITH idle AS (
+                SELECT w.id, w.started_at, w.updated_at,
+                       EXISTS (
+                           SELECT 1 FROM workout_exercises we
+                           JOIN workout_sets s
+                             ON s.workout_exercise_id = we.id AND s.workout_started_at = we.workout_started_at
+                           WHERE we.workout_id = w.id AND we.workout_started_at = w.started_at) AS has_sets
+                FROM workouts w
+                WHERE w.status_code = 1 AND w.updated_at < ?
+                ORDER BY w.updated_at
+                LIMIT ?
+                FOR UPDATE OF w SKIP LOCKED
+            ), completed AS (
+                UPDATE workouts w
+                SET status_code = 2, completed_at = i.updated_at, updated_at = now(), updated_by = ?
+                FROM idle i
+                WHERE w.id = i.id AND w.started_at = i.started_at AND i.has_sets
+                  AND w.status_code = 1 AND w.updated_at = i.updated_at
+                RETURNING w.id, w.user_id
+            ), discarded AS (
+                DELETE FROM workouts w
+                USING idle i
+                WHERE w.id = i.id AND w.started_at = i.started_at AND NOT i.has_sets
+                  AND w.status_code = 1 AND w.updated_at = i.updated_at
+                RETURNING w.id, w.user_id
+            )
+            SELECT id, user_id, TRUE AS completed FROM completed
+            UNION ALL
+            SELECT id, user_id, FALSE AS completed FROM discarded
+            """;
+
+    private static final Logger log = LoggerFactory.getLogger(AbandonedWorkoutSweeper.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Outbox outbox;
+    private final Duration idle;
+    private final int batchSize;
+    private final int maxBatches;
+    private final String cron;
+    private final Counter completedCounter;
+    private final Counter discardedCounter;
+
+    AbandonedWorkoutSweeper(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            Outbox outbox,
+            MeterRegistry meterRegistry,
+            @Value("${liftit.workout-sweep.idle-hours:12}") int idleHours,
+            @Value("${liftit.workout-sweep.batch-size:200}") int batchSize,
+            @Value("${liftit.workout-sweep.max-batches:50}") int maxBatches,
+            @Value("${liftit.workout-sweep.cron:0 */15 * * * *}") String cron) {
+        if (idleHours < 1) {
+            throw new IllegalArgumentException("liftit.workout-sweep.idle-hours must be at least 1");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("liftit.workout-sweep.batch-size must be at least 1");
+        }
+        if (maxBatches < 1) {
+            throw new IllegalArgumentException("liftit.workout-sweep.max-batches must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.outbox = outbox;
+        this.idle = Duration.ofHours(idleHours);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.cron = cron;
+        this.completedCounter = meterRegistry.counter("liftit.workout.sweep.closed", "outcome", "completed");
+        this.discardedCounter = meterRegistry.counter("liftit.workout.sweep.closed", "outcome", "discarded");
+    }
+
+    @Override
+    public String queue() {
+        return QUEUE;
+    }
+
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public void run(Job job) {
+        sweepIdleSince(Instant.now().minus(idle));
+    }
+
+    /**
+     * Closes workouts last updated before {@code cutoff}, batch by batch.
+     *
+     * @param cutoff exclusive upper bound on the last activity
+     * @return the number of workouts closed
+     */
+    int sweepIdleSince(Instant cutoff) {
+        int completed = 0;
+        int discarded = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Closed> closed = transactionTemplate.execute(status -> sweepBatch(cutoff));
+            if (closed == null) {
+                break;
+            }
+            int batchCompleted = (int) closed.stream().filter(Closed::completed).count();
+            completed += batchCompleted;
+            discarded += closed.size() - batchCompleted;
+            completedCounter.increment(batchCompleted);
+            discardedCounter.increment(closed.size() - batchCompleted);
+            if (closed.size() < batchSize) {
+                break;
+            }
+        }
+        if (completed + discarded > 0) {
+            log.info("Closed abandoned workouts idle since {}: {} completed, {} discarded", cutoff, completed, discarded);
+        }
+        return completed + discarded;
+    }
+
+    private List<Closed> sweepBatch(Instant cutoff) {
+        List<Closed> closed = jdbcTemplate.query(SWEEP_SQL, (rs, rowNum) -> new Closed(
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getBoolean("completed")), cutoff.atOffset(ZoneOffset.UTC), batchSize, WorkoutArchiver.SYSTEM_USER_ID);
+        for (Closed workout : closed) {
+            WorkoutEvent event = workout.completed() ? WorkoutEvent.COMPLETED : WorkoutEvent.DELETED;
+            outbox.append(event.type(), workout.userId(), workout.id());
+        }
+        return closed;
+    }
+
+    record Closed(long id, long userId, boolean completed) {
+    }
+}
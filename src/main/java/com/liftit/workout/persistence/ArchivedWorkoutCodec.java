@@ -0,0 +1,174 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutSet;
+import com.liftit.workout.WorkoutStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary document format for archived workouts (see {@code archived_workouts.document}).
+ *
+ * <p>A document is the complete {@link Workout} aggregate written with
+ * {@link DataOutputStream} primitives and compressed with raw DEFLATE. Instants are
+ * stored as epoch microseconds (the database precision), enums by name, weights as the
+ * double the domain already uses, and nullable fields behind a presence flag. Decoding
+ * restores every field of the encoded workout, including exercise and set order and the
+ * audit fields.
+ *
+ * <p>The layout is versioned by {@link #FORMAT_VERSION}, stored next to the document.
+ * Archived rows are never rewritten, so a layout change must add a new version and keep
+ * decoding the old ones.
+ */
+final class ArchivedWorkoutCodec {
+
+    /** Layout version written by {@link #encode}. */
+    static final short FORMAT_VERSION = 1;
+
+    private ArchivedWorkoutCodec() {
+    }
+
+    /**
+     * Encodes a completed workout.
+     *
+     * @param workout the workout; must not be null
+     * @return the compressed document
+     */
+    static byte[] encode(Workout workout) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeLong(workout.id());
+            out.writeLong(workout.userId());
+            writeInstant(out, workout.startedAt());
+            writeNullableInstant(out, workout.completedAt());
+            out.writeUTF(workout.status().name());
+            writeNullableString(out, workout.notes());
+            writeInstant(out, workout.createdAt());
+            out.writeLong(workout.createdBy());
+            writeInstant(out, workout.updatedAt());
+            out.writeLong(workout.updatedBy());
+            out.writeInt(workout.exercises().size());
+            for (WorkoutExercise exercise : workout.exercises()) {
+                out.writeLong(exercise.id());
+                out.writeLong(exercise.exerciseId());
+                out.writeInt(exercise.order());
+                writeNullableString(out, exercise.notes());
+                out.writeInt(exercise.sets().size());
+                for (WorkoutSet set : exercise.sets()) {
+                    out.writeInt(set.setNumber());
+                    out.writeInt(set.reps());
+                    out.writeDouble(set.weight().value());
+                    out.writeUTF(set.weight().unit().name());
+                    out.writeByte(set.rpe() == null ? -1 : set.rpe());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot encode workout " + workout.id(), e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a document written by {@link #encode}.
+     *
+     * @param formatVersion the stored format version
+     * @param document      the compressed document
+     * @return the archived workout
+     * @throws IllegalStateException if the format version is unknown or the document is corrupt
+     */
+    static Workout decode(short formatVersion, byte[] document) {
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalStateException("Unknown archived workout format version " + formatVersion);
+        }
+        Inflater inflater = new Inflater(true);
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(document), inflater))) {
+            long id = in.readLong();
+            long userId = in.readLong();
+            Instant startedAt = readInstant(in);
+            Instant completedAt = readNullableInstant(in);
+            WorkoutStatus status = WorkoutStatus.valueOf(in.readUTF());
+            String notes = readNullableString(in);
+            Instant createdAt = readInstant(in);
+            long createdBy = in.readLong();
+            Instant updatedAt = readInstant(in);
+            long updatedBy = in.readLong();
+            int exerciseCount = in.readInt();
+            List<WorkoutExercise> exercises = new ArrayList<>(exerciseCount);
+            for (int i = 0; i < exerciseCount; i++) {
+                long exerciseRowId = in.readLong();
+                long exerciseId = in.readLong();
+                int order = in.readInt();
+                String exerciseNotes = readNullableString(in);
+                int setCount = in.readInt();
+                List<WorkoutSet> sets = new ArrayList<>(setCount);
+                for (int j = 0; j < setCount; j++) {
+                    int setNumber = in.readInt();
+                    int reps = in.readInt();
+                    double weight = in.readDouble();
+                    WeightUnit unit = WeightUnit.valueOf(in.readUTF());
+                    byte rpe = in.readByte();
+                    sets.add(new WorkoutSet(setNumber, reps, new Weight(weight, unit),
+                            rpe < 0 ? null : (int) rpe));
+                }
+                exercises.add(new WorkoutExercise(exerciseRowId, exerciseId, order, sets, exerciseNotes));
+            }
+            return new Workout(id, userId, startedAt, completedAt, status, notes, exercises,
+                    createdAt, createdBy, updatedAt, updatedBy);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("Corrupt archived workout document", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L),
+                instant.getNano() / 1_000));
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        long micros = in.readLong();
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    private static void writeNullableInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeBoolean(instant != null);
+        if (instant != null) {
+            writeInstant(out, instant);
+        }
+    }
+
+    private static Instant readNullableInstant(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readInstant(in) : null;
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
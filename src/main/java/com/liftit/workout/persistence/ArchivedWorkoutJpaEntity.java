@@ -0,0 +1,165 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.profiling.DomainMappingEvent;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * JPA entity mapping to the {@code archived_workouts} table (cold tier).
+ *
+ * <p>Holds a completed workout as one compressed document (see
+ * {@link ArchivedWorkoutCodec}) plus the columns history queries filter and sort on.
+ * Rows are written once by {@link WorkoutArchiver} and never updated, except that rows
+ * archived before {@code exercise_ids} existed get it filled in once
+ * ({@link #fillExerciseIds()}). The audit columns record the archival; the workout's own
+ * audit values travel in the document.
+ *
+ * <p>The id is the workout's original id rather than a generated one, so the entity
+ * implements {@link Persistable} to let Spring Data persist new rows directly instead of
+ * merging them (which would first look each id up).
+ */
+@Entity
+@Table(name = "archived_workouts")
+class ArchivedWorkoutJpaEntity implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "completed_at", nullable = false)
+    private Instant completedAt;
+
+    @Column(name = "format_version", nullable = false)
+    private short formatVersion;
+
+    @Column(name = "document", nullable = false)
+    private byte[] document;
+
+    /** The distinct exercise ids in the document, ascending; see {@code V26}. */
+    @Column(name = "exercise_ids")
+    private Long[] exerciseIds;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "updated_by", nullable = false)
+    private Long updatedBy;
+
+    @Transient
+    private boolean isNew = true;
+
+    /** Required by JPA. */
+    protected ArchivedWorkoutJpaEntity() {
+    }
+
+    private ArchivedWorkoutJpaEntity(
+            Long id,
+            Long userId,
+            Instant startedAt,
+            Instant completedAt,
+            short formatVersion,
+            byte[] document,
+            Long[] exerciseIds,
+            Instant archivedAt,
+            Long archivedBy) {
+        this.id = id;
+        this.userId = userId;
+        this.startedAt = startedAt;
+        this.completedAt = completedAt;
+        this.formatVersion = formatVersion;
+        this.document = document;
+        this.exerciseIds = exerciseIds;
+        this.createdAt = archivedAt;
+        this.createdBy = archivedBy;
+        this.updatedAt = archivedAt;
+        this.updatedBy = archivedBy;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    /** Returns the size of the stored document in bytes. */
+    int documentSize() {
+        return document.length;
+    }
+
+    /**
+     * Sets {@code exercise_ids} from the document on a row archived before the column
+     * existed; does nothing if it is already set.
+     */
+    void fillExerciseIds() {
+        if (exerciseIds == null) {
+            exerciseIds = exerciseIds(toDomain());
+        }
+    }
+
+    /**
+     * Converts this entity back to the archived {@link Workout} aggregate.
+     *
+     * @return the domain aggregate
+     */
+    Workout toDomain() {
+        DomainMappingEvent event = DomainMappingEvent.toDomain("ArchivedWorkout");
+        return event.end(ArchivedWorkoutCodec.decode(formatVersion, document));
+    }
+
+    /**
+     * Creates an archive entity for a completed workout.
+     *
+     * @param workout    the completed workout; must not be null and must have a completion time
+     * @param archivedAt when the workout is archived; must not be null
+     * @param archivedBy the user performing the archival (the system user); must not be null
+     * @return a new entity ready for persistence
+     */
+    static ArchivedWorkoutJpaEntity fromDomain(Workout workout, Instant archivedAt, Long archivedBy) {
+        DomainMappingEvent event = DomainMappingEvent.fromDomain("ArchivedWorkout");
+        if (workout.completedAt() == null) {
+            throw new IllegalArgumentException("Only completed workouts can be archived");
+        }
+        return event.end(new ArchivedWorkoutJpaEntity(workout.id(), workout.userId(), workout.startedAt(),
+                workout.completedAt(), ArchivedWorkoutCodec.FORMAT_VERSION,
+                ArchivedWorkoutCodec.encode(workout), exerciseIds(workout), archivedAt, archivedBy));
+    }
+
+    private static Long[] exerciseIds(Workout workout) {
+        return workout.exercises().stream()
+                .map(WorkoutExercise::exerciseId)
+                .distinct()
+                .sorted()
+                .toArray(Long[]::new);
+    }
+}
@@ -0,0 +1,33 @@
+package com.liftit.workout.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spring Data repository for {@link ArchivedWorkoutJpaEntity}.
+ *
+ * <p>Package-private — never used directly outside this package.
+ * All application code depends on {@link com.liftit.workout.WorkoutRepository} (DIP).
+ */
+interface ArchivedWorkoutJpaRepository extends JpaRepository<ArchivedWorkoutJpaEntity, Long> {
+
+    List<ArchivedWorkoutJpaEntity> findByUserIdAndStartedAtGreaterThanEqualAndStartedAtLessThan(
+            Long userId, Instant from, Instant to);
+
+    /**
+     * Locks up to {@code limit} rows archived before {@code exercise_ids} existed, skipping
+     * rows another node already holds.
+     */
+    @Query(value = """
+            SELECT * FROM archived_workouts
+            WHERE exercise_ids IS NULL
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ArchivedWorkoutJpaEntity> lockMissingExerciseIds(@Param("limit") int limit);
+}
@@ -0,0 +1,51 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.workout.ExerciseSession;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutSet;
+
+import java.util.Optional;
+
+/**
+ * Summarises a decoded workout into an {@link ExerciseSession}, the same figures
+ * {@link JpaWorkoutRepository} computes in SQL for hot workouts.
+ *
+ * <p>Weights go through the {@code weight_grams} encoding of {@link StorageCodes} first,
+ * so an archived session reports exactly what it reported while it was hot.
+ */
+final class ExerciseSessions {
+
+    private ExerciseSessions() {
+    }
+
+    /**
+     * Returns the session summary for one exercise of a workout.
+     *
+     * @param workout    the workout; must not be null
+     * @param exerciseId the catalog exercise to summarise
+     * @return the summary, or empty if the workout has no sets of the exercise
+     */
+    static Optional<ExerciseSession> summarize(Workout workout, Long exerciseId) {
+        double best = 0;
+        int topGrams = 0;
+        long volumeGrams = 0;
+        boolean found = false;
+        for (WorkoutExercise exercise : workout.exercises()) {
+            if (!exercise.exerciseId().equals(exerciseId)) {
+                continue;
+            }
+            for (WorkoutSet set : exercise.sets()) {
+                int grams = StorageCodes.toGrams(StorageCodes.toMilli(set.weight().value()), set.weight().unit());
+                best = Math.max(best, ExerciseSession.estimateOneRepMax(grams / 1000.0, set.reps()));
+                topGrams = Math.max(topGrams, grams);
+                volumeGrams += (long) grams * set.reps();
+                found = true;
+            }
+        }
+        return found
+                ? Optional.of(new ExerciseSession(workout.id(), workout.startedAt(), best,
+                        topGrams / 1000.0, volumeGrams / 1000.0))
+                : Optional.empty();
+    }
+}
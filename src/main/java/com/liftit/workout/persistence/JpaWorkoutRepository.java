@@ -1,12 +1,33 @@
 package com.liftit.workout.persistence;
 
+import com.liftit.outbox.Outbox;
+import com.liftit.workout.ExerciseSession;
 import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutEvent;
+import com.liftit.workout.WorkoutExercise;
 import com.liftit.workout.WorkoutRepository;
+import com.liftit.workout.WorkoutStatus;
+import com.liftit.workout.exception.WorkoutNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * JPA-backed implementation of {@link WorkoutRepository}.
@@ -16,35 +37,274 @@ import java.util.Optional;
  * the Spring Data repository and convert between {@link WorkoutJpaEntity} and
  * the {@link Workout} domain aggregate.
  *
+ * <p>Reads are transparent across storage tiers: workouts moved to
+ * {@code archived_workouts} by {@link WorkoutArchiver} are still returned by
+ * {@link #findById} and the history queries. History pages are resolved in two steps —
+ * one query orders the ids of both tiers, then each tier loads only its own rows — so
+ * paging is exact even while the archiver is moving rows.
+ *
+ * <p>{@code workouts}, {@code workout_exercises} and {@code workout_sets} are partitioned by
+ * the workout's start time, which is part of every primary key. A lookup by id alone first
+ * resolves the start time from {@code workout_start_times} (V25), a narrow unpartitioned
+ * table; from then on every read and write names a single partition. Saving an existing
+ * workout loads it by its full key and updates it in place, so only the rows that changed
+ * are written. New rows get their ids from the tables' sequences up front, one query per
+ * table.
+ *
+ * <p>Starting a workout from a template or from an earlier workout is one call to a
+ * database function ({@code start_workout_from_template}, {@code start_workout_from_workout})
+ * that copies every exercise and set with {@code INSERT ... SELECT}, instead of one insert
+ * per row through JPA.
+ *
+ * <p>Every write records its {@link WorkoutEvent} in the {@link Outbox} within the same
+ * transaction, so an event exists if and only if its change committed.
+ *
  * <p>This class is the only consumer of {@link WorkoutJpaRepository}; all other
  * application code depends on {@link WorkoutRepository} (DIP).
  */
 @Repository
 class JpaWorkoutRepository implements WorkoutRepository {
 
+    /** Bounds used when a history query has no start-time range. */
+    static final Instant HISTORY_START = Instant.EPOCH;
+    static final Instant HISTORY_END = Instant.parse("9999-01-01T00:00:00Z");
+
+    private static final String SORT_PROPERTY = "startedAt";
+
+    /**
+     * One row per hot workout containing the exercise. Every table is bounded on its own
+     * partition key so each join prunes to the partitions of {@code [from, to)}.
+     */
+    private static final String SESSIONS_SQL = """
+            SELECT w.id, w.started_at,
+                   max(CASE WHEN ws.reps = 1 THEN ws.weight_grams
+                            ELSE ws.weight_grams * (1 + ws.reps / 30.0) END) / 1000.0 AS e1rm_kg,
+                   max(ws.weight_grams) / 1000.0 AS top_set_kg,
+                   sum(ws.reps * ws.weight_grams::BIGINT) / 1000.0 AS volume_kg
+            FROM workouts w
+            JOIN workout_exercises we ON we.workout_id = w.id AND we.workout_started_at = w.started_at
+            JOIN workout_sets ws ON ws.workout_exercise_id = we.id AND ws.workout_started_at = we.workout_started_at
+            WHERE w.user_id = ? AND we.exercise_id = ?
+              AND w.started_at >= ? AND w.started_at < ?
+              AND we.workout_started_at >= ? AND we.workout_started_at < ?
+              AND ws.workout_started_at >= ? AND ws.workout_started_at < ?
+            GROUP BY w.id, w.started_at
+            """;
+
+    private static final String START_TIME_SQL = "SELECT started_at FROM workout_start_times WHERE workout_id = ?";
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)";
+
     private final WorkoutJpaRepository springDataRepository;
+    private final ArchivedWorkoutJpaRepository archivedRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Outbox outbox;
+    private final TransactionTemplate transactionTemplate;
 
-    JpaWorkoutRepository(WorkoutJpaRepository springDataRepository) {
+    JpaWorkoutRepository(
+            WorkoutJpaRepository springDataRepository,
+            ArchivedWorkoutJpaRepository archivedRepository,
+            JdbcTemplate jdbcTemplate,
+            Outbox outbox,
+            TransactionTemplate transactionTemplate) {
         this.springDataRepository = springDataRepository;
+        this.archivedRepository = archivedRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.outbox = outbox;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
-    public Workout save(Workout workout) {
-        return springDataRepository.save(WorkoutJpaEntity.fromDomain(workout)).toDomain();
+    public Workout save(Workout workout, WorkoutEvent event) {
+        return transactionTemplate.execute(status -> {
+            WorkoutJpaEntity entity;
+            if (workout.id() == 0) {
+                entity = WorkoutJpaEntity.fromDomain(workout);
+                assignIds(entity);
+                springDataRepository.save(entity);
+            } else {
+                entity = springDataRepository.findById(new WorkoutJpaEntity.Key(workout.id(), workout.startedAt()))
+                        .orElseThrow(() -> new WorkoutNotFoundException(workout.id()));
+                entity.update(workout);
+                assignIds(entity);
+            }
+            Workout saved = entity.toDomain();
+            // Row locks before the outbox's per-user lock, the order the sweeper takes them in
+            springDataRepository.flush();
+            outbox.append(event.type(), saved.userId(), saved.id());
+            return saved;
+        });
     }
 
     @Override
     public Optional<Workout> findById(Long id) {
-        return springDataRepository.findById(id).map(WorkoutJpaEntity::toDomain);
+        return startedAt(id)
+                .flatMap(startedAt -> springDataRepository.findById(new WorkoutJpaEntity.Key(id, startedAt)))
+                .map(WorkoutJpaEntity::toDomain)
+                .or(() -> archivedRepository.findById(id).map(ArchivedWorkoutJpaEntity::toDomain));
     }
 
     @Override
     public Page<Workout> findByUserId(Long userId, Pageable pageable) {
-        return springDataRepository.findByUserId(userId, pageable).map(WorkoutJpaEntity::toDomain);
+        return findHistory(userId, HISTORY_START, HISTORY_END, pageable);
+    }
+
+    @Override
+    public Page<Workout> findByUserIdStartedBetween(Long userId, Instant from, Instant to, Pageable pageable) {
+        return findHistory(userId, from, to, pageable);
+    }
+
+    @Override
+    public Optional<Workout> startFromTemplate(Long templateId, Long userId, Instant startedAt, String notes) {
+        Long id = transactionTemplate.execute(status -> {
+            Long started = jdbcTemplate.queryForObject("SELECT start_workout_from_template(?, ?, ?, ?)", Long.class,
+                    templateId, userId, utc(startedAt), notes);
+            if (started != null) {
+                outbox.append(WorkoutEvent.STARTED.type(), userId, started);
+            }
+            return started;
+        });
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Hot workouts are aggregated in SQL; archived ones are decoded and summarised by
+     * {@link ExerciseSessions}. A workout archived between the two reads appears in both
+     * and is counted once.
+     */
+    @Override
+    public List<ExerciseSession> findExerciseSessions(Long userId, Long exerciseId, Instant from, Instant to) {
+        OffsetDateTime lower = utc(from);
+        OffsetDateTime upper = utc(to);
+        List<ExerciseSession> hot = jdbcTemplate.query(SESSIONS_SQL, (rs, rowNum) -> new ExerciseSession(
+                        rs.getLong("id"),
+                        rs.getObject("started_at", OffsetDateTime.class).toInstant(),
+                        rs.getDouble("e1rm_kg"),
+                        rs.getDouble("top_set_kg"),
+                        rs.getDouble("volume_kg")),
+                userId, exerciseId, lower, upper, lower, upper, lower, upper);
+        Map<Long, ExerciseSession> byWorkout = new HashMap<>();
+        hot.forEach(session -> byWorkout.put(session.workoutId(), session));
+        archivedRepository.findByUserIdAndStartedAtGreaterThanEqualAndStartedAtLessThan(userId, from, to)
+                .forEach(entity -> ExerciseSessions.summarize(entity.toDomain(), exerciseId)
+                        .ifPresent(session -> byWorkout.putIfAbsent(session.workoutId(), session)));
+        return byWorkout.values().stream()
+                .sorted(Comparator.comparing(ExerciseSession::startedAt).thenComparing(ExerciseSession::workoutId))
+                .toList();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>An archived source has no rows left in the hot tables to copy from; its copy is
+     * saved through JPA from the decoded aggregate instead.
+     */
     @Override
-    public void delete(Long id) {
-        springDataRepository.deleteById(id);
+    public Workout startFrom(Workout source, Instant startedAt, String notes) {
+        Long id = transactionTemplate.execute(status -> {
+            Long started = jdbcTemplate.queryForObject("SELECT start_workout_from_workout(?, ?, ?, ?)", Long.class,
+                    source.id(), utc(source.startedAt()), utc(startedAt), notes);
+            if (started != null) {
+                outbox.append(WorkoutEvent.STARTED.type(), source.userId(), started);
+            }
+            return started;
+        });
+        if (id != null) {
+            return findById(id).orElseThrow();
+        }
+        List<WorkoutExercise> exercises = source.exercises().stream()
+                .map(we -> new WorkoutExercise(0L, we.exerciseId(), we.order(), we.sets(), we.notes()))
+                .toList();
+        return save(new Workout(0L, source.userId(), startedAt, null, WorkoutStatus.IN_PROGRESS, notes,
+                exercises, startedAt, source.userId(), startedAt, source.userId()), WorkoutEvent.STARTED);
+    }
+
+    @Override
+    public void delete(Workout workout) {
+        transactionTemplate.executeWithoutResult(status -> {
+            springDataRepository.deleteByKey(workout.id(), workout.startedAt());
+            archivedRepository.deleteById(workout.id());
+            springDataRepository.flush();
+            outbox.append(WorkoutEvent.DELETED.type(), workout.userId(), workout.id());
+        });
+    }
+
+    private Page<Workout> findHistory(Long userId, Instant from, Instant to, Pageable pageable) {
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        List<WorkoutJpaRepository.HistoryRef> refs = oldestFirst(pageable.getSort())
+                ? springDataRepository.findHistoryOldestFirst(userId, from, to, limit, offset)
+                : springDataRepository.findHistoryNewestFirst(userId, from, to, limit, offset);
+        return PageableExecutionUtils.getPage(load(refs), pageable,
+                () -> springDataRepository.countHistory(userId, from, to));
+    }
+
+    /**
+     * Loads the referenced workouts from their tiers, preserving order. Hot workouts are
+     * read within the page's range of start times. A hot workout archived after the ids
+     * were read is picked up from the cold tier instead.
+     */
+    private List<Workout> load(List<WorkoutJpaRepository.HistoryRef> refs) {
+        List<WorkoutJpaRepository.HistoryRef> hot = refs.stream().filter(ref -> !ref.getArchived()).toList();
+        List<Long> hotIds = hot.stream().map(WorkoutJpaRepository.HistoryRef::getId).toList();
+        List<Long> coldIds = refs.stream().filter(WorkoutJpaRepository.HistoryRef::getArchived)
+                .map(WorkoutJpaRepository.HistoryRef::getId).toList();
+        Map<Long, Workout> byId = new HashMap<>();
+        if (!hot.isEmpty()) {
+            List<Instant> starts = hot.stream().map(WorkoutJpaRepository.HistoryRef::getStartedAt).sorted().toList();
+            springDataRepository.findAllByIdStartedBetween(hotIds, starts.getFirst(), starts.getLast())
+                    .forEach(e -> byId.put(e.getId().id(), e.toDomain()));
+        }
+        List<Long> missing = hotIds.stream().filter(id -> !byId.containsKey(id)).toList();
+        List<Long> archivedIds = missing.isEmpty()
+                ? coldIds
+                : Stream.concat(coldIds.stream(), missing.stream()).toList();
+        if (!archivedIds.isEmpty()) {
+            archivedRepository.findAllById(archivedIds).forEach(e -> byId.put(e.getId(), e.toDomain()));
+        }
+        return refs.stream().map(ref -> byId.get(ref.getId())).filter(Objects::nonNull).toList();
+    }
+
+    /** Resolves the start time, and with it the partition, of a hot workout. */
+    private Optional<Instant> startedAt(Long id) {
+        return jdbcTemplate.queryForList(START_TIME_SQL, OffsetDateTime.class, id).stream()
+                .findFirst()
+                .map(OffsetDateTime::toInstant);
+    }
+
+    /** Draws ids for the entity's new rows, one query per table that has any. */
+    private void assignIds(WorkoutJpaEntity entity) {
+        int[] missing = entity.missingIds();
+        entity.assignIds(nextIds("workouts", missing[0]), nextIds("workout_exercises", missing[1]),
+                nextIds("workout_sets", missing[2]));
+    }
+
+    private Iterator<Long> nextIds(String table, int count) {
+        if (count == 0) {
+            return Collections.emptyIterator();
+        }
+        return jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, table, count).iterator();
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * History is only ordered by start time; unsorted requests get newest first.
+     *
+     * @throws IllegalArgumentException if the sort uses any other property
+     */
+    private static boolean oldestFirst(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORT_PROPERTY.equals(order.getProperty())) {
+                throw new IllegalArgumentException("Workout history can only be sorted by " + SORT_PROPERTY);
+            }
+        }
+        Sort.Order order = sort.getOrderFor(SORT_PROPERTY);
+        return order != null && order.isAscending();
     }
 }
@@ -0,0 +1,48 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.workout.WorkoutTemplate;
+import com.liftit.workout.WorkoutTemplateRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA-backed implementation of {@link WorkoutTemplateRepository}.
+ *
+ * <p>Adapts the Spring Data {@link WorkoutTemplateJpaRepository} to the domain-facing
+ * contract, converting between {@link WorkoutTemplateJpaEntity} and {@link WorkoutTemplate}.
+ * Starting a workout from a template does not go through this class; see
+ * {@link JpaWorkoutRepository#startFromTemplate}.
+ */
+@Repository
+class JpaWorkoutTemplateRepository implements WorkoutTemplateRepository {
+
+    private final WorkoutTemplateJpaRepository springDataRepository;
+
+    JpaWorkoutTemplateRepository(WorkoutTemplateJpaRepository springDataRepository) {
+        this.springDataRepository = springDataRepository;
+    }
+
+    @Override
+    public WorkoutTemplate save(WorkoutTemplate template) {
+        return springDataRepository.save(WorkoutTemplateJpaEntity.fromDomain(template)).toDomain();
+    }
+
+    @Override
+    public Optional<WorkoutTemplate> findById(Long id) {
+        return springDataRepository.findById(id).map(WorkoutTemplateJpaEntity::toDomain);
+    }
+
+    @Override
+    public List<WorkoutTemplate> findByUserId(Long userId) {
+        return springDataRepository.findByUserIdOrderByNameAscIdAsc(userId).stream()
+                .map(WorkoutTemplateJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void delete(Long id) {
+        springDataRepository.deleteById(id);
+    }
+}
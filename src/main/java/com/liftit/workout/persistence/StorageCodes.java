@@ -0,0 +1,91 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.WorkoutStatus;
+
+/**
+ * Column encodings for the compact workout row layout.
+ *
+ * <p>Enums are stored as explicit {@code SMALLINT} codes, never names or ordinals, so
+ * renaming or reordering a constant cannot change what stored rows mean. A new constant
+ * needs a new code here and in the SQL that decodes codes (the V16 sync triggers).
+ *
+ * <p>Set weights are fixed-point: {@code weight_milli} holds thousandths of the entered
+ * unit (grams when the unit is kilograms) and {@code weight_grams} the same weight
+ * normalised to grams, so sets logged in different units compare without conversion.
+ */
+final class StorageCodes {
+
+    static final short STATUS_IN_PROGRESS = 1;
+    static final short STATUS_COMPLETED = 2;
+
+    static final short UNIT_KG = 1;
+    static final short UNIT_LBS = 2;
+
+    /** Exact by definition of the international pound (0.45359237 kg). */
+    static final double GRAMS_PER_MILLI_POUND = 0.45359237;
+
+    private StorageCodes() {
+    }
+
+    static short statusCode(WorkoutStatus status) {
+        return switch (status) {
+            case IN_PROGRESS -> STATUS_IN_PROGRESS;
+            case COMPLETED -> STATUS_COMPLETED;
+        };
+    }
+
+    /**
+     * Decodes a stored {@code workouts.status_code}.
+     *
+     * @throws IllegalStateException if the stored code is unknown
+     */
+    static WorkoutStatus status(short code) {
+        return switch (code) {
+            case STATUS_IN_PROGRESS -> WorkoutStatus.IN_PROGRESS;
+            case STATUS_COMPLETED -> WorkoutStatus.COMPLETED;
+            default -> throw new IllegalStateException("Unknown workout status code " + code);
+        };
+    }
+
+    static short unitCode(WeightUnit unit) {
+        return switch (unit) {
+            case KG -> UNIT_KG;
+            case LBS -> UNIT_LBS;
+        };
+    }
+
+    /**
+     * Decodes a stored {@code workout_sets.weight_unit_code}.
+     *
+     * @throws IllegalStateException if the stored code is unknown
+     */
+    static WeightUnit unit(short code) {
+        return switch (code) {
+            case UNIT_KG -> WeightUnit.KG;
+            case UNIT_LBS -> WeightUnit.LBS;
+            default -> throw new IllegalStateException("Unknown weight unit code " + code);
+        };
+    }
+
+    /**
+     * Converts a weight value to thousandths of its unit, rounding half up.
+     *
+     * @throws IllegalArgumentException if the value does not fit the column
+     */
+    static int toMilli(double value) {
+        long milli = Math.round(value * 1000);
+        if (milli > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Weight.value " + value + " exceeds the storable maximum");
+        }
+        return (int) milli;
+    }
+
+    static double fromMilli(int milli) {
+        return milli / 1000.0;
+    }
+
+    static int toGrams(int milli, WeightUnit unit) {
+        return unit == WeightUnit.KG ? milli : (int) Math.round(milli * GRAMS_PER_MILLI_POUND);
+    }
+}
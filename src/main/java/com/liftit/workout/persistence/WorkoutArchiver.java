@@ -0,0 +1,164 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.job.Job;
+import com.liftit.job.JobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Moves old completed workouts from the hot tables to {@code archived_workouts}.
+ *
+ * <p>A completed workout is immutable, so once it is older than
+ * {@code liftit.workout-archive.after-months} it is rewritten as a single compressed
+ * document (see {@link ArchivedWorkoutCodec}) and its {@code workouts},
+ * {@code workout_exercises} and {@code workout_sets} rows are deleted. That keeps the hot
+ * partitions and their indexes limited to recent history.
+ *
+ * <p>Runs as a recurring job ({@code liftit.workout-archive.cron}, UTC), so one node
+ * archives per schedule. Work is done in batches of
+ * {@code liftit.workout-archive.batch-size} workouts, each in its own transaction: the
+ * batch is locked with {@code FOR UPDATE SKIP LOCKED}, copied and deleted, so a rerun
+ * after a lost lease resumes where the last committed batch left off and never contends
+ * with a run still finishing, and readers always see a workout in exactly one tier. The batch is
+ * locked oldest first, so it is read and deleted within its own range of start times,
+ * which covers one or two monthly partitions. A run stops
+ * after {@code liftit.workout-archive.max-batches} batches to bound its duration.
+ *
+ * <p>Each row also records the workout's exercise ids ({@code exercise_ids}) for queries
+ * that cannot decode the document. Before archiving, a run fills them in on rows archived
+ * before the column existed, in the same batches.
+ */
+@Component
+class WorkoutArchiver implements JobHandler {
+
+    static final String QUEUE = "workout.archive";
+
+    /** The seeded system admin user, recorded as the author of archive rows. */
+    static final Long SYSTEM_USER_ID = 1L;
+
+    private static final Logger log = LoggerFactory.getLogger(WorkoutArchiver.class);
+
+    private final WorkoutJpaRepository workoutRepository;
+    private final ArchivedWorkoutJpaRepository archivedRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int afterMonths;
+    private final int batchSize;
+    private final int maxBatches;
+    private final String cron;
+
+    WorkoutArchiver(
+            WorkoutJpaRepository workoutRepository,
+            ArchivedWorkoutJpaRepository archivedRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${liftit.workout-archive.after-months:12}") int afterMonths,
+            @Value("${liftit.workout-archive.batch-size:200}") int batchSize,
+            @Value("${liftit.workout-archive.max-batches:500}") int maxBatches,
+            @Value("${liftit.workout-archive.cron:0 45 3 * * *}") String cron) {
+        if (afterMonths < 1) {
+            throw new IllegalArgumentException("liftit.workout-archive.after-months must be at least 1");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("liftit.workout-archive.batch-size must be at least 1");
+        }
+        if (maxBatches < 1) {
+            throw new IllegalArgumentException("liftit.workout-archive.max-batches must be at least 1");
+        }
+        this.workoutRepository = workoutRepository;
+        this.archivedRepository = archivedRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.afterMonths = afterMonths;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.cron = cron;
+    }
+
+    @Override
+    public String queue() {
+        return QUEUE;
+    }
+
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public void run(Job job) {
+        fillExerciseIds();
+        archiveCompletedBefore(ZonedDateTime.now(ZoneOffset.UTC).minusMonths(afterMonths).toInstant());
+    }
+
+    /**
+     * Fills in {@code exercise_ids} on rows archived before the column existed, batch by
+     * batch.
+     *
+     * @return the number of rows filled in
+     */
+    int fillExerciseIds() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer filled = transactionTemplate.execute(status -> {
+                List<ArchivedWorkoutJpaEntity> rows = archivedRepository.lockMissingExerciseIds(batchSize);
+                rows.forEach(ArchivedWorkoutJpaEntity::fillExerciseIds);
+                return rows.size();
+            });
+            int count = filled == null ? 0 : filled;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Filled in exercise ids of {} archived workouts", total);
+        }
+        return total;
+    }
+
+    /**
+     * Archives workouts completed before {@code cutoff}, batch by batch.
+     *
+     * @param cutoff exclusive upper bound on the completion time
+     * @return the number of workouts archived
+     */
+    int archiveCompletedBefore(Instant cutoff) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            int count = archived == null ? 0 : archived;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} workouts completed before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveBatch(Instant cutoff) {
+        List<WorkoutJpaRepository.KeyRef> keys = workoutRepository.lockArchivable(cutoff, batchSize);
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = keys.stream().map(WorkoutJpaRepository.KeyRef::getId).toList();
+        List<Instant> starts = keys.stream().map(WorkoutJpaRepository.KeyRef::getStartedAt).sorted().toList();
+        Instant from = starts.getFirst();
+        Instant to = starts.getLast();
+        Instant archivedAt = Instant.now();
+        List<ArchivedWorkoutJpaEntity> archived = workoutRepository.findAllByIdStartedBetween(ids, from, to).stream()
+                .map(entity -> ArchivedWorkoutJpaEntity.fromDomain(entity.toDomain(), archivedAt, SYSTEM_USER_ID))
+                .toList();
+        archivedRepository.saveAllAndFlush(archived);
+        workoutRepository.deleteArchived(ids, from, to);
+        return ids.size();
+    }
+}
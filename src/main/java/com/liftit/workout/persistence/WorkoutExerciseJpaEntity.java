@@ -6,16 +6,19 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinColumns;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 
+import java.io.Serializable;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -23,22 +26,45 @@ import java.util.List;
  *
  * <p>Owned by {@link WorkoutJpaEntity}. Owns a collection of
  * {@link WorkoutSetJpaEntity} instances. Converts to/from the
- * {@link WorkoutExercise} domain entity via {@link #toDomain()} and
- * {@link #fromDomain(WorkoutExercise, WorkoutJpaEntity)}.
+ * {@link WorkoutExercise} domain entity via {@link #toDomain()},
+ * {@link #fromDomain(WorkoutExercise, WorkoutJpaEntity)} and {@link #update(WorkoutExercise)}.
  *
  * <p>When {@code workoutExercise.id()} is {@code 0}, the {@code id} field
- * is set to {@code null} so the database identity column assigns the real PK.
+ * is set to {@code null} until {@link #assignIds} gives it a sequence value.
+ *
+ * <p>{@code workout_exercises} is partitioned by month like {@code workouts}, so each row
+ * carries its workout's {@code started_at} as {@code workout_started_at}. It is copied
+ * from the owning workout on creation, never changes, and is part of the primary key and
+ * of both foreign keys. The association to the workout is read-only; the
+ * {@code workout_id} column is written through {@link #workoutId}.
  */
 @Entity
 @Table(name = "workout_exercises")
+@IdClass(WorkoutExerciseJpaEntity.Key.class)
 class WorkoutExerciseJpaEntity {
 
+    /** Primary key of a workout exercise: its id and the partition key. */
+    record Key(Long id, Instant workoutStartedAt) implements Serializable {
+    }
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
     private Long id;
 
+    @Id
+    @Column(name = "workout_started_at", nullable = false, updatable = false)
+    private Instant workoutStartedAt;
+
+    @Column(name = "workout_id", nullable = false, updatable = false)
+    private Long workoutId;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "workout_id", nullable = false)
+    @JoinColumns({
+            @JoinColumn(name = "workout_id", referencedColumnName = "id",
+                    insertable = false, updatable = false),
+            @JoinColumn(name = "workout_started_at", referencedColumnName = "started_at",
+                    insertable = false, updatable = false)
+    })
     private WorkoutJpaEntity workout;
 
     @Column(name = "exercise_id", nullable = false)
@@ -66,16 +92,37 @@ class WorkoutExerciseJpaEntity {
             String notes) {
         this.id = id;
         this.workout = workout;
+        this.workoutId = workout.getId().id();
+        this.workoutStartedAt = workout.getId().startedAt();
         this.exerciseId = exerciseId;
         this.orderIndex = orderIndex;
         this.notes = notes;
     }
 
-    /** Returns the database-assigned PK, or {@code null} for new (unsaved) entities. */
+    /** Returns the sequence-assigned id, or {@code null} until {@link #assignIds} ran. */
     Long getId() {
         return id;
     }
 
+    /** Returns the partition key shared with the owning workout and its sets. */
+    Instant getWorkoutStartedAt() {
+        return workoutStartedAt;
+    }
+
+    /** Returns how many of this exercise's sets have no id yet. */
+    int missingSetIds() {
+        return (int) sets.stream().filter(set -> set.getId() == null).count();
+    }
+
+    /** See {@link WorkoutJpaEntity#assignIds}. */
+    void assignIds(Long workoutId, Iterator<Long> exerciseIds, Iterator<Long> setIds) {
+        this.workoutId = workoutId;
+        if (id == null) {
+            id = exerciseIds.next();
+        }
+        sets.forEach(set -> set.assignIds(id, setIds));
+    }
+
     /**
      * Converts this JPA entity to its corresponding {@link WorkoutExercise} domain entity.
      *
@@ -93,7 +140,7 @@ class WorkoutExerciseJpaEntity {
      * Creates a {@code WorkoutExerciseJpaEntity} from a {@link WorkoutExercise} domain entity.
      *
      * <p>When {@code we.id()} is {@code 0}, the {@code id} field is set to {@code null}
-     * so the database identity column assigns the real PK.
+     * for {@link #assignIds} to fill in.
      *
      * @param we      the domain entity; must not be null
      * @param workout the owning workout entity; must not be null
@@ -106,4 +153,27 @@ class WorkoutExerciseJpaEntity {
         we.sets().forEach(set -> entity.sets.add(WorkoutSetJpaEntity.fromDomain(set, entity)));
         return entity;
     }
+
+    /**
+     * Applies a {@link WorkoutExercise} to this managed entity in place. Sets are matched
+     * by position: existing rows are updated, extra ones removed, missing ones added.
+     *
+     * @param we the domain entity with this entity's id; must not be null
+     */
+    void update(WorkoutExercise we) {
+        exerciseId = we.exerciseId();
+        orderIndex = we.order();
+        notes = we.notes();
+        List<WorkoutSet> domainSets = we.sets();
+        while (sets.size() > domainSets.size()) {
+            sets.removeLast();
+        }
+        for (int i = 0; i < domainSets.size(); i++) {
+            if (i < sets.size()) {
+                sets.get(i).update(domainSets.get(i));
+            } else {
+                sets.add(WorkoutSetJpaEntity.fromDomain(domainSets.get(i), this));
+            }
+        }
+    }
 }
@@ -1,49 +1,71 @@
 package com.liftit.workout.persistence;
 
+import com.liftit.profiling.DomainMappingEvent;
 import com.liftit.workout.Workout;
 import com.liftit.workout.WorkoutExercise;
-import com.liftit.workout.WorkoutStatus;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
+import java.io.Serializable;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * JPA entity mapping to the {@code workouts} table.
  *
  * <p>Aggregate root entity. Owns a collection of {@link WorkoutExerciseJpaEntity}
  * instances with cascade-all semantics. Converts to/from the {@link Workout}
- * domain aggregate via {@link #toDomain()} and {@link #fromDomain(Workout)}.
+ * domain aggregate via {@link #toDomain()}, {@link #fromDomain(Workout)} and
+ * {@link #update(Workout)}.
  *
- * <p>When {@code workout.id()} is {@code 0}, the {@code id} field is set to
- * {@code null} so the database identity column assigns the real PK.
+ * <p>The table is range-partitioned by month of {@code started_at}, and the identity is
+ * the primary key {@code (id, started_at)}, so every lookup, update and delete Hibernate
+ * issues for a workout, and every load of its exercises, names a single partition.
+ *
+ * <p>Ids are drawn from the table's sequence by {@link JpaWorkoutRepository} before the
+ * entity is persisted ({@link #assignIds}), for the whole aggregate in one round trip per
+ * table. The entity implements {@link Persistable} so Spring Data persists new workouts
+ * directly instead of merging them (which would first look each key up).
  */
 @Entity
 @Table(name = "workouts")
-class WorkoutJpaEntity {
+@IdClass(WorkoutJpaEntity.Key.class)
+class WorkoutJpaEntity implements Persistable<WorkoutJpaEntity.Key> {
+
+    /** Primary key of a workout: its id and the partition key. */
+    record Key(Long id, Instant startedAt) implements Serializable {
+    }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
     private Long id;
 
+    @Id
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private Instant startedAt;
+
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @Column(name = "status", nullable = false, length = 20)
-    private String status;
-
-    @Column(name = "started_at", nullable = false)
-    private Instant startedAt;
+    /** See {@link StorageCodes#statusCode}. */
+    @Column(name = "status_code", nullable = false)
+    private Short statusCode;
 
     @Column(name = "completed_at")
     private Instant completedAt;
@@ -67,6 +89,9 @@ class WorkoutJpaEntity {
     @Column(name = "updated_by", nullable = false)
     private Long updatedBy;
 
+    @Transient
+    private boolean isNew = true;
+
     /** Required by JPA. */
     protected WorkoutJpaEntity() {
     }
@@ -74,7 +99,7 @@ class WorkoutJpaEntity {
     private WorkoutJpaEntity(
             Long id,
             Long userId,
-            String status,
+            Short statusCode,
             Instant startedAt,
             Instant completedAt,
             String notes,
@@ -84,7 +109,7 @@ class WorkoutJpaEntity {
             Long updatedBy) {
         this.id = id;
         this.userId = userId;
-        this.status = status;
+        this.statusCode = statusCode;
         this.startedAt = startedAt;
         this.completedAt = completedAt;
         this.notes = notes;
@@ -94,9 +119,43 @@ class WorkoutJpaEntity {
         this.updatedBy = updatedBy;
     }
 
-    /** Returns the database-assigned PK, or {@code null} for new (unsaved) entities. */
-    Long getId() {
-        return id;
+    /** Returns the primary key; its id is {@code null} until {@link #assignIds} ran. */
+    @Override
+    public Key getId() {
+        return new Key(id, startedAt);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    /** Returns how many workout, exercise and set ids {@link #assignIds} needs, in that order. */
+    int[] missingIds() {
+        int missingExercises = 0;
+        int missingSets = 0;
+        for (WorkoutExerciseJpaEntity exercise : exercises) {
+            missingExercises += exercise.getId() == null ? 1 : 0;
+            missingSets += exercise.missingSetIds();
+        }
+        return new int[] {id == null ? 1 : 0, missingExercises, missingSets};
+    }
+
+    /**
+     * Gives the workout, and every exercise and set without one, an id from the given
+     * sequence values, and points the children at their parents' ids.
+     */
+    void assignIds(Iterator<Long> workoutIds, Iterator<Long> exerciseIds, Iterator<Long> setIds) {
+        if (id == null) {
+            id = workoutIds.next();
+        }
+        exercises.forEach(exercise -> exercise.assignIds(id, exerciseIds, setIds));
     }
 
     /**
@@ -105,30 +164,32 @@ class WorkoutJpaEntity {
      * @return the domain aggregate
      */
     Workout toDomain() {
+        DomainMappingEvent event = DomainMappingEvent.toDomain("Workout");
         List<WorkoutExercise> domainExercises = exercises.stream()
                 .map(WorkoutExerciseJpaEntity::toDomain)
                 .toList();
         Long entityId = id == null ? 0L : id;
-        return new Workout(entityId, userId, startedAt, completedAt,
-                WorkoutStatus.valueOf(status), notes, domainExercises,
-                createdAt, createdBy, updatedAt, updatedBy);
+        return event.end(new Workout(entityId, userId, startedAt, completedAt,
+                StorageCodes.status(statusCode), notes, domainExercises,
+                createdAt, createdBy, updatedAt, updatedBy));
     }
 
     /**
      * Creates a {@code WorkoutJpaEntity} from a {@link Workout} domain aggregate.
      *
      * <p>When {@code workout.id()} is {@code 0}, the {@code id} field is set to
-     * {@code null} so the database identity column assigns the real PK.
+     * {@code null} for {@link #assignIds} to fill in.
      *
      * @param workout the domain aggregate; must not be null
      * @return a new entity with its exercises and sets populated, ready for persistence
      */
     static WorkoutJpaEntity fromDomain(Workout workout) {
+        DomainMappingEvent event = DomainMappingEvent.fromDomain("Workout");
         Long entityId = workout.id() == 0 ? null : workout.id();
         WorkoutJpaEntity entity = new WorkoutJpaEntity(
                 entityId,
                 workout.userId(),
-                workout.status().name(),
+                StorageCodes.statusCode(workout.status()),
                 workout.startedAt(),
                 workout.completedAt(),
                 workout.notes(),
@@ -137,6 +198,40 @@ class WorkoutJpaEntity {
                 workout.updatedAt(),
                 workout.updatedBy());
         workout.exercises().forEach(we -> entity.exercises.add(WorkoutExerciseJpaEntity.fromDomain(we, entity)));
-        return entity;
+        return event.end(entity);
+    }
+
+    /**
+     * Applies the state of a saved {@link Workout} to this managed entity in place (full
+     * update): exercises are matched by id, added or removed, and each keeps its rows for
+     * the sets it still has. Hibernate then writes only what changed, by primary key.
+     *
+     * @param workout the domain aggregate with this entity's id; must not be null
+     */
+    void update(Workout workout) {
+        DomainMappingEvent event = DomainMappingEvent.fromDomain("Workout");
+        userId = workout.userId();
+        statusCode = StorageCodes.statusCode(workout.status());
+        completedAt = workout.completedAt();
+        notes = workout.notes();
+        createdAt = workout.createdAt();
+        createdBy = workout.createdBy();
+        updatedAt = workout.updatedAt();
+        updatedBy = workout.updatedBy();
+        Map<Long, WorkoutExerciseJpaEntity> existing = exercises.stream()
+                .collect(Collectors.toMap(WorkoutExerciseJpaEntity::getId, Function.identity()));
+        List<WorkoutExerciseJpaEntity> updated = new ArrayList<>();
+        for (WorkoutExercise we : workout.exercises()) {
+            WorkoutExerciseJpaEntity current = existing.get(we.id());
+            if (current == null) {
+                updated.add(WorkoutExerciseJpaEntity.fromDomain(we, this));
+            } else {
+                current.update(we);
+                updated.add(current);
+            }
+        }
+        exercises.clear();
+        exercises.addAll(updated);
+        event.end(this);
     }
 }
@@ -1,16 +1,128 @@
 package com.liftit.workout.persistence;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
 
 /**
  * Spring Data repository for {@link WorkoutJpaEntity}.
  *
  * <p>Package-private — never used directly outside this package.
  * All application code depends on {@link com.liftit.workout.WorkoutRepository} (DIP).
+ *
+ * <p>History queries span the hot {@code workouts} table and the cold
+ * {@code archived_workouts} table. They filter on the start time with bind parameters so
+ * Postgres prunes the monthly {@code workouts} partitions outside {@code [from, to)}.
+ * Every other query is keyed or bounded on {@code started_at} as well.
  */
-interface WorkoutJpaRepository extends JpaRepository<WorkoutJpaEntity, Long> {
+interface WorkoutJpaRepository extends JpaRepository<WorkoutJpaEntity, WorkoutJpaEntity.Key> {
+
+    /** The primary key of a workout, as read by a native query. */
+    interface KeyRef {
+
+        Long getId();
+
+        Instant getStartedAt();
+    }
+
+    /** One entry of a user's combined hot and cold workout history, in page order. */
+    interface HistoryRef extends KeyRef {
+
+        Boolean getArchived();
+    }
+
+    @Query(value = """
+            SELECT id, started_at AS "startedAt", archived FROM (
+                SELECT id, started_at, FALSE AS archived FROM workouts
+                WHERE user_id = :userId AND started_at >= :from AND started_at < :to
+                UNION ALL
+                SELECT id, started_at, TRUE AS archived FROM archived_workouts
+                WHERE user_id = :userId AND started_at >= :from AND started_at < :to
+            ) history
+            ORDER BY started_at DESC, id DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<HistoryRef> findHistoryNewestFirst(
+            @Param("userId") Long userId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("limit") int limit,
+            @Param("offset") long offset);
+
+    @Query(value = """
+            SELECT id, started_at AS "startedAt", archived FROM (
+                SELECT id, started_at, FALSE AS archived FROM workouts
+                WHERE user_id = :userId AND started_at >= :from AND started_at < :to
+                UNION ALL
+                SELECT id, started_at, TRUE AS archived FROM archived_workouts
+                WHERE user_id = :userId AND started_at >= :from AND started_at < :to
+            ) history
+            ORDER BY started_at ASC, id ASC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<HistoryRef> findHistoryOldestFirst(
+            @Param("userId") Long userId,
+            @Param("from") Instant from,
+            @Param("to") Instant to,
+            @Param("limit") int limit,
+            @Param("offset") long offset);
+
+    @Query(value = """
+            SELECT (SELECT count(*) FROM workouts
+                    WHERE user_id = :userId AND started_at >= :from AND started_at < :to)
+                 + (SELECT count(*) FROM archived_workouts
+                    WHERE user_id = :userId AND started_at >= :from AND started_at < :to)
+            """, nativeQuery = true)
+    long countHistory(
+            @Param("userId") Long userId,
+            @Param("from") Instant from,
+            @Param("to") Instant to);
+
+    /**
+     * Loads the hot workouts with the given ids. {@code from} and {@code to} (both
+     * inclusive) bound their start times, so only the partitions in between are read.
+     */
+    @Query(value = """
+            SELECT * FROM workouts
+            WHERE id IN (:ids) AND started_at >= :from AND started_at <= :to
+            """, nativeQuery = true)
+    List<WorkoutJpaEntity> findAllByIdStartedBetween(
+            @Param("ids") List<Long> ids,
+            @Param("from") Instant from,
+            @Param("to") Instant to);
+
+    /** Deletes one hot workout; exercises and sets follow by {@code ON DELETE CASCADE}. */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM workouts WHERE id = :id AND started_at = :startedAt", nativeQuery = true)
+    int deleteByKey(@Param("id") Long id, @Param("startedAt") Instant startedAt);
+
+    /**
+     * Locks up to {@code limit} completed workouts finished before {@code cutoff}, oldest
+     * first, skipping rows another archiver already holds. A workout cannot finish before
+     * it starts, so the redundant {@code started_at} bound lets Postgres prune partitions.
+     * Status code 2 is {@link StorageCodes#STATUS_COMPLETED}.
+     */
+    @Query(value = """
+            SELECT id, started_at AS "startedAt" FROM workouts
+            WHERE status_code = 2 AND completed_at < :cutoff AND started_at < :cutoff
+            ORDER BY started_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<KeyRef> lockArchivable(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
 
-    Page<WorkoutJpaEntity> findByUserId(Long userId, Pageable pageable);
+    /**
+     * Deletes archived workouts, bounded like {@link #findAllByIdStartedBetween}; exercises
+     * and sets follow by {@code ON DELETE CASCADE}.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            DELETE FROM workouts
+            WHERE id IN (:ids) AND started_at >= :from AND started_at <= :to
+            """, nativeQuery = true)
+    int deleteArchived(@Param("ids") List<Long> ids, @Param("from") Instant from, @Param("to") Instant to);
 }
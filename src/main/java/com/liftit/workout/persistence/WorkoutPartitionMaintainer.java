@@ -0,0 +1,116 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.job.Job;
+import com.liftit.job.JobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Keeps monthly partitions of {@code workouts}, {@code workout_exercises} and
+ * {@code workout_sets} created ahead of time.
+ *
+ * <p>Rows are routed by the workout's start time, and there is no default partition, so
+ * an insert for a month without a partition would fail. The partitions themselves are
+ * created by the {@code ensure_workout_partitions} database function (see changelog
+ * {@code V14}); this component calls it for the current month through
+ * {@code liftit.workout-partitions.months-ahead} months ahead:
+ * <ul>
+ *   <li>once in the {@code migrate} run mode, after the changelog is applied;</li>
+ *   <li>as a recurring job ({@code liftit.workout-partitions.cron}, UTC), run by one
+ *   serving node per schedule.</li>
+ * </ul>
+ *
+ * <p>The call is also guarded by a transaction-scoped advisory lock taken with
+ * {@code pg_try_advisory_xact_lock}, so a migrate run and a scheduled run that overlap do
+ * not both queue on the catalog locks partition creation needs; the one without the lock
+ * skips.
+ */
+@Component
+class WorkoutPartitionMaintainer implements ApplicationRunner, JobHandler {
+
+    static final String QUEUE = "workout.partitions";
+
+    /** Advisory lock key; arbitrary but stable ("wkparts" in ASCII). */
+    static final long LOCK_KEY = 0x776b7061727473L;
+
+    private static final Logger log = LoggerFactory.getLogger(WorkoutPartitionMaintainer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Environment environment;
+    private final int monthsAhead;
+    private final String cron;
+
+    WorkoutPartitionMaintainer(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            Environment environment,
+            @Value("${liftit.workout-partitions.months-ahead:3}") int monthsAhead,
+            @Value("${liftit.workout-partitions.cron:0 15 3 * * *}") String cron) {
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("liftit.workout-partitions.months-ahead must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.environment = environment;
+        this.monthsAhead = monthsAhead;
+        this.cron = cron;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (environment.acceptsProfiles(Profiles.of("migrate"))) {
+            ensurePartitions();
+        }
+    }
+
+    @Override
+    public String queue() {
+        return QUEUE;
+    }
+
+    @Override
+    public String cron() {
+        return cron;
+    }
+
+    @Override
+    public void run(Job job) {
+        ensurePartitions();
+    }
+
+    /**
+     * Creates any missing partitions up to {@code monthsAhead} months ahead.
+     *
+     * @return the number of partitions created, or {@code -1} if another node held the lock
+     */
+    int ensurePartitions() {
+        Integer created = transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                return -1;
+            }
+            return jdbcTemplate.queryForObject("SELECT ensure_workout_partitions(?, ?)", Integer.class,
+                    LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1), monthsAhead);
+        });
+        int result = created == null ? 0 : created;
+        if (result > 0) {
+            log.info("Created {} workout partitions ({} months ahead)", result, monthsAhead);
+        } else if (result < 0) {
+            log.debug("Workout partition maintenance skipped; another node holds the lock");
+        }
+        return result;
+    }
+}
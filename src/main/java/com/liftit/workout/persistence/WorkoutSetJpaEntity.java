@@ -6,32 +6,57 @@ import com.liftit.workout.WorkoutSet;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinColumns;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
-import java.math.BigDecimal;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Iterator;
 
 /**
  * JPA entity mapping to the {@code workout_sets} table.
  *
  * <p>Owned by {@link WorkoutExerciseJpaEntity}. Converts to/from
- * the {@link WorkoutSet} domain value object via {@link #toDomain()}
- * and {@link #fromDomain(WorkoutSet, WorkoutExerciseJpaEntity)}.
+ * the {@link WorkoutSet} domain value object via {@link #toDomain()},
+ * {@link #fromDomain(WorkoutSet, WorkoutExerciseJpaEntity)} and {@link #update(WorkoutSet)}.
+ *
+ * <p>Partitioned by {@code workout_started_at}, copied from the owning exercise and part
+ * of the primary key and of the foreign key to it, like {@link WorkoutExerciseJpaEntity}.
+ *
+ * <p>Weights use the fixed-point columns described in {@link StorageCodes}; mapping
+ * is integer arithmetic and a code switch, with no {@code BigDecimal} or enum-name lookup.
  */
 @Entity
 @Table(name = "workout_sets")
+@IdClass(WorkoutSetJpaEntity.Key.class)
 class WorkoutSetJpaEntity {
 
+    /** Primary key of a workout set: its id and the partition key. */
+    record Key(Long id, Instant workoutStartedAt) implements Serializable {
+    }
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
     private Long id;
 
+    @Id
+    @Column(name = "workout_started_at", nullable = false, updatable = false)
+    private Instant workoutStartedAt;
+
+    @Column(name = "workout_exercise_id", nullable = false, updatable = false)
+    private Long workoutExerciseId;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "workout_exercise_id", nullable = false)
+    @JoinColumns({
+            @JoinColumn(name = "workout_exercise_id", referencedColumnName = "id",
+                    insertable = false, updatable = false),
+            @JoinColumn(name = "workout_started_at", referencedColumnName = "workout_started_at",
+                    insertable = false, updatable = false)
+    })
     private WorkoutExerciseJpaEntity workoutExercise;
 
     @Column(name = "set_number", nullable = false)
@@ -40,11 +65,14 @@ class WorkoutSetJpaEntity {
     @Column(name = "reps", nullable = false)
     private Integer reps;
 
-    @Column(name = "weight_value", nullable = false, precision = 10, scale = 4)
-    private BigDecimal weightValue;
+    @Column(name = "weight_milli", nullable = false)
+    private Integer weightMilli;
 
-    @Column(name = "weight_unit", nullable = false, length = 10)
-    private String weightUnit;
+    @Column(name = "weight_grams", nullable = false)
+    private Integer weightGrams;
+
+    @Column(name = "weight_unit_code", nullable = false)
+    private Short weightUnitCode;
 
     @Column(name = "rpe")
     private Integer rpe;
@@ -53,19 +81,24 @@ class WorkoutSetJpaEntity {
     protected WorkoutSetJpaEntity() {
     }
 
-    private WorkoutSetJpaEntity(
-            WorkoutExerciseJpaEntity workoutExercise,
-            Integer setNumber,
-            Integer reps,
-            BigDecimal weightValue,
-            String weightUnit,
-            Integer rpe) {
+    private WorkoutSetJpaEntity(WorkoutExerciseJpaEntity workoutExercise, WorkoutSet set) {
         this.workoutExercise = workoutExercise;
-        this.setNumber = setNumber;
-        this.reps = reps;
-        this.weightValue = weightValue;
-        this.weightUnit = weightUnit;
-        this.rpe = rpe;
+        this.workoutExerciseId = workoutExercise.getId();
+        this.workoutStartedAt = workoutExercise.getWorkoutStartedAt();
+        update(set);
+    }
+
+    /** Returns the sequence-assigned id, or {@code null} until {@link #assignIds} ran. */
+    Long getId() {
+        return id;
+    }
+
+    /** See {@link WorkoutJpaEntity#assignIds}. */
+    void assignIds(Long workoutExerciseId, Iterator<Long> setIds) {
+        this.workoutExerciseId = workoutExerciseId;
+        if (id == null) {
+            id = setIds.next();
+        }
     }
 
     /**
@@ -74,8 +107,8 @@ class WorkoutSetJpaEntity {
      * @return the domain value object
      */
     WorkoutSet toDomain() {
-        WeightUnit unit = WeightUnit.valueOf(weightUnit);
-        Weight weight = new Weight(weightValue.doubleValue(), unit);
+        WeightUnit unit = StorageCodes.unit(weightUnitCode);
+        Weight weight = new Weight(StorageCodes.fromMilli(weightMilli), unit);
         return new WorkoutSet(setNumber, reps, weight, rpe);
     }
 
@@ -85,11 +118,26 @@ class WorkoutSetJpaEntity {
      * @param set             the domain value object; must not be null
      * @param workoutExercise the owning exercise entity; must not be null
      * @return a new entity ready for persistence
+     * @throws IllegalArgumentException if the weight does not fit the fixed-point column
      */
     static WorkoutSetJpaEntity fromDomain(WorkoutSet set, WorkoutExerciseJpaEntity workoutExercise) {
-        BigDecimal weightValue = BigDecimal.valueOf(set.weight().value());
-        String weightUnit = set.weight().unit().name();
-        return new WorkoutSetJpaEntity(workoutExercise, set.setNumber(), set.reps(),
-                weightValue, weightUnit, set.rpe());
+        return new WorkoutSetJpaEntity(workoutExercise, set);
+    }
+
+    /**
+     * Applies a {@link WorkoutSet} to this entity in place.
+     *
+     * @param set the domain value object; must not be null
+     * @throws IllegalArgumentException if the weight does not fit the fixed-point column
+     */
+    void update(WorkoutSet set) {
+        WeightUnit unit = set.weight().unit();
+        int milli = StorageCodes.toMilli(set.weight().value());
+        setNumber = set.setNumber();
+        reps = set.reps();
+        weightMilli = milli;
+        weightGrams = StorageCodes.toGrams(milli, unit);
+        weightUnitCode = StorageCodes.unitCode(unit);
+        rpe = set.rpe();
     }
 }
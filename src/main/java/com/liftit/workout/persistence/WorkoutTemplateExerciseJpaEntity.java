@@ -0,0 +1,97 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutSet;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA entity mapping to the {@code workout_template_exercises} table.
+ *
+ * <p>Owned by {@link WorkoutTemplateJpaEntity}. Owns a collection of
+ * {@link WorkoutTemplateSetJpaEntity} instances. Converts to/from the
+ * {@link WorkoutExercise} domain entity.
+ */
+@Entity
+@Table(name = "workout_template_exercises")
+class WorkoutTemplateExerciseJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "template_id", nullable = false)
+    private WorkoutTemplateJpaEntity template;
+
+    @Column(name = "exercise_id", nullable = false)
+    private Long exerciseId;
+
+    @Column(name = "order_index", nullable = false)
+    private Integer orderIndex;
+
+    @Column(name = "notes", length = 500)
+    private String notes;
+
+    @OneToMany(mappedBy = "templateExercise", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OrderBy("setNumber ASC")
+    private List<WorkoutTemplateSetJpaEntity> sets = new ArrayList<>();
+
+    /** Required by JPA. */
+    protected WorkoutTemplateExerciseJpaEntity() {
+    }
+
+    private WorkoutTemplateExerciseJpaEntity(
+            Long id,
+            WorkoutTemplateJpaEntity template,
+            Long exerciseId,
+            Integer orderIndex,
+            String notes) {
+        this.id = id;
+        this.template = template;
+        this.exerciseId = exerciseId;
+        this.orderIndex = orderIndex;
+        this.notes = notes;
+    }
+
+    /**
+     * Converts this JPA entity to its corresponding {@link WorkoutExercise} domain entity.
+     *
+     * @return the domain entity
+     */
+    WorkoutExercise toDomain() {
+        List<WorkoutSet> domainSets = sets.stream()
+                .map(WorkoutTemplateSetJpaEntity::toDomain)
+                .toList();
+        Long entityId = id == null ? 0L : id;
+        return new WorkoutExercise(entityId, exerciseId, orderIndex, domainSets, notes);
+    }
+
+    /**
+     * Creates a {@code WorkoutTemplateExerciseJpaEntity} from a {@link WorkoutExercise}.
+     *
+     * @param te       the planned exercise; must not be null
+     * @param template the owning template entity; must not be null
+     * @return a new entity with its sets populated, ready for persistence
+     */
+    static WorkoutTemplateExerciseJpaEntity fromDomain(WorkoutExercise te, WorkoutTemplateJpaEntity template) {
+        Long entityId = te.id() == 0 ? null : te.id();
+        WorkoutTemplateExerciseJpaEntity entity =
+                new WorkoutTemplateExerciseJpaEntity(entityId, template, te.exerciseId(), te.order(), te.notes());
+        te.sets().forEach(set -> entity.sets.add(WorkoutTemplateSetJpaEntity.fromDomain(set, entity)));
+        return entity;
+    }
+}
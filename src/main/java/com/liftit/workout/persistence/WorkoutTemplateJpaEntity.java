@@ -0,0 +1,123 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.profiling.DomainMappingEvent;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutTemplate;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA entity mapping to the {@code workout_templates} table.
+ *
+ * <p>Aggregate root entity. Owns a collection of {@link WorkoutTemplateExerciseJpaEntity}
+ * instances with cascade-all semantics. Converts to/from the {@link WorkoutTemplate}
+ * domain aggregate via {@link #toDomain()} and {@link #fromDomain(WorkoutTemplate)}.
+ *
+ * <p>When {@code template.id()} is {@code 0}, the {@code id} field is set to
+ * {@code null} so the database identity column assigns the real PK.
+ */
+@Entity
+@Table(name = "workout_templates")
+class WorkoutTemplateJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "notes", length = 1000)
+    private String notes;
+
+    @OneToMany(mappedBy = "template", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OrderBy("orderIndex ASC")
+    private List<WorkoutTemplateExerciseJpaEntity> exercises = new ArrayList<>();
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "updated_by", nullable = false)
+    private Long updatedBy;
+
+    /** Required by JPA. */
+    protected WorkoutTemplateJpaEntity() {
+    }
+
+    private WorkoutTemplateJpaEntity(
+            Long id,
+            Long userId,
+            String name,
+            String notes,
+            Instant createdAt,
+            Long createdBy,
+            Instant updatedAt,
+            Long updatedBy) {
+        this.id = id;
+        this.userId = userId;
+        this.name = name;
+        this.notes = notes;
+        this.createdAt = createdAt;
+        this.createdBy = createdBy;
+        this.updatedAt = updatedAt;
+        this.updatedBy = updatedBy;
+    }
+
+    /**
+     * Converts this JPA entity to its corresponding {@link WorkoutTemplate} domain aggregate.
+     *
+     * @return the domain aggregate
+     */
+    WorkoutTemplate toDomain() {
+        DomainMappingEvent event = DomainMappingEvent.toDomain("WorkoutTemplate");
+        List<WorkoutExercise> domainExercises = exercises.stream()
+                .map(WorkoutTemplateExerciseJpaEntity::toDomain)
+                .toList();
+        Long entityId = id == null ? 0L : id;
+        return event.end(new WorkoutTemplate(entityId, userId, name, notes, domainExercises,
+                createdAt, createdBy, updatedAt, updatedBy));
+    }
+
+    /**
+     * Creates a {@code WorkoutTemplateJpaEntity} from a {@link WorkoutTemplate} domain aggregate.
+     *
+     * @param template the domain aggregate; must not be null
+     * @return a new entity with its exercises and sets populated, ready for persistence
+     */
+    static WorkoutTemplateJpaEntity fromDomain(WorkoutTemplate template) {
+        DomainMappingEvent event = DomainMappingEvent.fromDomain("WorkoutTemplate");
+        Long entityId = template.id() == 0 ? null : template.id();
+        WorkoutTemplateJpaEntity entity = new WorkoutTemplateJpaEntity(
+                entityId,
+                template.userId(),
+                template.name(),
+                template.notes(),
+                template.createdAt(),
+                template.createdBy(),
+                template.updatedAt(),
+                template.updatedBy());
+        template.exercises().forEach(te -> entity.exercises.add(WorkoutTemplateExerciseJpaEntity.fromDomain(te, entity)));
+        return event.end(entity);
+    }
+}
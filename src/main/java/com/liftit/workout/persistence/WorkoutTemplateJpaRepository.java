@@ -0,0 +1,16 @@
+package com.liftit.workout.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Spring Data repository for {@link WorkoutTemplateJpaEntity}.
+ *
+ * <p>Package-private — never used directly outside this package.
+ * All application code depends on {@link com.liftit.workout.WorkoutTemplateRepository} (DIP).
+ */
+interface WorkoutTemplateJpaRepository extends JpaRepository<WorkoutTemplateJpaEntity, Long> {
+
+    List<WorkoutTemplateJpaEntity> findByUserIdOrderByNameAscIdAsc(Long userId);
+}
@@ -0,0 +1,99 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.WorkoutSet;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * JPA entity mapping to the {@code workout_template_sets} table.
+ *
+ * <p>Owned by {@link WorkoutTemplateExerciseJpaEntity}. A planned set is stored in the
+ * same fixed-point layout as {@link WorkoutSetJpaEntity} (see {@link StorageCodes}), so
+ * starting a workout copies the columns as they are.
+ */
+@Entity
+@Table(name = "workout_template_sets")
+class WorkoutTemplateSetJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "template_exercise_id", nullable = false)
+    private WorkoutTemplateExerciseJpaEntity templateExercise;
+
+    @Column(name = "set_number", nullable = false)
+    private Integer setNumber;
+
+    @Column(name = "reps", nullable = false)
+    private Integer reps;
+
+    @Column(name = "rpe")
+    private Integer rpe;
+
+    @Column(name = "weight_milli", nullable = false)
+    private Integer weightMilli;
+
+    @Column(name = "weight_grams", nullable = false)
+    private Integer weightGrams;
+
+    @Column(name = "weight_unit_code", nullable = false)
+    private Short weightUnitCode;
+
+    /** Required by JPA. */
+    protected WorkoutTemplateSetJpaEntity() {
+    }
+
+    private WorkoutTemplateSetJpaEntity(
+            WorkoutTemplateExerciseJpaEntity templateExercise,
+            Integer setNumber,
+            Integer reps,
+            Integer rpe,
+            Integer weightMilli,
+            Integer weightGrams,
+            Short weightUnitCode) {
+        this.templateExercise = templateExercise;
+        this.setNumber = setNumber;
+        this.reps = reps;
+        this.rpe = rpe;
+        this.weightMilli = weightMilli;
+        this.weightGrams = weightGrams;
+        this.weightUnitCode = weightUnitCode;
+    }
+
+    /**
+     * Converts this JPA entity to a {@link WorkoutSet} domain value object.
+     *
+     * @return the domain value object
+     */
+    WorkoutSet toDomain() {
+        WeightUnit unit = StorageCodes.unit(weightUnitCode);
+        Weight weight = new Weight(StorageCodes.fromMilli(weightMilli), unit);
+        return new WorkoutSet(setNumber, reps, weight, rpe);
+    }
+
+    /**
+     * Creates a {@code WorkoutTemplateSetJpaEntity} from a {@link WorkoutSet} domain value object.
+     *
+     * @param set              the planned set; must not be null
+     * @param templateExercise the owning exercise entity; must not be null
+     * @return a new entity ready for persistence
+     * @throws IllegalArgumentException if the weight does not fit the fixed-point column
+     */
+    static WorkoutTemplateSetJpaEntity fromDomain(WorkoutSet set, WorkoutTemplateExerciseJpaEntity templateExercise) {
+        WeightUnit unit = set.weight().unit();
+        int weightMilli = StorageCodes.toMilli(set.weight().value());
+        return new WorkoutTemplateSetJpaEntity(templateExercise, set.setNumber(), set.reps(), set.rpe(),
+                weightMilli, StorageCodes.toGrams(weightMilli, unit), StorageCodes.unitCode(unit));
+    }
+}
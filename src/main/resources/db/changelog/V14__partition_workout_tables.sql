@@ -0,0 +1,163 @@
+--liquibase formatted sql
+
+--changeset liftit:create-ensure-workout-partitions-function splitStatements:false
+-- Creates the monthly range partitions of workouts, workout_exercises and workout_sets
+-- from from_month through months_ahead months after the current month (UTC). Existing
+-- partitions are left alone, so repeated calls only pay for the catalog lookups.
+-- Returns the number of partitions created. Called by the migration below and by
+-- WorkoutPartitionMaintainer.
+CREATE OR REPLACE FUNCTION ensure_workout_partitions(from_month DATE, months_ahead INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    last_month  DATE := (date_trunc('month', now() AT TIME ZONE 'UTC')
+                         + make_interval(months => months_ahead))::date;
+    parent      TEXT;
+    child       TEXT;
+    created     INTEGER := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        FOREACH parent IN ARRAY ARRAY['workouts', 'workout_exercises', 'workout_sets'] LOOP
+            child := parent || to_char(month_start, '"_y"YYYY"m"MM');
+            IF to_regclass(child) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                               child, parent,
+                               month_start::timestamp AT TIME ZONE 'UTC',
+                               (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC');
+                created := created + 1;
+            END IF;
+        END LOOP;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+--rollback DROP FUNCTION ensure_workout_partitions(DATE, INTEGER);
+
+--changeset liftit:partition-workout-tables
+--preconditions onFail:HALT onError:HALT
+--precondition-sql-check expectedResult:t SELECT '${workoutPartitionWindow}' = 'true' OR COALESCE((SELECT reltuples < 1000000 FROM pg_class WHERE oid = to_regclass('workout_sets')), true)
+-- Rebuilds the three workout tables as range-partitioned by month of the workout's
+-- started_at. Partitioned primary keys and foreign keys must contain the partition key,
+-- so the child tables carry a copy of the parent workout's started_at.
+-- Deliberately one changeset: the table swap must commit or roll back as a whole.
+--
+-- REQUIRES A MAINTENANCE WINDOW on a populated database. The renames take ACCESS
+-- EXCLUSIVE locks on the three tables and hold them until the copy commits, so every
+-- workout read and write of the serving build blocks for the whole run; the copy needs
+-- about as much free disk again as the three tables and their indexes, and writes WAL for
+-- all of it. Stop the serving nodes first and size the window from a run against a
+-- restored copy. Above an estimated million sets the changeset halts unless the migrate
+-- run passes --spring.liquibase.parameters.workoutPartitionWindow=true (see README).
+ALTER TABLE workout_sets RENAME TO workout_sets_legacy;
+ALTER TABLE workout_sets_legacy RENAME CONSTRAINT pk_workout_sets TO pk_workout_sets_legacy;
+ALTER SEQUENCE workout_sets_id_seq RENAME TO workout_sets_legacy_id_seq;
+ALTER TABLE workout_exercises RENAME TO workout_exercises_legacy;
+ALTER TABLE workout_exercises_legacy RENAME CONSTRAINT pk_workout_exercises TO pk_workout_exercises_legacy;
+ALTER SEQUENCE workout_exercises_id_seq RENAME TO workout_exercises_legacy_id_seq;
+ALTER TABLE workouts RENAME TO workouts_legacy;
+ALTER TABLE workouts_legacy RENAME CONSTRAINT pk_workouts TO pk_workouts_legacy;
+ALTER SEQUENCE workouts_id_seq RENAME TO workouts_legacy_id_seq;
+
+CREATE TABLE workouts (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    user_id      BIGINT                   NOT NULL,
+    status       VARCHAR(20)              NOT NULL,
+    started_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    notes        VARCHAR(1000),
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_by   BIGINT                   NOT NULL,
+    updated_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_by   BIGINT                   NOT NULL,
+    CONSTRAINT pk_workouts PRIMARY KEY (id, started_at),
+    CONSTRAINT fk_workouts_user       FOREIGN KEY (user_id)    REFERENCES users (id),
+    CONSTRAINT fk_workouts_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_workouts_updated_by FOREIGN KEY (updated_by) REFERENCES users (id)
+) PARTITION BY RANGE (started_at);
+CREATE INDEX idx_workouts_user_started_at ON workouts (user_id, started_at DESC);
+
+CREATE TABLE workout_exercises (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    workout_id         BIGINT                   NOT NULL,
+    workout_started_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    exercise_id        BIGINT                   NOT NULL,
+    order_index        INTEGER                  NOT NULL,
+    notes              VARCHAR(500),
+    CONSTRAINT pk_workout_exercises          PRIMARY KEY (id, workout_started_at),
+    CONSTRAINT fk_workout_exercises_workout  FOREIGN KEY (workout_id, workout_started_at)
+        REFERENCES workouts (id, started_at) ON DELETE CASCADE,
+    CONSTRAINT fk_workout_exercises_exercise FOREIGN KEY (exercise_id) REFERENCES exercises (id)
+) PARTITION BY RANGE (workout_started_at);
+CREATE INDEX idx_workout_exercises_workout ON workout_exercises (workout_id);
+
+CREATE TABLE workout_sets (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    workout_exercise_id BIGINT                   NOT NULL,
+    workout_started_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    set_number          INTEGER                  NOT NULL,
+    reps                INTEGER                  NOT NULL,
+    weight_value        NUMERIC(10, 4)           NOT NULL,
+    weight_unit         VARCHAR(10)              NOT NULL,
+    rpe                 INTEGER,
+    CONSTRAINT pk_workout_sets    PRIMARY KEY (id, workout_started_at),
+    CONSTRAINT fk_workout_sets_we FOREIGN KEY (workout_exercise_id, workout_started_at)
+        REFERENCES workout_exercises (id, workout_started_at) ON DELETE CASCADE
+) PARTITION BY RANGE (workout_started_at);
+CREATE INDEX idx_workout_sets_we ON workout_sets (workout_exercise_id);
+
+SELECT ensure_workout_partitions(
+    (COALESCE((SELECT min(started_at) FROM workouts_legacy), now()) AT TIME ZONE 'UTC')::date, 3);
+
+INSERT INTO workouts (id, user_id, status, started_at, completed_at, notes,
+                      created_at, created_by, updated_at, updated_by)
+SELECT id, user_id, status, started_at, completed_at, notes,
+       created_at, created_by, updated_at, updated_by
+FROM workouts_legacy;
+
+INSERT INTO workout_exercises (id, workout_id, workout_started_at, exercise_id, order_index, notes)
+SELECT we.id, we.workout_id, w.started_at, we.exercise_id, we.order_index, we.notes
+FROM workout_exercises_legacy we
+JOIN workouts_legacy w ON w.id = we.workout_id;
+
+INSERT INTO workout_sets (id, workout_exercise_id, workout_started_at, set_number, reps,
+                          weight_value, weight_unit, rpe)
+SELECT ws.id, ws.workout_exercise_id, w.started_at, ws.set_number, ws.reps,
+       ws.weight_value, ws.weight_unit, ws.rpe
+FROM workout_sets_legacy ws
+JOIN workout_exercises_legacy we ON we.id = ws.workout_exercise_id
+JOIN workouts_legacy w ON w.id = we.workout_id;
+
+SELECT setval(pg_get_serial_sequence('workouts', 'id'),
+              COALESCE((SELECT max(id) FROM workouts), 0) + 1, false);
+SELECT setval(pg_get_serial_sequence('workout_exercises', 'id'),
+              COALESCE((SELECT max(id) FROM workout_exercises), 0) + 1, false);
+SELECT setval(pg_get_serial_sequence('workout_sets', 'id'),
+              COALESCE((SELECT max(id) FROM workout_sets), 0) + 1, false);
+
+DROP TABLE workout_sets_legacy;
+DROP TABLE workout_exercises_legacy;
+DROP TABLE workouts_legacy;
+--rollback ALTER TABLE workout_sets RENAME TO workout_sets_partitioned;
+--rollback ALTER TABLE workout_exercises RENAME TO workout_exercises_partitioned;
+--rollback ALTER TABLE workouts RENAME TO workouts_partitioned;
+--rollback ALTER TABLE workout_sets_partitioned RENAME CONSTRAINT pk_workout_sets TO pk_workout_sets_partitioned;
+--rollback ALTER TABLE workout_exercises_partitioned RENAME CONSTRAINT pk_workout_exercises TO pk_workout_exercises_partitioned;
+--rollback ALTER TABLE workouts_partitioned RENAME CONSTRAINT pk_workouts TO pk_workouts_partitioned;
+--rollback ALTER SEQUENCE workout_sets_id_seq RENAME TO workout_sets_partitioned_id_seq;
+--rollback ALTER SEQUENCE workout_exercises_id_seq RENAME TO workout_exercises_partitioned_id_seq;
+--rollback ALTER SEQUENCE workouts_id_seq RENAME TO workouts_partitioned_id_seq;
+--rollback CREATE TABLE workouts (id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL, user_id BIGINT NOT NULL, status VARCHAR(20) NOT NULL, started_at TIMESTAMP WITH TIME ZONE NOT NULL, completed_at TIMESTAMP WITH TIME ZONE, notes VARCHAR(1000), created_at TIMESTAMP WITH TIME ZONE NOT NULL, created_by BIGINT NOT NULL, updated_at TIMESTAMP WITH TIME ZONE NOT NULL, updated_by BIGINT NOT NULL, CONSTRAINT pk_workouts PRIMARY KEY (id), CONSTRAINT fk_workouts_user FOREIGN KEY (user_id) REFERENCES users (id), CONSTRAINT fk_workouts_created_by FOREIGN KEY (created_by) REFERENCES users (id), CONSTRAINT fk_workouts_updated_by FOREIGN KEY (updated_by) REFERENCES users (id));
+--rollback CREATE TABLE workout_exercises (id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL, workout_id BIGINT NOT NULL, exercise_id BIGINT NOT NULL, order_index INTEGER NOT NULL, notes VARCHAR(500), CONSTRAINT pk_workout_exercises PRIMARY KEY (id), CONSTRAINT fk_workout_exercises_workout FOREIGN KEY (workout_id) REFERENCES workouts (id) ON DELETE CASCADE, CONSTRAINT fk_workout_exercises_exercise FOREIGN KEY (exercise_id) REFERENCES exercises (id));
+--rollback CREATE TABLE workout_sets (id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL, workout_exercise_id BIGINT NOT NULL, set_number INTEGER NOT NULL, reps INTEGER NOT NULL, weight_value NUMERIC(10, 4) NOT NULL, weight_unit VARCHAR(10) NOT NULL, rpe INTEGER, CONSTRAINT pk_workout_sets PRIMARY KEY (id), CONSTRAINT fk_workout_sets_we FOREIGN KEY (workout_exercise_id) REFERENCES workout_exercises (id) ON DELETE CASCADE);
+--rollback INSERT INTO workouts SELECT id, user_id, status, started_at, completed_at, notes, created_at, created_by, updated_at, updated_by FROM workouts_partitioned;
+--rollback INSERT INTO workout_exercises SELECT id, workout_id, exercise_id, order_index, notes FROM workout_exercises_partitioned;
+--rollback INSERT INTO workout_sets SELECT id, workout_exercise_id, set_number, reps, weight_value, weight_unit, rpe FROM workout_sets_partitioned;
+--rollback SELECT setval(pg_get_serial_sequence('workouts', 'id'), COALESCE((SELECT max(id) FROM workouts), 0) + 1, false);
+--rollback SELECT setval(pg_get_serial_sequence('workout_exercises', 'id'), COALESCE((SELECT max(id) FROM workout_exercises), 0) + 1, false);
+--rollback SELECT setval(pg_get_serial_sequence('workout_sets', 'id'), COALESCE((SELECT max(id) FROM workout_sets), 0) + 1, false);
+--rollback DROP TABLE workout_sets_partitioned;
+--rollback DROP TABLE workout_exercises_partitioned;
+--rollback DROP TABLE workouts_partitioned;
@@ -0,0 +1,28 @@
+--liquibase formatted sql
+
+--changeset liftit:create-archived-workouts-table
+-- Cold tier for completed workouts older than the archive threshold. Each row holds the
+-- whole aggregate (exercises and sets) as one compressed document; see
+-- ArchivedWorkoutCodec for the format. The id is the workout's original id. Audit
+-- columns record the archival itself; the workout's own audit values are in the document.
+CREATE TABLE archived_workouts (
+    id             BIGINT                   NOT NULL,
+    user_id        BIGINT                   NOT NULL,
+    started_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    format_version SMALLINT                 NOT NULL,
+    document       BYTEA                    NOT NULL,
+    created_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_by     BIGINT                   NOT NULL,
+    updated_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_by     BIGINT                   NOT NULL,
+    CONSTRAINT pk_archived_workouts            PRIMARY KEY (id),
+    CONSTRAINT fk_archived_workouts_user       FOREIGN KEY (user_id)    REFERENCES users (id),
+    CONSTRAINT fk_archived_workouts_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_archived_workouts_updated_by FOREIGN KEY (updated_by) REFERENCES users (id)
+);
+--rollback DROP TABLE archived_workouts;
+
+--changeset liftit:create-archived-workouts-user-index
+CREATE INDEX idx_archived_workouts_user_started_at ON archived_workouts (user_id, started_at DESC);
+--rollback DROP INDEX idx_archived_workouts_user_started_at;
@@ -0,0 +1,164 @@
+--liquibase formatted sql
+
+-- Expand step of the compact workout row layout; V17 is the contract step.
+-- workouts.status (VARCHAR) becomes status_code (SMALLINT), and workout_sets
+-- weight_value/weight_unit (NUMERIC/VARCHAR) become weight_milli, weight_grams and
+-- weight_unit_code (see StorageCodes). Both layouts coexist until V17: the old columns
+-- become nullable and triggers keep each side in sync with whichever one a writer set, so
+-- the previous build (old columns only) and this build (new columns only) can serve
+-- side by side during a rolling deploy. Every statement here is catalog-only except the
+-- backfills, which lock rows in small batches, never tables, and resume after a failure.
+
+--changeset liftit:add-workouts-status-code
+ALTER TABLE workouts ADD COLUMN status_code SMALLINT;
+ALTER TABLE workouts ALTER COLUMN status DROP NOT NULL;
+--rollback ALTER TABLE workouts ALTER COLUMN status SET NOT NULL;
+--rollback ALTER TABLE workouts DROP COLUMN status_code;
+
+--changeset liftit:add-workout-sets-compact-weight
+ALTER TABLE workout_sets ADD COLUMN weight_milli INTEGER;
+ALTER TABLE workout_sets ADD COLUMN weight_grams INTEGER;
+ALTER TABLE workout_sets ADD COLUMN weight_unit_code SMALLINT;
+ALTER TABLE workout_sets ALTER COLUMN weight_value DROP NOT NULL;
+ALTER TABLE workout_sets ALTER COLUMN weight_unit DROP NOT NULL;
+--rollback ALTER TABLE workout_sets ALTER COLUMN weight_unit SET NOT NULL;
+--rollback ALTER TABLE workout_sets ALTER COLUMN weight_value SET NOT NULL;
+--rollback ALTER TABLE workout_sets DROP COLUMN weight_unit_code;
+--rollback ALTER TABLE workout_sets DROP COLUMN weight_grams;
+--rollback ALTER TABLE workout_sets DROP COLUMN weight_milli;
+
+--changeset liftit:create-sync-workout-status-code-function splitStatements:false
+-- Derives the new column from the old one when the writer only knows the old layout
+-- (insert without status_code, or an update that changed status but not status_code);
+-- otherwise derives the old column from the new one.
+CREATE OR REPLACE FUNCTION sync_workout_status_code()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF NEW.status_code IS NULL
+       OR (TG_OP = 'UPDATE' AND NEW.status IS DISTINCT FROM OLD.status
+           AND NEW.status_code IS NOT DISTINCT FROM OLD.status_code) THEN
+        NEW.status_code := CASE NEW.status WHEN 'IN_PROGRESS' THEN 1 WHEN 'COMPLETED' THEN 2 END;
+    ELSE
+        NEW.status := CASE NEW.status_code WHEN 1 THEN 'IN_PROGRESS' WHEN 2 THEN 'COMPLETED' END;
+    END IF;
+    RETURN NEW;
+END;
+$$;
+--rollback DROP FUNCTION sync_workout_status_code();
+
+--changeset liftit:create-sync-workout-set-weight-function splitStatements:false
+-- Same rule as sync_workout_status_code, for the set weight columns.
+CREATE OR REPLACE FUNCTION sync_workout_set_weight()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF NEW.weight_milli IS NULL
+       OR (TG_OP = 'UPDATE'
+           AND (NEW.weight_value, NEW.weight_unit) IS DISTINCT FROM (OLD.weight_value, OLD.weight_unit)
+           AND (NEW.weight_milli, NEW.weight_unit_code) IS NOT DISTINCT FROM (OLD.weight_milli, OLD.weight_unit_code)) THEN
+        NEW.weight_milli := round(NEW.weight_value * 1000)::INTEGER;
+        NEW.weight_unit_code := CASE NEW.weight_unit WHEN 'KG' THEN 1 WHEN 'LBS' THEN 2 END;
+        NEW.weight_grams := CASE NEW.weight_unit_code
+                                WHEN 1 THEN NEW.weight_milli
+                                ELSE round(NEW.weight_milli * 0.45359237)::INTEGER END;
+    ELSE
+        NEW.weight_value := NEW.weight_milli / 1000.0;
+        NEW.weight_unit := CASE NEW.weight_unit_code WHEN 1 THEN 'KG' WHEN 2 THEN 'LBS' END;
+    END IF;
+    RETURN NEW;
+END;
+$$;
+--rollback DROP FUNCTION sync_workout_set_weight();
+
+--changeset liftit:create-compact-storage-sync-triggers
+-- Row triggers on a partitioned table are cloned onto every partition, including the
+-- ones ensure_workout_partitions creates later.
+CREATE TRIGGER trg_workouts_sync_status_code
+    BEFORE INSERT OR UPDATE ON workouts
+    FOR EACH ROW EXECUTE FUNCTION sync_workout_status_code();
+CREATE TRIGGER trg_workout_sets_sync_weight
+    BEFORE INSERT OR UPDATE ON workout_sets
+    FOR EACH ROW EXECUTE FUNCTION sync_workout_set_weight();
+--rollback DROP TRIGGER trg_workout_sets_sync_weight ON workout_sets;
+--rollback DROP TRIGGER trg_workouts_sync_status_code ON workouts;
+
+--changeset liftit:create-schema-backfills-table
+-- Progress of the batched backfills run by run_backfill: one row per partition, last_id
+-- being the highest id already processed, plus one row for the parent table that is
+-- completed once every partition is. Contract changesets check the parent row.
+CREATE TABLE schema_backfills (
+    backfill     VARCHAR(100)             NOT NULL,
+    relation     VARCHAR(100)             NOT NULL,
+    last_id      BIGINT                   NOT NULL DEFAULT 0,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT pk_schema_backfills PRIMARY KEY (backfill, relation)
+);
+--rollback DROP TABLE schema_backfills;
+
+--changeset liftit:create-run-backfill-procedure splitStatements:false
+-- Runs batch_sql over every partition of parent in id order, batch_size rows at a time,
+-- committing after each batch. batch_sql names the partition with %s and the id range
+-- with $1 (exclusive) and $2 (inclusive); it must be idempotent. Progress is kept in
+-- schema_backfills, so a CALL that was interrupted resumes where it stopped and a CALL
+-- after completion returns at once. Must be CALLed outside a transaction block.
+CREATE OR REPLACE PROCEDURE run_backfill(backfill_name TEXT, parent REGCLASS, batch_sql TEXT,
+                                         batch_size INTEGER)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    part  TEXT;
+    from_id BIGINT;
+    to_id   BIGINT;
+BEGIN
+    INSERT INTO schema_backfills (backfill, relation) VALUES (backfill_name, parent::text)
+    ON CONFLICT DO NOTHING;
+    IF EXISTS (SELECT 1 FROM schema_backfills
+               WHERE backfill = backfill_name AND relation = parent::text AND completed_at IS NOT NULL) THEN
+        RETURN;
+    END IF;
+    FOR part IN
+        SELECT inhrelid::regclass::text FROM pg_inherits WHERE inhparent = parent ORDER BY 1
+    LOOP
+        INSERT INTO schema_backfills (backfill, relation) VALUES (backfill_name, part)
+        ON CONFLICT DO NOTHING;
+        SELECT last_id INTO from_id FROM schema_backfills
+        WHERE backfill = backfill_name AND relation = part AND completed_at IS NULL;
+        CONTINUE WHEN NOT FOUND;
+        LOOP
+            EXECUTE format('SELECT max(id) FROM (SELECT id FROM %s WHERE id > $1 ORDER BY id LIMIT $2) b', part)
+                INTO to_id USING from_id, batch_size;
+            EXIT WHEN to_id IS NULL;
+            EXECUTE format(batch_sql, part) USING from_id, to_id;
+            UPDATE schema_backfills SET last_id = to_id WHERE backfill = backfill_name AND relation = part;
+            COMMIT;
+            from_id := to_id;
+        END LOOP;
+        UPDATE schema_backfills SET completed_at = now() WHERE backfill = backfill_name AND relation = part;
+        COMMIT;
+    END LOOP;
+    UPDATE schema_backfills SET completed_at = now()
+    WHERE backfill = backfill_name AND relation = parent::text;
+END;
+$$;
+--rollback DROP PROCEDURE run_backfill(TEXT, REGCLASS, TEXT, INTEGER);
+
+--changeset liftit:backfill-workouts-status-code runInTransaction:false splitStatements:false
+-- Batches of 5,000 rows, one short transaction each, so the previous build keeps serving
+-- while this runs. Rows written meanwhile already carry status_code (sync trigger).
+CALL run_backfill('workouts-status-code', 'workouts',
+                  'UPDATE %s SET status_code = CASE status WHEN ''IN_PROGRESS'' THEN 1 WHEN ''COMPLETED'' THEN 2 END '
+                  || 'WHERE id > $1 AND id <= $2 AND status_code IS NULL', 5000);
+--rollback DELETE FROM schema_backfills WHERE backfill = 'workouts-status-code';
+
+--changeset liftit:backfill-workout-sets-compact-weight runInTransaction:false splitStatements:false
+-- Same as the status backfill. Values are rounded to thousandths of the unit.
+CALL run_backfill('workout-sets-compact-weight', 'workout_sets',
+                  'UPDATE %s SET weight_milli = round(weight_value * 1000)::INTEGER, '
+                  || 'weight_unit_code = CASE weight_unit WHEN ''KG'' THEN 1 WHEN ''LBS'' THEN 2 END, '
+                  || 'weight_grams = CASE weight_unit WHEN ''KG'' THEN round(weight_value * 1000)::INTEGER '
+                  || 'ELSE round(round(weight_value * 1000) * 0.45359237)::INTEGER END '
+                  || 'WHERE id > $1 AND id <= $2 AND weight_milli IS NULL', 5000);
+--rollback DELETE FROM schema_backfills WHERE backfill = 'workout-sets-compact-weight';
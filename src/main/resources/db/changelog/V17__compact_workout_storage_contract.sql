@@ -0,0 +1,136 @@
+--liquibase formatted sql
+
+-- Contract step of the compact workout row layout (expand: V16). Runs only with the
+-- "contract" Liquibase context, once no build older than V16's is serving:
+--   SPRING_PROFILES_ACTIVE=migrate SPRING_LIQUIBASE_CONTEXTS=expand,contract
+-- NOT NULL is enforced without a table-wide scan under an exclusive lock: each partition
+-- first gets a NOT VALID check (brief lock), the checks are validated in a later
+-- transaction (does not block reads or writes), and SET NOT NULL then uses them as proof.
+-- The run halts before changing anything unless both V16 backfills have completed.
+
+--changeset liftit:drop-compact-storage-sync-triggers context:contract
+--preconditions onFail:HALT onError:HALT
+--precondition-sql-check expectedResult:2 SELECT count(*) FROM schema_backfills WHERE completed_at IS NOT NULL AND (backfill, relation) IN (('workouts-status-code', 'workouts'), ('workout-sets-compact-weight', 'workout_sets'))
+DROP TRIGGER trg_workout_sets_sync_weight ON workout_sets;
+DROP TRIGGER trg_workouts_sync_status_code ON workouts;
+--rollback CREATE TRIGGER trg_workouts_sync_status_code BEFORE INSERT OR UPDATE ON workouts FOR EACH ROW EXECUTE FUNCTION sync_workout_status_code();
+--rollback CREATE TRIGGER trg_workout_sets_sync_weight BEFORE INSERT OR UPDATE ON workout_sets FOR EACH ROW EXECUTE FUNCTION sync_workout_set_weight();
+
+--changeset liftit:drop-compact-storage-sync-functions context:contract splitStatements:false
+DROP FUNCTION sync_workout_set_weight();
+DROP FUNCTION sync_workout_status_code();
+--rollback CREATE OR REPLACE FUNCTION sync_workout_status_code()
+--rollback RETURNS TRIGGER
+--rollback LANGUAGE plpgsql
+--rollback AS $$
+--rollback BEGIN
+--rollback     IF NEW.status_code IS NULL
+--rollback        OR (TG_OP = 'UPDATE' AND NEW.status IS DISTINCT FROM OLD.status
+--rollback            AND NEW.status_code IS NOT DISTINCT FROM OLD.status_code) THEN
+--rollback         NEW.status_code := CASE NEW.status WHEN 'IN_PROGRESS' THEN 1 WHEN 'COMPLETED' THEN 2 END;
+--rollback     ELSE
+--rollback         NEW.status := CASE NEW.status_code WHEN 1 THEN 'IN_PROGRESS' WHEN 2 THEN 'COMPLETED' END;
+--rollback     END IF;
+--rollback     RETURN NEW;
+--rollback END;
+--rollback $$;
+--rollback CREATE OR REPLACE FUNCTION sync_workout_set_weight()
+--rollback RETURNS TRIGGER
+--rollback LANGUAGE plpgsql
+--rollback AS $$
+--rollback BEGIN
+--rollback     IF NEW.weight_milli IS NULL
+--rollback        OR (TG_OP = 'UPDATE'
+--rollback            AND (NEW.weight_value, NEW.weight_unit) IS DISTINCT FROM (OLD.weight_value, OLD.weight_unit)
+--rollback            AND (NEW.weight_milli, NEW.weight_unit_code) IS NOT DISTINCT FROM (OLD.weight_milli, OLD.weight_unit_code)) THEN
+--rollback         NEW.weight_milli := round(NEW.weight_value * 1000)::INTEGER;
+--rollback         NEW.weight_unit_code := CASE NEW.weight_unit WHEN 'KG' THEN 1 WHEN 'LBS' THEN 2 END;
+--rollback         NEW.weight_grams := CASE NEW.weight_unit_code
+--rollback                                 WHEN 1 THEN NEW.weight_milli
+--rollback                                 ELSE round(NEW.weight_milli * 0.45359237)::INTEGER END;
+--rollback     ELSE
+--rollback         NEW.weight_value := NEW.weight_milli / 1000.0;
+--rollback         NEW.weight_unit := CASE NEW.weight_unit_code WHEN 1 THEN 'KG' WHEN 2 THEN 'LBS' END;
+--rollback     END IF;
+--rollback     RETURN NEW;
+--rollback END;
+--rollback $$;
+
+--changeset liftit:add-compact-storage-not-null-checks context:contract splitStatements:false
+DO $$
+DECLARE
+    target RECORD;
+BEGIN
+    FOR target IN
+        SELECT c.inhrelid::regclass::text AS part, col
+        FROM pg_inherits c
+        CROSS JOIN unnest(ARRAY['status_code']) AS col
+        WHERE c.inhparent = 'workouts'::regclass
+        UNION ALL
+        SELECT c.inhrelid::regclass::text, col
+        FROM pg_inherits c
+        CROSS JOIN unnest(ARRAY['weight_milli', 'weight_grams', 'weight_unit_code']) AS col
+        WHERE c.inhparent = 'workout_sets'::regclass
+    LOOP
+        EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (%I IS NOT NULL) NOT VALID',
+                       target.part, target.part || '_' || target.col || '_nn', target.col);
+    END LOOP;
+END;
+$$;
+--rollback DO $$ DECLARE target RECORD; BEGIN FOR target IN SELECT conrelid::regclass::text AS part, conname FROM pg_constraint WHERE contype = 'c' AND conname LIKE 'workout%\_nn' AND conrelid IN (SELECT inhrelid FROM pg_inherits WHERE inhparent IN ('workouts'::regclass, 'workout_sets'::regclass)) LOOP EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', target.part, target.conname); END LOOP; END; $$;
+
+--changeset liftit:validate-compact-storage-not-null-checks context:contract splitStatements:false
+DO $$
+DECLARE
+    target RECORD;
+BEGIN
+    FOR target IN
+        SELECT conrelid::regclass::text AS part, conname
+        FROM pg_constraint
+        WHERE contype = 'c' AND NOT convalidated AND conname LIKE 'workout%\_nn'
+          AND conrelid IN (SELECT inhrelid FROM pg_inherits
+                           WHERE inhparent IN ('workouts'::regclass, 'workout_sets'::regclass))
+    LOOP
+        EXECUTE format('ALTER TABLE %I VALIDATE CONSTRAINT %I', target.part, target.conname);
+    END LOOP;
+END;
+$$;
+--rollback SELECT 1; -- validation has no inverse; the checks are dropped by rolling back add-compact-storage-not-null-checks
+
+--changeset liftit:set-compact-storage-columns-not-null context:contract splitStatements:false
+-- The per-partition checks have served their purpose once the columns are NOT NULL.
+ALTER TABLE workouts ALTER COLUMN status_code SET NOT NULL;
+ALTER TABLE workout_sets ALTER COLUMN weight_milli SET NOT NULL;
+ALTER TABLE workout_sets ALTER COLUMN weight_grams SET NOT NULL;
+ALTER TABLE workout_sets ALTER COLUMN weight_unit_code SET NOT NULL;
+DO $$
+DECLARE
+    target RECORD;
+BEGIN
+    FOR target IN
+        SELECT conrelid::regclass::text AS part, conname
+        FROM pg_constraint
+        WHERE contype = 'c' AND conname LIKE 'workout%\_nn'
+          AND conrelid IN (SELECT inhrelid FROM pg_inherits
+                           WHERE inhparent IN ('workouts'::regclass, 'workout_sets'::regclass))
+    LOOP
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', target.part, target.conname);
+    END LOOP;
+END;
+$$;
+--rollback ALTER TABLE workout_sets ALTER COLUMN weight_unit_code DROP NOT NULL;
+--rollback ALTER TABLE workout_sets ALTER COLUMN weight_grams DROP NOT NULL;
+--rollback ALTER TABLE workout_sets ALTER COLUMN weight_milli DROP NOT NULL;
+--rollback ALTER TABLE workouts ALTER COLUMN status_code DROP NOT NULL;
+
+--changeset liftit:drop-legacy-workout-storage-columns context:contract
+-- Catalog-only: dropped columns are no longer written, existing rows shrink as they are
+-- rewritten (or at once with pg_repack / VACUUM FULL during a maintenance window).
+ALTER TABLE workouts DROP COLUMN status;
+ALTER TABLE workout_sets DROP COLUMN weight_value;
+ALTER TABLE workout_sets DROP COLUMN weight_unit;
+--rollback ALTER TABLE workouts ADD COLUMN status VARCHAR(20);
+--rollback UPDATE workouts SET status = CASE status_code WHEN 1 THEN 'IN_PROGRESS' WHEN 2 THEN 'COMPLETED' END;
+--rollback ALTER TABLE workout_sets ADD COLUMN weight_value NUMERIC(10, 4);
+--rollback ALTER TABLE workout_sets ADD COLUMN weight_unit VARCHAR(10);
+--rollback UPDATE workout_sets SET weight_value = weight_milli / 1000.0, weight_unit = CASE weight_unit_code WHEN 1 THEN 'KG' WHEN 2 THEN 'LBS' END;
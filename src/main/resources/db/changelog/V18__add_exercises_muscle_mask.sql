@@ -0,0 +1,58 @@
+--liquibase formatted sql
+
+--changeset liftit:add-exercises-muscle-mask
+-- Muscle groups of an exercise as a bitmask: muscle id n sets bit n - 1 (see MuscleMasks).
+-- exercise_muscle_groups stays the source of truth; the trigger below derives the mask
+-- from it, so every writer, including the previous build, keeps the two consistent.
+-- A constant default makes this catalog-only.
+ALTER TABLE exercises ADD COLUMN muscle_mask BIGINT NOT NULL DEFAULT 0;
+--rollback ALTER TABLE exercises DROP COLUMN muscle_mask;
+
+--changeset liftit:add-muscles-id-fits-mask-check
+ALTER TABLE muscles ADD CONSTRAINT chk_muscles_id_fits_mask CHECK (id BETWEEN 1 AND 64);
+--rollback ALTER TABLE muscles DROP CONSTRAINT chk_muscles_id_fits_mask;
+
+--changeset liftit:create-sync-exercise-muscle-mask-function splitStatements:false
+CREATE OR REPLACE FUNCTION sync_exercise_muscle_mask()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    target BIGINT;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        target := OLD.exercise_id;
+    ELSE
+        target := NEW.exercise_id;
+    END IF;
+    UPDATE exercises e
+    SET muscle_mask = m.mask
+    FROM (SELECT COALESCE(bit_or(1::BIGINT << (muscle_id - 1)::INTEGER), 0) AS mask
+          FROM exercise_muscle_groups
+          WHERE exercise_id = target) m
+    WHERE e.id = target AND e.muscle_mask <> m.mask;
+    RETURN NULL;
+END;
+$$;
+--rollback DROP FUNCTION sync_exercise_muscle_mask();
+
+--changeset liftit:create-exercise-muscle-mask-trigger
+CREATE TRIGGER trg_exercise_muscle_groups_sync_mask
+    AFTER INSERT OR UPDATE OR DELETE ON exercise_muscle_groups
+    FOR EACH ROW EXECUTE FUNCTION sync_exercise_muscle_mask();
+--rollback DROP TRIGGER trg_exercise_muscle_groups_sync_mask ON exercise_muscle_groups;
+
+--changeset liftit:backfill-exercises-muscle-mask
+UPDATE exercises e
+SET muscle_mask = m.mask
+FROM (SELECT exercise_id, bit_or(1::BIGINT << (muscle_id - 1)::INTEGER) AS mask
+      FROM exercise_muscle_groups
+      GROUP BY exercise_id) m
+WHERE e.id = m.exercise_id;
+--rollback UPDATE exercises SET muscle_mask = 0;
+
+--changeset liftit:create-exercises-category-muscle-mask-index
+-- Category filters use the index; the mask predicate is checked on index entries before
+-- any heap access.
+CREATE INDEX idx_exercises_category_muscle_mask ON exercises (category_id, muscle_mask);
+--rollback DROP INDEX idx_exercises_category_muscle_mask;
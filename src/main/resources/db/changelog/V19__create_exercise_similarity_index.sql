@@ -0,0 +1,141 @@
+--liquibase formatted sql
+
+--changeset liftit:create-exercise-cooccurrence-table
+-- Number of workouts containing both exercises, in both directions. The diagonal row
+-- (a, a) holds the number of workouts containing a. Counted incrementally as workouts
+-- complete; see V26.
+CREATE TABLE exercise_cooccurrence (
+    exercise_id       BIGINT  NOT NULL,
+    other_exercise_id BIGINT  NOT NULL,
+    workouts          INTEGER NOT NULL,
+    CONSTRAINT pk_exercise_cooccurrence          PRIMARY KEY (exercise_id, other_exercise_id),
+    CONSTRAINT fk_exercise_cooccurrence_exercise FOREIGN KEY (exercise_id)       REFERENCES exercises (id) ON DELETE CASCADE,
+    CONSTRAINT fk_exercise_cooccurrence_other    FOREIGN KEY (other_exercise_id) REFERENCES exercises (id) ON DELETE CASCADE
+);
+--rollback DROP TABLE exercise_cooccurrence;
+
+--changeset liftit:create-exercise-cooccurrence-other-index
+CREATE INDEX idx_exercise_cooccurrence_other ON exercise_cooccurrence (other_exercise_id);
+--rollback DROP INDEX idx_exercise_cooccurrence_other;
+
+--changeset liftit:create-exercise-similarities-table
+-- Precomputed top-k most similar exercises per exercise; a lookup reads at most k rows.
+CREATE TABLE exercise_similarities (
+    exercise_id         BIGINT           NOT NULL,
+    similar_exercise_id BIGINT           NOT NULL,
+    score               DOUBLE PRECISION NOT NULL,
+    CONSTRAINT pk_exercise_similarities          PRIMARY KEY (exercise_id, similar_exercise_id),
+    CONSTRAINT fk_exercise_similarities_exercise FOREIGN KEY (exercise_id)         REFERENCES exercises (id) ON DELETE CASCADE,
+    CONSTRAINT fk_exercise_similarities_similar  FOREIGN KEY (similar_exercise_id) REFERENCES exercises (id) ON DELETE CASCADE
+);
+--rollback DROP TABLE exercise_similarities;
+
+--changeset liftit:create-exercise-similarities-similar-index
+CREATE INDEX idx_exercise_similarities_similar ON exercise_similarities (similar_exercise_id);
+--rollback DROP INDEX idx_exercise_similarities_similar;
+
+--changeset liftit:create-exercise-similarity-scores-function splitStatements:false
+-- Scores every candidate substitute for target, in [0, 1]:
+--   0.6 * Jaccard similarity of the muscle groups (popcount of the muscle masks)
+-- + 0.2 if both are in the same category
+-- + 0.2 * co-occurrence in workouts, normalised as count(a, b) / sqrt(count(a) * count(b)).
+-- Candidates share at least one muscle group or have been done in the same workout.
+CREATE OR REPLACE FUNCTION exercise_similarity_scores(target BIGINT)
+RETURNS TABLE (other_id BIGINT, score DOUBLE PRECISION)
+LANGUAGE sql
+STABLE
+AS $$
+    SELECT o.id,
+           0.6 * bit_count((x.muscle_mask & o.muscle_mask)::BIT(64))::DOUBLE PRECISION
+               / GREATEST(bit_count((x.muscle_mask | o.muscle_mask)::BIT(64)), 1)
+         + CASE WHEN o.category_id = x.category_id THEN 0.2 ELSE 0 END
+         + 0.2 * COALESCE(c.workouts / sqrt(ux.workouts::DOUBLE PRECISION * uo.workouts), 0)
+    FROM exercises x
+    JOIN exercises o ON o.id <> x.id
+    LEFT JOIN exercise_cooccurrence c  ON c.exercise_id = x.id AND c.other_exercise_id = o.id
+    LEFT JOIN exercise_cooccurrence ux ON ux.exercise_id = x.id AND ux.other_exercise_id = x.id
+    LEFT JOIN exercise_cooccurrence uo ON uo.exercise_id = o.id AND uo.other_exercise_id = o.id
+    WHERE x.id = target
+      AND ((x.muscle_mask & o.muscle_mask) <> 0 OR c.workouts IS NOT NULL);
+$$;
+--rollback DROP FUNCTION exercise_similarity_scores(BIGINT);
+
+--changeset liftit:create-refresh-exercise-similarities-function splitStatements:false
+-- Recomputes the top-k lists of the given exercises from scratch. Returns the number of
+-- entries written.
+CREATE OR REPLACE FUNCTION refresh_exercise_similarities(ids BIGINT[], top_k INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    written INTEGER;
+BEGIN
+    DELETE FROM exercise_similarities WHERE exercise_id = ANY (ids);
+    INSERT INTO exercise_similarities (exercise_id, similar_exercise_id, score)
+    SELECT x.id, top.other_id, top.score
+    FROM exercises x
+    CROSS JOIN LATERAL (
+        SELECT s.other_id, s.score
+        FROM exercise_similarity_scores(x.id) s
+        ORDER BY s.score DESC, s.other_id
+        LIMIT top_k
+    ) top
+    WHERE x.id = ANY (ids)
+    ON CONFLICT (exercise_id, similar_exercise_id) DO UPDATE SET score = EXCLUDED.score;
+    GET DIAGNOSTICS written = ROW_COUNT;
+    RETURN written;
+END;
+$$;
+--rollback DROP FUNCTION refresh_exercise_similarities(BIGINT[], INTEGER);
+
+--changeset liftit:create-refresh-exercise-similarity-function splitStatements:false
+-- Incremental update after target was created or changed:
+--   1. recompute the lists that currently contain target, since its score against them
+--      may have dropped;
+--   2. score target against the catalog once: its own top_k list is taken from those
+--      scores, and since the score is symmetric the same scores offer target to every
+--      other candidate's list, which is then trimmed back to top_k.
+-- Cost is one scan of the catalog per recomputed list, independent of the index size.
+-- Returns the number of lists recomputed, including target's.
+CREATE OR REPLACE FUNCTION refresh_exercise_similarity(target BIGINT, top_k INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    ids        BIGINT[];
+    candidates BIGINT[];
+    scores     DOUBLE PRECISION[];
+BEGIN
+    ids := ARRAY(SELECT exercise_id FROM exercise_similarities WHERE similar_exercise_id = target);
+    PERFORM refresh_exercise_similarities(ids, top_k);
+
+    SELECT COALESCE(array_agg(s.other_id ORDER BY s.score DESC, s.other_id), '{}'),
+           COALESCE(array_agg(s.score ORDER BY s.score DESC, s.other_id), '{}')
+    INTO candidates, scores
+    FROM exercise_similarity_scores(target) s;
+
+    DELETE FROM exercise_similarities WHERE exercise_id = target;
+    INSERT INTO exercise_similarities (exercise_id, similar_exercise_id, score)
+    SELECT target, c.other_id, c.score
+    FROM unnest(candidates, scores) WITH ORDINALITY AS c(other_id, score, position)
+    WHERE c.position <= top_k;
+
+    INSERT INTO exercise_similarities (exercise_id, similar_exercise_id, score)
+    SELECT c.other_id, target, c.score
+    FROM unnest(candidates, scores) AS c(other_id, score)
+    ON CONFLICT (exercise_id, similar_exercise_id) DO UPDATE SET score = EXCLUDED.score;
+
+    DELETE FROM exercise_similarities d
+    USING (
+        SELECT r.exercise_id, r.similar_exercise_id,
+               row_number() OVER (PARTITION BY r.exercise_id ORDER BY r.score DESC, r.similar_exercise_id) AS position
+        FROM exercise_similarities r
+        WHERE r.exercise_id = ANY (candidates)
+    ) ranked
+    WHERE d.exercise_id = ranked.exercise_id
+      AND d.similar_exercise_id = ranked.similar_exercise_id
+      AND ranked.position > top_k;
+    RETURN cardinality(ids) + 1;
+END;
+$$;
+--rollback DROP FUNCTION refresh_exercise_similarity(BIGINT, INTEGER);
@@ -0,0 +1,153 @@
+--liquibase formatted sql
+
+--changeset liftit:create-workout-templates-table
+-- A user's routine: an ordered list of exercises with planned sets, started as a new
+-- workout with one call to start_workout_from_template.
+CREATE TABLE workout_templates (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    user_id    BIGINT                   NOT NULL,
+    name       VARCHAR(100)             NOT NULL,
+    notes      VARCHAR(1000),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_by BIGINT                   NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_by BIGINT                   NOT NULL,
+    CONSTRAINT pk_workout_templates            PRIMARY KEY (id),
+    CONSTRAINT fk_workout_templates_user       FOREIGN KEY (user_id)    REFERENCES users (id),
+    CONSTRAINT fk_workout_templates_created_by FOREIGN KEY (created_by) REFERENCES users (id),
+    CONSTRAINT fk_workout_templates_updated_by FOREIGN KEY (updated_by) REFERENCES users (id)
+);
+--rollback DROP TABLE workout_templates;
+
+--changeset liftit:create-workout-templates-user-index
+CREATE INDEX idx_workout_templates_user ON workout_templates (user_id);
+--rollback DROP INDEX idx_workout_templates_user;
+
+--changeset liftit:create-workout-template-exercises-table
+CREATE TABLE workout_template_exercises (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    template_id BIGINT       NOT NULL,
+    exercise_id BIGINT       NOT NULL,
+    order_index INTEGER      NOT NULL,
+    notes       VARCHAR(500),
+    CONSTRAINT pk_workout_template_exercises          PRIMARY KEY (id),
+    CONSTRAINT fk_workout_template_exercises_template FOREIGN KEY (template_id) REFERENCES workout_templates (id) ON DELETE CASCADE,
+    CONSTRAINT fk_workout_template_exercises_exercise FOREIGN KEY (exercise_id) REFERENCES exercises (id)
+);
+--rollback DROP TABLE workout_template_exercises;
+
+--changeset liftit:create-workout-template-exercises-template-index
+CREATE INDEX idx_workout_template_exercises_template ON workout_template_exercises (template_id);
+--rollback DROP INDEX idx_workout_template_exercises_template;
+
+--changeset liftit:create-workout-template-sets-table
+-- Planned sets, in the compact layout of workout_sets (see StorageCodes) so they are
+-- copied column for column.
+CREATE TABLE workout_template_sets (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    template_exercise_id BIGINT   NOT NULL,
+    set_number           INTEGER  NOT NULL,
+    reps                 INTEGER  NOT NULL,
+    rpe                  INTEGER,
+    weight_milli         INTEGER  NOT NULL,
+    weight_grams         INTEGER  NOT NULL,
+    weight_unit_code     SMALLINT NOT NULL,
+    CONSTRAINT pk_workout_template_sets          PRIMARY KEY (id),
+    CONSTRAINT fk_workout_template_sets_exercise FOREIGN KEY (template_exercise_id)
+        REFERENCES workout_template_exercises (id) ON DELETE CASCADE
+);
+--rollback DROP TABLE workout_template_sets;
+
+--changeset liftit:create-workout-template-sets-exercise-index
+CREATE INDEX idx_workout_template_sets_exercise ON workout_template_sets (template_exercise_id);
+--rollback DROP INDEX idx_workout_template_sets_exercise;
+
+--changeset liftit:create-start-workout-from-template-function splitStatements:false
+-- Starts an in-progress workout for p_user_id with a copy of the template's exercises and
+-- planned sets. One INSERT for the workout and one statement for all of its exercises and
+-- sets: exercise ids are drawn from the identity sequence up front, so the sets can
+-- reference them without a round trip per row. The partition for started_at must exist.
+-- Returns the new workout id, or NULL if the template does not exist or is not p_user_id's.
+CREATE OR REPLACE FUNCTION start_workout_from_template(
+    p_template_id BIGINT, p_user_id BIGINT, p_started_at TIMESTAMP WITH TIME ZONE, p_notes VARCHAR)
+RETURNS BIGINT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    new_workout_id BIGINT;
+BEGIN
+    INSERT INTO workouts (user_id, status_code, started_at, notes, created_at, created_by, updated_at, updated_by)
+    SELECT t.user_id, 1, p_started_at, p_notes, p_started_at, t.user_id, p_started_at, t.user_id
+    FROM workout_templates t
+    WHERE t.id = p_template_id AND t.user_id = p_user_id
+    RETURNING id INTO new_workout_id;
+    IF new_workout_id IS NULL THEN
+        RETURN NULL;
+    END IF;
+
+    WITH src AS (
+        SELECT te.id AS source_id,
+               nextval(pg_get_serial_sequence('workout_exercises', 'id')) AS new_id,
+               te.exercise_id, te.order_index, te.notes
+        FROM workout_template_exercises te
+        WHERE te.template_id = p_template_id
+    ), copied AS (
+        INSERT INTO workout_exercises (id, workout_id, workout_started_at, exercise_id, order_index, notes)
+        SELECT new_id, new_workout_id, p_started_at, exercise_id, order_index, notes
+        FROM src
+    )
+    INSERT INTO workout_sets (workout_exercise_id, workout_started_at, set_number, reps, rpe,
+                              weight_milli, weight_grams, weight_unit_code)
+    SELECT s.new_id, p_started_at, ts.set_number, ts.reps, ts.rpe,
+           ts.weight_milli, ts.weight_grams, ts.weight_unit_code
+    FROM src s
+    JOIN workout_template_sets ts ON ts.template_exercise_id = s.source_id;
+    RETURN new_workout_id;
+END;
+$$;
+--rollback DROP FUNCTION start_workout_from_template(BIGINT, BIGINT, TIMESTAMP WITH TIME ZONE, VARCHAR);
+
+--changeset liftit:create-start-workout-from-workout-function splitStatements:false
+-- Same as start_workout_from_template, copying an existing hot-tier workout instead.
+-- p_source_started_at prunes the read to the source's partitions. Returns NULL if the
+-- source is not in the hot tables (deleted or archived).
+CREATE OR REPLACE FUNCTION start_workout_from_workout(
+    p_source_id BIGINT, p_source_started_at TIMESTAMP WITH TIME ZONE,
+    p_started_at TIMESTAMP WITH TIME ZONE, p_notes VARCHAR)
+RETURNS BIGINT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    new_workout_id BIGINT;
+BEGIN
+    INSERT INTO workouts (user_id, status_code, started_at, notes, created_at, created_by, updated_at, updated_by)
+    SELECT w.user_id, 1, p_started_at, p_notes, p_started_at, w.user_id, p_started_at, w.user_id
+    FROM workouts w
+    WHERE w.id = p_source_id AND w.started_at = p_source_started_at
+    RETURNING id INTO new_workout_id;
+    IF new_workout_id IS NULL THEN
+        RETURN NULL;
+    END IF;
+
+    WITH src AS (
+        SELECT we.id AS source_id,
+               nextval(pg_get_serial_sequence('workout_exercises', 'id')) AS new_id,
+               we.exercise_id, we.order_index, we.notes
+        FROM workout_exercises we
+        WHERE we.workout_id = p_source_id AND we.workout_started_at = p_source_started_at
+    ), copied AS (
+        INSERT INTO workout_exercises (id, workout_id, workout_started_at, exercise_id, order_index, notes)
+        SELECT new_id, new_workout_id, p_started_at, exercise_id, order_index, notes
+        FROM src
+    )
+    INSERT INTO workout_sets (workout_exercise_id, workout_started_at, set_number, reps, rpe,
+                              weight_milli, weight_grams, weight_unit_code)
+    SELECT s.new_id, p_started_at, ws.set_number, ws.reps, ws.rpe,
+           ws.weight_milli, ws.weight_grams, ws.weight_unit_code
+    FROM src s
+    JOIN workout_sets ws ON ws.workout_exercise_id = s.source_id
+                        AND ws.workout_started_at = p_source_started_at;
+    RETURN new_workout_id;
+END;
+$$;
+--rollback DROP FUNCTION start_workout_from_workout(BIGINT, TIMESTAMP WITH TIME ZONE, TIMESTAMP WITH TIME ZONE, VARCHAR);
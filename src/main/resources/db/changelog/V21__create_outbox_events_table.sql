@@ -0,0 +1,35 @@
+--liquibase formatted sql
+
+--changeset liftit:create-outbox-events-table
+-- Transactional outbox: domain events written in the same transaction as the change they
+-- describe and delivered to in-process consumers by OutboxDispatcher.
+-- status_code: 1 = PENDING, 2 = DISPATCHED, 3 = DEAD (gave up after max attempts).
+-- No foreign key to users: events must survive the deletes they describe.
+CREATE TABLE outbox_events (
+    id           BIGINT GENERATED ALWAYS AS IDENTITY NOT NULL,
+    event_type   VARCHAR(50)              NOT NULL,
+    user_id      BIGINT                   NOT NULL,
+    aggregate_id BIGINT                   NOT NULL,
+    status_code  SMALLINT                 NOT NULL,
+    attempts     INTEGER                  NOT NULL,
+    available_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE,
+    last_error   VARCHAR(500),
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
+--rollback DROP TABLE outbox_events;
+
+--changeset liftit:create-outbox-events-pending-index
+-- The dispatcher's scan, in id order, over pending events only.
+CREATE INDEX idx_outbox_events_pending ON outbox_events (id) WHERE status_code = 1;
+--rollback DROP INDEX idx_outbox_events_pending;
+
+--changeset liftit:create-outbox-events-pending-user-index
+-- Per-user ordering check: is there an earlier pending event for this user?
+CREATE INDEX idx_outbox_events_pending_user ON outbox_events (user_id, id) WHERE status_code = 1;
+--rollback DROP INDEX idx_outbox_events_pending_user;
+
+--changeset liftit:create-outbox-events-processed-index
+CREATE INDEX idx_outbox_events_processed ON outbox_events (processed_at) WHERE status_code <> 1;
+--rollback DROP INDEX idx_outbox_events_processed;
@@ -0,0 +1,44 @@
+--liquibase formatted sql
+
+--changeset liftit:create-jobs-table
+-- Durable background jobs claimed by JobWorker on every node (com.liftit.job).
+-- queue names the JobHandler that runs the job; each queue is claimed independently.
+-- status_code: 1 = QUEUED, 2 = RUNNING (leased to lease_owner until lease_expires_at),
+-- 3 = SUCCEEDED, 4 = FAILED (gave up after max_attempts).
+CREATE TABLE jobs (
+    id               BIGINT GENERATED ALWAYS AS IDENTITY NOT NULL,
+    queue            VARCHAR(50)              NOT NULL,
+    payload          VARCHAR(1000),
+    dedupe_key       VARCHAR(100),
+    status_code      SMALLINT                 NOT NULL,
+    attempts         INTEGER                  NOT NULL,
+    max_attempts     INTEGER                  NOT NULL,
+    run_at           TIMESTAMP WITH TIME ZONE NOT NULL,
+    lease_owner      VARCHAR(100),
+    lease_expires_at TIMESTAMP WITH TIME ZONE,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    finished_at      TIMESTAMP WITH TIME ZONE,
+    last_error       VARCHAR(500),
+    CONSTRAINT pk_jobs PRIMARY KEY (id)
+);
+--rollback DROP TABLE jobs;
+
+--changeset liftit:create-jobs-queued-index
+-- The claim scan: due jobs of one queue, oldest first.
+CREATE INDEX idx_jobs_queued ON jobs (queue, run_at, id) WHERE status_code = 1;
+--rollback DROP INDEX idx_jobs_queued;
+
+--changeset liftit:create-jobs-running-index
+-- Per-queue concurrency count and the expired-lease sweep.
+CREATE INDEX idx_jobs_running ON jobs (queue, lease_expires_at) WHERE status_code = 2;
+--rollback DROP INDEX idx_jobs_running;
+
+--changeset liftit:create-jobs-dedupe-index
+-- At most one queued or running job per (queue, dedupe_key); recurring jobs rely on it.
+CREATE UNIQUE INDEX uq_jobs_dedupe ON jobs (queue, dedupe_key)
+    WHERE status_code IN (1, 2) AND dedupe_key IS NOT NULL;
+--rollback DROP INDEX uq_jobs_dedupe;
+
+--changeset liftit:create-jobs-finished-index
+CREATE INDEX idx_jobs_finished ON jobs (finished_at) WHERE status_code IN (3, 4);
+--rollback DROP INDEX idx_jobs_finished;
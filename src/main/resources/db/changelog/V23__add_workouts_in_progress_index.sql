@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset liftit:create-workouts-in-progress-index
+-- In-progress workouts by last activity, for the abandoned-workout sweep. Only open
+-- workouts are indexed, so the index stays a few pages per partition.
+-- Status code 1 is StorageCodes.STATUS_IN_PROGRESS.
+CREATE INDEX idx_workouts_in_progress_updated_at ON workouts (updated_at) WHERE status_code = 1;
+--rollback DROP INDEX idx_workouts_in_progress_updated_at;
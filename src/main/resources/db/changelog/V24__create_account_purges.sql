@@ -0,0 +1,33 @@
+--liquibase formatted sql
+
+--changeset liftit:create-account-purges-table
+-- Progress of account deletions, which AccountPurger runs in chunks as a background job.
+-- step: the AccountPurge.Step the purge is at; DONE once the users row is gone.
+-- rows_deleted counts top-level rows (workouts, archived workouts, templates, exercises,
+-- profile); children removed by ON DELETE CASCADE are not counted.
+-- No foreign key to users: the row records that the account was deleted.
+CREATE TABLE account_purges (
+    user_id      BIGINT                   NOT NULL,
+    step         VARCHAR(30)              NOT NULL,
+    rows_deleted BIGINT                   NOT NULL,
+    requested_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT pk_account_purges PRIMARY KEY (user_id)
+);
+--rollback DROP TABLE account_purges;
+
+--changeset liftit:create-exercises-created-by-index
+-- Finds the custom exercises a user owns when purging the account.
+CREATE INDEX idx_exercises_created_by ON exercises (created_by);
+--rollback DROP INDEX idx_exercises_created_by;
+
+--changeset liftit:create-workout-exercises-exercise-index
+-- Reference checks on exercise deletion (the foreign key and the purge's in-use test)
+-- would otherwise scan every workout_exercises partition.
+CREATE INDEX idx_workout_exercises_exercise ON workout_exercises (exercise_id);
+--rollback DROP INDEX idx_workout_exercises_exercise;
+
+--changeset liftit:create-workout-template-exercises-exercise-index
+CREATE INDEX idx_workout_template_exercises_exercise ON workout_template_exercises (exercise_id);
+--rollback DROP INDEX idx_workout_template_exercises_exercise;
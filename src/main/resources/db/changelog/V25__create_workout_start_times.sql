@@ -0,0 +1,44 @@
+--liquibase formatted sql
+
+--changeset liftit:create-workout-start-times-table
+-- Start time of every hot workout, by id. workouts is partitioned by started_at, so a
+-- lookup by id alone would probe the primary key of every partition; JpaWorkoutRepository
+-- resolves started_at here first (one unpartitioned index) and then reads and writes the
+-- workout, its exercises and its sets by their full keys. A workout's started_at never
+-- changes. Rows of deleted or archived workouts go with them (trigger below).
+CREATE TABLE workout_start_times (
+    workout_id BIGINT                   NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_workout_start_times PRIMARY KEY (workout_id)
+);
+--rollback DROP TABLE workout_start_times;
+
+--changeset liftit:create-track-workout-start-time-function splitStatements:false
+CREATE OR REPLACE FUNCTION track_workout_start_time()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM workout_start_times WHERE workout_id = OLD.id;
+        RETURN OLD;
+    END IF;
+    INSERT INTO workout_start_times (workout_id, started_at) VALUES (NEW.id, NEW.started_at)
+    ON CONFLICT (workout_id) DO NOTHING;
+    RETURN NEW;
+END;
+$$;
+--rollback DROP FUNCTION track_workout_start_time();
+
+--changeset liftit:create-track-workout-start-time-trigger
+CREATE TRIGGER trg_workouts_track_start_time
+    AFTER INSERT OR DELETE ON workouts
+    FOR EACH ROW EXECUTE FUNCTION track_workout_start_time();
+--rollback DROP TRIGGER trg_workouts_track_start_time ON workouts;
+
+--changeset liftit:backfill-workout-start-times runInTransaction:false splitStatements:false
+-- Workouts written while this runs are already tracked by the trigger. See run_backfill (V16).
+CALL run_backfill('workout-start-times', 'workouts',
+                  'INSERT INTO workout_start_times (workout_id, started_at) SELECT id, started_at FROM %s '
+                  || 'WHERE id > $1 AND id <= $2 ON CONFLICT (workout_id) DO NOTHING', 5000);
+--rollback DELETE FROM schema_backfills WHERE backfill = 'workout-start-times';
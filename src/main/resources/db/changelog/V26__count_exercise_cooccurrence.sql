@@ -0,0 +1,90 @@
+--liquibase formatted sql
+
+--changeset liftit:add-archived-workouts-exercise-ids
+-- The distinct exercise ids in the document, so archived workouts can be counted and
+-- looked up by exercise without decoding it. NULL on rows archived before this column
+-- existed, until WorkoutArchiver fills them in.
+ALTER TABLE archived_workouts ADD COLUMN exercise_ids BIGINT[];
+--rollback ALTER TABLE archived_workouts DROP COLUMN exercise_ids;
+
+--changeset liftit:create-archived-workouts-missing-exercise-ids-index
+CREATE INDEX idx_archived_workouts_missing_exercise_ids ON archived_workouts (id) WHERE exercise_ids IS NULL;
+--rollback DROP INDEX idx_archived_workouts_missing_exercise_ids;
+
+--changeset liftit:create-exercise-cooccurrence-workouts-table
+-- The distinct exercises of every workout counted into exercise_cooccurrence (V19), so a
+-- workout is counted at most once and can be subtracted again when it is deleted. Rows
+-- outlive archiving: an archived workout stays counted.
+CREATE TABLE exercise_cooccurrence_workouts (
+    workout_id   BIGINT   NOT NULL,
+    exercise_ids BIGINT[] NOT NULL,
+    CONSTRAINT pk_exercise_cooccurrence_workouts PRIMARY KEY (workout_id)
+);
+--rollback DROP TABLE exercise_cooccurrence_workouts;
+
+--changeset liftit:create-count-workout-cooccurrence-function splitStatements:false
+-- Adds one completed workout, hot or archived, to exercise_cooccurrence. Exercises deleted
+-- since are skipped. Returns false if the workout is not completed, has no exercises or
+-- was already counted, so calling it again is harmless. Pairs are upserted in key order
+-- so concurrent calls lock shared rows in the same order.
+CREATE OR REPLACE FUNCTION count_workout_cooccurrence(workout BIGINT)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    ids BIGINT[];
+BEGIN
+    ids := ARRAY(
+        SELECT DISTINCT we.exercise_id
+        FROM workout_start_times t
+        JOIN workouts w
+          ON w.id = t.workout_id AND w.started_at = t.started_at AND w.status_code = 2
+        JOIN workout_exercises we
+          ON we.workout_id = w.id AND we.workout_started_at = w.started_at
+        WHERE t.workout_id = workout);
+    IF cardinality(ids) = 0 THEN
+        ids := COALESCE((SELECT a.exercise_ids FROM archived_workouts a WHERE a.id = workout), '{}');
+    END IF;
+    ids := ARRAY(SELECT e.id FROM exercises e WHERE e.id = ANY (ids) ORDER BY e.id);
+    IF cardinality(ids) = 0 THEN
+        RETURN false;
+    END IF;
+
+    INSERT INTO exercise_cooccurrence_workouts (workout_id, exercise_ids) VALUES (workout, ids)
+    ON CONFLICT (workout_id) DO NOTHING;
+    IF NOT FOUND THEN
+        RETURN false;
+    END IF;
+    INSERT INTO exercise_cooccurrence (exercise_id, other_exercise_id, workouts)
+    SELECT a.id, b.id, 1
+    FROM unnest(ids) AS a(id)
+    CROSS JOIN unnest(ids) AS b(id)
+    ORDER BY a.id, b.id
+    ON CONFLICT (exercise_id, other_exercise_id) DO UPDATE SET workouts = exercise_cooccurrence.workouts + 1;
+    RETURN true;
+END;
+$$;
+--rollback DROP FUNCTION count_workout_cooccurrence(BIGINT);
+
+--changeset liftit:create-uncount-workout-cooccurrence-function splitStatements:false
+-- Subtracts a deleted workout counted by count_workout_cooccurrence. Returns false if it
+-- was not counted.
+CREATE OR REPLACE FUNCTION uncount_workout_cooccurrence(workout BIGINT)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    ids BIGINT[];
+BEGIN
+    DELETE FROM exercise_cooccurrence_workouts WHERE workout_id = workout RETURNING exercise_ids INTO ids;
+    IF NOT FOUND THEN
+        RETURN false;
+    END IF;
+    UPDATE exercise_cooccurrence SET workouts = workouts - 1
+    WHERE exercise_id = ANY (ids) AND other_exercise_id = ANY (ids);
+    DELETE FROM exercise_cooccurrence
+    WHERE exercise_id = ANY (ids) AND other_exercise_id = ANY (ids) AND workouts <= 0;
+    RETURN true;
+END;
+$$;
+--rollback DROP FUNCTION uncount_workout_cooccurrence(BIGINT);
@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset liftit:create-archived-workouts-exercise-ids-index
+-- Finds archived workouts that use an exercise (exercise_ids @> ARRAY[id]), for the
+-- account purge's in-use test on custom exercises.
+CREATE INDEX idx_archived_workouts_exercise_ids ON archived_workouts USING GIN (exercise_ids);
+--rollback DROP INDEX idx_archived_workouts_exercise_ids;
@@ -0,0 +1,106 @@
+package com.liftit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityTagsTest {
+
+    private static final Instant T1 = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant T2 = Instant.parse("2026-01-02T00:00:00Z");
+
+    private record Item(Long id, Instant updatedAt) {
+    }
+
+    // --- strong ---
+
+    @Test
+    void shouldBuildQuotedStrongTagFromIdAndVersion() {
+        assertEquals("\"42-" + T1.toEpochMilli() + "\"", EntityTags.strong(42L, T1));
+    }
+
+    @Test
+    void shouldChangeStrongTagWhenVersionChanges() {
+        assertNotEquals(EntityTags.strong(42L, T1), EntityTags.strong(42L, T2));
+    }
+
+    @Test
+    void shouldThrowWhenStrongIdIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> EntityTags.strong(null, T1));
+    }
+
+    @Test
+    void shouldThrowWhenStrongVersionIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> EntityTags.strong(42L, null));
+    }
+
+    // --- weak ---
+
+    @Test
+    void shouldBuildWeakTagThatIsStableForSameParts() {
+        // Given / When
+        String first = EntityTags.weak("a", 1, null);
+        String second = EntityTags.weak("a", 1, null);
+
+        // Then
+        assertTrue(first.startsWith("W/\""));
+        assertTrue(first.endsWith("\""));
+        assertEquals(first, second);
+    }
+
+    @Test
+    void shouldDistinguishPartBoundariesInWeakTag() {
+        assertNotEquals(EntityTags.weak("ab", "c"), EntityTags.weak("a", "bc"));
+    }
+
+    // --- weakForPage ---
+
+    @Test
+    void shouldChangePageTagWhenAnElementIsUpdated() {
+        // Given
+        Page<Item> before = new PageImpl<>(List.of(new Item(1L, T1)), PageRequest.of(0, 20), 1);
+        Page<Item> after = new PageImpl<>(List.of(new Item(1L, T2)), PageRequest.of(0, 20), 1);
+
+        // When / Then
+        assertNotEquals(tag(before), tag(after));
+    }
+
+    @Test
+    void shouldChangePageTagWhenTotalElementsChange() {
+        // Given
+        Page<Item> before = new PageImpl<>(List.of(new Item(1L, T1)), PageRequest.of(0, 1), 1);
+        Page<Item> after = new PageImpl<>(List.of(new Item(1L, T1)), PageRequest.of(0, 1), 2);
+
+        // When / Then
+        assertNotEquals(tag(before), tag(after));
+    }
+
+    @Test
+    void shouldProduceSamePageTagForSameContent() {
+        // Given
+        Page<Item> first = new PageImpl<>(List.of(new Item(1L, T1)), PageRequest.of(0, 20), 1);
+        Page<Item> second = new PageImpl<>(List.of(new Item(1L, T1)), PageRequest.of(0, 20), 1);
+
+        // When / Then
+        assertEquals(tag(first), tag(second));
+    }
+
+    @Test
+    void shouldThrowWhenPageIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> EntityTags.weakForPage(null, Item::id, Item::updatedAt));
+    }
+
+    private static String tag(Page<Item> page) {
+        return EntityTags.weakForPage(page, Item::id, Item::updatedAt);
+    }
+}
@@ -3,6 +3,8 @@ package com.liftit;
 import com.liftit.exercise.exception.DuplicateExerciseException;
 import com.liftit.exercise.exception.ExerciseNotFoundException;
 import com.liftit.exercise.exception.ExerciseOwnershipException;
+import com.liftit.job.exception.JobQueueFullException;
+import com.liftit.profiling.exception.ProfilingInProgressException;
 import com.liftit.user.Auth0Id;
 import com.liftit.user.exception.DuplicateProfileException;
 import com.liftit.user.exception.DuplicateUserException;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -63,6 +66,20 @@ class GlobalExceptionHandlerTest {
         mockMvc.perform(get("/test")).andExpect(status().isForbidden());
     }
 
+    @Test
+    void shouldReturn503WithRetryAfterForJobQueueFullException() throws Exception {
+        ThrowingController.exceptionToThrow = new JobQueueFullException("user.purge");
+        mockMvc.perform(get("/test"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"));
+    }
+
+    @Test
+    void shouldReturn409ForProfilingInProgressException() throws Exception {
+        ThrowingController.exceptionToThrow = new ProfilingInProgressException();
+        mockMvc.perform(get("/test")).andExpect(status().isConflict());
+    }
+
     @Test
     void shouldReturn401ForUnauthorizedException() throws Exception {
         ThrowingController.exceptionToThrow = new UnauthorizedException();
@@ -0,0 +1,93 @@
+package com.liftit;
+
+import com.liftit.bootstrap.BootstrapSection;
+import com.liftit.exercise.ExerciseResponse;
+import com.liftit.user.UserProfileResponse;
+import com.liftit.workout.AddWorkoutExerciseRequest;
+import com.liftit.workout.WorkoutSetResponse;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void shouldRegisterPackagePrivateJpaEntities() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.liftit.exercise.persistence.ExerciseJpaEntity"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.liftit.workout.persistence.WorkoutSetJpaEntity"))
+                .test(hints));
+    }
+
+    @Test
+    void shouldRegisterApiRecordsForBinding() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(ExerciseResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(UserProfileResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(AddWorkoutExerciseRequest.class).test(hints));
+    }
+
+    @Test
+    void shouldRegisterTypesNestedInApiRecords() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(WorkoutSetResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(BootstrapSection.class).test(hints));
+    }
+
+    @Test
+    void shouldRegisterNimbusJwtTypes() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(SignedJWT.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(RSASSAVerifier.class).test(hints));
+    }
+
+    @Test
+    void shouldRegisterProxiesForRepositoryPortsOnly() {
+        assertTrue(RuntimeHintsPredicates.proxies()
+                .forInterfaces(TypeReference.of("com.liftit.workout.WorkoutRepository")).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies()
+                .forInterfaces(TypeReference.of("com.liftit.user.AccountPurgeRepository")).test(hints));
+        assertFalse(RuntimeHintsPredicates.proxies()
+                .forInterfaces(TypeReference.of("com.liftit.workout.persistence.WorkoutJpaRepository")).test(hints));
+    }
+
+    @Test
+    void shouldRegisterProxiesForServicesAndJdbcStatements() {
+        assertTrue(RuntimeHintsPredicates.proxies()
+                .forInterfaces(TypeReference.of("com.liftit.workout.WorkoutService")).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+    }
+
+    @Test
+    void shouldRegisterLiquibaseChangelogs() {
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/changelog/db.changelog-master.xml").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/changelog/V11__create_workouts_table.sql").test(hints));
+    }
+}
@@ -0,0 +1,65 @@
+package com.liftit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupPhaseReporterTest {
+
+    @Test
+    void shouldReportRefreshInfrastructureBeansAndCustomSteps() {
+        // Given
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(64);
+        StartupStep refresh = startup.start("spring.context.refresh");
+        instantiate(startup, "entityManagerFactory");
+        instantiate(startup, "dataSource");
+        startup.start("liftit.schema.verify").end();
+        refresh.end();
+
+        // When
+        Map<String, Duration> phases = StartupPhaseReporter.phases(startup.getBufferedTimeline());
+
+        // Then — infrastructure beans in a fixed order, regardless of instantiation order
+        assertThat(phases.keySet())
+                .containsExactly("context.refresh", "dataSource", "entityManagerFactory", "schema.verify");
+    }
+
+    @Test
+    void shouldReportOnlyTheSlowestOtherBeans() {
+        // Given
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(64);
+        for (int i = 0; i < StartupPhaseReporter.SLOWEST_BEANS + 3; i++) {
+            instantiate(startup, "bean" + i);
+        }
+
+        // When
+        Map<String, Duration> phases = StartupPhaseReporter.phases(startup.getBufferedTimeline());
+
+        // Then
+        assertThat(phases).hasSize(StartupPhaseReporter.SLOWEST_BEANS);
+    }
+
+    @Test
+    void shouldIgnoreUnrelatedSteps() {
+        // Given
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(64);
+        startup.start("spring.context.beans.post-process").end();
+
+        // When
+        Map<String, Duration> phases = StartupPhaseReporter.phases(startup.getBufferedTimeline());
+
+        // Then
+        assertThat(phases).isEmpty();
+    }
+
+    // --- helpers ---
+
+    private static void instantiate(BufferingApplicationStartup startup, String beanName) {
+        startup.start("spring.beans.instantiate").tag("beanName", beanName).end();
+    }
+}
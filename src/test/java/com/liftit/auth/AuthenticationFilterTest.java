@@ -3,6 +3,7 @@ package com.liftit.auth;
 import com.liftit.auth.exception.AuthenticationException;
 import com.liftit.auth.exception.InvalidTokenException;
 import com.liftit.user.Auth0Id;
+import io.micrometer.observation.tck.TestObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +18,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.io.IOException;
 import java.util.Optional;
 
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -174,11 +176,34 @@ class AuthenticationFilterTest {
         verify(response, never()).sendError(anyInt(), anyString());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "/actuator/health",
+        "/actuator/health/liveness",
+        "/actuator/health/readiness"
+    })
+    void shouldPassThroughHealthProbesWithoutCheckingToken(String uri)
+            throws ServletException, IOException {
+        // Given — orchestrator probes carry no token
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn(uri);
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        verify(chain).doFilter(request, response);
+        verify(authService, never()).authenticate(any());
+        verify(response, never()).sendError(anyInt(), anyString());
+    }
+
     @ParameterizedTest
     @CsvSource({
         "POST, /api/v1/users/me/profile",
         "GET,  /api/v1/users/me/profile",
-        "GET,  /api/auth/me"
+        "GET,  /api/auth/me",
+        "POST, /actuator/health",
+        "GET,  /actuator/healthz"
     })
     void shouldRequireTokenForProtectedEndpoints(String method, String uri)
             throws ServletException, IOException {
@@ -195,4 +220,49 @@ class AuthenticationFilterTest {
         verify(response).sendError(HttpServletResponse.SC_UNAUTHORIZED, "Missing or invalid Authorization header");
         verify(chain, never()).doFilter(any(), any());
     }
+
+    @Test
+    void shouldObserveTokenValidation() throws ServletException, IOException {
+        // Given
+        TestObservationRegistry registry = TestObservationRegistry.create();
+        AuthenticationFilter observedFilter = new AuthenticationFilter(authService, extractor, registry);
+        String rawToken = "valid.jwt.token";
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + rawToken);
+        when(extractor.extract("Bearer " + rawToken)).thenReturn(Optional.of(rawToken));
+        when(authService.authenticate(Credentials.bearer(rawToken)))
+                .thenReturn(AuthenticationResult.of(Token.of(rawToken), Auth0Id.of("auth0|abc123")));
+
+        // When
+        observedFilter.doFilterInternal(request, response, chain);
+
+        // Then
+        assertThat(registry)
+                .hasObservationWithNameEqualTo(AuthenticationFilter.AUTH_OBSERVATION)
+                .that()
+                .hasContextualNameEqualTo("authenticate")
+                .hasBeenStarted()
+                .hasBeenStopped();
+    }
+
+    @Test
+    void shouldRecordRejectedTokenOnObservation() throws ServletException, IOException {
+        // Given
+        TestObservationRegistry registry = TestObservationRegistry.create();
+        AuthenticationFilter observedFilter = new AuthenticationFilter(authService, extractor, registry);
+        String rawToken = "expired.jwt.token";
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + rawToken);
+        when(extractor.extract("Bearer " + rawToken)).thenReturn(Optional.of(rawToken));
+        when(authService.authenticate(Credentials.bearer(rawToken))).thenThrow(InvalidTokenException.expired());
+
+        // When
+        observedFilter.doFilterInternal(request, response, chain);
+
+        // Then
+        assertThat(registry)
+                .hasObservationWithNameEqualTo(AuthenticationFilter.AUTH_OBSERVATION)
+                .that()
+                .hasError()
+                .hasBeenStopped();
+        verify(response).sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired token");
+    }
 }
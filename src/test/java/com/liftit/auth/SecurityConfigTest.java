@@ -1,12 +1,18 @@
 package com.liftit.auth;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Base64;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,7 +34,7 @@ class SecurityConfigTest {
     @Test
     void shouldCreateAuthenticationServiceBean() {
         // Given
-        SecurityConfig config = new SecurityConfig(pemPublicKey);
+        SecurityConfig config = new SecurityConfig(pemPublicKey, Set.of());
 
         // When
         AuthenticationService service = config.authenticationService();
@@ -41,7 +47,7 @@ class SecurityConfigTest {
     @Test
     void shouldCreateBearerTokenExtractorBean() {
         // Given
-        SecurityConfig config = new SecurityConfig(pemPublicKey);
+        SecurityConfig config = new SecurityConfig(pemPublicKey, Set.of());
 
         // When
         BearerTokenExtractor extractor = config.bearerTokenExtractor();
@@ -53,12 +59,12 @@ class SecurityConfigTest {
     @Test
     void shouldCreateAuthenticationFilterBean() {
         // Given
-        SecurityConfig config = new SecurityConfig(pemPublicKey);
+        SecurityConfig config = new SecurityConfig(pemPublicKey, Set.of());
         AuthenticationService service = config.authenticationService();
         BearerTokenExtractor extractor = config.bearerTokenExtractor();
 
         // When
-        AuthenticationFilter filter = config.authenticationFilter(service, extractor);
+        AuthenticationFilter filter = config.authenticationFilter(service, extractor, ObservationRegistry.NOOP);
 
         // Then
         assertNotNull(filter);
@@ -67,9 +73,39 @@ class SecurityConfigTest {
     @Test
     void shouldThrowWhenPublicKeyPemIsMalformed() {
         // Given
-        SecurityConfig config = new SecurityConfig("not-a-valid-pem");
+        SecurityConfig config = new SecurityConfig("not-a-valid-pem", Set.of());
 
         // When / Then
         assertThrows(IllegalStateException.class, config::authenticationService);
     }
+
+    @Test
+    void shouldTreatListedSubjectAsAdmin() {
+        // Given
+        SecurityConfig config = new SecurityConfig(pemPublicKey, Set.of("auth0|ops"));
+
+        // When / Then
+        assertTrue(config.isAdmin(UsernamePasswordAuthenticationToken.authenticated("auth0|ops", null, List.of())));
+    }
+
+    @Test
+    void shouldNotTreatUnlistedSubjectAsAdmin() {
+        // Given
+        SecurityConfig config = new SecurityConfig(pemPublicKey, Set.of("auth0|ops"));
+
+        // When / Then
+        assertFalse(config.isAdmin(UsernamePasswordAuthenticationToken.authenticated("auth0|lifter", null, List.of())));
+    }
+
+    @Test
+    void shouldNotTreatAnyoneAsAdminWhenNoSubjectsAreListed() {
+        // Given
+        SecurityConfig config = new SecurityConfig(pemPublicKey, Set.of());
+
+        // When / Then
+        assertFalse(config.isAdmin(UsernamePasswordAuthenticationToken.authenticated("auth0|ops", null, List.of())));
+        assertFalse(config.isAdmin(new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"))));
+        assertFalse(config.isAdmin(null));
+    }
 }
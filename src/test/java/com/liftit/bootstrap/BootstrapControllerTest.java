@@ -0,0 +1,106 @@
+package com.liftit.bootstrap;
+
+import com.liftit.GlobalExceptionHandler;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.User;
+import com.liftit.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BootstrapControllerTest {
+
+    private static final Long USER_ID = 100L;
+    private static final String AUTH0_ID = "auth0|testuser";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private MockMvc mockMvc;
+    private BootstrapService bootstrapService;
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        bootstrapService = mock(BootstrapService.class);
+        userRepository = mock(UserRepository.class);
+        BootstrapController controller = new BootstrapController(bootstrapService, userRepository);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(AUTH0_ID, null, List.of()));
+        User user = new User(USER_ID, Auth0Id.of(AUTH0_ID), Email.of("test@example.com"),
+                NOW, 1L, NOW, 1L);
+        when(userRepository.findByAuth0Id(Auth0Id.of(AUTH0_ID))).thenReturn(Optional.of(user));
+    }
+
+    private static BootstrapResponse emptyResponse() {
+        return new BootstrapResponse(
+                new BootstrapSection<>("c1", false, null),
+                new BootstrapSection<>("k1", false, null),
+                new BootstrapSection<>("m1", false, null),
+                new BootstrapSection<>("p1", false, null),
+                new BootstrapSection<>("w1", false, null),
+                null);
+    }
+
+    @Test
+    void shouldReturn200WithBootstrapPayload() throws Exception {
+        // Given
+        authenticate();
+        when(bootstrapService.load(eq(USER_ID), eq(BootstrapVersions.none()))).thenReturn(emptyResponse());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/bootstrap"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.catalog.version").value("c1"))
+                .andExpect(jsonPath("$.catalog.modified").value(false));
+    }
+
+    @Test
+    void shouldPassKnownVersionsToService() throws Exception {
+        // Given
+        authenticate();
+        BootstrapVersions known = new BootstrapVersions("c1", "k1", "m1", "p1", "w1");
+        when(bootstrapService.load(USER_ID, known)).thenReturn(emptyResponse());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/bootstrap")
+                        .param("catalog", "c1")
+                        .param("categories", "k1")
+                        .param("muscleGroups", "m1")
+                        .param("profile", "p1")
+                        .param("workouts", "w1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workouts.version").value("w1"));
+    }
+
+    @Test
+    void shouldReturn401WhenNotAuthenticated() throws Exception {
+        mockMvc.perform(get("/api/v1/bootstrap"))
+                .andExpect(status().isUnauthorized());
+    }
+}
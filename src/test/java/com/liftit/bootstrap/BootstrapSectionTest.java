@@ -0,0 +1,45 @@
+package com.liftit.bootstrap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BootstrapSectionTest {
+
+    @Test
+    void shouldIncludeDataWhenKnownVersionDiffers() {
+        // When
+        BootstrapSection<String> section = BootstrapSection.of("v2", "v1", () -> "payload");
+
+        // Then
+        assertTrue(section.modified());
+        assertEquals("v2", section.version());
+        assertEquals("payload", section.data());
+    }
+
+    @Test
+    void shouldIncludeDataWhenClientHoldsNoVersion() {
+        assertTrue(BootstrapSection.of("v1", null, () -> "payload").modified());
+    }
+
+    @Test
+    void shouldOmitDataWithoutInvokingSupplierWhenVersionMatches() {
+        // When
+        BootstrapSection<String> section = BootstrapSection.of("v1", "v1", () -> {
+            throw new AssertionError("supplier must not be invoked");
+        });
+
+        // Then
+        assertFalse(section.modified());
+        assertNull(section.data());
+    }
+
+    @Test
+    void shouldThrowWhenSupplierIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> BootstrapSection.of("v1", null, null));
+    }
+}
@@ -0,0 +1,247 @@
+package com.liftit.bootstrap;
+
+import com.liftit.exercise.Exercise;
+import com.liftit.exercise.ExerciseCategory;
+import com.liftit.exercise.ExerciseCategoryEnum;
+import com.liftit.exercise.ExerciseFilter;
+import com.liftit.exercise.ExerciseService;
+import com.liftit.exercise.ReferenceDataTags;
+import com.liftit.muscle.MuscleEnum;
+import com.liftit.user.UserProfile;
+import com.liftit.user.UserProfileService;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutService;
+import com.liftit.workout.WorkoutStatus;
+import com.liftit.workout.exception.WorkoutNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultBootstrapServiceTest {
+
+    private static final Long USER_ID = 100L;
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+    private static final int MAX_READS = 5;
+
+    private ExerciseService exerciseService;
+    private UserProfileService userProfileService;
+    private WorkoutService workoutService;
+    private DefaultBootstrapService service;
+
+    @BeforeEach
+    void setUp() {
+        exerciseService = mock(ExerciseService.class);
+        userProfileService = mock(UserProfileService.class);
+        workoutService = mock(WorkoutService.class);
+        service = new DefaultBootstrapService(exerciseService, userProfileService, workoutService, MAX_READS);
+
+        Exercise exercise = new Exercise(1L, "Bench Press", ExerciseCategoryEnum.STRENGTH,
+                Set.of(MuscleEnum.CHEST), NOW, USER_ID, NOW, USER_ID);
+        when(exerciseService.list(any(ExerciseFilter.class), any()))
+                .thenReturn(new PageImpl<>(List.of(exercise), PageRequest.of(0, 20), 1));
+        when(exerciseService.getCategories())
+                .thenReturn(List.of(new ExerciseCategory(1L, "STRENGTH", NOW, 1L, NOW, 1L)));
+        when(exerciseService.getMuscleGroups()).thenReturn(List.of(MuscleEnum.values()));
+        when(userProfileService.getProfile(USER_ID)).thenReturn(Optional.of(new UserProfile(
+                1L, USER_ID, "alice_lifts", null, null, null, null, NOW, 1L, NOW, 1L)));
+        stubWorkouts(List.of());
+    }
+
+    private void stubWorkouts(List<Workout> workouts) {
+        Page<Workout> page = new PageImpl<>(workouts, PageRequest.of(0, 20), workouts.size());
+        when(workoutService.listByUser(eq(USER_ID), any(Pageable.class))).thenReturn(page);
+    }
+
+    private Workout buildWorkout(Long id, WorkoutStatus status) {
+        return new Workout(id, USER_ID, NOW, status == WorkoutStatus.COMPLETED ? NOW : null,
+                status, null, List.of(), NOW, USER_ID, NOW, USER_ID);
+    }
+
+    // --- constructor ---
+
+    @Test
+    void shouldThrowWhenExerciseServiceIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DefaultBootstrapService(null, userProfileService, workoutService, MAX_READS));
+    }
+
+    @Test
+    void shouldThrowWhenUserProfileServiceIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DefaultBootstrapService(exerciseService, null, workoutService, MAX_READS));
+    }
+
+    @Test
+    void shouldThrowWhenWorkoutServiceIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DefaultBootstrapService(exerciseService, userProfileService, null, MAX_READS));
+    }
+
+    @Test
+    void shouldThrowWhenMaxConcurrentReadsIsNotPositive() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DefaultBootstrapService(exerciseService, userProfileService, workoutService, 0));
+    }
+
+    // --- load ---
+
+    @Test
+    void shouldLoadEverySectionWhenClientHoldsNothing() {
+        // When
+        BootstrapResponse response = service.load(USER_ID, BootstrapVersions.none());
+
+        // Then
+        assertTrue(response.catalog().modified());
+        assertEquals(1, response.catalog().data().getTotalElements());
+        assertEquals("STRENGTH", response.categories().data().get(0).name());
+        assertEquals(MuscleEnum.values().length, response.muscleGroups().data().size());
+        assertEquals("alice_lifts", response.profile().data().username());
+        assertTrue(response.workouts().modified());
+        assertNull(response.activeWorkout());
+    }
+
+    @Test
+    void shouldSkipReferenceDataWithoutQueryingWhenVersionsMatch() {
+        // Given
+        BootstrapVersions known = new BootstrapVersions(null,
+                ReferenceDataTags.CATEGORIES_VERSION, ReferenceDataTags.MUSCLE_GROUPS_VERSION, null, null);
+
+        // When
+        BootstrapResponse response = service.load(USER_ID, known);
+
+        // Then
+        assertFalse(response.categories().modified());
+        assertNull(response.categories().data());
+        assertFalse(response.muscleGroups().modified());
+        verify(exerciseService, never()).getCategories();
+        verify(exerciseService, never()).getMuscleGroups();
+    }
+
+    @Test
+    void shouldOmitUnchangedSectionsOnSecondLoad() {
+        // Given
+        BootstrapResponse first = service.load(USER_ID, BootstrapVersions.none());
+        BootstrapVersions known = new BootstrapVersions(
+                first.catalog().version(), first.categories().version(),
+                first.muscleGroups().version(), first.profile().version(), first.workouts().version());
+
+        // When
+        BootstrapResponse second = service.load(USER_ID, known);
+
+        // Then
+        assertFalse(second.catalog().modified());
+        assertFalse(second.profile().modified());
+        assertFalse(second.workouts().modified());
+        assertNull(second.catalog().data());
+    }
+
+    @Test
+    void shouldReturnActiveWorkoutWhenMostRecentIsInProgress() {
+        // Given
+        stubWorkouts(List.of(buildWorkout(2L, WorkoutStatus.IN_PROGRESS),
+                buildWorkout(1L, WorkoutStatus.COMPLETED)));
+
+        // When
+        BootstrapResponse response = service.load(USER_ID, BootstrapVersions.none());
+
+        // Then
+        assertNotNull(response.activeWorkout());
+        assertEquals(2L, response.activeWorkout().id());
+    }
+
+    @Test
+    void shouldReturnNoActiveWorkoutWhenMostRecentIsCompleted() {
+        // Given
+        stubWorkouts(List.of(buildWorkout(1L, WorkoutStatus.COMPLETED)));
+
+        // When
+        BootstrapResponse response = service.load(USER_ID, BootstrapVersions.none());
+
+        // Then
+        assertNull(response.activeWorkout());
+    }
+
+    @Test
+    void shouldReturnNullProfileVersionWhenNoProfileExists() {
+        // Given
+        when(userProfileService.getProfile(USER_ID)).thenReturn(Optional.empty());
+
+        // When
+        BootstrapResponse response = service.load(USER_ID, BootstrapVersions.none());
+
+        // Then
+        assertNull(response.profile().version());
+        assertNull(response.profile().data());
+    }
+
+    @Test
+    void shouldPropagateSectionFailureUnchanged() {
+        // Given
+        when(workoutService.listByUser(eq(USER_ID), any(Pageable.class)))
+                .thenThrow(new WorkoutNotFoundException(1L));
+
+        // When / Then
+        assertThrows(WorkoutNotFoundException.class,
+                () -> service.load(USER_ID, BootstrapVersions.none()));
+    }
+
+    @Test
+    void shouldRunNoMoreSectionReadsAtOnceThanPermitted() {
+        // Given
+        service = new DefaultBootstrapService(exerciseService, userProfileService, workoutService, 1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Page<Workout> page = new PageImpl<>(List.of(), PageRequest.of(0, 20), 0);
+        when(workoutService.listByUser(eq(USER_ID), any(Pageable.class))).thenAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return page;
+        });
+        when(userProfileService.getProfile(USER_ID)).thenAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return Optional.empty();
+        });
+
+        // When
+        service.load(USER_ID, BootstrapVersions.none());
+
+        // Then
+        assertEquals(1, peak.get());
+    }
+
+    @Test
+    void shouldThrowWhenUserIdIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.load(null, BootstrapVersions.none()));
+    }
+
+    @Test
+    void shouldThrowWhenKnownVersionsAreNull() {
+        assertThrows(IllegalArgumentException.class, () -> service.load(USER_ID, null));
+    }
+}
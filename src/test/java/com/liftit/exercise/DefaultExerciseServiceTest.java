@@ -6,12 +6,14 @@ import com.liftit.exercise.exception.ExerciseOwnershipException;
 import com.liftit.muscle.MuscleEnum;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -19,6 +21,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -36,13 +40,15 @@ class DefaultExerciseServiceTest {
 
     private ExerciseRepository exerciseRepository;
     private ExerciseCategoryRepository categoryRepository;
+    private ExerciseSimilarityIndex similarityIndex;
     private DefaultExerciseService service;
 
     @BeforeEach
     void setUp() {
         exerciseRepository = mock(ExerciseRepository.class);
         categoryRepository = mock(ExerciseCategoryRepository.class);
-        service = new DefaultExerciseService(exerciseRepository, categoryRepository);
+        similarityIndex = mock(ExerciseSimilarityIndex.class);
+        service = new DefaultExerciseService(exerciseRepository, categoryRepository, similarityIndex);
     }
 
     // --- constructor ---
@@ -50,13 +56,19 @@ class DefaultExerciseServiceTest {
     @Test
     void shouldThrowWhenExerciseRepositoryIsNull() {
         assertThrows(IllegalArgumentException.class,
-                () -> new DefaultExerciseService(null, categoryRepository));
+                () -> new DefaultExerciseService(null, categoryRepository, similarityIndex));
     }
 
     @Test
     void shouldThrowWhenCategoryRepositoryIsNull() {
         assertThrows(IllegalArgumentException.class,
-                () -> new DefaultExerciseService(exerciseRepository, null));
+                () -> new DefaultExerciseService(exerciseRepository, null, similarityIndex));
+    }
+
+    @Test
+    void shouldThrowWhenSimilarityIndexIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DefaultExerciseService(exerciseRepository, categoryRepository, null));
     }
 
     // --- create ---
@@ -77,6 +89,7 @@ class DefaultExerciseServiceTest {
         assertEquals(NAME, result.name());
         assertEquals(USER_ID, result.createdBy());
         verify(exerciseRepository).save(any(Exercise.class));
+        verify(similarityIndex).refresh(EXERCISE_ID);
     }
 
     @Test
@@ -150,6 +163,7 @@ class DefaultExerciseServiceTest {
         // Then
         assertEquals("New Name", result.name());
         verify(exerciseRepository).save(any(Exercise.class));
+        verify(similarityIndex).refresh(EXERCISE_ID);
     }
 
     @Test
@@ -211,12 +225,16 @@ class DefaultExerciseServiceTest {
         // Given
         Exercise existing = new Exercise(EXERCISE_ID, NAME, CATEGORY, MUSCLES, NOW, USER_ID, NOW, USER_ID);
         when(exerciseRepository.findById(EXERCISE_ID)).thenReturn(Optional.of(existing));
+        when(similarityIndex.dependentsOf(EXERCISE_ID)).thenReturn(Set.of(2L, 3L));
 
         // When
         service.delete(EXERCISE_ID, USER_ID);
 
-        // Then
-        verify(exerciseRepository).delete(EXERCISE_ID);
+        // Then — lists that contained the exercise are refilled after it is gone
+        InOrder inOrder = inOrder(similarityIndex, exerciseRepository);
+        inOrder.verify(similarityIndex).dependentsOf(EXERCISE_ID);
+        inOrder.verify(exerciseRepository).delete(EXERCISE_ID);
+        inOrder.verify(similarityIndex).recompute(Set.of(2L, 3L));
     }
 
     @Test
@@ -265,6 +283,60 @@ class DefaultExerciseServiceTest {
                 () -> service.list(null, PageRequest.of(0, 10)));
     }
 
+    // --- similar ---
+
+    @Test
+    void shouldReturnSimilarExercisesFromIndex() {
+        // Given
+        Exercise existing = new Exercise(EXERCISE_ID, NAME, CATEGORY, MUSCLES, NOW, USER_ID, NOW, USER_ID);
+        Exercise other = new Exercise(2L, "Dumbbell Press", CATEGORY, MUSCLES, NOW, USER_ID, NOW, USER_ID);
+        when(exerciseRepository.findById(EXERCISE_ID)).thenReturn(Optional.of(existing));
+        when(similarityIndex.findSimilar(EXERCISE_ID, 5)).thenReturn(List.of(new SimilarExercise(other, 0.8)));
+
+        // When
+        List<SimilarExercise> result = service.similar(EXERCISE_ID, 5);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("Dumbbell Press", result.getFirst().exercise().name());
+    }
+
+    @Test
+    void shouldThrowNotFoundForSimilarWhenExerciseDoesNotExist() {
+        // Given
+        when(exerciseRepository.findById(EXERCISE_ID)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(ExerciseNotFoundException.class, () -> service.similar(EXERCISE_ID, 5));
+        verify(similarityIndex, never()).findSimilar(any(), anyInt());
+    }
+
+    @Test
+    void shouldThrowWhenSimilarLimitIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> service.similar(EXERCISE_ID, 0));
+    }
+
+    // --- facets ---
+
+    @Test
+    void shouldReturnFacetsFromRepository() {
+        // Given
+        ExerciseFilter filter = new ExerciseFilter(null, Set.of(MuscleEnum.CHEST), null, null);
+        ExerciseFacets facets = new ExerciseFacets(3, Map.of(CATEGORY, 3L), Map.of(MuscleEnum.CHEST, 3L));
+        when(exerciseRepository.countFacets(filter)).thenReturn(facets);
+
+        // When
+        ExerciseFacets result = service.facets(filter);
+
+        // Then
+        assertEquals(facets, result);
+    }
+
+    @Test
+    void shouldThrowWhenFacetsFilterIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> service.facets(null));
+    }
+
     // --- getCategories ---
 
     @Test
@@ -24,6 +24,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,11 +33,15 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -185,6 +190,46 @@ class ExerciseControllerTest {
                 .andExpect(jsonPath("$.name").value(NAME));
     }
 
+    @Test
+    void shouldReturnStrongETagAndLastModifiedOnGetById() throws Exception {
+        // Given
+        authenticateAs(AUTH0_ID);
+        when(exerciseService.getById(EXERCISE_ID)).thenReturn(buildExercise());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises/{id}", EXERCISE_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-" + NOW.toEpochMilli() + "\""))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+    }
+
+    @Test
+    void shouldReturn304OnGetByIdWhenETagMatches() throws Exception {
+        // Given
+        authenticateAs(AUTH0_ID);
+        when(exerciseService.getById(EXERCISE_ID)).thenReturn(buildExercise());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises/{id}", EXERCISE_ID)
+                        .header("If-None-Match", "\"1-" + NOW.toEpochMilli() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldReturn200OnGetByIdWhenETagIsStale() throws Exception {
+        // Given
+        authenticateAs(AUTH0_ID);
+        when(exerciseService.getById(EXERCISE_ID)).thenReturn(buildExercise());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises/{id}", EXERCISE_ID)
+                        .header("If-None-Match", "\"1-0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(EXERCISE_ID));
+    }
+
     @Test
     void shouldReturn404OnGetByIdWhenExerciseDoesNotExist() throws Exception {
         // Given
@@ -347,6 +392,91 @@ class ExerciseControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(0));
     }
 
+    @Test
+    void shouldPassMultipleMuscleGroupsAndMatchModeToServiceOnList() throws Exception {
+        // Given
+        authenticateAs(AUTH0_ID);
+        Page<Exercise> page = new PageImpl<>(List.of(), PageRequest.of(0, 20), 0);
+        when(exerciseService.list(any(ExerciseFilter.class), any())).thenReturn(page);
+
+        // When
+        mockMvc.perform(get("/api/v1/exercises")
+                        .param("category", "STRENGTH")
+                        .param("muscleGroup", "CHEST", "TRICEPS")
+                        .param("muscleMatch", "ALL"))
+                .andExpect(status().isOk());
+
+        // Then
+        verify(exerciseService).list(eq(new ExerciseFilter(
+                Set.of(ExerciseCategoryEnum.STRENGTH),
+                Set.of(MuscleEnum.CHEST, MuscleEnum.TRICEPS),
+                ExerciseFilter.MuscleMatch.ALL, null)), any());
+    }
+
+    // --- GET /api/v1/exercises/{id}/similar ---
+
+    @Test
+    void shouldReturn200WithSimilarExercises() throws Exception {
+        // Given
+        authenticateAs(AUTH0_ID);
+        when(exerciseService.similar(EXERCISE_ID, 3))
+                .thenReturn(List.of(new SimilarExercise(buildExercise(), 0.75)));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises/{id}/similar", EXERCISE_ID).param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].exercise.id").value(EXERCISE_ID))
+                .andExpect(jsonPath("$[0].score").value(0.75));
+    }
+
+    @Test
+    void shouldReturn404ForSimilarWhenExerciseNotFound() throws Exception {
+        // Given
+        authenticateAs(AUTH0_ID);
+        when(exerciseService.similar(EXERCISE_ID, 10)).thenThrow(new ExerciseNotFoundException(EXERCISE_ID));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises/{id}/similar", EXERCISE_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    // --- GET /api/v1/exercises/search ---
+
+    @Test
+    void shouldReturn200WithPageAndFacetsOnSearch() throws Exception {
+        // Given
+        authenticateAs(AUTH0_ID);
+        Page<Exercise> page = new PageImpl<>(List.of(buildExercise()), PageRequest.of(0, 20), 1);
+        ExerciseFacets facets = new ExerciseFacets(1,
+                Map.of(ExerciseCategoryEnum.STRENGTH, 1L), Map.of(MuscleEnum.CHEST, 1L));
+        when(exerciseService.list(any(ExerciseFilter.class), any())).thenReturn(page);
+        when(exerciseService.facets(any(ExerciseFilter.class))).thenReturn(facets);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises/search").param("muscleGroup", "CHEST"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.results.content[0].id").value(EXERCISE_ID))
+                .andExpect(jsonPath("$.facets.total").value(1))
+                .andExpect(jsonPath("$.facets.categories.STRENGTH").value(1))
+                .andExpect(jsonPath("$.facets.muscleGroups.CHEST").value(1))
+                .andExpect(jsonPath("$.facets.muscleGroups.BACK").value(0));
+    }
+
+    @Test
+    void shouldReturn304OnListWhenPageETagMatches() throws Exception {
+        // Given
+        authenticateAs(AUTH0_ID);
+        Page<Exercise> page = new PageImpl<>(List.of(buildExercise()), PageRequest.of(0, 20), 1);
+        when(exerciseService.list(any(ExerciseFilter.class), any())).thenReturn(page);
+        String etag = mockMvc.perform(get("/api/v1/exercises"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
     // --- GET /api/v1/exercises/categories ---
 
     @Test
@@ -359,7 +489,21 @@ class ExerciseControllerTest {
         // When / Then
         mockMvc.perform(get("/api/v1/exercises/categories"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].name").value("STRENGTH"));
+                .andExpect(jsonPath("$[0].name").value("STRENGTH"))
+                .andExpect(header().string("ETag", ReferenceDataTags.CATEGORIES_VERSION));
+    }
+
+    @Test
+    void shouldReturn304WithoutQueryingServiceWhenCategoriesETagMatches() throws Exception {
+        // Given
+        authenticateAs(AUTH0_ID);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises/categories")
+                        .header("If-None-Match", ReferenceDataTags.CATEGORIES_VERSION))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(exerciseService, never()).getCategories();
     }
 
     // --- GET /api/v1/exercises/muscle-groups ---
@@ -373,6 +517,19 @@ class ExerciseControllerTest {
         // When / Then
         mockMvc.perform(get("/api/v1/exercises/muscle-groups"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0]").value("ABDOMINALS"));
+                .andExpect(jsonPath("$[0]").value("ABDOMINALS"))
+                .andExpect(header().string("ETag", ReferenceDataTags.MUSCLE_GROUPS_VERSION));
+    }
+
+    @Test
+    void shouldReturn304WithoutQueryingServiceWhenMuscleGroupsETagMatches() throws Exception {
+        // Given
+        authenticateAs(AUTH0_ID);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/exercises/muscle-groups")
+                        .header("If-None-Match", ReferenceDataTags.MUSCLE_GROUPS_VERSION))
+                .andExpect(status().isNotModified());
+        verify(exerciseService, never()).getMuscleGroups();
     }
 }
@@ -3,19 +3,25 @@ package com.liftit.exercise;
 import com.liftit.muscle.MuscleEnum;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ExerciseFilterTest {
 
     @Test
-    void shouldCreateEmptyFilterWithAllNullFields() {
+    void shouldCreateEmptyFilterWithNoRestrictions() {
         // When
         ExerciseFilter filter = ExerciseFilter.empty();
 
         // Then
-        assertNull(filter.category());
-        assertNull(filter.muscleGroup());
+        assertTrue(filter.categories().isEmpty());
+        assertTrue(filter.muscleGroups().isEmpty());
+        assertEquals(ExerciseFilter.MuscleMatch.ANY, filter.muscleMatch());
         assertNull(filter.search());
     }
 
@@ -23,12 +29,37 @@ class ExerciseFilterTest {
     void shouldStoreFilterValues() {
         // Given / When
         ExerciseFilter filter = new ExerciseFilter(
-                ExerciseCategoryEnum.STRENGTH, MuscleEnum.CHEST, "bench"
+                Set.of(ExerciseCategoryEnum.STRENGTH), Set.of(MuscleEnum.CHEST, MuscleEnum.TRICEPS),
+                ExerciseFilter.MuscleMatch.ALL, "bench"
         );
 
         // Then
-        assertEquals(ExerciseCategoryEnum.STRENGTH, filter.category());
-        assertEquals(MuscleEnum.CHEST, filter.muscleGroup());
+        assertEquals(Set.of(ExerciseCategoryEnum.STRENGTH), filter.categories());
+        assertEquals(Set.of(MuscleEnum.CHEST, MuscleEnum.TRICEPS), filter.muscleGroups());
+        assertEquals(ExerciseFilter.MuscleMatch.ALL, filter.muscleMatch());
         assertEquals("bench", filter.search());
     }
+
+    @Test
+    void shouldTreatNullValuesAsNoRestriction() {
+        // When
+        ExerciseFilter filter = new ExerciseFilter(null, null, null, null);
+
+        // Then
+        assertEquals(ExerciseFilter.empty(), filter);
+    }
+
+    @Test
+    void shouldCopySets() {
+        // Given
+        Set<MuscleEnum> muscles = new HashSet<>(Set.of(MuscleEnum.BACK));
+        ExerciseFilter filter = new ExerciseFilter(null, muscles, null, null);
+
+        // When
+        muscles.add(MuscleEnum.BICEPS);
+
+        // Then
+        assertEquals(Set.of(MuscleEnum.BACK), filter.muscleGroups());
+        assertThrows(UnsupportedOperationException.class, () -> filter.muscleGroups().add(MuscleEnum.CHEST));
+    }
 }
@@ -0,0 +1,58 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.outbox.OutboxEvent;
+import com.liftit.workout.WorkoutEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ExerciseCooccurrenceCounterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ExerciseCooccurrenceCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        counter = new ExerciseCooccurrenceCounter(jdbcTemplate);
+    }
+
+    @Test
+    void shouldCountCompletedWorkout() {
+        // When
+        counter.handle(event(WorkoutEvent.COMPLETED));
+
+        // Then
+        verify(jdbcTemplate).queryForObject("SELECT count_workout_cooccurrence(?)", Boolean.class, 42L);
+    }
+
+    @Test
+    void shouldSubtractDeletedWorkout() {
+        // When
+        counter.handle(event(WorkoutEvent.DELETED));
+
+        // Then
+        verify(jdbcTemplate).queryForObject("SELECT uncount_workout_cooccurrence(?)", Boolean.class, 42L);
+    }
+
+    @Test
+    void shouldIgnoreOtherEvents() {
+        // When
+        counter.handle(event(WorkoutEvent.STARTED));
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    // --- helpers ---
+
+    private static OutboxEvent event(WorkoutEvent type) {
+        return new OutboxEvent(1L, type.type(), 100L, 42L, 0, Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.exercise.ExerciseCategoryEnum;
+import com.liftit.exercise.ExerciseFacets;
+import com.liftit.exercise.ExerciseFilter;
+import com.liftit.muscle.MuscleEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExerciseFacetCounterTest {
+
+    private static final ExerciseCategoryEnum STRENGTH = ExerciseCategoryEnum.STRENGTH;
+
+    // 5 chest + triceps, 3 chest only, 2 back + biceps
+    private static final List<ExerciseJpaRepository.FacetGroup> GROUPS = List.of(
+            group(5, MuscleEnum.CHEST, MuscleEnum.TRICEPS),
+            group(3, MuscleEnum.CHEST),
+            group(2, MuscleEnum.BACK, MuscleEnum.BICEPS));
+
+    @Test
+    void shouldCountEveryFacetValueForEmptyFilter() {
+        // When
+        ExerciseFacets facets = ExerciseFacetCounter.count(ExerciseFilter.empty(), GROUPS);
+
+        // Then
+        assertEquals(10, facets.total());
+        assertEquals(10L, facets.categories().get(STRENGTH));
+        assertEquals(8L, facets.muscleGroups().get(MuscleEnum.CHEST));
+        assertEquals(5L, facets.muscleGroups().get(MuscleEnum.TRICEPS));
+        assertEquals(2L, facets.muscleGroups().get(MuscleEnum.BACK));
+        assertEquals(0L, facets.muscleGroups().get(MuscleEnum.CALVES));
+    }
+
+    @Test
+    void shouldIgnoreSelectedMuscleGroupsInMuscleFacetWhenMatchingAny() {
+        // Given
+        ExerciseFilter filter = new ExerciseFilter(null, Set.of(MuscleEnum.TRICEPS), ExerciseFilter.MuscleMatch.ANY, null);
+
+        // When
+        ExerciseFacets facets = ExerciseFacetCounter.count(filter, GROUPS);
+
+        // Then — the results narrow, the muscle facet does not
+        assertEquals(5, facets.total());
+        assertEquals(5L, facets.categories().get(STRENGTH));
+        assertEquals(8L, facets.muscleGroups().get(MuscleEnum.CHEST));
+        assertEquals(2L, facets.muscleGroups().get(MuscleEnum.BACK));
+    }
+
+    @Test
+    void shouldCountMuscleFacetWithinResultsWhenMatchingAll() {
+        // Given
+        ExerciseFilter filter = new ExerciseFilter(null, Set.of(MuscleEnum.CHEST), ExerciseFilter.MuscleMatch.ALL, null);
+
+        // When
+        ExerciseFacets facets = ExerciseFacetCounter.count(filter, GROUPS);
+
+        // Then
+        assertEquals(8, facets.total());
+        assertEquals(8L, facets.muscleGroups().get(MuscleEnum.CHEST));
+        assertEquals(5L, facets.muscleGroups().get(MuscleEnum.TRICEPS));
+        assertEquals(0L, facets.muscleGroups().get(MuscleEnum.BACK));
+    }
+
+    @Test
+    void shouldReturnZeroCountsWhenCatalogIsEmpty() {
+        // When
+        ExerciseFacets facets = ExerciseFacetCounter.count(ExerciseFilter.empty(), List.of());
+
+        // Then
+        assertEquals(0, facets.total());
+        assertEquals(0L, facets.categories().get(STRENGTH));
+        assertEquals(MuscleEnum.values().length, facets.muscleGroups().size());
+    }
+
+    // --- helpers ---
+
+    private record Group(Long getCategoryId, Long getMuscleMask, Long getExercises)
+            implements ExerciseJpaRepository.FacetGroup {
+    }
+
+    private static Group group(long exercises, MuscleEnum... muscles) {
+        return new Group(STRENGTH.getCategoryId(), MuscleMasks.of(List.of(muscles)), exercises);
+    }
+}
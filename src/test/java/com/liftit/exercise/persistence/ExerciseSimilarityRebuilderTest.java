@@ -0,0 +1,134 @@
+package com.liftit.exercise.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExerciseSimilarityRebuilderTest {
+
+    private static final int TOP_K = 20;
+    private static final int BATCH_SIZE = 2;
+    private static final int COUNT_BATCH_SIZE = 100;
+    private static final String RECOMPUTE_SQL = "SELECT refresh_exercise_similarities(?, ?)";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ExerciseSimilarityRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        rebuilder = new ExerciseSimilarityRebuilder(jdbcTemplate, transactionTemplate, TOP_K, BATCH_SIZE,
+                COUNT_BATCH_SIZE, "0 30 4 * * *");
+    }
+
+    // --- recompute ---
+
+    @Test
+    void shouldRecomputeListsBatchByBatch() {
+        // Given
+        when(jdbcTemplate.queryForList(contains("FROM exercises"), eq(Long.class), anyLong(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        // When
+        int indexed = rebuilder.recomputeAll();
+
+        // Then — one transaction per batch, paged by id
+        assertEquals(3, indexed);
+        verify(jdbcTemplate).queryForList(contains("FROM exercises"), eq(Long.class), eq(2L), eq(BATCH_SIZE));
+        verify(jdbcTemplate, times(2)).queryForObject(eq(RECOMPUTE_SQL), eq(Integer.class), any(), eq(TOP_K));
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    void shouldStopWhenCatalogIsEmpty() {
+        // Given
+        when(jdbcTemplate.queryForList(contains("FROM exercises"), eq(Long.class), anyLong(), eq(BATCH_SIZE)))
+                .thenReturn(List.of());
+
+        // When
+        int indexed = rebuilder.recomputeAll();
+
+        // Then
+        assertEquals(0, indexed);
+        verify(jdbcTemplate, never()).queryForObject(eq(RECOMPUTE_SQL), eq(Integer.class), any(), any());
+    }
+
+    // --- co-occurrence backfill ---
+
+    @Test
+    void shouldCountHotWorkoutsFromRecordedProgress() {
+        // Given — resumes after workout 10; the next batch ends at 20
+        givenProgress(ExerciseSimilarityRebuilder.HOT, List.of(10L), List.of(20L), List.of());
+        when(jdbcTemplate.queryForObject(ExerciseSimilarityRebuilder.HOT.nextSql(), Long.class, 10L, COUNT_BATCH_SIZE))
+                .thenReturn(20L);
+        when(jdbcTemplate.queryForObject(ExerciseSimilarityRebuilder.HOT.nextSql(), Long.class, 20L, COUNT_BATCH_SIZE))
+                .thenReturn(null);
+        when(jdbcTemplate.queryForObject(ExerciseSimilarityRebuilder.HOT.countSql(), Integer.class, 10L, 20L))
+                .thenReturn(7);
+
+        // When
+        long counted = rebuilder.countUncountedWorkouts();
+
+        // Then
+        assertEquals(7, counted);
+        verify(jdbcTemplate).update(contains("SET last_id"), eq(20L), eq(ExerciseSimilarityRebuilder.BACKFILL),
+                eq("workouts"));
+        verify(jdbcTemplate).update(contains("SET completed_at"), eq(ExerciseSimilarityRebuilder.BACKFILL),
+                eq("workouts"));
+    }
+
+    @Test
+    void shouldWaitForArchivedExerciseIdsBeforeCountingArchivedWorkouts() {
+        // Given — the hot tier is done, but some archived rows have no exercise ids yet
+        givenProgress(ExerciseSimilarityRebuilder.HOT, List.of());
+        when(jdbcTemplate.queryForObject(contains("completed_at IS NOT NULL"), eq(Boolean.class),
+                eq(ExerciseSimilarityRebuilder.BACKFILL), eq("workouts"))).thenReturn(true);
+        when(jdbcTemplate.queryForObject(contains("exercise_ids IS NULL"), eq(Boolean.class))).thenReturn(true);
+
+        // When
+        long counted = rebuilder.countUncountedWorkouts();
+
+        // Then
+        assertEquals(0, counted);
+        verify(jdbcTemplate, never()).queryForList(contains("FROM schema_backfills"), eq(Long.class),
+                eq(ExerciseSimilarityRebuilder.BACKFILL), eq("archived_workouts"));
+    }
+
+    @Test
+    void shouldRejectNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ExerciseSimilarityRebuilder(
+                jdbcTemplate, transactionTemplate, 0, BATCH_SIZE, COUNT_BATCH_SIZE, null));
+        assertThrows(IllegalArgumentException.class, () -> new ExerciseSimilarityRebuilder(
+                jdbcTemplate, transactionTemplate, TOP_K, 0, COUNT_BATCH_SIZE, null));
+        assertThrows(IllegalArgumentException.class, () -> new ExerciseSimilarityRebuilder(
+                jdbcTemplate, transactionTemplate, TOP_K, BATCH_SIZE, 0, null));
+    }
+
+    // --- helpers ---
+
+    @SafeVarargs
+    private void givenProgress(ExerciseSimilarityRebuilder.Tier tier, List<Long> first, List<Long>... rest) {
+        when(jdbcTemplate.queryForList(contains("FROM schema_backfills"), eq(Long.class),
+                eq(ExerciseSimilarityRebuilder.BACKFILL), eq(tier.relation()))).thenReturn(first, rest);
+    }
+}
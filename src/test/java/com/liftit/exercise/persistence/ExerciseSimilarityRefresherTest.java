@@ -0,0 +1,67 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.job.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ExerciseSimilarityRefresherTest {
+
+    private static final int TOP_K = 20;
+
+    private JdbcTemplate jdbcTemplate;
+    private ExerciseSimilarityRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        refresher = new ExerciseSimilarityRefresher(jdbcTemplate, TOP_K);
+    }
+
+    @Test
+    void shouldRefreshOneExercise() {
+        // When
+        refresher.run(job(ExerciseSimilarityRefresher.refreshPayload(7L)));
+
+        // Then
+        verify(jdbcTemplate).queryForObject("SELECT refresh_exercise_similarity(?, ?)", Integer.class, 7L, TOP_K);
+    }
+
+    @Test
+    void shouldRecomputeListedExercises() {
+        // Given
+        String payload = ExerciseSimilarityRefresher.recomputePayload(List.of(3L, 5L));
+
+        // When
+        refresher.run(job(payload));
+
+        // Then
+        assertEquals("recompute:3,5", payload);
+        verify(jdbcTemplate).queryForObject("SELECT refresh_exercise_similarities(?, ?)", Integer.class,
+                new Long[] {3L, 5L}, TOP_K);
+    }
+
+    @Test
+    void shouldRejectUnknownPayload() {
+        assertThrows(IllegalArgumentException.class, () -> refresher.run(job("rebuild")));
+    }
+
+    @Test
+    void shouldRejectTopKBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> new ExerciseSimilarityRefresher(jdbcTemplate, 0));
+    }
+
+    // --- helpers ---
+
+    private static Job job(String payload) {
+        return new Job(1L, ExerciseSimilarityRefresher.QUEUE, payload, 1, Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
@@ -2,6 +2,7 @@ package com.liftit.exercise.persistence;
 
 import com.liftit.exercise.Exercise;
 import com.liftit.exercise.ExerciseCategoryEnum;
+import com.liftit.exercise.ExerciseFacets;
 import com.liftit.exercise.ExerciseFilter;
 import com.liftit.muscle.MuscleEnum;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -142,6 +144,34 @@ class JpaExerciseRepositoryTest {
         verify(springDataRepository).findAll(any(Specification.class), any(PageRequest.class));
     }
 
+    @Test
+    void shouldCountFacetsOverWholeCatalogWhenNoSearch() {
+        // Given
+        when(springDataRepository.countFacetGroups())
+                .thenReturn(List.of(new Group(CATEGORY.getCategoryId(), MuscleMasks.of(MUSCLE_GROUPS), 4L)));
+
+        // When
+        ExerciseFacets result = repository.countFacets(ExerciseFilter.empty());
+
+        // Then
+        assertEquals(4, result.total());
+        assertEquals(4L, result.muscleGroups().get(MuscleEnum.THIGHS));
+        verify(springDataRepository, never()).countFacetGroupsByNameLike(any());
+    }
+
+    @Test
+    void shouldCountFacetsWithNamePatternWhenSearching() {
+        // Given
+        when(springDataRepository.countFacetGroupsByNameLike("%squat%")).thenReturn(List.of());
+
+        // When
+        ExerciseFacets result = repository.countFacets(new ExerciseFilter(null, null, null, "Squat"));
+
+        // Then
+        assertEquals(0, result.total());
+        verify(springDataRepository, never()).countFacetGroups();
+    }
+
     @Test
     void shouldDeleteExerciseById() {
         // When
@@ -150,4 +180,10 @@ class JpaExerciseRepositoryTest {
         // Then
         verify(springDataRepository).deleteById(ID);
     }
+
+    // --- helpers ---
+
+    private record Group(Long getCategoryId, Long getMuscleMask, Long getExercises)
+            implements ExerciseJpaRepository.FacetGroup {
+    }
 }
@@ -0,0 +1,119 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.exercise.Exercise;
+import com.liftit.exercise.ExerciseCategoryEnum;
+import com.liftit.exercise.SimilarExercise;
+import com.liftit.job.JobQueue;
+import com.liftit.job.exception.JobQueueFullException;
+import com.liftit.muscle.MuscleEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JpaExerciseSimilarityIndexTest {
+
+    private static final int TOP_K = 5;
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private JobQueue jobQueue;
+    private ExerciseJpaRepository exerciseRepository;
+    private JpaExerciseSimilarityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        jobQueue = mock(JobQueue.class);
+        exerciseRepository = mock(ExerciseJpaRepository.class);
+        index = new JpaExerciseSimilarityIndex(jdbcTemplate, jobQueue, exerciseRepository, TOP_K);
+    }
+
+    @Test
+    void shouldReturnSimilarExercisesInScoreOrder() {
+        // Given
+        doReturn(List.of(new JpaExerciseSimilarityIndex.Entry(3L, 0.8), new JpaExerciseSimilarityIndex.Entry(2L, 0.5)))
+                .when(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(1L), eq(TOP_K));
+        when(exerciseRepository.findAllById(List.of(3L, 2L)))
+                .thenReturn(List.of(entity(2L, "Cable Fly"), entity(3L, "Dumbbell Press")));
+
+        // When
+        List<SimilarExercise> similar = index.findSimilar(1L, 10);
+
+        // Then — the limit is capped at top-k, database order is kept
+        assertEquals(List.of("Dumbbell Press", "Cable Fly"),
+                similar.stream().map(s -> s.exercise().name()).toList());
+        assertEquals(0.8, similar.getFirst().score());
+    }
+
+    @Test
+    void shouldQueueRefreshDeduplicatedPerExercise() {
+        // When
+        index.refresh(7L);
+
+        // Then — no catalog scan in the write itself
+        verify(jobQueue).enqueue(eq(ExerciseSimilarityRefresher.QUEUE), eq("refresh:7"), any(Instant.class),
+                eq("refresh:7"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldNotFailWriteWhenQueueingFails() {
+        // Given
+        when(jobQueue.enqueue(anyString(), anyString(), any(Instant.class), anyString()))
+                .thenThrow(new JobQueueFullException(ExerciseSimilarityRefresher.QUEUE));
+
+        // When / Then
+        assertDoesNotThrow(() -> index.refresh(7L));
+    }
+
+    @Test
+    void shouldQueueRecomputeOfDependentsInChunks() {
+        // Given
+        List<Long> dependents = LongStream.rangeClosed(1, ExerciseSimilarityRefresher.MAX_RECOMPUTE_IDS + 1)
+                .boxed()
+                .toList();
+
+        // When
+        index.recompute(dependents);
+
+        // Then
+        verify(jobQueue, times(2)).enqueue(eq(ExerciseSimilarityRefresher.QUEUE), startsWith("recompute:"));
+        verify(jobQueue).enqueue(ExerciseSimilarityRefresher.QUEUE,
+                "recompute:" + (ExerciseSimilarityRefresher.MAX_RECOMPUTE_IDS + 1));
+    }
+
+    @Test
+    void shouldSkipRecomputeWhenThereAreNoDependents() {
+        // When
+        index.recompute(Set.of());
+
+        // Then
+        verifyNoInteractions(jdbcTemplate, jobQueue);
+    }
+
+    // --- helpers ---
+
+    private static ExerciseJpaEntity entity(Long id, String name) {
+        return ExerciseJpaEntity.fromDomain(new Exercise(id, name, ExerciseCategoryEnum.STRENGTH,
+                Set.of(MuscleEnum.CHEST), NOW, 1L, NOW, 1L));
+    }
+}
@@ -0,0 +1,40 @@
+package com.liftit.exercise.persistence;
+
+import com.liftit.muscle.MuscleEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MuscleMasksTest {
+
+    @Test
+    void shouldSetBitIdMinusOneForEachMuscle() {
+        // Given — ABDOMINALS has id 1, TRICEPS id 10
+        Set<MuscleEnum> muscles = Set.of(MuscleEnum.ABDOMINALS, MuscleEnum.TRICEPS);
+
+        // When
+        long mask = MuscleMasks.of(muscles);
+
+        // Then
+        assertEquals(0b10_0000_0001L, mask);
+    }
+
+    @Test
+    void shouldRoundTripEveryMuscle() {
+        // Given
+        Set<MuscleEnum> all = EnumSet.allOf(MuscleEnum.class);
+
+        // When / Then
+        assertEquals(all, MuscleMasks.toMuscles(MuscleMasks.of(all)));
+    }
+
+    @Test
+    void shouldDecodeEmptyMaskToNoMuscles() {
+        assertTrue(MuscleMasks.toMuscles(0L).isEmpty());
+        assertEquals(0L, MuscleMasks.of(Set.of()));
+    }
+}
@@ -0,0 +1,134 @@
+package com.liftit.job;
+
+import com.liftit.job.exception.JobQueueFullException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultJobQueueTest {
+
+    private static final String QUEUE = "test.queue";
+    private static final Instant RUN_AT = Instant.parse("2026-03-01T10:00:00Z");
+
+    private JdbcJobStore store;
+    private DefaultJobQueue jobQueue;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(JdbcJobStore.class);
+        jobQueue = new DefaultJobQueue(store, handlers(new TestHandler()));
+    }
+
+    // --- enqueue ---
+
+    @Test
+    void shouldEnqueueWithHandlersAttemptLimit() {
+        // Given
+        when(store.insert(eq(QUEUE), eq("42"), eq(RUN_AT), eq("user-42"), eq(3))).thenReturn(Optional.of(7L));
+
+        // When
+        Optional<Long> id = jobQueue.enqueue(QUEUE, "42", RUN_AT, "user-42");
+
+        // Then
+        assertEquals(Optional.of(7L), id);
+    }
+
+    @Test
+    void shouldEnqueueImmediateJobWithoutDedupeKey() {
+        // Given
+        when(store.insert(eq(QUEUE), eq("42"), any(), isNull(), eq(3))).thenReturn(Optional.of(8L));
+
+        // When
+        long id = jobQueue.enqueue(QUEUE, "42");
+
+        // Then
+        assertEquals(8L, id);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenDeduplicated() {
+        // Given
+        when(store.insert(any(), any(), any(), any(), anyInt())).thenReturn(Optional.empty());
+
+        // When / Then
+        assertTrue(jobQueue.enqueue(QUEUE, null, RUN_AT, "user-42").isEmpty());
+    }
+
+    // --- backpressure ---
+
+    @Test
+    void shouldRejectWhenQueueIsFull() {
+        // Given
+        when(store.countQueued(QUEUE, 2)).thenReturn(2);
+
+        // When / Then
+        assertThrows(JobQueueFullException.class, () -> jobQueue.enqueue(QUEUE, "42"));
+        verify(store, never()).insert(any(), any(), any(), any(), anyInt());
+    }
+
+    // --- validation ---
+
+    @Test
+    void shouldRejectUnknownQueue() {
+        assertThrows(IllegalArgumentException.class, () -> jobQueue.enqueue("nope", null));
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> jobQueue.enqueue(QUEUE, null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> jobQueue.enqueue(QUEUE, "x".repeat(1001)));
+        assertThrows(IllegalArgumentException.class, () -> jobQueue.enqueue(QUEUE, null, RUN_AT, " "));
+    }
+
+    @Test
+    void shouldRejectTwoHandlersForOneQueue() {
+        assertThrows(IllegalArgumentException.class, () -> handlers(new TestHandler(), new TestHandler()));
+    }
+
+    // --- helpers ---
+
+    @SuppressWarnings("unchecked")
+    static JobHandlers handlers(JobHandler... handlers) {
+        ObjectProvider<JobHandler> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(handlers));
+        return new JobHandlers(provider);
+    }
+
+    private static final class TestHandler implements JobHandler {
+
+        @Override
+        public String queue() {
+            return QUEUE;
+        }
+
+        @Override
+        public void run(Job job) {
+        }
+
+        @Override
+        public int maxAttempts() {
+            return 3;
+        }
+
+        @Override
+        public int maxQueued() {
+            return 2;
+        }
+    }
+}
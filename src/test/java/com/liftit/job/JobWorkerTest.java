@@ -0,0 +1,239 @@
+package com.liftit.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static com.liftit.job.DefaultJobQueueTest.handlers;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JobWorkerTest {
+
+    private static final String QUEUE = "test.queue";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Instant RUN_AT = Instant.parse("2026-03-01T10:00:00Z");
+
+    private JdbcJobStore store;
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private JobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(JdbcJobStore.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (worker != null) {
+            worker.shutdown();
+        }
+    }
+
+    // --- claiming ---
+
+    @Test
+    void shouldRunClaimedJobsAndMarkThemSucceeded() {
+        // Given
+        worker = worker(handler(job -> { }, null), 4);
+        when(store.claim(eq(QUEUE), eq(4), eq(2), anyString(), any())).thenReturn(List.of(job(1, 1), job(2, 1)));
+
+        // When
+        int started = worker.claimAndRun();
+
+        // Then
+        assertEquals(2, started);
+        verify(store).lockQueue(QUEUE);
+        verify(store, timeout(1_000)).complete(eq(1L), anyString());
+        verify(store, timeout(1_000)).complete(eq(2L), anyString());
+    }
+
+    @Test
+    void shouldNotClaimWithoutFreeSlots() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        worker = worker(handler(job -> release.await(), null), 1);
+        when(store.claim(eq(QUEUE), eq(1), eq(2), anyString(), any())).thenReturn(List.of(job(1, 1)));
+        worker.claimAndRun();
+
+        // When
+        int started = worker.claimAndRun();
+
+        // Then
+        assertEquals(0, started);
+        assertEquals(1, worker.inFlight());
+        verify(store, times(1)).claim(any(), anyInt(), anyInt(), any(), any());
+        release.countDown();
+        verify(store, timeout(1_000)).complete(eq(1L), anyString());
+    }
+
+    // --- failures ---
+
+    @Test
+    void shouldRetryFailedJobWithBackoff() {
+        // Given
+        worker = worker(handler(job -> {
+            throw new IllegalStateException("boom");
+        }, null), 4);
+        when(store.claim(eq(QUEUE), anyInt(), anyInt(), anyString(), any())).thenReturn(List.of(job(1, 1)));
+        Instant before = Instant.now();
+
+        // When
+        worker.claimAndRun();
+
+        // Then
+        verify(store, timeout(1_000)).fail(eq(1L), anyString(), contains("boom"),
+                argThat(retryAt -> retryAt.isAfter(before)), eq(false));
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        worker = worker(handler(job -> {
+            throw new IllegalStateException("still broken");
+        }, null), 4);
+        when(store.claim(eq(QUEUE), anyInt(), anyInt(), anyString(), any())).thenReturn(List.of(job(1, MAX_ATTEMPTS)));
+
+        // When
+        worker.claimAndRun();
+
+        // Then
+        verify(store, timeout(1_000)).fail(eq(1L), anyString(), contains("still broken"), any(), eq(true));
+    }
+
+    // --- recurring jobs and leases ---
+
+    @Test
+    void shouldKeepOnePendingRunOfRecurringHandlers() {
+        // Given
+        worker = worker(handler(job -> { }, "0 0 * * * *"), 4);
+
+        // When
+        worker.heartbeat();
+
+        // Then
+        verify(store).insert(eq(QUEUE), isNull(), argThat(next -> next.isAfter(Instant.now())),
+                eq(JobWorker.RECURRING_DEDUPE_KEY), eq(MAX_ATTEMPTS));
+    }
+
+    @Test
+    void shouldScheduleNextRunWhenRecurringJobFinishes() {
+        // Given
+        worker = worker(handler(job -> { }, "0 0 * * * *"), 4);
+        when(store.claim(eq(QUEUE), anyInt(), anyInt(), anyString(), any())).thenReturn(List.of(job(1, 1)));
+
+        // When
+        worker.claimAndRun();
+
+        // Then
+        verify(store, timeout(1_000)).insert(eq(QUEUE), isNull(), any(), eq(JobWorker.RECURRING_DEDUPE_KEY),
+                eq(MAX_ATTEMPTS));
+    }
+
+    @Test
+    void shouldReleaseRunningJobsOnShutdown() {
+        // Given
+        worker = worker(handler(job -> { }, null), 4);
+
+        // When
+        worker.shutdown();
+
+        // Then
+        verify(store).release(anyString());
+        assertEquals(0, worker.claimAndRun());
+    }
+
+    @Test
+    void shouldNeitherPollNorScheduleWhenPollingIsDisabled() {
+        // Given
+        worker = new JobWorker(store, handlers(handler(job -> { }, "0 0 * * * *")), transactionTemplate,
+                meterRegistry, false, 4, 60_000, 1_000);
+
+        // When
+        worker.poll();
+        worker.heartbeat();
+
+        // Then
+        verifyNoInteractions(store);
+    }
+
+    // --- configuration ---
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        JobHandlers handlers = handlers(handler(job -> { }, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new JobWorker(store, handlers, transactionTemplate, meterRegistry, true, 0, 1_000, 1_000));
+        assertThrows(IllegalArgumentException.class,
+                () -> new JobWorker(store, handlers, transactionTemplate, meterRegistry, true, 4, 0, 1_000));
+    }
+
+    // --- helpers ---
+
+    private JobWorker worker(JobHandler handler, int maxConcurrent) {
+        return new JobWorker(store, handlers(handler), transactionTemplate, meterRegistry, true, maxConcurrent,
+                60_000, 1_000);
+    }
+
+    private static Job job(long id, int attempt) {
+        return new Job(id, QUEUE, null, attempt, RUN_AT);
+    }
+
+    private interface Body {
+        void run(Job job) throws Exception;
+    }
+
+    private static JobHandler handler(Body body, String cron) {
+        return new JobHandler() {
+            @Override
+            public String queue() {
+                return QUEUE;
+            }
+
+            @Override
+            public void run(Job job) throws Exception {
+                body.run(job);
+            }
+
+            @Override
+            public int concurrency() {
+                return 2;
+            }
+
+            @Override
+            public int maxAttempts() {
+                return MAX_ATTEMPTS;
+            }
+
+            @Override
+            public String cron() {
+                return cron;
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.liftit.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class JdbcOutboxTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        outbox = new JdbcOutbox(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void shouldAppendInsideTransaction() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        outbox.append("workout.started", 100L, 1L);
+
+        // Then
+        verify(jdbcTemplate).update(anyString(), eq("workout.started"), eq(100L), eq(1L));
+    }
+
+    @Test
+    void shouldSerialiseAppendsOfOneUserBeforeInserting() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        outbox.append("workout.started", 100L, 1L);
+
+        // Then — the per-user lock is taken first and held until commit
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).queryForObject(contains("pg_advisory_xact_lock"), eq(Boolean.class),
+                anyInt(), eq(100L));
+        inOrder.verify(jdbcTemplate).update(contains("INSERT INTO outbox_events"), eq("workout.started"),
+                eq(100L), eq(1L));
+    }
+
+    @Test
+    void shouldRefuseToAppendOutsideTransaction() {
+        assertThrows(IllegalStateException.class, () -> outbox.append("workout.started", 100L, 1L));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void shouldRejectBlankType() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> outbox.append(" ", 100L, 1L));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
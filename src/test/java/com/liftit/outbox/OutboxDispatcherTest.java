@@ -0,0 +1,206 @@
+package com.liftit.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Instant CREATED = Instant.parse("2026-01-01T10:00:00Z");
+
+    private JdbcOutbox outbox;
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private final Map<Long, List<Long>> handledByUser = new ConcurrentHashMap<>();
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outbox = mock(JdbcOutbox.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    // --- delivery ---
+
+    @Test
+    void shouldDeliverEventsAndMarkThemDispatched() {
+        // Given
+        dispatcher = dispatcher(recording(), 1_000);
+        when(outbox.lockBatch(BATCH_SIZE)).thenReturn(List.of(event(1, 100L, 0), event(2, 200L, 0)));
+
+        // When
+        int delivered = dispatcher.dispatchPending();
+
+        // Then
+        assertEquals(2, delivered);
+        verify(outbox).markDispatched(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2));
+        verify(outbox, never()).markFailed(anyLong(), any(), any(), anyBoolean());
+        assertEquals(2.0, meterRegistry.counter("liftit.outbox.dispatched").count());
+        assertEquals(2, meterRegistry.timer("liftit.outbox.lag").count());
+    }
+
+    @Test
+    void shouldDeliverEachUsersEventsInOrder() {
+        // Given
+        dispatcher = dispatcher(recording(), 1_000);
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 1; i <= BATCH_SIZE - 1; i++) {
+            events.add(event(i, 100L + i % 3, 0));
+        }
+        when(outbox.lockBatch(BATCH_SIZE)).thenReturn(events);
+
+        // When
+        dispatcher.dispatchPending();
+
+        // Then
+        assertEquals(List.of(3L, 6L, 9L), handledByUser.get(100L));
+        assertEquals(List.of(1L, 4L, 7L), handledByUser.get(101L));
+        assertEquals(List.of(2L, 5L, 8L), handledByUser.get(102L));
+    }
+
+    @Test
+    void shouldKeepDispatchingFullBatchesUpToTheLimit() {
+        // Given
+        dispatcher = dispatcher(recording(), 1_000);
+        List<OutboxEvent> full = new ArrayList<>();
+        for (int i = 1; i <= BATCH_SIZE; i++) {
+            full.add(event(i, 100L, 0));
+        }
+        when(outbox.lockBatch(BATCH_SIZE)).thenReturn(full, List.of(event(11, 100L, 0)));
+
+        // When
+        int delivered = dispatcher.dispatchPending();
+
+        // Then
+        assertEquals(BATCH_SIZE + 1, delivered);
+        verify(outbox, times(2)).lockBatch(BATCH_SIZE);
+    }
+
+    // --- failures ---
+
+    @Test
+    void shouldStopUsersLaneAtFirstFailureAndScheduleRetry() {
+        // Given
+        dispatcher = dispatcher(event -> {
+            if (event.id() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            handledByUser.computeIfAbsent(event.userId(), id -> new ArrayList<>()).add(event.id());
+        }, 1_000);
+        when(outbox.lockBatch(BATCH_SIZE)).thenReturn(List.of(event(1, 100L, 0), event(2, 100L, 0), event(3, 200L, 0)));
+
+        // When
+        dispatcher.dispatchPending();
+
+        // Then
+        verify(outbox).markDispatched(List.of(3L));
+        verify(outbox).markFailed(eq(1L), argThat(retryAt -> retryAt.isAfter(Instant.now().minusSeconds(1))),
+                contains("boom"), eq(false));
+        assertFalse(handledByUser.containsKey(100L));
+        assertEquals(1.0, meterRegistry.counter("liftit.outbox.retried").count());
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        // Given
+        dispatcher = dispatcher(event -> {
+            throw new IllegalStateException("still broken");
+        }, 1_000);
+        when(outbox.lockBatch(BATCH_SIZE)).thenReturn(List.of(event(1, 100L, MAX_ATTEMPTS - 1)));
+
+        // When
+        dispatcher.dispatchPending();
+
+        // Then
+        verify(outbox).markFailed(eq(1L), any(), contains("still broken"), eq(true));
+        assertEquals(1.0, meterRegistry.counter("liftit.outbox.dead").count());
+    }
+
+    @Test
+    void shouldFailEventWhenConsumerTimesOut() {
+        // Given
+        dispatcher = dispatcher(event -> Thread.sleep(5_000), 50);
+        when(outbox.lockBatch(BATCH_SIZE)).thenReturn(List.of(event(1, 100L, 0)));
+
+        // When
+        int delivered = dispatcher.dispatchPending();
+
+        // Then
+        assertEquals(0, delivered);
+        verify(outbox).markFailed(eq(1L), any(), contains("Timed out"), eq(false));
+    }
+
+    // --- configuration ---
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new OutboxDispatcher(outbox, consumers(recording()),
+                transactionTemplate, meterRegistry, true, 0, 5, MAX_ATTEMPTS, 1_000, 1_000));
+        assertThrows(IllegalArgumentException.class, () -> new OutboxDispatcher(outbox, consumers(recording()),
+                transactionTemplate, meterRegistry, true, BATCH_SIZE, 5, 0, 1_000, 1_000));
+        assertThrows(IllegalArgumentException.class, () -> new OutboxDispatcher(outbox, consumers(recording()),
+                transactionTemplate, meterRegistry, true, BATCH_SIZE, 5, MAX_ATTEMPTS, 1_000, 0));
+    }
+
+    // --- helpers ---
+
+    private OutboxDispatcher dispatcher(OutboxConsumer consumer, long timeoutMs) {
+        when(outbox.oldestPending()).thenReturn(Optional.empty());
+        return new OutboxDispatcher(outbox, consumers(consumer), transactionTemplate, meterRegistry,
+                true, BATCH_SIZE, 5, MAX_ATTEMPTS, 1_000, timeoutMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<OutboxConsumer> consumers(OutboxConsumer consumer) {
+        ObjectProvider<OutboxConsumer> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(consumer));
+        return provider;
+    }
+
+    private OutboxConsumer recording() {
+        return event -> handledByUser.computeIfAbsent(event.userId(), id -> new ArrayList<>()).add(event.id());
+    }
+
+    private static OutboxEvent event(long id, Long userId, int attempts) {
+        return new OutboxEvent(id, "workout.completed", userId, id * 10, attempts, CREATED);
+    }
+}
@@ -0,0 +1,113 @@
+package com.liftit.profiling;
+
+import com.liftit.profiling.exception.ProfilingInProgressException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultProfilingServiceTest {
+
+    // --- configuration ---
+
+    @Test
+    void shouldRejectMaxSecondsBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> new DefaultProfilingService(0));
+    }
+
+    // --- record ---
+
+    @Test
+    void shouldRejectDurationBelowOneSecond() {
+        DefaultProfilingService service = new DefaultProfilingService(60);
+        assertThrows(IllegalArgumentException.class, () -> service.record(Duration.ofMillis(500)));
+        assertThrows(IllegalArgumentException.class, () -> service.record(null));
+    }
+
+    @Test
+    void shouldRejectDurationAboveMaximum() {
+        DefaultProfilingService service = new DefaultProfilingService(60);
+        assertThrows(IllegalArgumentException.class, () -> service.record(Duration.ofSeconds(61)));
+    }
+
+    @Test
+    void shouldRefuseSecondRecordingWhileOneIsRunning() throws Exception {
+        // Given
+        DefaultProfilingService service = new DefaultProfilingService(60);
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Path> first = executor.submit(() -> service.record(Duration.ofSeconds(2)));
+            Thread.sleep(500);
+
+            // When / Then
+            assertThrows(ProfilingInProgressException.class, () -> service.record(Duration.ofSeconds(1)));
+            Files.deleteIfExists(first.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void shouldRecordAgainAfterPreviousRecordingFinished() throws Exception {
+        // Given
+        DefaultProfilingService service = new DefaultProfilingService(60);
+        Files.deleteIfExists(service.record(Duration.ofSeconds(1)));
+
+        // When
+        Path recording = service.record(Duration.ofSeconds(1));
+
+        // Then
+        try {
+            assertTrue(Files.size(recording) > 0);
+        } finally {
+            Files.deleteIfExists(recording);
+        }
+    }
+
+    // --- collapsedStacks ---
+
+    @Test
+    void shouldCollapseExecutionSamplesRootFirst() throws Exception {
+        // Given
+        DefaultProfilingService service = new DefaultProfilingService(60);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread busy = Thread.ofPlatform().start(() -> {
+            started.countDown();
+            spin(running);
+        });
+        started.await();
+        Path recording = service.record(Duration.ofSeconds(1));
+        running.set(false);
+        busy.join();
+
+        // When
+        String stacks;
+        try {
+            stacks = service.collapsedStacks(recording);
+        } finally {
+            Files.deleteIfExists(recording);
+        }
+
+        // Then
+        String spinFrame = DefaultProfilingServiceTest.class.getName() + ".spin";
+        String line = stacks.lines().filter(stack -> stack.contains(spinFrame)).findFirst().orElseThrow();
+        assertTrue(line.matches(".+ \\d+"), line);
+        assertTrue(line.indexOf("java.lang.Thread.run") < line.indexOf(spinFrame), line);
+    }
+
+    private static long spin(AtomicBoolean running) {
+        long sum = 0;
+        while (running.get()) {
+            sum += System.nanoTime() % 7;
+        }
+        return sum;
+    }
+}
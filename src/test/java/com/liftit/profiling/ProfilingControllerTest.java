@@ -0,0 +1,114 @@
+package com.liftit.profiling;
+
+import com.liftit.GlobalExceptionHandler;
+import com.liftit.profiling.exception.ProfilingInProgressException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProfilingControllerTest {
+
+    private MockMvc mockMvc;
+    private ProfilingService profilingService;
+
+    @BeforeEach
+    void setUp() {
+        profilingService = mock(ProfilingService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ProfilingController(profilingService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    // --- POST /api/v1/admin/profiling/recording ---
+
+    @Test
+    void shouldStreamRecordingAsAttachmentAndDeleteIt() throws Exception {
+        // Given
+        Path recording = Files.createTempFile("liftit-profile-", ".jfr");
+        Files.write(recording, new byte[] {1, 2, 3});
+        when(profilingService.record(Duration.ofSeconds(10))).thenReturn(recording);
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/v1/admin/profiling/recording").param("seconds", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"" + recording.getFileName() + "\""))
+                .andExpect(content().contentType("application/octet-stream"))
+                .andExpect(content().bytes(new byte[] {1, 2, 3}));
+        assertFalse(Files.exists(recording));
+    }
+
+    @Test
+    void shouldRecordThirtySecondsByDefault() throws Exception {
+        // Given
+        Path recording = Files.createTempFile("liftit-profile-", ".jfr");
+        when(profilingService.record(Duration.ofSeconds(30))).thenReturn(recording);
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/v1/admin/profiling/recording")).andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        // Then
+        verify(profilingService).record(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void shouldReturn409WhenRecordingIsInProgress() throws Exception {
+        // Given
+        when(profilingService.record(Duration.ofSeconds(30))).thenThrow(new ProfilingInProgressException());
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/admin/profiling/recording"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldReturn400ForDurationOutOfRange() throws Exception {
+        // Given
+        when(profilingService.record(Duration.ofSeconds(0)))
+                .thenThrow(new IllegalArgumentException("duration must be between 1 and 120 seconds"));
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/admin/profiling/recording").param("seconds", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // --- POST /api/v1/admin/profiling/flame-graph ---
+
+    @Test
+    void shouldReturnCollapsedStacksAsTextAndDeleteRecording() throws Exception {
+        // Given
+        Path recording = Files.createTempFile("liftit-profile-", ".jfr");
+        when(profilingService.record(Duration.ofSeconds(5))).thenReturn(recording);
+        when(profilingService.collapsedStacks(recording)).thenReturn("java.lang.Thread.run;com.liftit.A.b 3\n");
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/admin/profiling/flame-graph").param("seconds", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/plain"))
+                .andExpect(content().string("java.lang.Thread.run;com.liftit.A.b 3\n"));
+        assertFalse(Files.exists(recording));
+    }
+}
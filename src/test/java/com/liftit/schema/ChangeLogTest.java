@@ -0,0 +1,79 @@
+package com.liftit.schema;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChangeLogTest {
+
+    private static final String TEST_MASTER = "classpath:db/schema-test/master.xml";
+
+    @Test
+    void shouldReadChangesetsInIncludeOrder() {
+        // Given
+        ChangeLog changeLog = ChangeLog.load(TEST_MASTER);
+
+        // When
+        List<ChangeSetId> expected = changeLog.expected(Set.of());
+
+        // Then
+        assertThat(expected).containsExactly(
+                new ChangeSetId("liftit", "create-a"),
+                new ChangeSetId("liftit", "expand-b"),
+                new ChangeSetId("liftit", "contract-b"));
+    }
+
+    @Test
+    void shouldSkipChangesetsOfInactiveContexts() {
+        // Given
+        ChangeLog changeLog = ChangeLog.load(TEST_MASTER);
+
+        // When
+        List<ChangeSetId> expected = changeLog.expected(Set.of("expand"));
+
+        // Then
+        assertThat(expected).containsExactly(
+                new ChangeSetId("liftit", "create-a"),
+                new ChangeSetId("liftit", "expand-b"));
+    }
+
+    @Test
+    void shouldIncludeChangesetsOfActiveContexts() {
+        // Given
+        ChangeLog changeLog = ChangeLog.load(TEST_MASTER);
+
+        // When
+        List<ChangeSetId> expected = changeLog.expected(Set.of("contract"));
+
+        // Then
+        assertThat(expected).contains(new ChangeSetId("liftit", "contract-b"));
+    }
+
+    @Test
+    void shouldReadTheApplicationChangelog() {
+        // Given / When
+        List<ChangeSetId> expected =
+                ChangeLog.load("classpath:db/changelog/db.changelog-master.xml").expected(Set.of());
+
+        // Then
+        assertThat(expected)
+                .startsWith(new ChangeSetId("liftit", "create-users-table"))
+                .contains(new ChangeSetId("liftit", "create-workout-sets-table"))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldThrowWhenChangelogIsMissing() {
+        assertThrows(IllegalStateException.class, () -> ChangeLog.load("classpath:db/missing.xml"));
+    }
+
+    @Test
+    void shouldRejectBlankChangeSetParts() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeSetId(" ", "id"));
+        assertThrows(IllegalArgumentException.class, () -> new ChangeSetId("liftit", ""));
+    }
+}
@@ -0,0 +1,118 @@
+package com.liftit.schema;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaFingerprintVerifierTest {
+
+    private static final String TEST_MASTER = "classpath:db/schema-test/master.xml";
+    private static final ChangeSetId CREATE_A = new ChangeSetId("liftit", "create-a");
+    private static final ChangeSetId EXPAND_B = new ChangeSetId("liftit", "expand-b");
+    private static final ChangeSetId CONTRACT_B = new ChangeSetId("liftit", "contract-b");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SchemaFingerprintVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = verifier("");
+    }
+
+    @Test
+    void shouldPassWhenAllExpectedChangesetsAreApplied() {
+        // Given
+        givenApplied(CREATE_A, EXPAND_B, CONTRACT_B);
+
+        // When / Then
+        assertDoesNotThrow(verifier::afterPropertiesSet);
+    }
+
+    @Test
+    void shouldCheckTheSchemaInASingleQuery() {
+        // Given
+        givenApplied(CREATE_A, EXPAND_B, CONTRACT_B);
+
+        // When
+        verifier.afterPropertiesSet();
+
+        // Then
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class));
+    }
+
+    @Test
+    void shouldThrowWhenAChangesetIsMissing() {
+        // Given
+        givenApplied(CREATE_A, EXPAND_B);
+
+        // When
+        IllegalStateException e = assertThrows(IllegalStateException.class, verifier::afterPropertiesSet);
+
+        // Then
+        assertThat(e.getMessage()).contains("liftit:contract-b").contains("SPRING_PROFILES_ACTIVE=migrate");
+    }
+
+    @Test
+    void shouldTolerateChangesetsUnknownToThisBuild() {
+        // Given — a newer build has already migrated the database
+        givenApplied(CREATE_A, EXPAND_B, CONTRACT_B, new ChangeSetId("liftit", "from-next-release"));
+
+        // When / Then
+        assertDoesNotThrow(verifier::afterPropertiesSet);
+    }
+
+    @Test
+    void shouldNotExpectChangesetsOfInactiveContexts() {
+        // Given — only the expand phase has been applied
+        verifier = verifier("expand");
+        givenApplied(CREATE_A, EXPAND_B);
+
+        // When / Then
+        assertDoesNotThrow(verifier::afterPropertiesSet);
+    }
+
+    @Test
+    void shouldThrowWhenTheDatabaseHasNeverBeenMigrated() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenThrow(
+                new BadSqlGrammarException("query", "SELECT", new SQLException("relation does not exist")));
+
+        // When
+        IllegalStateException e = assertThrows(IllegalStateException.class, verifier::afterPropertiesSet);
+
+        // Then
+        assertThat(e.getMessage()).contains("SPRING_PROFILES_ACTIVE=migrate");
+    }
+
+    // --- helpers ---
+
+    private SchemaFingerprintVerifier verifier(String contexts) {
+        return new SchemaFingerprintVerifier(jdbcTemplate, ApplicationStartup.DEFAULT, TEST_MASTER, contexts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenApplied(ChangeSetId... applied) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(List.of(applied));
+    }
+}
@@ -0,0 +1,67 @@
+package com.liftit.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileSpanExporterTest {
+
+    private static final ObjectMapper JSON = JsonMapper.builder().build();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRejectNullFile() {
+        assertThrows(IllegalArgumentException.class, () -> new FileSpanExporter(null));
+    }
+
+    @Test
+    void shouldAppendOneJsonLinePerSpan() throws Exception {
+        // Given
+        Path file = tempDir.resolve("traces/spans.jsonl");
+        InMemorySpanExporter inMemory = InMemorySpanExporter.create();
+        try (SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(file)))
+                .addSpanProcessor(SimpleSpanProcessor.create(inMemory))
+                .build()) {
+            Tracer tracer = provider.get("test");
+
+            // When
+            Span request = tracer.spanBuilder("http get /api/v1/workouts/{id}")
+                    .setAttribute("enduser.id", "auth0|abc123")
+                    .startSpan();
+            try (Scope scope = request.makeCurrent()) {
+                tracer.spanBuilder("jdbc select").setAttribute("db.statement.count", 1L).startSpan().end();
+            } finally {
+                request.end();
+            }
+        }
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(inMemory.getFinishedSpanItems().size(), lines.size());
+        JsonNode child = JSON.readTree(lines.get(0));
+        JsonNode parent = JSON.readTree(lines.get(1));
+        assertEquals("jdbc select", child.path("name").asString());
+        assertEquals(parent.path("spanId").asString(), child.path("parentSpanId").asString());
+        assertEquals(parent.path("traceId").asString(), child.path("traceId").asString());
+        assertEquals("auth0|abc123", parent.path("attributes").path("enduser.id").asString());
+        assertEquals(1, child.path("attributes").path("db.statement.count").asInt());
+    }
+}
@@ -0,0 +1,105 @@
+package com.liftit.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.assertThat;
+
+class HandlerTracingTest {
+
+    static class SampleController {
+        public String show() {
+            return "ok";
+        }
+    }
+
+    private TestObservationRegistry registry;
+    private HandlerTracing handlerTracing;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = TestObservationRegistry.create();
+        handlerTracing = new HandlerTracing(registry);
+        request = new MockHttpServletRequest("GET", "/api/v1/sample");
+        response = new MockHttpServletResponse();
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("show"));
+    }
+
+    @Test
+    void shouldSplitHandlerAndSerialization() {
+        // When
+        Observation.createNotStarted("http.server.requests", registry).observe(() -> {
+            handlerTracing.preHandle(request, response, handler);
+            handlerTracing.beforeBodyWrite("ok", null, MediaType.APPLICATION_JSON, StringHttpMessageConverter.class,
+                    new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+            handlerTracing.afterCompletion(request, response, handler, null);
+        });
+
+        // Then
+        assertThat(registry)
+                .hasObservationWithNameEqualTo(HandlerTracing.CONTROLLER_OBSERVATION)
+                .that()
+                .hasContextualNameEqualTo("SampleController.show")
+                .hasHighCardinalityKeyValue(StatementCounter.COUNT_KEY, "0")
+                .hasBeenStopped();
+        assertThat(registry)
+                .hasObservationWithNameEqualTo(HandlerTracing.SERIALIZATION_OBSERVATION)
+                .that()
+                .hasContextualNameEqualTo("serialize json")
+                .hasBeenStopped();
+    }
+
+    @Test
+    void shouldStopHandlerWithErrorWhenNoBodyIsWritten() {
+        // When
+        Observation.createNotStarted("http.server.requests", registry).observe(() -> {
+            handlerTracing.preHandle(request, response, handler);
+            handlerTracing.afterCompletion(request, response, handler, new IllegalStateException("boom"));
+        });
+
+        // Then
+        assertThat(registry)
+                .hasObservationWithNameEqualTo(HandlerTracing.CONTROLLER_OBSERVATION)
+                .that()
+                .hasError()
+                .hasBeenStopped();
+        assertThat(registry).doesNotHaveObservationWithNameEqualTo(HandlerTracing.SERIALIZATION_OBSERVATION);
+    }
+
+    @Test
+    void shouldStopHandlerWhenAsyncProcessingStarts() {
+        // When
+        Observation.createNotStarted("http.server.requests", registry).observe(() -> {
+            handlerTracing.preHandle(request, response, handler);
+            handlerTracing.afterConcurrentHandlingStarted(request, response, handler);
+        });
+
+        // Then
+        assertThat(registry)
+                .hasObservationWithNameEqualTo(HandlerTracing.CONTROLLER_OBSERVATION)
+                .that()
+                .hasBeenStopped();
+    }
+
+    @Test
+    void shouldNotObserveOutsideARequestObservation() {
+        // When
+        handlerTracing.preHandle(request, response, handler);
+        handlerTracing.afterCompletion(request, response, handler, null);
+
+        // Then
+        assertThat(registry).doesNotHaveAnyObservation();
+    }
+}
@@ -0,0 +1,257 @@
+package com.liftit.tracing;
+
+import com.liftit.muscle.Muscle;
+import com.liftit.muscle.MuscleRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.handler.TracingObservationHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TracingPostProcessorTest {
+
+    interface SampleService {
+        String greet(Long userId);
+    }
+
+    static class DefaultSampleService implements SampleService {
+        @Override
+        public String greet(Long userId) {
+            return "hello " + userId;
+        }
+    }
+
+    interface SampleRepository {
+        int countRows() throws SQLException;
+    }
+
+    private TestObservationRegistry registry;
+    private TracingPostProcessor postProcessor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        registry = TestObservationRegistry.create();
+        ObjectProvider<ObservationRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(registry);
+        postProcessor = new TracingPostProcessor(provider);
+    }
+
+    // --- services ---
+
+    @Test
+    void shouldObserveServiceCallWithUserId() {
+        // Given
+        SampleService service = (SampleService) postProcessor.postProcessAfterInitialization(
+                new DefaultSampleService(), "sampleService");
+
+        // When
+        String greeting = Observation.createNotStarted("request", registry).observe(() -> service.greet(7L));
+
+        // Then
+        assertEquals("hello 7", greeting);
+        assertThat(registry)
+                .hasObservationWithNameEqualTo(TracingPostProcessor.SERVICE_OBSERVATION)
+                .that()
+                .hasContextualNameEqualTo("SampleService.greet")
+                .hasLowCardinalityKeyValue("liftit.method", "greet")
+                .hasHighCardinalityKeyValue("liftit.user.id", "7")
+                .hasHighCardinalityKeyValue(StatementCounter.COUNT_KEY, "0")
+                .hasBeenStopped();
+    }
+
+    @Test
+    void shouldNotObserveServiceCallOutsideAnObservation() {
+        // Given
+        SampleService service = (SampleService) postProcessor.postProcessAfterInitialization(
+                new DefaultSampleService(), "sampleService");
+
+        // When
+        service.greet(7L);
+
+        // Then
+        assertThat(registry).doesNotHaveAnyObservation();
+    }
+
+    @Test
+    void shouldLeaveOtherBeansUnwrapped() {
+        // Given
+        Runnable bean = () -> { };
+
+        // When / Then
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "task"));
+        assertTrue(TracingPostProcessor.isService(DefaultSampleService.class));
+    }
+
+    // --- repositories and JDBC ---
+
+    @Test
+    void shouldTreatOnlyDomainRepositoryInterfacesAsPorts() throws Exception {
+        assertTrue(TracingPostProcessor.isPort(MuscleRepository.class));
+        assertFalse(TracingPostProcessor.isPort(Class.forName("com.liftit.muscle.persistence.MuscleJpaRepository")));
+        assertFalse(TracingPostProcessor.isPort(Runnable.class));
+    }
+
+    @Test
+    void shouldPassPortResultsThroughOutsideAnObservation() {
+        // Given
+        List<Muscle> muscles = List.of();
+        MuscleRepository adapter = () -> muscles;
+
+        // When
+        Object processed = postProcessor.postProcessAfterInitialization(adapter, "muscleRepository");
+
+        // Then — one proxy, no observation without a request
+        assertTrue(Proxy.isProxyClass(processed.getClass()));
+        assertSame(muscles, assertInstanceOf(MuscleRepository.class, processed).findAll());
+        assertThat(registry).doesNotHaveAnyObservation();
+    }
+
+    @Test
+    void shouldRethrowPortExceptionsUnwrapped() {
+        // Given
+        MuscleRepository adapter = () -> {
+            throw new IllegalStateException("database unavailable");
+        };
+        MuscleRepository repository =
+                (MuscleRepository) postProcessor.postProcessAfterInitialization(adapter, "muscleRepository");
+
+        // When / Then
+        assertThrows(IllegalStateException.class, repository::findAll);
+    }
+
+    @Test
+    void shouldCountStatementsIssuedByRepositoryCall() throws Exception {
+        // Given
+        DataSource dataSource = tracedDataSource();
+        SampleRepository adapter = () -> {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.prepareStatement("SELECT 1").executeQuery();
+                connection.prepareStatement("UPDATE users SET version = version + 1").executeUpdate();
+                return 2;
+            }
+        };
+        SampleRepository repository = (SampleRepository) postProcessor.postProcessAfterInitialization(
+                adapter, "sampleRepository");
+
+        // When
+        request(true).observeChecked(repository::countRows);
+
+        // Then
+        assertTrue(Proxy.isProxyClass(repository.getClass()));
+        assertThat(registry)
+                .hasObservationWithNameEqualTo(TracingPostProcessor.REPOSITORY_OBSERVATION)
+                .that()
+                .hasContextualNameEqualTo("SampleRepository.countRows")
+                .hasHighCardinalityKeyValue(StatementCounter.COUNT_KEY, "2");
+        assertThat(registry)
+                .hasNumberOfObservationsWithNameEqualTo(TracingDataSource.JDBC_OBSERVATION, 2)
+                .hasObservationWithNameEqualTo(TracingDataSource.JDBC_OBSERVATION)
+                .that()
+                .hasLowCardinalityKeyValue("db.operation", "select")
+                .hasHighCardinalityKeyValue("db.statement", "SELECT 1");
+    }
+
+    @Test
+    void shouldRecordFailedStatementAndRethrowUnwrapped() throws Exception {
+        // Given
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeUpdate()).thenThrow(new SQLException("deadlock detected"));
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+        DataSource dataSource = assertInstanceOf(TracingDataSource.class,
+                postProcessor.postProcessAfterInitialization(target, "dataSource"));
+
+        // When / Then
+        assertThrows(SQLException.class, () -> request(true).observeChecked(
+                () -> dataSource.getConnection().prepareStatement("DELETE FROM workouts").executeUpdate()));
+        assertThat(registry)
+                .hasObservationWithNameEqualTo(TracingDataSource.JDBC_OBSERVATION)
+                .that()
+                .hasError()
+                .hasBeenStopped();
+    }
+
+    @Test
+    void shouldOnlyCountStatementsOfUnsampledTraces() throws Exception {
+        // Given
+        DataSource dataSource = tracedDataSource();
+        SampleRepository adapter = () -> {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.prepareStatement("SELECT 1").executeQuery();
+                return 1;
+            }
+        };
+        SampleRepository repository = (SampleRepository) postProcessor.postProcessAfterInitialization(
+                adapter, "sampleRepository");
+
+        // When
+        request(false).observeChecked(repository::countRows);
+
+        // Then
+        assertThat(registry)
+                .hasObservationWithNameEqualTo(TracingPostProcessor.REPOSITORY_OBSERVATION)
+                .that()
+                .hasHighCardinalityKeyValue(StatementCounter.COUNT_KEY, "1");
+        assertThat(registry).doesNotHaveObservationWithNameEqualTo(TracingDataSource.JDBC_OBSERVATION);
+    }
+
+    @Test
+    void shouldNotTreatUntracedObservationAsSampled() {
+        assertFalse(TracingDataSource.isSampled(Observation.createNotStarted("request", registry)));
+    }
+
+    @Test
+    void shouldNameOperationByLeadingKeyword() {
+        assertEquals("with", TracingDataSource.operation("  WITH recent AS (SELECT 1) SELECT * FROM recent"));
+        assertEquals("batch", TracingDataSource.operation(null));
+    }
+
+    // --- helpers ---
+
+    /** A request observation carrying a span, as the tracing handler would attach it. */
+    private Observation request(boolean sampled) {
+        TraceContext traceContext = mock(TraceContext.class);
+        when(traceContext.sampled()).thenReturn(sampled);
+        Span span = mock(Span.class);
+        when(span.context()).thenReturn(traceContext);
+        TracingObservationHandler.TracingContext tracing = new TracingObservationHandler.TracingContext();
+        tracing.setSpan(span);
+        Observation observation = Observation.createNotStarted("request", registry);
+        observation.getContext().put(TracingObservationHandler.TracingContext.class, tracing);
+        return observation;
+    }
+
+    private DataSource tracedDataSource() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+        return (DataSource) postProcessor.postProcessAfterInitialization(target, "dataSource");
+    }
+}
@@ -0,0 +1,91 @@
+package com.liftit.user;
+
+import com.liftit.user.exception.AccountDeletionPendingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccountPurgeWriteGuardTest {
+
+    private static final String AUTH0_ID = "auth0|abc123";
+
+    static class SampleController {
+        public void handle() {
+        }
+    }
+
+    private AccountPurgeService accountPurgeService;
+    private AccountPurgeWriteGuard guard;
+    private MockHttpServletResponse response;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        accountPurgeService = mock(AccountPurgeService.class);
+        guard = new AccountPurgeWriteGuard(accountPurgeService);
+        response = new MockHttpServletResponse();
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("handle"));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(AUTH0_ID, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRejectWritesWhilePurgeIsRequested() {
+        // Given
+        when(accountPurgeService.isPurgeRequested(Auth0Id.of(AUTH0_ID))).thenReturn(true);
+
+        // When / Then
+        assertThrows(AccountDeletionPendingException.class,
+                () -> guard.preHandle(request("POST", "/api/v1/workouts"), response, handler));
+    }
+
+    @Test
+    void shouldAllowWritesWithoutPurge() {
+        // Given
+        when(accountPurgeService.isPurgeRequested(Auth0Id.of(AUTH0_ID))).thenReturn(false);
+
+        // When / Then
+        assertTrue(guard.preHandle(request("PUT", "/api/v1/workouts/{id}"), response, handler));
+    }
+
+    @Test
+    void shouldAllowReadsAndRepeatedDeletionWithoutLookingUpThePurge() {
+        assertTrue(guard.preHandle(request("GET", "/api/v1/workouts"), response, handler));
+        assertTrue(guard.preHandle(request("DELETE", "/api/v1/users/me"), response, handler));
+        verifyNoInteractions(accountPurgeService);
+    }
+
+    @Test
+    void shouldAllowUnauthenticatedRequests() {
+        // Given
+        SecurityContextHolder.clearContext();
+
+        // When / Then
+        assertTrue(guard.preHandle(request("POST", "/api/v1/users/me"), response, handler));
+        verifyNoInteractions(accountPurgeService);
+    }
+
+    // --- helpers ---
+
+    private static MockHttpServletRequest request(String method, String route) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, route);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+        return request;
+    }
+}
@@ -0,0 +1,75 @@
+package com.liftit.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DefaultAccountPurgeServiceTest {
+
+    private static final Long USER_ID = 100L;
+
+    private AccountPurgeRepository purgeRepository;
+    private AccountPurgeService service;
+
+    @BeforeEach
+    void setUp() {
+        purgeRepository = mock(AccountPurgeRepository.class);
+        service = new DefaultAccountPurgeService(purgeRepository);
+    }
+
+    @Test
+    void shouldRequestPurgeThroughRepository() {
+        // Given
+        AccountPurge purge = new AccountPurge(USER_ID, AccountPurge.Step.WORKOUTS, 0, Instant.now(), null);
+        when(purgeRepository.request(USER_ID)).thenReturn(purge);
+
+        // When
+        AccountPurge result = service.requestPurge(USER_ID);
+
+        // Then
+        assertSame(purge, result);
+        assertFalse(result.isCompleted());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoPurgeWasRequested() {
+        // Given
+        when(purgeRepository.findByUserId(USER_ID)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertTrue(service.getPurge(USER_ID).isEmpty());
+    }
+
+    @Test
+    void shouldReportRequestedPurgeByAuth0Id() {
+        // Given
+        Auth0Id auth0Id = Auth0Id.of("auth0|abc123");
+        when(purgeRepository.isRequested(auth0Id)).thenReturn(true);
+
+        // When / Then
+        assertTrue(service.isPurgeRequested(auth0Id));
+    }
+
+    @Test
+    void shouldRejectNullAuth0Id() {
+        assertThrows(IllegalArgumentException.class, () -> service.isPurgeRequested(null));
+        verifyNoInteractions(purgeRepository);
+    }
+
+    @Test
+    void shouldRejectNullUserId() {
+        assertThrows(IllegalArgumentException.class, () -> service.requestPurge(null));
+        assertThrows(IllegalArgumentException.class, () -> service.getPurge(null));
+        verifyNoInteractions(purgeRepository);
+    }
+
+    @Test
+    void shouldRejectNullRepository() {
+        assertThrows(IllegalArgumentException.class, () -> new DefaultAccountPurgeService(null));
+    }
+}
@@ -2,6 +2,7 @@ package com.liftit.user;
 
 import tools.jackson.databind.ObjectMapper;
 import com.liftit.GlobalExceptionHandler;
+import com.liftit.job.exception.JobQueueFullException;
 import com.liftit.user.exception.DuplicateProfileException;
 import com.liftit.user.exception.DuplicateUserException;
 import org.junit.jupiter.api.AfterEach;
@@ -22,6 +23,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +33,7 @@ class UserControllerTest {
     private MockMvc mockMvc;
     private UserProvisioningService userProvisioningService;
     private UserProfileService userProfileService;
+    private AccountPurgeService accountPurgeService;
     private UserRepository userRepository;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -38,9 +41,10 @@ class UserControllerTest {
     void setUp() {
         userProvisioningService = mock(UserProvisioningService.class);
         userProfileService = mock(UserProfileService.class);
+        accountPurgeService = mock(AccountPurgeService.class);
         userRepository = mock(UserRepository.class);
         UserController controller = new UserController(
-                userProvisioningService, userProfileService, userRepository
+                userProvisioningService, userProfileService, accountPurgeService, userRepository
         );
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
@@ -273,6 +277,46 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.username").value("alice_lifts"));
     }
 
+    @Test
+    void shouldReturnETagAndLastModifiedOnGetProfile() throws Exception {
+        // Given
+        authenticateAs("auth0|abc123");
+        Instant updatedAt = Instant.parse("2026-02-21T12:00:00Z");
+        stubProfile(updatedAt);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/users/me/profile"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-" + updatedAt.toEpochMilli() + "\""))
+                .andExpect(header().dateValue("Last-Modified", updatedAt.toEpochMilli()));
+    }
+
+    @Test
+    void shouldReturn304OnGetProfileWhenETagMatches() throws Exception {
+        // Given
+        authenticateAs("auth0|abc123");
+        Instant updatedAt = Instant.parse("2026-02-21T12:00:00Z");
+        stubProfile(updatedAt);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/users/me/profile")
+                        .header("If-None-Match", "\"1-" + updatedAt.toEpochMilli() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    private void stubProfile(Instant updatedAt) {
+        Auth0Id auth0Id = Auth0Id.of("auth0|abc123");
+        User user = new User(100L, auth0Id, Email.of("user@example.com"),
+                Instant.now(), 1L, Instant.now(), 1L);
+        UserProfile profile = new UserProfile(
+                1L, 100L, "alice_lifts", null, null, null, null,
+                updatedAt, 1L, updatedAt, 1L
+        );
+        when(userRepository.findByAuth0Id(auth0Id)).thenReturn(Optional.of(user));
+        when(userProfileService.getProfile(100L)).thenReturn(Optional.of(profile));
+    }
+
     @Test
     void shouldReturn404WhenNoProfileExistsForUser() throws Exception {
         // Given
@@ -305,4 +349,71 @@ class UserControllerTest {
         mockMvc.perform(get("/api/v1/users/me/profile"))
                 .andExpect(status().isUnauthorized());
     }
+
+    // --- DELETE /api/v1/users/me and GET /api/v1/users/me/deletion ---
+
+    @Test
+    void shouldReturn202WithProgressLocationWhenDeletingAccount() throws Exception {
+        // Given
+        authenticateAs("auth0|abc123");
+        stubUser();
+        AccountPurge purge = new AccountPurge(100L, AccountPurge.Step.WORKOUTS, 0,
+                Instant.parse("2026-03-01T10:00:00Z"), null);
+        when(accountPurgeService.requestPurge(100L)).thenReturn(purge);
+
+        // When / Then
+        mockMvc.perform(delete("/api/v1/users/me"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/users/me/deletion"))
+                .andExpect(jsonPath("$.step").value("WORKOUTS"))
+                .andExpect(jsonPath("$.rowsDeleted").value(0));
+    }
+
+    @Test
+    void shouldReturn503WhenPurgeQueueIsFull() throws Exception {
+        // Given
+        authenticateAs("auth0|abc123");
+        stubUser();
+        when(accountPurgeService.requestPurge(100L)).thenThrow(new JobQueueFullException("user.purge"));
+
+        // When / Then
+        mockMvc.perform(delete("/api/v1/users/me"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void shouldReturnDeletionProgress() throws Exception {
+        // Given
+        authenticateAs("auth0|abc123");
+        stubUser();
+        AccountPurge purge = new AccountPurge(100L, AccountPurge.Step.EXERCISES, 250,
+                Instant.parse("2026-03-01T10:00:00Z"), null);
+        when(accountPurgeService.getPurge(100L)).thenReturn(Optional.of(purge));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/users/me/deletion"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.step").value("EXERCISES"))
+                .andExpect(jsonPath("$.rowsDeleted").value(250));
+    }
+
+    @Test
+    void shouldReturn404WhenNoDeletionWasRequested() throws Exception {
+        // Given
+        authenticateAs("auth0|abc123");
+        stubUser();
+        when(accountPurgeService.getPurge(100L)).thenReturn(Optional.empty());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/users/me/deletion"))
+                .andExpect(status().isNotFound());
+    }
+
+    private void stubUser() {
+        Auth0Id auth0Id = Auth0Id.of("auth0|abc123");
+        User user = new User(100L, auth0Id, Email.of("user@example.com"),
+                Instant.now(), 1L, Instant.now(), 1L);
+        when(userRepository.findByAuth0Id(auth0Id)).thenReturn(Optional.of(user));
+    }
 }
@@ -0,0 +1,171 @@
+package com.liftit.user.persistence;
+
+import com.liftit.job.Job;
+import com.liftit.outbox.Outbox;
+import com.liftit.user.AccountPurge;
+import com.liftit.user.AccountPurge.Step;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountPurgerTest {
+
+    private static final long USER_ID = 100L;
+    private static final int CHUNK_SIZE = 2;
+    private static final Instant REQUESTED = Instant.parse("2026-03-01T10:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private Outbox outbox;
+    private AccountPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        outbox = mock(Outbox.class);
+        purger = new AccountPurger(jdbcTemplate, transactionTemplate, outbox, CHUNK_SIZE, 0, 2_000, 2);
+    }
+
+    // --- purge ---
+
+    @Test
+    void shouldDeleteInChunksUntilAStepIsDrainedThenDeleteTheAccount() throws InterruptedException {
+        // Given
+        givenPurgeAt(Step.WORKOUTS);
+        when(jdbcTemplate.update(contains("DELETE FROM workouts"), eq(USER_ID), eq(CHUNK_SIZE)))
+                .thenReturn(CHUNK_SIZE, 1);
+
+        // When
+        long deleted = purger.purge(USER_ID);
+
+        // Then
+        assertEquals(3, deleted);
+        verify(jdbcTemplate, times(2)).update(contains("DELETE FROM workouts"), eq(USER_ID), eq(CHUNK_SIZE));
+        verify(jdbcTemplate).update("DELETE FROM users WHERE id = ?", USER_ID);
+        verify(outbox).append(AccountPurger.USER_DELETED_EVENT, USER_ID, USER_ID);
+        verify(jdbcTemplate).update(contains("completed_at = now()"), eq(Step.DONE.name()), eq(USER_ID));
+    }
+
+    @Test
+    void shouldResumeFromTheRecordedStep() throws InterruptedException {
+        // Given
+        givenPurgeAt(Step.PROFILE);
+
+        // When
+        purger.purge(USER_ID);
+
+        // Then
+        verify(jdbcTemplate, never()).update(contains("DELETE FROM workouts"), anyLong(), anyInt());
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Integer.class), any(Object[].class));
+        verify(jdbcTemplate).update("DELETE FROM user_profiles WHERE user_id = ?", USER_ID);
+        verify(jdbcTemplate).update("DELETE FROM users WHERE id = ?", USER_ID);
+    }
+
+    @Test
+    void shouldDoNothingForACompletedPurge() throws InterruptedException {
+        // Given
+        givenPurge(new AccountPurge(USER_ID, Step.DONE, 10, REQUESTED, REQUESTED));
+
+        // When
+        long deleted = purger.purge(USER_ID);
+
+        // Then
+        assertEquals(0, deleted);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verify(outbox, never()).append(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldLimitLockWaitInEveryChunk() throws InterruptedException {
+        // Given
+        givenPurgeAt(Step.PROFILE);
+
+        // When
+        purger.purge(USER_ID);
+
+        // Then
+        verify(jdbcTemplate, times(2)).execute("SET LOCAL lock_timeout = 2000");
+    }
+
+    @Test
+    void shouldRestartFromFirstStepWhenAccountStillHasData() {
+        // Given
+        givenPurgeAt(Step.ACCOUNT);
+        doThrow(new DataIntegrityViolationException("fk_workouts_user"))
+                .when(jdbcTemplate).update("DELETE FROM users WHERE id = ?", USER_ID);
+
+        // When / Then
+        assertThrows(DataIntegrityViolationException.class, () -> purger.purge(USER_ID));
+        verify(jdbcTemplate).update(contains("updated_at = now() WHERE user_id = ?"), eq(Step.WORKOUTS.name()), eq(USER_ID));
+        verify(outbox, never()).append(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldRunJobForUserInPayload() throws InterruptedException {
+        // Given
+        givenPurgeAt(Step.ACCOUNT);
+
+        // When
+        purger.run(new Job(1L, AccountPurger.QUEUE, String.valueOf(USER_ID), 1, REQUESTED));
+
+        // Then
+        verify(jdbcTemplate).update("DELETE FROM users WHERE id = ?", USER_ID);
+    }
+
+    // --- configuration ---
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AccountPurger(jdbcTemplate, transactionTemplate, outbox, 0, 0, 2_000, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AccountPurger(jdbcTemplate, transactionTemplate, outbox, CHUNK_SIZE, -1, 2_000, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AccountPurger(jdbcTemplate, transactionTemplate, outbox, CHUNK_SIZE, 0, 0, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AccountPurger(jdbcTemplate, transactionTemplate, outbox, CHUNK_SIZE, 0, 2_000, 0));
+    }
+
+    // --- helpers ---
+
+    private void givenPurgeAt(Step step) {
+        givenPurge(new AccountPurge(USER_ID, step, 0, REQUESTED, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPurge(AccountPurge purge) {
+        when(jdbcTemplate.query(eq(JdbcAccountPurgeRepository.SELECT_BY_USER_SQL),
+                any(RowMapper.class), eq(USER_ID))).thenReturn(List.of(purge));
+    }
+}
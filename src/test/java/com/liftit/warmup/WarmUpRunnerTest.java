@@ -0,0 +1,154 @@
+package com.liftit.warmup;
+
+import com.liftit.auth.AuthenticationResult;
+import com.liftit.auth.Credentials;
+import com.liftit.auth.JwtAuthenticationStrategy;
+import com.liftit.exercise.ExerciseService;
+import com.liftit.workout.WorkoutService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class WarmUpRunnerTest {
+
+    private static final int QUERIES = 3;
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ExerciseService exerciseService;
+    private WorkoutService workoutService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        exerciseService = mock(ExerciseService.class);
+        workoutService = mock(WorkoutService.class);
+        when(dataSource.isWrapperFor(any())).thenReturn(false);
+        when(exerciseService.list(any(), any())).thenReturn(new PageImpl<>(List.of()));
+        when(workoutService.listByUser(any(Long.class), any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class))).thenReturn(7L);
+    }
+
+    // --- configuration ---
+
+    @Test
+    void shouldRejectNonPositiveSettings() {
+        assertThatThrownBy(() -> runner(ApplicationStartup.DEFAULT, true, 0, QUERIES, 60))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("liftit.warm-up.iterations must be at least 1");
+        assertThatThrownBy(() -> runner(ApplicationStartup.DEFAULT, true, 1, 0, 60))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("liftit.warm-up.queries must be at least 1");
+        assertThatThrownBy(() -> runner(ApplicationStartup.DEFAULT, true, 1, QUERIES, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("liftit.warm-up.max-seconds must be at least 1");
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        WarmUpRunner runner = runner(ApplicationStartup.DEFAULT, false, 1, QUERIES, 60);
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verifyNoInteractions(dataSource, jdbcTemplate, exerciseService, workoutService);
+    }
+
+    // --- warm-up ---
+
+    @Test
+    void shouldRepeatCatalogAndWorkoutQueriesAndRecordStartupStep() {
+        // Given
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        WarmUpRunner runner = runner(startup, true, 1, QUERIES, 60);
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(exerciseService).getCategories();
+        verify(exerciseService).getMuscleGroups();
+        verify(exerciseService, times(QUERIES)).list(any(), any());
+        verify(workoutService, times(QUERIES)).listByUser(eq(7L), any(Pageable.class));
+        assertThat(startup.getBufferedTimeline().getEvents())
+                .anyMatch(event -> event.getStartupStep().getName().equals(WarmUpRunner.STEP_NAME));
+    }
+
+    @Test
+    void shouldSkipWorkoutsWhenNoLifterHasAny() {
+        // Given
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class))).thenReturn(null);
+        WarmUpRunner runner = runner(ApplicationStartup.DEFAULT, true, 1, QUERIES, 60);
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        verifyNoInteractions(workoutService);
+    }
+
+    @Test
+    void shouldContinueWithLaterStepsWhenOneFails() {
+        // Given
+        when(exerciseService.getCategories()).thenThrow(new IllegalStateException("boom"));
+        WarmUpRunner runner = runner(ApplicationStartup.DEFAULT, true, 1, QUERIES, 60);
+
+        // When / Then — warm-up never fails startup
+        assertThatCode(() -> runner.run(new DefaultApplicationArguments())).doesNotThrowAnyException();
+        verify(workoutService, times(QUERIES)).listByUser(eq(7L), any(Pageable.class));
+    }
+
+    @Test
+    void shouldSignSyntheticTokenVerifiableWithItsOwnKey() throws Exception {
+        // Given
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        // When
+        String token = WarmUpRunner.syntheticToken(keyPair);
+
+        // Then
+        AuthenticationResult result = new JwtAuthenticationStrategy((RSAPublicKey) keyPair.getPublic())
+                .execute(Credentials.bearer(token));
+        assertThat(result.auth0Id().value()).isEqualTo("warm-up|synthetic");
+    }
+
+    // --- helpers ---
+
+    private WarmUpRunner runner(ApplicationStartup startup, boolean enabled, int iterations, int queries,
+            int maxSeconds) {
+        return new WarmUpRunner(dataSource, jdbcTemplate, exerciseService, workoutService,
+                JsonMapper.builder().build(), startup, enabled, iterations, queries, maxSeconds);
+    }
+}
@@ -0,0 +1,92 @@
+package com.liftit.workout;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AddWorkoutExerciseRequestTest {
+
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    private static LogSetRequest set(int reps, Double weight, Integer rpe) {
+        return new LogSetRequest(reps, weight, WeightUnit.KG, rpe);
+    }
+
+    @Test
+    void shouldPassValidationWithAllValidFields() {
+        // Given
+        AddWorkoutExerciseRequest request = new AddWorkoutExerciseRequest(
+                10L, 1, null, List.of(set(5, 100.0, 8)));
+
+        // When
+        Set<ConstraintViolation<AddWorkoutExerciseRequest>> violations = validator.validate(request);
+
+        // Then
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    void shouldFailValidationWhenExerciseIdIsNull() {
+        AddWorkoutExerciseRequest request = new AddWorkoutExerciseRequest(null, 1, null, List.of());
+        assertFalse(validator.validate(request).isEmpty());
+    }
+
+    @Test
+    void shouldFailValidationWhenOrderIsZero() {
+        AddWorkoutExerciseRequest request = new AddWorkoutExerciseRequest(10L, 0, null, List.of());
+        assertFalse(validator.validate(request).isEmpty());
+    }
+
+    @Test
+    void shouldFailValidationWhenNestedSetIsInvalid() {
+        // Given
+        AddWorkoutExerciseRequest request = new AddWorkoutExerciseRequest(
+                10L, 1, null, List.of(set(5, -1.0, null)));
+
+        // When / Then
+        assertFalse(validator.validate(request).isEmpty());
+    }
+
+    @Test
+    void shouldFailValidationWhenRpeIsOutOfRange() {
+        // Given
+        AddWorkoutExerciseRequest request = new AddWorkoutExerciseRequest(
+                10L, 1, null, List.of(set(5, 100.0, 11)));
+
+        // When / Then
+        assertFalse(validator.validate(request).isEmpty());
+    }
+
+    @Test
+    void shouldNumberSetsByPositionWhenConvertingToDomain() {
+        // Given
+        AddWorkoutExerciseRequest request = new AddWorkoutExerciseRequest(
+                10L, 2, "paused", List.of(set(5, 100.0, null), set(3, 110.0, 9)));
+
+        // When
+        WorkoutExercise exercise = request.toDomain();
+
+        // Then
+        assertEquals(0L, exercise.id());
+        assertEquals(10L, exercise.exerciseId());
+        assertEquals(2, exercise.order());
+        assertEquals("paused", exercise.notes());
+        assertEquals(1, exercise.sets().get(0).setNumber());
+        assertEquals(2, exercise.sets().get(1).setNumber());
+        assertEquals(new Weight(110.0, WeightUnit.KG), exercise.sets().get(1).weight());
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -50,6 +52,11 @@ class DefaultWorkoutServiceTest {
                 NOW, USER_ID, NOW, USER_ID);
     }
 
+    private ExerciseSession session(Long workoutId, int day, double topSetKg) {
+        return new ExerciseSession(workoutId, NOW.plusSeconds(86_400L * day),
+                topSetKg * 1.05, topSetKg, topSetKg * 10);
+    }
+
     private WorkoutExercise buildWorkoutExercise() {
         return new WorkoutExercise(0L, 10L, 1, List.of(), null);
     }
@@ -68,7 +75,7 @@ class DefaultWorkoutServiceTest {
     void shouldStartNewWorkoutForUser() {
         // Given
         Workout saved = buildInProgress();
-        when(workoutRepository.save(any(Workout.class))).thenReturn(saved);
+        when(workoutRepository.save(any(Workout.class), eq(WorkoutEvent.STARTED))).thenReturn(saved);
 
         // When
         Workout result = service.start(USER_ID, null);
@@ -77,7 +84,7 @@ class DefaultWorkoutServiceTest {
         assertEquals(WORKOUT_ID, result.id());
         assertEquals(USER_ID, result.userId());
         assertEquals(WorkoutStatus.IN_PROGRESS, result.status());
-        verify(workoutRepository).save(any(Workout.class));
+        verify(workoutRepository).save(any(Workout.class), eq(WorkoutEvent.STARTED));
     }
 
     @Test
@@ -85,7 +92,7 @@ class DefaultWorkoutServiceTest {
         // Given
         Workout saved = new Workout(WORKOUT_ID, USER_ID, NOW, null,
                 WorkoutStatus.IN_PROGRESS, "leg day", List.of(), NOW, USER_ID, NOW, USER_ID);
-        when(workoutRepository.save(any(Workout.class))).thenReturn(saved);
+        when(workoutRepository.save(any(Workout.class), eq(WorkoutEvent.STARTED))).thenReturn(saved);
 
         // When
         Workout result = service.start(USER_ID, "leg day");
@@ -99,6 +106,46 @@ class DefaultWorkoutServiceTest {
         assertThrows(IllegalArgumentException.class, () -> service.start(null, null));
     }
 
+    // --- repeat ---
+
+    @Test
+    void shouldRepeatOwnedWorkout() {
+        // Given
+        Workout source = buildCompleted();
+        Workout started = new Workout(2L, USER_ID, NOW, null, WorkoutStatus.IN_PROGRESS, "Again",
+                List.of(), NOW, USER_ID, NOW, USER_ID);
+        when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(source));
+        when(workoutRepository.startFrom(eq(source), any(Instant.class), eq("Again"))).thenReturn(started);
+
+        // When
+        Workout result = service.repeat(WORKOUT_ID, USER_ID, "Again");
+
+        // Then
+        assertEquals(2L, result.id());
+        verify(workoutRepository, never()).save(any(), any());
+    }
+
+    @Test
+    void shouldThrowOwnershipWhenRepeatingOtherUsersWorkout() {
+        // Given
+        when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(buildCompleted()));
+
+        // When / Then
+        assertThrows(WorkoutOwnershipException.class,
+                () -> service.repeat(WORKOUT_ID, OTHER_USER_ID, null));
+        verify(workoutRepository, never()).startFrom(any(), any(), any());
+    }
+
+    @Test
+    void shouldThrowNotFoundWhenRepeatingMissingWorkout() {
+        // Given
+        when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(WorkoutNotFoundException.class,
+                () -> service.repeat(WORKOUT_ID, USER_ID, null));
+    }
+
     // --- getById ---
 
     @Test
@@ -128,6 +175,46 @@ class DefaultWorkoutServiceTest {
         assertThrows(IllegalArgumentException.class, () -> service.getById(null));
     }
 
+    // --- getOwnedById ---
+
+    @Test
+    void shouldReturnWorkoutWhenOwnedByUser() {
+        // Given
+        when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(buildCompleted()));
+
+        // When
+        Workout result = service.getOwnedById(WORKOUT_ID, USER_ID);
+
+        // Then
+        assertEquals(WORKOUT_ID, result.id());
+    }
+
+    @Test
+    void shouldThrowOwnershipWhenGettingOtherUsersWorkout() {
+        // Given
+        when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(buildInProgress()));
+
+        // When / Then
+        assertThrows(WorkoutOwnershipException.class,
+                () -> service.getOwnedById(WORKOUT_ID, OTHER_USER_ID));
+    }
+
+    @Test
+    void shouldThrowNotFoundWhenGettingMissingOwnedWorkout() {
+        // Given
+        when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(WorkoutNotFoundException.class,
+                () -> service.getOwnedById(WORKOUT_ID, USER_ID));
+    }
+
+    @Test
+    void shouldThrowWhenGetOwnedByIdUserIdIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getOwnedById(WORKOUT_ID, null));
+    }
+
     // --- listByUser ---
 
     @Test
@@ -158,6 +245,100 @@ class DefaultWorkoutServiceTest {
                 () -> service.listByUser(USER_ID, null));
     }
 
+    @Test
+    void shouldReturnWorkoutsStartedWithinRange() {
+        // Given
+        Instant from = NOW.minusSeconds(3600);
+        Instant to = NOW.plusSeconds(3600);
+        PageRequest pageable = PageRequest.of(0, 10);
+        Page<Workout> page = new PageImpl<>(List.of(buildInProgress()), pageable, 1);
+        when(workoutRepository.findByUserIdStartedBetween(USER_ID, from, to, pageable)).thenReturn(page);
+
+        // When
+        Page<Workout> result = service.listByUser(USER_ID, from, to, pageable);
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void shouldThrowWhenRangeIsEmpty() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.listByUser(USER_ID, NOW, NOW, PageRequest.of(0, 10)));
+        verify(workoutRepository, never()).findByUserIdStartedBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldThrowWhenRangeBoundIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.listByUser(USER_ID, null, NOW, PageRequest.of(0, 10)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.listByUser(USER_ID, NOW, null, PageRequest.of(0, 10)));
+    }
+
+    // --- progress ---
+
+    @Test
+    void shouldReturnEverySessionWhenWithinPointBudget() {
+        // Given
+        Instant to = NOW.plusSeconds(3600);
+        when(workoutRepository.findExerciseSessions(USER_ID, 10L, Instant.EPOCH, to))
+                .thenReturn(List.of(session(1L, 0, 100.0), session(2L, 1, 105.0)));
+
+        // When
+        ExerciseProgress result = service.progress(USER_ID, 10L, Instant.EPOCH, to, 300);
+
+        // Then
+        assertEquals(2, result.sessions());
+        assertEquals(List.of(105.0, 110.0),
+                result.estimatedOneRepMax().stream().map(ExerciseProgress.Point::value).toList());
+        assertEquals(List.of(100.0, 105.0),
+                result.topSet().stream().map(ExerciseProgress.Point::value).toList());
+        assertEquals(List.of(1000.0, 1050.0),
+                result.volume().stream().map(ExerciseProgress.Point::value).toList());
+    }
+
+    @Test
+    void shouldDownsampleEachSeriesToThePointBudget() {
+        // Given
+        List<ExerciseSession> sessions = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            sessions.add(session((long) i, i, 100.0 + i % 7));
+        }
+        when(workoutRepository.findExerciseSessions(any(), any(), any(), any())).thenReturn(sessions);
+
+        // When
+        ExerciseProgress result = service.progress(USER_ID, 10L, Instant.EPOCH, NOW, 50);
+
+        // Then
+        assertEquals(500, result.sessions());
+        assertEquals(50, result.estimatedOneRepMax().size());
+        assertEquals(50, result.topSet().size());
+        assertEquals(50, result.volume().size());
+        assertEquals(sessions.getLast().startedAt(), result.topSet().getLast().at());
+    }
+
+    @Test
+    void shouldThrowWhenPointBudgetIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.progress(USER_ID, 10L, Instant.EPOCH, NOW, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.progress(USER_ID, 10L, Instant.EPOCH, NOW, 2001));
+        verify(workoutRepository, never()).findExerciseSessions(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldThrowWhenProgressRangeIsEmpty() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.progress(USER_ID, 10L, NOW, NOW, 300));
+    }
+
+    @Test
+    void shouldThrowWhenProgressExerciseIdIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.progress(USER_ID, null, Instant.EPOCH, NOW, 300));
+    }
+
     // --- addExercise ---
 
     @Test
@@ -167,14 +348,14 @@ class DefaultWorkoutServiceTest {
         WorkoutExercise exercise = buildWorkoutExercise();
         Workout updated = workout.withExercise(exercise);
         when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workout));
-        when(workoutRepository.save(any(Workout.class))).thenReturn(updated);
+        when(workoutRepository.save(any(Workout.class), eq(WorkoutEvent.EXERCISE_ADDED))).thenReturn(updated);
 
         // When
         Workout result = service.addExercise(WORKOUT_ID, exercise, USER_ID);
 
         // Then
         assertNotNull(result);
-        verify(workoutRepository).save(any(Workout.class));
+        verify(workoutRepository).save(any(Workout.class), eq(WorkoutEvent.EXERCISE_ADDED));
     }
 
     @Test
@@ -185,7 +366,7 @@ class DefaultWorkoutServiceTest {
         // When / Then
         assertThrows(WorkoutNotFoundException.class,
                 () -> service.addExercise(WORKOUT_ID, buildWorkoutExercise(), USER_ID));
-        verify(workoutRepository, never()).save(any());
+        verify(workoutRepository, never()).save(any(), any());
     }
 
     @Test
@@ -197,7 +378,7 @@ class DefaultWorkoutServiceTest {
         // When / Then
         assertThrows(WorkoutOwnershipException.class,
                 () -> service.addExercise(WORKOUT_ID, buildWorkoutExercise(), OTHER_USER_ID));
-        verify(workoutRepository, never()).save(any());
+        verify(workoutRepository, never()).save(any(), any());
     }
 
     @Test
@@ -209,7 +390,7 @@ class DefaultWorkoutServiceTest {
         // When / Then
         assertThrows(WorkoutAlreadyCompletedException.class,
                 () -> service.addExercise(WORKOUT_ID, buildWorkoutExercise(), USER_ID));
-        verify(workoutRepository, never()).save(any());
+        verify(workoutRepository, never()).save(any(), any());
     }
 
     @Test
@@ -232,14 +413,14 @@ class DefaultWorkoutServiceTest {
         Workout workout = buildInProgress();
         Workout completed = buildCompleted();
         when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workout));
-        when(workoutRepository.save(any(Workout.class))).thenReturn(completed);
+        when(workoutRepository.save(any(Workout.class), eq(WorkoutEvent.COMPLETED))).thenReturn(completed);
 
         // When
         Workout result = service.complete(WORKOUT_ID, USER_ID);
 
         // Then
         assertEquals(WorkoutStatus.COMPLETED, result.status());
-        verify(workoutRepository).save(any(Workout.class));
+        verify(workoutRepository).save(any(Workout.class), eq(WorkoutEvent.COMPLETED));
     }
 
     @Test
@@ -250,7 +431,7 @@ class DefaultWorkoutServiceTest {
         // When / Then
         assertThrows(WorkoutNotFoundException.class,
                 () -> service.complete(WORKOUT_ID, USER_ID));
-        verify(workoutRepository, never()).save(any());
+        verify(workoutRepository, never()).save(any(), any());
     }
 
     @Test
@@ -262,7 +443,7 @@ class DefaultWorkoutServiceTest {
         // When / Then
         assertThrows(WorkoutOwnershipException.class,
                 () -> service.complete(WORKOUT_ID, OTHER_USER_ID));
-        verify(workoutRepository, never()).save(any());
+        verify(workoutRepository, never()).save(any(), any());
     }
 
     @Test
@@ -274,7 +455,7 @@ class DefaultWorkoutServiceTest {
         // When / Then
         assertThrows(WorkoutAlreadyCompletedException.class,
                 () -> service.complete(WORKOUT_ID, USER_ID));
-        verify(workoutRepository, never()).save(any());
+        verify(workoutRepository, never()).save(any(), any());
     }
 
     // --- delete ---
@@ -289,7 +470,7 @@ class DefaultWorkoutServiceTest {
         service.delete(WORKOUT_ID, USER_ID);
 
         // Then
-        verify(workoutRepository).delete(WORKOUT_ID);
+        verify(workoutRepository).delete(workout);
     }
 
     @Test
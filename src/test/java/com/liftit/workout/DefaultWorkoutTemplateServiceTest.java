@@ -0,0 +1,192 @@
+package com.liftit.workout;
+
+import com.liftit.workout.exception.WorkoutTemplateNotFoundException;
+import com.liftit.workout.exception.WorkoutTemplateOwnershipException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultWorkoutTemplateServiceTest {
+
+    private static final Long USER_ID = 100L;
+    private static final Long OTHER_USER_ID = 999L;
+    private static final Long TEMPLATE_ID = 5L;
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private WorkoutTemplateRepository templateRepository;
+    private WorkoutRepository workoutRepository;
+    private DefaultWorkoutTemplateService service;
+
+    @BeforeEach
+    void setUp() {
+        templateRepository = mock(WorkoutTemplateRepository.class);
+        workoutRepository = mock(WorkoutRepository.class);
+        service = new DefaultWorkoutTemplateService(templateRepository, workoutRepository);
+    }
+
+    private WorkoutTemplate buildTemplate() {
+        WorkoutSet set = new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), 8);
+        return new WorkoutTemplate(TEMPLATE_ID, USER_ID, "Push", null,
+                List.of(new WorkoutExercise(1L, 10L, 1, List.of(set), null)),
+                NOW, USER_ID, NOW, USER_ID);
+    }
+
+    private Workout buildStarted() {
+        return new Workout(1L, USER_ID, NOW, null, WorkoutStatus.IN_PROGRESS, null,
+                buildTemplate().exercises(), NOW, USER_ID, NOW, USER_ID);
+    }
+
+    // --- constructor ---
+
+    @Test
+    void shouldThrowWhenTemplateRepositoryIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DefaultWorkoutTemplateService(null, workoutRepository));
+    }
+
+    @Test
+    void shouldThrowWhenWorkoutRepositoryIsNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DefaultWorkoutTemplateService(templateRepository, null));
+    }
+
+    // --- create ---
+
+    @Test
+    void shouldCreateUnsavedTemplateOwnedByUser() {
+        // Given
+        when(templateRepository.save(any(WorkoutTemplate.class))).thenReturn(buildTemplate());
+
+        // When
+        WorkoutTemplate result = service.create(USER_ID, "Push", "Mondays", buildTemplate().exercises());
+
+        // Then
+        assertEquals(TEMPLATE_ID, result.id());
+        ArgumentCaptor<WorkoutTemplate> captor = ArgumentCaptor.forClass(WorkoutTemplate.class);
+        verify(templateRepository).save(captor.capture());
+        assertEquals(0L, captor.getValue().id());
+        assertEquals(USER_ID, captor.getValue().userId());
+        assertEquals("Mondays", captor.getValue().notes());
+    }
+
+    @Test
+    void shouldThrowWhenCreateNameIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> service.create(USER_ID, null, null, List.of()));
+    }
+
+    // --- getOwnedById ---
+
+    @Test
+    void shouldReturnTemplateWhenOwnedByUser() {
+        // Given
+        when(templateRepository.findById(TEMPLATE_ID)).thenReturn(Optional.of(buildTemplate()));
+
+        // When
+        WorkoutTemplate result = service.getOwnedById(TEMPLATE_ID, USER_ID);
+
+        // Then
+        assertEquals("Push", result.name());
+    }
+
+    @Test
+    void shouldThrowOwnershipWhenGettingOtherUsersTemplate() {
+        // Given
+        when(templateRepository.findById(TEMPLATE_ID)).thenReturn(Optional.of(buildTemplate()));
+
+        // When / Then
+        assertThrows(WorkoutTemplateOwnershipException.class,
+                () -> service.getOwnedById(TEMPLATE_ID, OTHER_USER_ID));
+    }
+
+    // --- listByUser ---
+
+    @Test
+    void shouldListTemplatesForUser() {
+        // Given
+        when(templateRepository.findByUserId(USER_ID)).thenReturn(List.of(buildTemplate()));
+
+        // When
+        List<WorkoutTemplate> result = service.listByUser(USER_ID);
+
+        // Then
+        assertEquals(1, result.size());
+    }
+
+    // --- start ---
+
+    @Test
+    void shouldStartWorkoutWithoutLoadingTemplate() {
+        // Given
+        when(workoutRepository.startFromTemplate(eq(TEMPLATE_ID), eq(USER_ID), any(Instant.class), eq("Week 2")))
+                .thenReturn(Optional.of(buildStarted()));
+
+        // When
+        Workout result = service.start(TEMPLATE_ID, USER_ID, "Week 2");
+
+        // Then
+        assertEquals(1, result.totalSetCount());
+        verify(templateRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldThrowOwnershipWhenStartingOtherUsersTemplate() {
+        // Given
+        when(workoutRepository.startFromTemplate(eq(TEMPLATE_ID), eq(OTHER_USER_ID), any(Instant.class), any()))
+                .thenReturn(Optional.empty());
+        when(templateRepository.findById(TEMPLATE_ID)).thenReturn(Optional.of(buildTemplate()));
+
+        // When / Then
+        assertThrows(WorkoutTemplateOwnershipException.class,
+                () -> service.start(TEMPLATE_ID, OTHER_USER_ID, null));
+    }
+
+    @Test
+    void shouldThrowNotFoundWhenStartingMissingTemplate() {
+        // Given
+        when(workoutRepository.startFromTemplate(eq(TEMPLATE_ID), eq(USER_ID), any(Instant.class), any()))
+                .thenReturn(Optional.empty());
+        when(templateRepository.findById(TEMPLATE_ID)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(WorkoutTemplateNotFoundException.class,
+                () -> service.start(TEMPLATE_ID, USER_ID, null));
+    }
+
+    // --- delete ---
+
+    @Test
+    void shouldDeleteTemplateWhenOwner() {
+        // Given
+        when(templateRepository.findById(TEMPLATE_ID)).thenReturn(Optional.of(buildTemplate()));
+
+        // When
+        service.delete(TEMPLATE_ID, USER_ID);
+
+        // Then
+        verify(templateRepository).delete(TEMPLATE_ID);
+    }
+
+    @Test
+    void shouldThrowOwnershipWhenDeletingOtherUsersTemplate() {
+        // Given
+        when(templateRepository.findById(TEMPLATE_ID)).thenReturn(Optional.of(buildTemplate()));
+
+        // When / Then
+        assertThrows(WorkoutTemplateOwnershipException.class,
+                () -> service.delete(TEMPLATE_ID, OTHER_USER_ID));
+        verify(templateRepository, never()).delete(any());
+    }
+}
@@ -0,0 +1,83 @@
+package com.liftit.workout;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LttbTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T10:00:00Z");
+
+    @Test
+    void shouldReturnSeriesUnchangedWhenWithinThreshold() {
+        // Given
+        List<ExerciseProgress.Point> series = series(10);
+
+        // When / Then
+        assertSame(series, Lttb.downsample(series, 10));
+    }
+
+    @Test
+    void shouldKeepFirstAndLastPointsAndRespectThreshold() {
+        // Given
+        List<ExerciseProgress.Point> series = series(1000);
+
+        // When
+        List<ExerciseProgress.Point> result = Lttb.downsample(series, 20);
+
+        // Then
+        assertEquals(20, result.size());
+        assertEquals(series.getFirst(), result.getFirst());
+        assertEquals(series.getLast(), result.getLast());
+    }
+
+    @Test
+    void shouldKeepPointsInTimeOrder() {
+        // Given
+        List<ExerciseProgress.Point> series = series(1000);
+
+        // When
+        List<ExerciseProgress.Point> result = Lttb.downsample(series, 50);
+
+        // Then
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i).at().isAfter(result.get(i - 1).at()));
+        }
+    }
+
+    @Test
+    void shouldKeepIsolatedPeak() {
+        // Given
+        List<ExerciseProgress.Point> series = new ArrayList<>(series(1000));
+        ExerciseProgress.Point peak = new ExerciseProgress.Point(series.get(537).at(), 500.0);
+        series.set(537, peak);
+
+        // When
+        List<ExerciseProgress.Point> result = Lttb.downsample(series, 30);
+
+        // Then
+        assertTrue(result.contains(peak));
+    }
+
+    @Test
+    void shouldThrowWhenThresholdIsBelowThree() {
+        assertThrows(IllegalArgumentException.class, () -> Lttb.downsample(series(10), 2));
+    }
+
+    // --- helpers ---
+
+    private static List<ExerciseProgress.Point> series(int size) {
+        List<ExerciseProgress.Point> series = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            series.add(new ExerciseProgress.Point(START.plusSeconds(86_400L * i), 100.0 + (i % 5)));
+        }
+        return series;
+    }
+}
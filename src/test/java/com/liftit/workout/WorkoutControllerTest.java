@@ -0,0 +1,434 @@
+package com.liftit.workout;
+
+import com.liftit.GlobalExceptionHandler;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.User;
+import com.liftit.user.UserRepository;
+import com.liftit.workout.exception.WorkoutAlreadyCompletedException;
+import com.liftit.workout.exception.WorkoutNotFoundException;
+import com.liftit.workout.exception.WorkoutOwnershipException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class WorkoutControllerTest {
+
+    private MockMvc mockMvc;
+    private WorkoutService workoutService;
+    private UserRepository userRepository;
+
+    private static final Long USER_ID = 100L;
+    private static final Long WORKOUT_ID = 1L;
+    private static final String AUTH0_ID = "auth0|testuser";
+    private static final Instant STARTED = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Instant COMPLETED = Instant.parse("2026-01-01T11:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        workoutService = mock(WorkoutService.class);
+        userRepository = mock(UserRepository.class);
+        WorkoutController controller = new WorkoutController(workoutService, userRepository);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(AUTH0_ID, null, List.of()));
+        User user = new User(USER_ID, Auth0Id.of(AUTH0_ID), Email.of("test@example.com"),
+                STARTED, 1L, STARTED, 1L);
+        when(userRepository.findByAuth0Id(Auth0Id.of(AUTH0_ID))).thenReturn(Optional.of(user));
+    }
+
+    private Workout buildCompleted() {
+        WorkoutSet set = new WorkoutSet(1, 5, new Weight(225.0, WeightUnit.LBS), 8);
+        WorkoutExercise exercise = new WorkoutExercise(7L, 10L, 1, List.of(set), null);
+        return new Workout(WORKOUT_ID, USER_ID, STARTED, COMPLETED,
+                WorkoutStatus.COMPLETED, null, List.of(exercise),
+                STARTED, USER_ID, COMPLETED, USER_ID);
+    }
+
+    private Workout buildInProgress() {
+        return new Workout(WORKOUT_ID, USER_ID, STARTED, null,
+                WorkoutStatus.IN_PROGRESS, null, List.of(),
+                STARTED, USER_ID, STARTED, USER_ID);
+    }
+
+    // --- POST /api/v1/workouts ---
+
+    @Test
+    void shouldReturn201WithStartedWorkout() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.start(USER_ID, "leg day")).thenReturn(buildInProgress());
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workouts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"notes": "leg day"}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(WORKOUT_ID))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    void shouldStartWorkoutWithoutBody() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.start(USER_ID, null)).thenReturn(buildInProgress());
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workouts"))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void shouldReturn401OnStartWhenNotAuthenticated() throws Exception {
+        mockMvc.perform(post("/api/v1/workouts"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // --- POST /api/v1/workouts/{id}/repeat ---
+
+    @Test
+    void shouldReturn201WithRepeatedWorkout() throws Exception {
+        // Given
+        authenticate();
+        Workout started = new Workout(2L, USER_ID, COMPLETED, null, WorkoutStatus.IN_PROGRESS, null,
+                buildCompleted().exercises(), COMPLETED, USER_ID, COMPLETED, USER_ID);
+        when(workoutService.repeat(WORKOUT_ID, USER_ID, null)).thenReturn(started);
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workouts/{id}/repeat", WORKOUT_ID))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(2))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.exercises[0].sets[0].reps").value(5));
+    }
+
+    @Test
+    void shouldReturn404OnRepeatWhenWorkoutDoesNotExist() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.repeat(WORKOUT_ID, USER_ID, null)).thenThrow(new WorkoutNotFoundException(WORKOUT_ID));
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workouts/{id}/repeat", WORKOUT_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    // --- POST /api/v1/workouts/{id}/exercises ---
+
+    @Test
+    void shouldReturn200WhenExerciseLogged() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.addExercise(eq(WORKOUT_ID), any(WorkoutExercise.class), eq(USER_ID)))
+                .thenReturn(buildInProgress());
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workouts/{id}/exercises", WORKOUT_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"exerciseId": 10, "order": 1,
+                                 "sets": [{"reps": 5, "weight": 225.0, "unit": "LBS", "rpe": 8},
+                                          {"reps": 5, "weight": 235.0, "unit": "LBS"}]}
+                                """))
+                .andExpect(status().isOk());
+        ArgumentCaptor<WorkoutExercise> captor = ArgumentCaptor.forClass(WorkoutExercise.class);
+        verify(workoutService).addExercise(eq(WORKOUT_ID), captor.capture(), eq(USER_ID));
+        assertEquals(10L, captor.getValue().exerciseId());
+        assertEquals(2, captor.getValue().sets().get(1).setNumber());
+    }
+
+    @Test
+    void shouldReturn400WhenLoggedSetHasNoReps() throws Exception {
+        // Given
+        authenticate();
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workouts/{id}/exercises", WORKOUT_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"exerciseId": 10, "order": 1,
+                                 "sets": [{"reps": 0, "weight": 225.0, "unit": "LBS"}]}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturn409WhenLoggingToCompletedWorkout() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.addExercise(eq(WORKOUT_ID), any(WorkoutExercise.class), eq(USER_ID)))
+                .thenThrow(new WorkoutAlreadyCompletedException(WORKOUT_ID));
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workouts/{id}/exercises", WORKOUT_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"exerciseId": 10, "order": 1, "sets": []}
+                                """))
+                .andExpect(status().isConflict());
+    }
+
+    // --- POST /api/v1/workouts/{id}/complete ---
+
+    @Test
+    void shouldReturn200WithCompletedWorkout() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.complete(WORKOUT_ID, USER_ID)).thenReturn(buildCompleted());
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workouts/{id}/complete", WORKOUT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
+    @Test
+    void shouldReturn403OnCompleteWhenNotOwner() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.complete(WORKOUT_ID, USER_ID))
+                .thenThrow(new WorkoutOwnershipException(WORKOUT_ID, USER_ID));
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workouts/{id}/complete", WORKOUT_ID))
+                .andExpect(status().isForbidden());
+    }
+
+    // --- GET /api/v1/workouts/{id} ---
+
+    @Test
+    void shouldReturn200WithWorkoutOnGetById() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.getOwnedById(WORKOUT_ID, USER_ID)).thenReturn(buildCompleted());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts/{id}", WORKOUT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(WORKOUT_ID))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.exercises[0].exerciseId").value(10))
+                .andExpect(jsonPath("$.exercises[0].sets[0].reps").value(5))
+                .andExpect(jsonPath("$.exercises[0].sets[0].weightUnit").value("LBS"));
+    }
+
+    @Test
+    void shouldMarkCompletedWorkoutImmutable() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.getOwnedById(WORKOUT_ID, USER_ID)).thenReturn(buildCompleted());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts/{id}", WORKOUT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-" + COMPLETED.toEpochMilli() + "\""))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, private, immutable"));
+    }
+
+    @Test
+    void shouldRequireRevalidationForInProgressWorkout() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.getOwnedById(WORKOUT_ID, USER_ID)).thenReturn(buildInProgress());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts/{id}", WORKOUT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-" + STARTED.toEpochMilli() + "\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
+    }
+
+    @Test
+    void shouldReturn304OnGetByIdWhenETagMatches() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.getOwnedById(WORKOUT_ID, USER_ID)).thenReturn(buildCompleted());
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts/{id}", WORKOUT_ID)
+                        .header("If-None-Match", "\"1-" + COMPLETED.toEpochMilli() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldReturn404OnGetByIdWhenWorkoutDoesNotExist() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.getOwnedById(WORKOUT_ID, USER_ID))
+                .thenThrow(new WorkoutNotFoundException(WORKOUT_ID));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts/{id}", WORKOUT_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturn403OnGetByIdWhenNotOwner() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.getOwnedById(WORKOUT_ID, USER_ID))
+                .thenThrow(new WorkoutOwnershipException(WORKOUT_ID, USER_ID));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts/{id}", WORKOUT_ID))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldReturn401OnGetByIdWhenNotAuthenticated() throws Exception {
+        mockMvc.perform(get("/api/v1/workouts/{id}", WORKOUT_ID))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // --- GET /api/v1/workouts ---
+
+    @Test
+    void shouldReturn200WithPagedWorkoutsMostRecentFirst() throws Exception {
+        // Given
+        authenticate();
+        Page<Workout> page = new PageImpl<>(List.of(buildCompleted()), PageRequest.of(0, 20), 1);
+        when(workoutService.listByUser(eq(USER_ID), any(Pageable.class))).thenReturn(page);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(WORKOUT_ID))
+                .andExpect(header().exists("ETag"));
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(workoutService).listByUser(eq(USER_ID), captor.capture());
+        assertEquals(Sort.by(Sort.Direction.DESC, "startedAt"), captor.getValue().getSort());
+    }
+
+    @Test
+    void shouldReturn304OnListWhenPageETagMatches() throws Exception {
+        // Given
+        authenticate();
+        Page<Workout> page = new PageImpl<>(List.of(buildCompleted()), PageRequest.of(0, 20), 1);
+        when(workoutService.listByUser(eq(USER_ID), any(Pageable.class))).thenReturn(page);
+        String etag = mockMvc.perform(get("/api/v1/workouts"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldListWorkoutsStartedWithinRequestedRange() throws Exception {
+        // Given
+        authenticate();
+        Instant from = Instant.parse("2026-01-01T00:00:00Z");
+        Instant to = Instant.parse("2026-02-01T00:00:00Z");
+        Page<Workout> page = new PageImpl<>(List.of(buildCompleted()), PageRequest.of(0, 20), 1);
+        when(workoutService.listByUser(eq(USER_ID), eq(from), eq(to), any(Pageable.class))).thenReturn(page);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts")
+                        .param("from", "2026-01-01T00:00:00Z")
+                        .param("to", "2026-02-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(WORKOUT_ID));
+        verify(workoutService, never()).listByUser(eq(USER_ID), any(Pageable.class));
+    }
+
+    @Test
+    void shouldDefaultMissingRangeBounds() throws Exception {
+        // Given
+        authenticate();
+        Instant from = Instant.parse("2026-01-01T00:00:00Z");
+        Page<Workout> page = new PageImpl<>(List.of(), PageRequest.of(0, 20), 0);
+        when(workoutService.listByUser(eq(USER_ID), eq(from), any(Instant.class), any(Pageable.class)))
+                .thenReturn(page);
+
+        // When
+        mockMvc.perform(get("/api/v1/workouts").param("from", "2026-01-01T00:00:00Z"))
+                .andExpect(status().isOk());
+
+        // Then — the upper bound defaults to now
+        ArgumentCaptor<Instant> to = ArgumentCaptor.forClass(Instant.class);
+        verify(workoutService).listByUser(eq(USER_ID), eq(from), to.capture(), any(Pageable.class));
+        assertTrue(to.getValue().isAfter(from));
+    }
+
+    // --- GET /api/v1/workouts/progress ---
+
+    @Test
+    void shouldReturn200WithProgressSeries() throws Exception {
+        // Given
+        authenticate();
+        List<ExerciseProgress.Point> points = List.of(new ExerciseProgress.Point(STARTED, 116.5));
+        ExerciseProgress progress = new ExerciseProgress(10L, 1, points, points, points);
+        when(workoutService.progress(eq(USER_ID), eq(10L), eq(Instant.EPOCH), any(Instant.class), eq(100)))
+                .thenReturn(progress);
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts/progress").param("exerciseId", "10").param("points", "100"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.sessions").value(1))
+                .andExpect(jsonPath("$.estimatedOneRepMax[0].value").value(116.5))
+                .andExpect(jsonPath("$.topSet.length()").value(1));
+    }
+
+    @Test
+    void shouldReturn400OnProgressWhenPointBudgetIsInvalid() throws Exception {
+        // Given
+        authenticate();
+        when(workoutService.progress(any(), any(), any(), any(), eq(1)))
+                .thenThrow(new IllegalArgumentException("maxPoints must be between 3 and 2000"));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workouts/progress").param("exerciseId", "10").param("points", "1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturn401OnProgressWhenNotAuthenticated() throws Exception {
+        mockMvc.perform(get("/api/v1/workouts/progress").param("exerciseId", "10"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,203 @@
+package com.liftit.workout;
+
+import com.liftit.GlobalExceptionHandler;
+import com.liftit.user.Auth0Id;
+import com.liftit.user.Email;
+import com.liftit.user.User;
+import com.liftit.user.UserRepository;
+import com.liftit.workout.exception.WorkoutTemplateNotFoundException;
+import com.liftit.workout.exception.WorkoutTemplateOwnershipException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class WorkoutTemplateControllerTest {
+
+    private MockMvc mockMvc;
+    private WorkoutTemplateService templateService;
+    private UserRepository userRepository;
+
+    private static final Long USER_ID = 100L;
+    private static final Long TEMPLATE_ID = 5L;
+    private static final String AUTH0_ID = "auth0|testuser";
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        templateService = mock(WorkoutTemplateService.class);
+        userRepository = mock(UserRepository.class);
+        WorkoutTemplateController controller = new WorkoutTemplateController(templateService, userRepository);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(AUTH0_ID, null, List.of()));
+        User user = new User(USER_ID, Auth0Id.of(AUTH0_ID), Email.of("test@example.com"),
+                NOW, 1L, NOW, 1L);
+        when(userRepository.findByAuth0Id(Auth0Id.of(AUTH0_ID))).thenReturn(Optional.of(user));
+    }
+
+    private List<WorkoutExercise> buildExercises() {
+        WorkoutSet set = new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), 8);
+        return List.of(new WorkoutExercise(7L, 10L, 1, List.of(set), null));
+    }
+
+    private WorkoutTemplate buildTemplate() {
+        return new WorkoutTemplate(TEMPLATE_ID, USER_ID, "Push", null, buildExercises(),
+                NOW, USER_ID, NOW, USER_ID);
+    }
+
+    // --- POST /api/v1/workout-templates ---
+
+    @Test
+    void shouldReturn201WithCreatedTemplate() throws Exception {
+        // Given
+        authenticate();
+        when(templateService.create(eq(USER_ID), eq("Push"), isNull(), anyList())).thenReturn(buildTemplate());
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workout-templates")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Push",
+                                 "exercises": [{"exerciseId": 10, "order": 1,
+                                                "sets": [{"reps": 5, "weight": 100.0, "unit": "KG", "rpe": 8},
+                                                         {"reps": 5, "weight": 100.0, "unit": "KG"}]}]}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(TEMPLATE_ID))
+                .andExpect(jsonPath("$.exercises[0].sets[0].weightValue").value(100.0));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WorkoutExercise>> captor = ArgumentCaptor.forClass(List.class);
+        verify(templateService).create(eq(USER_ID), eq("Push"), isNull(), captor.capture());
+        assertEquals(2, captor.getValue().getFirst().sets().get(1).setNumber());
+    }
+
+    @Test
+    void shouldReturn400WhenTemplateNameIsBlank() throws Exception {
+        // Given
+        authenticate();
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workout-templates")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": " ", "exercises": []}
+                                """))
+                .andExpect(status().isBadRequest());
+        verify(templateService, never()).create(any(), any(), any(), any());
+    }
+
+    // --- GET /api/v1/workout-templates ---
+
+    @Test
+    void shouldReturn200WithTemplates() throws Exception {
+        // Given
+        authenticate();
+        when(templateService.listByUser(USER_ID)).thenReturn(List.of(buildTemplate()));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workout-templates"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Push"));
+    }
+
+    @Test
+    void shouldReturn401OnListWhenNotAuthenticated() throws Exception {
+        mockMvc.perform(get("/api/v1/workout-templates"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // --- GET /api/v1/workout-templates/{id} ---
+
+    @Test
+    void shouldReturn403OnGetByIdWhenNotOwner() throws Exception {
+        // Given
+        authenticate();
+        when(templateService.getOwnedById(TEMPLATE_ID, USER_ID))
+                .thenThrow(new WorkoutTemplateOwnershipException(TEMPLATE_ID, USER_ID));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/workout-templates/{id}", TEMPLATE_ID))
+                .andExpect(status().isForbidden());
+    }
+
+    // --- POST /api/v1/workout-templates/{id}/start ---
+
+    @Test
+    void shouldReturn201WithWorkoutStartedFromTemplate() throws Exception {
+        // Given
+        authenticate();
+        Workout started = new Workout(1L, USER_ID, NOW, null, WorkoutStatus.IN_PROGRESS, "Week 2",
+                buildExercises(), NOW, USER_ID, NOW, USER_ID);
+        when(templateService.start(TEMPLATE_ID, USER_ID, "Week 2")).thenReturn(started);
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workout-templates/{id}/start", TEMPLATE_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"notes": "Week 2"}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.exercises[0].exerciseId").value(10));
+    }
+
+    @Test
+    void shouldReturn404OnStartWhenTemplateDoesNotExist() throws Exception {
+        // Given
+        authenticate();
+        when(templateService.start(TEMPLATE_ID, USER_ID, null))
+                .thenThrow(new WorkoutTemplateNotFoundException(TEMPLATE_ID));
+
+        // When / Then
+        mockMvc.perform(post("/api/v1/workout-templates/{id}/start", TEMPLATE_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    // --- DELETE /api/v1/workout-templates/{id} ---
+
+    @Test
+    void shouldReturn204OnDelete() throws Exception {
+        // Given
+        authenticate();
+
+        // When / Then
+        mockMvc.perform(delete("/api/v1/workout-templates/{id}", TEMPLATE_ID))
+                .andExpect(status().isNoContent());
+        verify(templateService).delete(TEMPLATE_ID, USER_ID);
+    }
+}
@@ -0,0 +1,64 @@
+package com.liftit.workout;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WorkoutTemplateTest {
+
+    private static final Long USER_ID = 100L;
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private WorkoutExercise buildExercise(int order, int sets) {
+        List<WorkoutSet> planned = new ArrayList<>();
+        for (int i = 1; i <= sets; i++) {
+            planned.add(new WorkoutSet(i, 5, new Weight(100.0, WeightUnit.KG), null));
+        }
+        return new WorkoutExercise(0L, 10L + order, order, planned, null);
+    }
+
+    // --- construction ---
+
+    @Test
+    void shouldCountPlannedSetsAcrossExercises() {
+        // Given / When
+        WorkoutTemplate template = new WorkoutTemplate(0L, USER_ID, "Push", null,
+                List.of(buildExercise(1, 3), buildExercise(2, 2)), NOW, USER_ID, NOW, USER_ID);
+
+        // Then
+        assertEquals(5, template.totalSetCount());
+        assertEquals(List.of(1, 2), template.exercises().stream().map(WorkoutExercise::order).toList());
+    }
+
+    @Test
+    void shouldCopyExercisesDefensively() {
+        // Given
+        List<WorkoutExercise> exercises = new ArrayList<>(List.of(buildExercise(1, 1)));
+        WorkoutTemplate template = new WorkoutTemplate(0L, USER_ID, "Push", null,
+                exercises, NOW, USER_ID, NOW, USER_ID);
+
+        // When
+        exercises.add(buildExercise(2, 1));
+
+        // Then
+        assertEquals(1, template.exercises().size());
+        assertThrows(UnsupportedOperationException.class, () -> template.exercises().clear());
+    }
+
+    @Test
+    void shouldRejectBlankName() {
+        assertThrows(IllegalArgumentException.class, () -> new WorkoutTemplate(0L, USER_ID, " ", null,
+                List.of(), NOW, USER_ID, NOW, USER_ID));
+    }
+
+    @Test
+    void shouldRejectNullUserId() {
+        assertThrows(IllegalArgumentException.class, () -> new WorkoutTemplate(0L, null, "Push", null,
+                List.of(), NOW, USER_ID, NOW, USER_ID));
+    }
+}
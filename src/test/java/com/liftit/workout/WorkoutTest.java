@@ -179,4 +179,22 @@ class WorkoutTest {
         // When / Then
         assertEquals(3, workout.totalSetCount());
     }
+
+    // --- version ---
+
+    @Test
+    void shouldUseUpdatedAtAsVersionWhileInProgress() {
+        assertEquals(NOW, buildWorkout().version());
+    }
+
+    @Test
+    void shouldUseCompletedAtAsVersionOnceCompleted() {
+        // Given
+        Instant completedAt = Instant.parse("2026-01-01T11:00:00Z");
+        Workout workout = new Workout(ID, USER_ID, STARTED_AT, completedAt,
+                WorkoutStatus.COMPLETED, null, List.of(), NOW, 1L, NOW, 1L);
+
+        // When / Then
+        assertEquals(completedAt, workout.version());
+    }
 }
@@ -0,0 +1,137 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.outbox.Outbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AbandonedWorkoutSweeperTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_BATCHES = 3;
+    private static final Instant CUTOFF = Instant.parse("2026-03-01T00:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private Outbox outbox;
+    private SimpleMeterRegistry meterRegistry;
+    private AbandonedWorkoutSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        outbox = mock(Outbox.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new AbandonedWorkoutSweeper(jdbcTemplate, transactionTemplate, outbox, meterRegistry,
+                12, BATCH_SIZE, MAX_BATCHES, "0 */15 * * * *");
+    }
+
+    @Test
+    void shouldRecordEventAndCountEveryClosedWorkout() {
+        // Given
+        givenBatches(List.of(
+                new AbandonedWorkoutSweeper.Closed(1L, 100L, true),
+                new AbandonedWorkoutSweeper.Closed(2L, 200L, false)),
+                List.of());
+
+        // When
+        int closed = sweeper.sweepIdleSince(CUTOFF);
+
+        // Then
+        assertEquals(2, closed);
+        verify(outbox).append("workout.completed", 100L, 1L);
+        verify(outbox).append("workout.deleted", 200L, 2L);
+        assertEquals(1.0, meterRegistry.counter("liftit.workout.sweep.closed", "outcome", "completed").count());
+        assertEquals(1.0, meterRegistry.counter("liftit.workout.sweep.closed", "outcome", "discarded").count());
+    }
+
+    @Test
+    void shouldStopAfterPartialBatch() {
+        // Given
+        givenBatches(List.of(new AbandonedWorkoutSweeper.Closed(1L, 100L, true)));
+
+        // When
+        sweeper.sweepIdleSince(CUTOFF);
+
+        // Then
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
+    @Test
+    void shouldStopAfterMaxBatches() {
+        // Given
+        List<AbandonedWorkoutSweeper.Closed> full = List.of(
+                new AbandonedWorkoutSweeper.Closed(1L, 100L, true),
+                new AbandonedWorkoutSweeper.Closed(2L, 100L, true));
+        givenBatches(full);
+
+        // When
+        int closed = sweeper.sweepIdleSince(CUTOFF);
+
+        // Then
+        assertEquals(BATCH_SIZE * MAX_BATCHES, closed);
+        verify(transactionTemplate, times(MAX_BATCHES)).execute(any());
+    }
+
+    @Test
+    void shouldDoNothingWhenNoWorkoutIsIdle() {
+        // Given
+        givenBatches(List.of());
+
+        // When
+        int closed = sweeper.sweepIdleSince(CUTOFF);
+
+        // Then
+        assertEquals(0, closed);
+        verify(outbox, never()).append(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldRunAsRecurringJob() {
+        assertEquals(AbandonedWorkoutSweeper.QUEUE, sweeper.queue());
+        assertEquals("0 */15 * * * *", sweeper.cron());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new AbandonedWorkoutSweeper(jdbcTemplate,
+                transactionTemplate, outbox, meterRegistry, 0, BATCH_SIZE, MAX_BATCHES, "0 */15 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> new AbandonedWorkoutSweeper(jdbcTemplate,
+                transactionTemplate, outbox, meterRegistry, 12, 0, MAX_BATCHES, "0 */15 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> new AbandonedWorkoutSweeper(jdbcTemplate,
+                transactionTemplate, outbox, meterRegistry, 12, BATCH_SIZE, 0, "0 */15 * * * *"));
+    }
+
+    // --- helpers ---
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void givenBatches(List<AbandonedWorkoutSweeper.Closed> first, List<AbandonedWorkoutSweeper.Closed>... rest) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class),
+                eq(CUTOFF.atOffset(ZoneOffset.UTC)), eq(BATCH_SIZE), eq(WorkoutArchiver.SYSTEM_USER_ID)))
+                .thenReturn(first, rest);
+    }
+}
@@ -0,0 +1,114 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutSet;
+import com.liftit.workout.WorkoutStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArchivedWorkoutCodecTest {
+
+    private static final Instant STARTED = Instant.parse("2025-01-01T10:00:00.123456Z");
+    private static final Instant COMPLETED = Instant.parse("2025-01-01T11:00:00Z");
+    private static final Long USER_ID = 100L;
+
+    @Test
+    void shouldRoundTripEveryField() {
+        // Given
+        Workout workout = completedWorkout("Leg day", List.of(
+                new WorkoutExercise(11L, 7L, 1, List.of(
+                        new WorkoutSet(1, 5, new Weight(100.5, WeightUnit.KG), 8),
+                        new WorkoutSet(2, 5, new Weight(102.5, WeightUnit.KG), null)), "Felt strong"),
+                new WorkoutExercise(12L, 9L, 2, List.of(
+                        new WorkoutSet(1, 12, new Weight(45.0, WeightUnit.LBS), 10)), null)));
+
+        // When
+        Workout decoded = ArchivedWorkoutCodec.decode(ArchivedWorkoutCodec.FORMAT_VERSION,
+                ArchivedWorkoutCodec.encode(workout));
+
+        // Then
+        assertEquals(workout.id(), decoded.id());
+        assertEquals(USER_ID, decoded.userId());
+        assertEquals(STARTED, decoded.startedAt());
+        assertEquals(COMPLETED, decoded.completedAt());
+        assertEquals(WorkoutStatus.COMPLETED, decoded.status());
+        assertEquals("Leg day", decoded.notes());
+        assertEquals(workout.createdAt(), decoded.createdAt());
+        assertEquals(workout.createdBy(), decoded.createdBy());
+        assertEquals(workout.updatedAt(), decoded.updatedAt());
+        assertEquals(workout.updatedBy(), decoded.updatedBy());
+        assertEquals(2, decoded.exercises().size());
+        WorkoutExercise first = decoded.exercises().getFirst();
+        assertEquals(11L, first.id());
+        assertEquals(7L, first.exerciseId());
+        assertEquals(1, first.order());
+        assertEquals("Felt strong", first.notes());
+        assertEquals(workout.exercises().getFirst().sets(), first.sets());
+        assertNull(decoded.exercises().get(1).notes());
+        assertEquals(workout.exercises().get(1).sets(), decoded.exercises().get(1).sets());
+    }
+
+    @Test
+    void shouldRoundTripWorkoutWithoutNotesOrExercises() {
+        // Given
+        Workout workout = completedWorkout(null, List.of());
+
+        // When
+        Workout decoded = ArchivedWorkoutCodec.decode(ArchivedWorkoutCodec.FORMAT_VERSION,
+                ArchivedWorkoutCodec.encode(workout));
+
+        // Then
+        assertNull(decoded.notes());
+        assertTrue(decoded.exercises().isEmpty());
+    }
+
+    @Test
+    void shouldProduceCompactDocuments() {
+        // Given — a typical session: 6 exercises of 4 sets
+        List<WorkoutExercise> exercises = new ArrayList<>();
+        for (int e = 1; e <= 6; e++) {
+            List<WorkoutSet> sets = new ArrayList<>();
+            for (int s = 1; s <= 4; s++) {
+                sets.add(new WorkoutSet(s, 8, new Weight(60.0 + s * 2.5, WeightUnit.KG), 8));
+            }
+            exercises.add(new WorkoutExercise(100L + e, (long) e, e, sets, null));
+        }
+
+        // When
+        byte[] document = ArchivedWorkoutCodec.encode(completedWorkout(null, exercises));
+
+        // Then — far smaller than the 31 hot rows and their index entries
+        assertTrue(document.length < 512, "document is " + document.length + " bytes");
+    }
+
+    @Test
+    void shouldRejectUnknownFormatVersion() {
+        byte[] document = ArchivedWorkoutCodec.encode(completedWorkout(null, List.of()));
+
+        assertThrows(IllegalStateException.class, () -> ArchivedWorkoutCodec.decode((short) 99, document));
+    }
+
+    @Test
+    void shouldRejectCorruptDocument() {
+        assertThrows(IllegalStateException.class,
+                () -> ArchivedWorkoutCodec.decode(ArchivedWorkoutCodec.FORMAT_VERSION, new byte[] {1, 2, 3}));
+    }
+
+    // --- helpers ---
+
+    private static Workout completedWorkout(String notes, List<WorkoutExercise> exercises) {
+        return new Workout(42L, USER_ID, STARTED, COMPLETED, WorkoutStatus.COMPLETED, notes, exercises,
+                STARTED, USER_ID, COMPLETED, USER_ID);
+    }
+}
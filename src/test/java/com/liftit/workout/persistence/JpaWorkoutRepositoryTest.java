@@ -0,0 +1,431 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.outbox.Outbox;
+import com.liftit.workout.ExerciseSession;
+import com.liftit.workout.Weight;
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutEvent;
+import com.liftit.workout.WorkoutExercise;
+import com.liftit.workout.WorkoutSet;
+import com.liftit.workout.WorkoutStatus;
+import com.liftit.workout.exception.WorkoutNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JpaWorkoutRepositoryTest {
+
+    private static final Long USER_ID = 100L;
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Long SQUAT_ID = 7L;
+
+    @Mock
+    private WorkoutJpaRepository springDataRepository;
+
+    @Mock
+    private ArchivedWorkoutJpaRepository archivedRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Outbox outbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JpaWorkoutRepository repository;
+
+    /** Test double for the native history projection. */
+    private record Ref(Long getId, Instant getStartedAt, Boolean getArchived)
+            implements WorkoutJpaRepository.HistoryRef {
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository = new JpaWorkoutRepository(springDataRepository, archivedRepository, jdbcTemplate,
+                outbox, new TransactionTemplate(transactionManager));
+    }
+
+    // --- save ---
+
+    @Test
+    void shouldRecordEventForSavedWorkoutInTheSameTransaction() {
+        // Given
+        givenNextIds("workouts", 5L);
+
+        // When
+        Workout result = repository.save(workout(0L), WorkoutEvent.STARTED);
+
+        // Then
+        assertEquals(5L, result.id());
+        InOrder inOrder = inOrder(transactionManager, springDataRepository, outbox);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(springDataRepository).save(any());
+        inOrder.verify(springDataRepository).flush();
+        inOrder.verify(outbox).append("workout.started", USER_ID, 5L);
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldDrawIdsForAllNewRowsWithOneQueryPerTable() {
+        // Given
+        WorkoutSet set = new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), null);
+        Workout workout = withExercises(0L, List.of(
+                new WorkoutExercise(0L, SQUAT_ID, 1, List.of(set, set), null),
+                new WorkoutExercise(0L, 8L, 2, List.of(set), null)));
+        givenNextIds("workouts", 5L);
+        givenNextIds("workout_exercises", 50L, 51L);
+        givenNextIds("workout_sets", 500L, 501L, 502L);
+
+        // When
+        Workout result = repository.save(workout, WorkoutEvent.STARTED);
+
+        // Then
+        assertEquals(5L, result.id());
+        assertEquals(List.of(50L, 51L), result.exercises().stream().map(WorkoutExercise::id).toList());
+    }
+
+    @Test
+    void shouldUpdateExistingWorkoutInPlaceByItsFullKey() {
+        // Given
+        WorkoutSet set = new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), null);
+        WorkoutJpaEntity stored = WorkoutJpaEntity.fromDomain(withExercises(3L, List.of(
+                new WorkoutExercise(30L, SQUAT_ID, 1, List.of(), null))));
+        when(springDataRepository.findById(new WorkoutJpaEntity.Key(3L, NOW))).thenReturn(Optional.of(stored));
+        givenNextIds("workout_exercises", 31L);
+        givenNextIds("workout_sets", 310L);
+        Workout changed = withExercises(3L, List.of(
+                new WorkoutExercise(30L, SQUAT_ID, 1, List.of(), null),
+                new WorkoutExercise(0L, 8L, 2, List.of(set), "New")));
+
+        // When
+        Workout result = repository.save(changed, WorkoutEvent.EXERCISE_ADDED);
+
+        // Then
+        assertEquals(List.of(30L, 31L), result.exercises().stream().map(WorkoutExercise::id).toList());
+        assertEquals("New", result.exercises().getLast().notes());
+        verify(springDataRepository, never()).save(any());
+        InOrder inOrder = inOrder(springDataRepository, outbox);
+        inOrder.verify(springDataRepository).flush();
+        inOrder.verify(outbox).append("workout.exercise-added", USER_ID, 3L);
+    }
+
+    @Test
+    void shouldRejectUpdateOfWorkoutThatIsNoLongerHot() {
+        // Given
+        when(springDataRepository.findById(new WorkoutJpaEntity.Key(3L, NOW))).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(WorkoutNotFoundException.class, () -> repository.save(workout(3L), WorkoutEvent.COMPLETED));
+        verify(outbox, never()).append(anyString(), any(), any());
+    }
+
+    // --- findById ---
+
+    @Test
+    void shouldFindHotWorkoutByItsFullKeyWithoutTouchingTheArchive() {
+        // Given
+        givenStartedAt(1L);
+        when(springDataRepository.findById(new WorkoutJpaEntity.Key(1L, NOW)))
+                .thenReturn(Optional.of(WorkoutJpaEntity.fromDomain(workout(1L))));
+
+        // When
+        Optional<Workout> result = repository.findById(1L);
+
+        // Then
+        assertEquals(1L, result.orElseThrow().id());
+        verify(archivedRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldFallBackToArchiveWhenWorkoutIsNotHot() {
+        // Given — no start time is tracked for workouts that left the hot tables
+        when(archivedRepository.findById(2L)).thenReturn(Optional.of(archived(2L)));
+
+        // When
+        Optional<Workout> result = repository.findById(2L);
+
+        // Then
+        assertEquals(2L, result.orElseThrow().id());
+        assertEquals(WorkoutStatus.COMPLETED, result.orElseThrow().status());
+        verify(springDataRepository, never()).findById(any());
+    }
+
+    // --- history ---
+
+    @Test
+    void shouldMergeHotAndArchivedWorkoutsInHistoryOrder() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "startedAt"));
+        when(springDataRepository.findHistoryNewestFirst(eq(USER_ID), any(), any(), eq(3), eq(0L)))
+                .thenReturn(List.of(new Ref(3L, NOW.plusSeconds(7200), false), new Ref(2L, NOW.plusSeconds(3600), true),
+                        new Ref(1L, NOW, false)));
+        when(springDataRepository.findAllByIdStartedBetween(List.of(3L, 1L), NOW, NOW.plusSeconds(7200)))
+                .thenReturn(List.of(
+                WorkoutJpaEntity.fromDomain(workout(1L)), WorkoutJpaEntity.fromDomain(workout(3L))));
+        when(archivedRepository.findAllById(List.of(2L))).thenReturn(List.of(archived(2L)));
+
+        // When
+        Page<Workout> page = repository.findByUserId(USER_ID, pageable);
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L), page.getContent().stream().map(Workout::id).toList());
+    }
+
+    @Test
+    void shouldReadWorkoutArchivedMidQueryFromTheArchive() {
+        // Given — workout 5 was listed as hot but moved before it was loaded
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(springDataRepository.findHistoryNewestFirst(eq(USER_ID), any(), any(), anyInt(), anyLong()))
+                .thenReturn(List.of(new Ref(5L, NOW, false)));
+        when(springDataRepository.findAllByIdStartedBetween(List.of(5L), NOW, NOW)).thenReturn(List.of());
+        when(archivedRepository.findAllById(List.of(5L))).thenReturn(List.of(archived(5L)));
+
+        // When
+        Page<Workout> page = repository.findByUserId(USER_ID, pageable);
+
+        // Then
+        assertEquals(5L, page.getContent().getFirst().id());
+    }
+
+    @Test
+    void shouldUseOldestFirstQueryForAscendingSort() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "startedAt"));
+        when(springDataRepository.findHistoryOldestFirst(eq(USER_ID), any(), any(), anyInt(), anyLong()))
+                .thenReturn(List.of());
+
+        // When
+        Page<Workout> page = repository.findByUserId(USER_ID, pageable);
+
+        // Then
+        assertTrue(page.isEmpty());
+    }
+
+    @Test
+    void shouldPassRangeBoundsToHistoryQuery() {
+        // Given
+        Instant from = NOW.minusSeconds(3600);
+        PageRequest pageable = PageRequest.of(2, 10);
+        when(springDataRepository.findHistoryNewestFirst(USER_ID, from, NOW, 10, 20L)).thenReturn(List.of());
+        when(springDataRepository.countHistory(USER_ID, from, NOW)).thenReturn(20L);
+
+        // When
+        Page<Workout> page = repository.findByUserIdStartedBetween(USER_ID, from, NOW, pageable);
+
+        // Then
+        assertEquals(20L, page.getTotalElements());
+    }
+
+    @Test
+    void shouldRejectSortOnOtherProperties() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("notes"));
+
+        assertThrows(IllegalArgumentException.class, () -> repository.findByUserId(USER_ID, pageable));
+    }
+
+    // --- startFromTemplate / startFrom ---
+
+    @Test
+    void shouldStartFromTemplateWithOneFunctionCall() {
+        // Given
+        Instant startedAt = NOW.plusSeconds(60);
+        when(jdbcTemplate.queryForObject(eq("SELECT start_workout_from_template(?, ?, ?, ?)"), eq(Long.class),
+                eq(4L), eq(USER_ID), any(), eq("Legs"))).thenReturn(8L);
+        givenStartedAt(8L);
+        when(springDataRepository.findById(new WorkoutJpaEntity.Key(8L, NOW)))
+                .thenReturn(Optional.of(WorkoutJpaEntity.fromDomain(workout(8L))));
+
+        // When
+        Optional<Workout> result = repository.startFromTemplate(4L, USER_ID, startedAt, "Legs");
+
+        // Then
+        assertEquals(8L, result.orElseThrow().id());
+        verify(springDataRepository, never()).save(any());
+        verify(outbox).append("workout.started", USER_ID, 8L);
+    }
+
+    @Test
+    void shouldReturnEmptyWhenTemplateIsGone() {
+        // Given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(), any(), any(), any())).thenReturn(null);
+
+        // When
+        Optional<Workout> result = repository.startFromTemplate(4L, USER_ID, NOW, null);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(outbox, never()).append(anyString(), any(), any());
+    }
+
+    @Test
+    void shouldRepeatHotWorkoutWithOneFunctionCall() {
+        // Given
+        when(jdbcTemplate.queryForObject(eq("SELECT start_workout_from_workout(?, ?, ?, ?)"), eq(Long.class),
+                eq(1L), any(), any(), any())).thenReturn(9L);
+        givenStartedAt(9L);
+        when(springDataRepository.findById(new WorkoutJpaEntity.Key(9L, NOW)))
+                .thenReturn(Optional.of(WorkoutJpaEntity.fromDomain(workout(9L))));
+
+        // When
+        Workout result = repository.startFrom(workout(1L), NOW.plusSeconds(60), null);
+
+        // Then
+        assertEquals(9L, result.id());
+        verify(springDataRepository, never()).save(any());
+        verify(outbox).append("workout.started", USER_ID, 9L);
+    }
+
+    @Test
+    void shouldRepeatArchivedWorkoutBySavingACopy() {
+        // Given
+        WorkoutSet set = new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), null);
+        Workout source = new Workout(2L, USER_ID, NOW, NOW.plusSeconds(3600), WorkoutStatus.COMPLETED, null,
+                List.of(new WorkoutExercise(21L, 10L, 1, List.of(set), "Heavy")), NOW, USER_ID, NOW, USER_ID);
+        Instant startedAt = NOW.plusSeconds(86_400);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(), any(), any(), any())).thenReturn(null);
+        givenNextIds("workouts", 12L);
+        givenNextIds("workout_exercises", 120L);
+        givenNextIds("workout_sets", 1200L);
+
+        // When
+        Workout result = repository.startFrom(source, startedAt, "Again");
+
+        // Then
+        assertEquals(WorkoutStatus.IN_PROGRESS, result.status());
+        assertEquals(startedAt, result.startedAt());
+        assertEquals("Again", result.notes());
+        WorkoutExercise copied = result.exercises().getFirst();
+        assertEquals(120L, copied.id());
+        assertEquals(10L, copied.exerciseId());
+        assertEquals(List.of(set), copied.sets());
+        verify(outbox).append(eq("workout.started"), eq(USER_ID), any());
+    }
+
+    // --- findExerciseSessions ---
+
+    @Test
+    void shouldMergeHotSessionsWithSessionsComputedFromArchive() {
+        // Given
+        Instant from = NOW.minusSeconds(86_400L * 90);
+        Instant archivedStart = NOW.minusSeconds(86_400L * 40);
+        ExerciseSession hot = new ExerciseSession(1L, NOW, 120.0, 110.0, 900.0);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of(hot));
+        when(archivedRepository.findByUserIdAndStartedAtGreaterThanEqualAndStartedAtLessThan(USER_ID, from, NOW))
+                .thenReturn(List.of(
+                        archivedWith(2L, archivedStart, List.of(
+                                new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), null),
+                                new WorkoutSet(2, 3, new Weight(110.0, WeightUnit.KG), null))),
+                        archivedWith(3L, archivedStart.plusSeconds(60), List.of())));
+
+        // When
+        List<ExerciseSession> result = repository.findExerciseSessions(USER_ID, SQUAT_ID, from, NOW);
+
+        // Then
+        assertEquals(List.of(2L, 1L), result.stream().map(ExerciseSession::workoutId).toList());
+        ExerciseSession archived = result.getFirst();
+        assertEquals(archivedStart, archived.startedAt());
+        assertEquals(121.0, archived.estimatedOneRepMaxKg(), 1e-9);
+        assertEquals(110.0, archived.topSetKg(), 1e-9);
+        assertEquals(830.0, archived.volumeKg(), 1e-9);
+    }
+
+    @Test
+    void shouldCountWorkoutArchivedMidQueryOnce() {
+        // Given
+        ExerciseSession hot = new ExerciseSession(1L, NOW, 120.0, 110.0, 900.0);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of(hot));
+        when(archivedRepository.findByUserIdAndStartedAtGreaterThanEqualAndStartedAtLessThan(any(), any(), any()))
+                .thenReturn(List.of(archivedWith(1L, NOW, List.of(
+                        new WorkoutSet(1, 5, new Weight(100.0, WeightUnit.KG), null)))));
+
+        // When
+        List<ExerciseSession> result = repository.findExerciseSessions(USER_ID, SQUAT_ID, Instant.EPOCH, NOW);
+
+        // Then
+        assertEquals(List.of(hot), result);
+    }
+
+    // --- delete ---
+
+    @Test
+    void shouldDeleteFromBothTiersAndRecordEvent() {
+        // When
+        repository.delete(workout(7L));
+
+        // Then
+        verify(springDataRepository).deleteByKey(7L, NOW);
+        verify(archivedRepository).deleteById(7L);
+        verify(outbox).append("workout.deleted", USER_ID, 7L);
+        verify(transactionManager).commit(any());
+    }
+
+    // --- helpers ---
+
+    private void givenStartedAt(Long id) {
+        when(jdbcTemplate.queryForList(anyString(), eq(OffsetDateTime.class), eq(id)))
+                .thenReturn(List.of(NOW.atOffset(ZoneOffset.UTC)));
+    }
+
+    private void givenNextIds(String table, Long... ids) {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(table), eq(ids.length)))
+                .thenReturn(List.of(ids));
+    }
+
+    private static Workout workout(Long id) {
+        return withExercises(id, List.of());
+    }
+
+    private static Workout withExercises(Long id, List<WorkoutExercise> exercises) {
+        return new Workout(id, USER_ID, NOW, null, WorkoutStatus.IN_PROGRESS, null, exercises,
+                NOW, USER_ID, NOW, USER_ID);
+    }
+
+    private static ArchivedWorkoutJpaEntity archivedWith(Long id, Instant startedAt, List<WorkoutSet> squatSets) {
+        List<WorkoutExercise> exercises = squatSets.isEmpty()
+                ? List.of(new WorkoutExercise(11L, 99L, 1, List.of(
+                        new WorkoutSet(1, 10, new Weight(60.0, WeightUnit.KG), null)), null))
+                : List.of(new WorkoutExercise(10L, SQUAT_ID, 1, squatSets, null));
+        Workout completed = new Workout(id, USER_ID, startedAt, startedAt.plusSeconds(3600), WorkoutStatus.COMPLETED,
+                null, exercises, startedAt, USER_ID, startedAt, USER_ID);
+        return ArchivedWorkoutJpaEntity.fromDomain(completed, NOW, WorkoutArchiver.SYSTEM_USER_ID);
+    }
+
+    private static ArchivedWorkoutJpaEntity archived(Long id) {
+        Workout completed = new Workout(id, USER_ID, NOW, NOW.plusSeconds(3600), WorkoutStatus.COMPLETED,
+                null, List.of(), NOW, USER_ID, NOW, USER_ID);
+        return ArchivedWorkoutJpaEntity.fromDomain(completed, NOW, WorkoutArchiver.SYSTEM_USER_ID);
+    }
+}
@@ -0,0 +1,62 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.workout.WeightUnit;
+import com.liftit.workout.WorkoutStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StorageCodesTest {
+
+    @Test
+    void shouldRoundTripEveryWorkoutStatus() {
+        for (WorkoutStatus status : WorkoutStatus.values()) {
+            assertEquals(status, StorageCodes.status(StorageCodes.statusCode(status)));
+        }
+    }
+
+    @Test
+    void shouldRoundTripEveryWeightUnit() {
+        for (WeightUnit unit : WeightUnit.values()) {
+            assertEquals(unit, StorageCodes.unit(StorageCodes.unitCode(unit)));
+        }
+    }
+
+    @Test
+    void shouldKeepTheCodesTheMigrationUses() {
+        // The V16 sync triggers and native queries hard-code these values.
+        assertEquals(1, StorageCodes.statusCode(WorkoutStatus.IN_PROGRESS));
+        assertEquals(2, StorageCodes.statusCode(WorkoutStatus.COMPLETED));
+        assertEquals(1, StorageCodes.unitCode(WeightUnit.KG));
+        assertEquals(2, StorageCodes.unitCode(WeightUnit.LBS));
+    }
+
+    @Test
+    void shouldRejectUnknownCodes() {
+        assertThrows(IllegalStateException.class, () -> StorageCodes.status((short) 9));
+        assertThrows(IllegalStateException.class, () -> StorageCodes.unit((short) 0));
+    }
+
+    @Test
+    void shouldStoreWeightsAsThousandthsOfTheUnit() {
+        // When
+        int milli = StorageCodes.toMilli(102.5);
+
+        // Then
+        assertEquals(102_500, milli);
+        assertEquals(102.5, StorageCodes.fromMilli(milli));
+        assertEquals(1_235, StorageCodes.toMilli(1.2346));
+    }
+
+    @Test
+    void shouldNormalisePoundsToGrams() {
+        assertEquals(102_500, StorageCodes.toGrams(102_500, WeightUnit.KG));
+        assertEquals(102_058, StorageCodes.toGrams(225_000, WeightUnit.LBS));
+    }
+
+    @Test
+    void shouldRejectWeightsThatDoNotFitTheColumn() {
+        assertThrows(IllegalArgumentException.class, () -> StorageCodes.toMilli(3_000_000.0));
+    }
+}
@@ -0,0 +1,178 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.workout.Workout;
+import com.liftit.workout.WorkoutStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WorkoutArchiverTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_BATCHES = 3;
+    private static final Instant CUTOFF = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String CRON = "0 45 3 * * *";
+
+    private WorkoutJpaRepository workoutRepository;
+    private ArchivedWorkoutJpaRepository archivedRepository;
+    private TransactionTemplate transactionTemplate;
+    private WorkoutArchiver archiver;
+
+    /** Test double for the native key projection. */
+    private record Ref(Long getId, Instant getStartedAt) implements WorkoutJpaRepository.KeyRef {
+    }
+
+    @BeforeEach
+    void setUp() {
+        workoutRepository = mock(WorkoutJpaRepository.class);
+        archivedRepository = mock(ArchivedWorkoutJpaRepository.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        archiver = new WorkoutArchiver(workoutRepository, archivedRepository, transactionTemplate,
+                12, BATCH_SIZE, MAX_BATCHES, CRON);
+    }
+
+    @Test
+    void shouldCopyThenDeleteLockedWorkouts() {
+        // Given
+        givenBatches(List.of(1L));
+
+        // When
+        int archived = archiver.archiveCompletedBefore(CUTOFF);
+
+        // Then
+        assertEquals(1, archived);
+        verify(archivedRepository).saveAllAndFlush(anyList());
+        verify(workoutRepository).deleteArchived(List.of(1L), started(1L), started(1L));
+    }
+
+    @Test
+    void shouldBoundReadsAndDeletesByTheBatchStartTimes() {
+        // Given
+        givenBatches(List.of(1L, 2L), List.of());
+
+        // When
+        archiver.archiveCompletedBefore(CUTOFF);
+
+        // Then
+        verify(workoutRepository).findAllByIdStartedBetween(List.of(1L, 2L), started(2L), started(1L));
+        verify(workoutRepository).deleteArchived(List.of(1L, 2L), started(2L), started(1L));
+    }
+
+    @Test
+    void shouldContinueWhileBatchesAreFull() {
+        // Given
+        givenBatches(List.of(1L, 2L), List.of(3L));
+
+        // When
+        int archived = archiver.archiveCompletedBefore(CUTOFF);
+
+        // Then
+        assertEquals(3, archived);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    void shouldStopAfterMaxBatches() {
+        // Given
+        givenBatches(List.of(1L, 2L), List.of(3L, 4L), List.of(5L, 6L), List.of(7L, 8L));
+
+        // When
+        int archived = archiver.archiveCompletedBefore(CUTOFF);
+
+        // Then
+        assertEquals(MAX_BATCHES * BATCH_SIZE, archived);
+        verify(transactionTemplate, times(MAX_BATCHES)).execute(any());
+    }
+
+    @Test
+    void shouldDoNothingWhenNothingIsArchivable() {
+        // Given
+        when(workoutRepository.lockArchivable(CUTOFF, BATCH_SIZE)).thenReturn(List.of());
+
+        // When
+        int archived = archiver.archiveCompletedBefore(CUTOFF);
+
+        // Then
+        assertEquals(0, archived);
+        verify(archivedRepository, never()).saveAllAndFlush(anyList());
+        verify(workoutRepository, never()).deleteArchived(anyList(), any(), any());
+    }
+
+    @Test
+    void shouldFillInExerciseIdsBatchByBatch() {
+        // Given
+        ArchivedWorkoutJpaEntity row = ArchivedWorkoutJpaEntity.fromDomain(completed(1L), CUTOFF, 1L);
+        when(archivedRepository.lockMissingExerciseIds(BATCH_SIZE))
+                .thenReturn(List.of(row, row), List.of(row));
+
+        // When
+        int filled = archiver.fillExerciseIds();
+
+        // Then
+        assertEquals(3, filled);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    void shouldRunAsRecurringJob() {
+        assertEquals(WorkoutArchiver.QUEUE, archiver.queue());
+        assertEquals(CRON, archiver.cron());
+    }
+
+    @Test
+    void shouldRejectNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new WorkoutArchiver(
+                workoutRepository, archivedRepository, transactionTemplate, 0, BATCH_SIZE, MAX_BATCHES, CRON));
+        assertThrows(IllegalArgumentException.class, () -> new WorkoutArchiver(
+                workoutRepository, archivedRepository, transactionTemplate, 12, 0, MAX_BATCHES, CRON));
+        assertThrows(IllegalArgumentException.class, () -> new WorkoutArchiver(
+                workoutRepository, archivedRepository, transactionTemplate, 12, BATCH_SIZE, 0, CRON));
+    }
+
+    // --- helpers ---
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void givenBatches(List<Long> first, List<Long>... rest) {
+        List<WorkoutJpaRepository.KeyRef>[] later = Arrays.stream(rest).map(WorkoutArchiverTest::refs)
+                .toArray(List[]::new);
+        when(workoutRepository.lockArchivable(eq(CUTOFF), anyInt())).thenReturn(refs(first), later);
+        when(workoutRepository.findAllByIdStartedBetween(anyList(), any(), any())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> WorkoutJpaEntity.fromDomain(completed(id))).toList();
+        });
+    }
+
+    private static List<WorkoutJpaRepository.KeyRef> refs(List<Long> ids) {
+        return ids.stream().<WorkoutJpaRepository.KeyRef>map(id -> new Ref(id, started(id))).toList();
+    }
+
+    private static Instant started(Long id) {
+        return CUTOFF.minusSeconds(86_400L * id);
+    }
+
+    private static Workout completed(Long id) {
+        Instant started = started(id);
+        return new Workout(id, 100L, started, started.plusSeconds(3600), WorkoutStatus.COMPLETED, null,
+                List.of(), started, 100L, started, 100L);
+    }
+}
@@ -0,0 +1,123 @@
+package com.liftit.workout.persistence;
+
+import com.liftit.job.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WorkoutPartitionMaintainerTest {
+
+    private static final int MONTHS_AHEAD = 3;
+    private static final String ENSURE_SQL = "SELECT ensure_workout_partitions(?, ?)";
+    private static final String CRON = "0 15 3 * * *";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private MockEnvironment environment;
+    private WorkoutPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        environment = new MockEnvironment();
+        maintainer = new WorkoutPartitionMaintainer(jdbcTemplate, transactionTemplate, environment, MONTHS_AHEAD,
+                CRON);
+    }
+
+    @Test
+    void shouldCreatePartitionsFromCurrentMonthWhenLockIsAcquired() {
+        // Given
+        givenLock(true);
+        when(jdbcTemplate.queryForObject(eq(ENSURE_SQL), eq(Integer.class), any(), any())).thenReturn(3);
+
+        // When
+        int created = maintainer.ensurePartitions();
+
+        // Then
+        assertEquals(3, created);
+        verify(jdbcTemplate).queryForObject(ENSURE_SQL, Integer.class,
+                LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1), MONTHS_AHEAD);
+    }
+
+    @Test
+    void shouldSkipWhenAnotherNodeHoldsTheLock() {
+        // Given
+        givenLock(false);
+
+        // When
+        int created = maintainer.ensurePartitions();
+
+        // Then
+        assertEquals(-1, created);
+        verify(jdbcTemplate, never()).queryForObject(eq(ENSURE_SQL), eq(Integer.class), any(), any());
+    }
+
+    @Test
+    void shouldNotRunOnStartupInServingMode() throws Exception {
+        // When
+        maintainer.run(mock(ApplicationArguments.class));
+
+        // Then
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    @Test
+    void shouldRunOnStartupInMigrateMode() throws Exception {
+        // Given
+        environment.setActiveProfiles("migrate");
+        givenLock(true);
+
+        // When
+        maintainer.run(mock(ApplicationArguments.class));
+
+        // Then
+        verify(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void shouldRunAsRecurringJob() {
+        // Given
+        givenLock(true);
+
+        // When
+        maintainer.run(new Job(1L, WorkoutPartitionMaintainer.QUEUE, null, 1, Instant.now()));
+
+        // Then
+        assertEquals(WorkoutPartitionMaintainer.QUEUE, maintainer.queue());
+        assertEquals(CRON, maintainer.cron());
+        verify(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void shouldRejectNonPositiveMonthsAhead() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new WorkoutPartitionMaintainer(jdbcTemplate, transactionTemplate, environment, 0, CRON));
+    }
+
+    // --- helpers ---
+
+    private void givenLock(boolean acquired) {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any())).thenReturn(acquired);
+    }
+}
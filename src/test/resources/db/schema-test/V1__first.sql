@@ -0,0 +1,5 @@
+--liquibase formatted sql
+
+--changeset liftit:create-a
+CREATE TABLE a (id BIGINT PRIMARY KEY);
+--rollback DROP TABLE a;
@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+--changeset liftit:expand-b
+ALTER TABLE a ADD COLUMN b TEXT;
+--rollback ALTER TABLE a DROP COLUMN b;
+
+--changeset liftit:contract-b context:contract
+ALTER TABLE a DROP COLUMN old_b;
+--rollback ALTER TABLE a ADD COLUMN old_b TEXT;